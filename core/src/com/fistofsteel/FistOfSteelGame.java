@@ -1,20 +1,25 @@
 package com.fistofsteel;
 
 import com.badlogic.gdx.Game;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.audio.AudioManager;
+import com.fistofsteel.graphics.RenderContext;
 import com.fistofsteel.screens.MenuScreen;
 
 /**
  * Classe principale du jeu.
- * Démarre sur le menu principal et gère l'instance unique d'AudioManager.
+ * Démarre sur le menu principal et gère les instances uniques d'AudioManager
+ * et de RenderContext.
  */
 public class FistOfSteelGame extends Game {
     
     private AudioManager audioManager;
+    private RenderContext renderContext;
     
     @Override
     public void create() {
         audioManager = new AudioManager();
+        renderContext = new RenderContext();
         setScreen(new MenuScreen(this, audioManager));
     }
     
@@ -27,11 +32,24 @@ public class FistOfSteelGame extends Game {
         return audioManager;
     }
     
+    /**
+     * Récupère les objets de rendu partagés (batch, shapes, fonts).
+     * 
+     * @return L'instance de RenderContext
+     */
+    public RenderContext getRenderContext() {
+        return renderContext;
+    }
+    
     @Override
     public void dispose() {
         super.dispose();
         if (audioManager != null) {
             audioManager.dispose();
         }
+        if (renderContext != null) {
+            renderContext.dispose();
+        }
+        AssetCache.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,344 @@
+package com.fistofsteel.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Cache centralisé des assets (textures, maps Tiled), avec comptage de références.
+ * Chaque chemin d'asset n'est chargé (et envoyé au GPU) qu'une seule fois,
+ * quel que soit le nombre d'entités qui l'utilisent.
+ *
+ * Le chargement passe par un AssetManager : un asset peut être mis en file
+ * ({@link #queue(String, Class)}) puis chargé progressivement via
+ * {@link #update(int)}, ce qui permet aux écrans de chargement de rester fluides.
+ * Un acquire sur un asset pas encore chargé le termine de façon synchrone.
+ *
+ * Chaque acquire (ou queue) doit être équilibré par un release : l'asset est
+ * libéré quand plus personne ne le référence. La texture de fallback appartient
+ * au cache et n'est jamais libérée par les entités.
+ */
+public class AssetCache {
+
+    /**
+     * Asset partagé et son compteur de références.
+     * L'instance reste null tant que l'asset n'est pas récupéré depuis l'AssetManager.
+     */
+    private static class CachedAsset {
+        final String path;
+        final Class<?> type;
+        Object asset;
+        int refCount;
+
+        CachedAsset(String path, Class<?> type) {
+            this.path = path;
+            this.type = type;
+        }
+    }
+
+    private static final ObjectMap<String, CachedAsset> assetsByPath = new ObjectMap<>();
+    private static final IdentityMap<Object, CachedAsset> assetsByInstance = new IdentityMap<>();
+
+    private static AssetManager assetManager = null;
+
+    private static Texture fallbackTexture = null;
+
+    private static int uploadCount = 0;
+
+    /**
+     * Retourne l'AssetManager sous-jacent (créé au premier appel).
+     *
+     * @return L'AssetManager du cache
+     */
+    public static AssetManager getAssetManager() {
+        if (assetManager == null) {
+            FileHandleResolver resolver = new InternalFileHandleResolver();
+            assetManager = new AssetManager(resolver);
+            assetManager.setLoader(TiledMap.class, new TmxMapLoader(resolver));
+        }
+        return assetManager;
+    }
+
+    /**
+     * Met un asset en file de chargement et prend une référence dessus.
+     * Le chargement réel se fait au fil des appels à {@link #update(int)}.
+     *
+     * @param path Le chemin de l'asset
+     * @param type Le type de l'asset
+     * @return false si le fichier est absent (aucune référence prise)
+     */
+    public static boolean queue(String path, Class<?> type) {
+        CachedAsset cached = assetsByPath.get(path);
+
+        if (cached == null) {
+            if (!Gdx.files.internal(path).exists()) {
+                System.err.println("Fichier non trouve : " + path);
+                return false;
+            }
+            cached = register(path, type);
+        }
+
+        cached.refCount++;
+        return true;
+    }
+
+    /**
+     * Récupère un asset partagé et incrémente son compteur de références.
+     * S'il n'est pas encore chargé, le chargement est terminé immédiatement.
+     *
+     * @param path Le chemin de l'asset
+     * @param type Le type de l'asset
+     * @return L'asset partagé
+     */
+    public static <T> T acquire(String path, Class<T> type) {
+        CachedAsset cached = assetsByPath.get(path);
+
+        if (cached == null) {
+            cached = register(path, type);
+        }
+
+        T asset = type.cast(resolve(cached));
+        cached.refCount++;
+        return asset;
+    }
+
+    /**
+     * Retourne un asset déjà référencé (via queue ou acquire) sans prendre
+     * de référence supplémentaire.
+     *
+     * @param path Le chemin de l'asset
+     * @param type Le type de l'asset
+     * @return L'asset, ou null s'il n'est pas référencé
+     */
+    public static <T> T get(String path, Class<T> type) {
+        CachedAsset cached = assetsByPath.get(path);
+        if (cached == null) return null;
+        return type.cast(resolve(cached));
+    }
+
+    /**
+     * Récupère une texture partagée et incrémente son compteur de références.
+     * La texture est chargée depuis le disque au premier appel uniquement.
+     *
+     * @param path Le chemin de la texture
+     * @return La texture partagée
+     */
+    public static Texture acquireTexture(String path) {
+        return acquire(path, Texture.class);
+    }
+
+    private static CachedAsset register(String path, Class<?> type) {
+        CachedAsset cached = new CachedAsset(path, type);
+        assetsByPath.put(path, cached);
+        getAssetManager().load(path, type);
+        if (type == Texture.class) {
+            uploadCount++;
+        }
+        return cached;
+    }
+
+    private static Object resolve(CachedAsset cached) {
+        if (cached.asset == null) {
+            try {
+                assetManager.finishLoadingAsset(cached.path);
+            } catch (RuntimeException e) {
+                assetsByPath.remove(cached.path);
+                throw e;
+            }
+            cached.asset = assetManager.get(cached.path, cached.type);
+            assetsByInstance.put(cached.asset, cached);
+        }
+        return cached.asset;
+    }
+
+    /**
+     * Comme {@link #acquireTexture(String)}, mais retourne la texture de fallback
+     * si le fichier est absent ou illisible.
+     *
+     * @param path Le chemin de la texture
+     * @return La texture partagée, ou la texture de fallback
+     */
+    public static Texture acquireTextureOrFallback(String path) {
+        try {
+            if (assetsByPath.containsKey(path) || Gdx.files.internal(path).exists()) {
+                return acquireTexture(path);
+            }
+            System.err.println("Fichier non trouve : " + path);
+        } catch (Exception e) {
+            System.err.println("Erreur chargement " + path + ": " + e.getMessage());
+        }
+        return getFallbackTexture();
+    }
+
+    /**
+     * Récupère une séquence d'animation (une texture partagée par frame).
+     *
+     * @param paths Les chemins des frames, dans l'ordre
+     * @return Les frames de l'animation
+     */
+    public static Texture[] acquireAnimation(String[] paths) {
+        Texture[] frames = new Texture[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            frames[i] = acquireTextureOrFallback(paths[i]);
+        }
+        return frames;
+    }
+
+    /**
+     * Libère une référence sur l'asset associé à un chemin.
+     *
+     * @param path Le chemin de l'asset
+     */
+    public static void release(String path) {
+        CachedAsset cached = assetsByPath.get(path);
+        if (cached != null) {
+            release(cached);
+        }
+    }
+
+    /**
+     * Libère une référence sur la texture associée à un chemin.
+     *
+     * @param path Le chemin de la texture
+     */
+    public static void releaseTexture(String path) {
+        release(path);
+    }
+
+    /**
+     * Libère une référence sur une texture obtenue via le cache.
+     * Sans effet pour la texture de fallback ou une texture inconnue du cache.
+     *
+     * @param texture La texture à libérer
+     */
+    public static void releaseTexture(Texture texture) {
+        if (texture == null || texture == fallbackTexture) return;
+
+        CachedAsset cached = assetsByInstance.get(texture);
+        if (cached != null) {
+            release(cached);
+        }
+    }
+
+    /**
+     * Libère une référence sur chaque frame d'une animation.
+     *
+     * @param frames Les frames à libérer
+     */
+    public static void releaseAnimation(Texture[] frames) {
+        if (frames == null) return;
+
+        for (Texture frame : frames) {
+            releaseTexture(frame);
+        }
+    }
+
+    private static void release(CachedAsset cached) {
+        cached.refCount--;
+
+        if (cached.refCount <= 0) {
+            assetsByPath.remove(cached.path);
+            if (cached.asset != null) {
+                assetsByInstance.remove(cached.asset);
+            }
+            assetManager.unload(cached.path);
+        }
+    }
+
+    /**
+     * Fait avancer les chargements en file pendant au plus le budget donné.
+     *
+     * @param budgetMs Le budget de temps en millisecondes
+     * @return true si tous les assets en file sont chargés
+     */
+    public static boolean update(int budgetMs) {
+        return getAssetManager().update(budgetMs);
+    }
+
+    /**
+     * Termine de façon synchrone tous les chargements en file.
+     */
+    public static void finishLoading() {
+        getAssetManager().finishLoading();
+    }
+
+    /**
+     * @param path Le chemin de l'asset
+     * @return true si l'asset est référencé et entièrement chargé
+     */
+    public static boolean isLoaded(String path) {
+        return assetsByPath.containsKey(path) && getAssetManager().isLoaded(path);
+    }
+
+    /**
+     * Retourne la texture de fallback (carré rouge semi-transparent).
+     * Elle appartient au cache : les appelants ne doivent jamais la libérer.
+     *
+     * @return La texture de fallback
+     */
+    public static Texture getFallbackTexture() {
+        if (fallbackTexture == null) {
+            Pixmap pixmap = new Pixmap(64, 64, Format.RGBA8888);
+            pixmap.setColor(1, 0, 0, 0.5f);
+            pixmap.fill();
+            fallbackTexture = new Texture(pixmap);
+            pixmap.dispose();
+        }
+        return fallbackTexture;
+    }
+
+    /**
+     * Retourne le nombre de références actives sur un chemin.
+     *
+     * @param path Le chemin de la texture
+     * @return Le nombre de références (0 si non chargée)
+     */
+    public static int getReferenceCount(String path) {
+        CachedAsset cached = assetsByPath.get(path);
+        return cached != null ? cached.refCount : 0;
+    }
+
+    /**
+     * @return Le nombre d'assets actuellement référencés (chargés ou en file)
+     */
+    public static int getResidentCount() {
+        return assetsByPath.size;
+    }
+
+    /**
+     * @return Le nombre total de chargements GPU effectués depuis le lancement
+     */
+    public static int getUploadCount() {
+        return uploadCount;
+    }
+
+    /**
+     * Libère tous les assets du cache (fermeture du jeu).
+     */
+    public static void dispose() {
+        if (assetsByPath.size > 0) {
+            System.out.println("AssetCache : " + assetsByPath.size + " assets encore references a la fermeture");
+        }
+
+        assetsByPath.clear();
+        assetsByInstance.clear();
+
+        if (assetManager != null) {
+            assetManager.dispose();
+            assetManager = null;
+        }
+
+        if (fallbackTexture != null) {
+            fallbackTexture.dispose();
+            fallbackTexture = null;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.fistofsteel.entities.enemies;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.utils.EntityConstants;
 
@@ -19,6 +21,19 @@ public class Boss extends Enemy {
     private static final float BOSS_WIDTH  = EntityConstants.ENEMY_WIDTH * 2.5f;
     private static final float BOSS_HEIGHT = EntityConstants.ENEMY_HEIGHT * 2.5f;
 
+    /** Hitbox du Boss, lue par {@link EnemySimulation}. */
+    static final float HITBOX_WIDTH = EntityConstants.ENEMY_HITBOX_WIDTH * 2.0f;
+    static final float HITBOX_HEIGHT = EntityConstants.ENEMY_HITBOX_HEIGHT * 2.0f;
+    static final float HITBOX_OFFSET_X = (BOSS_WIDTH - HITBOX_WIDTH) / 2f;
+    static final float HITBOX_OFFSET_Y = EntityConstants.ENEMY_HITBOX_OFFSET_Y * 1.5f;
+
+    private static final String IDLE_PREFIX = "assets/sprites/marvin/Idle/idle_";
+    private static final String WALK_PREFIX = "assets/sprites/marvin/Walk/walk_";
+    private static final String ATTACK_PREFIX = "assets/sprites/marvin/atk_1/atk_1_";
+    private static final int IDLE_FRAMES = 16;
+    private static final int WALK_FRAMES = 12;
+    private static final int ATTACK_FRAMES = 16;
+
     /**
      * Constructeur du Boss.
      * 
@@ -28,7 +43,6 @@ public class Boss extends Enemy {
      */
     public Boss(float x, float y, Player targetPlayer) {
         super(x, y, targetPlayer);
-        this.patrolSpeed = 0f;
     }
 
     @Override
@@ -54,38 +68,9 @@ public class Boss extends Enemy {
         try {
             System.out.println("Chargement des sprites du Boss (Marvin)...");
 
-            idleTextures = new Texture[16];
-            for (int i = 0; i < 16; i++) {
-                String path = "assets/sprites/marvin/Idle/idle_" + (i + 1) + ".png";
-                if (Gdx.files.internal(path).exists()) {
-                    idleTextures[i] = new Texture(path);
-                } else {
-                    System.err.println("Fichier manquant : " + path);
-                    idleTextures[i] = idleTextures[0];
-                }
-            }
-
-            walkTextures = new Texture[12];
-            for (int i = 0; i < 12; i++) {
-                String path = "assets/sprites/marvin/Walk/walk_" + (i + 1) + ".png";
-                if (Gdx.files.internal(path).exists()) {
-                    walkTextures[i] = new Texture(path);
-                } else {
-                    System.err.println("Fichier manquant : " + path);
-                    walkTextures[i] = walkTextures[0];
-                }
-            }
-
-            attackTextures = new Texture[16];
-            for (int i = 0; i < 16; i++) {
-                String path = "assets/sprites/marvin/atk_1/atk_1_" + (i + 1) + ".png";
-                if (Gdx.files.internal(path).exists()) {
-                    attackTextures[i] = new Texture(path);
-                } else {
-                    System.err.println("Fichier manquant : " + path);
-                    attackTextures[i] = attackTextures[0];
-                }
-            }
+            idleTextures = loadFrames(IDLE_PREFIX, IDLE_FRAMES);
+            walkTextures = loadFrames(WALK_PREFIX, WALK_FRAMES);
+            attackTextures = loadFrames(ATTACK_PREFIX, ATTACK_FRAMES);
 
             System.out.println("Boss : " + idleTextures.length + " idle, " + 
                              walkTextures.length + " walk, " + 
@@ -101,47 +86,77 @@ public class Boss extends Enemy {
         }
     }
 
-    @Override
-    protected void disposeTextures() {
-        if (idleTextures != null) {
-            for (Texture t : idleTextures) {
-                if (t != null) t.dispose();
-            }
-        }
-        if (walkTextures != null) {
-            for (Texture t : walkTextures) {
-                if (t != null) t.dispose();
+    /**
+     * Charge une séquence numérotée (prefix1.png .. prefixN.png) via l'AssetCache.
+     * Une frame manquante reprend la première frame de la séquence.
+     * 
+     * @param prefix Le chemin commun des frames
+     * @param count Le nombre de frames
+     * @return Les frames chargées
+     */
+    private Texture[] loadFrames(String prefix, int count) {
+        Texture[] frames = new Texture[count];
+        for (int i = 0; i < count; i++) {
+            String path = prefix + (i + 1) + ".png";
+            if (Gdx.files.internal(path).exists()) {
+                frames[i] = AssetCache.acquireTexture(path);
+            } else {
+                System.err.println("Fichier manquant : " + path);
+                frames[i] = i > 0 ? AssetCache.acquireTextureOrFallback(prefix + "1.png") : AssetCache.getFallbackTexture();
             }
         }
-        if (attackTextures != null && attackTextures != walkTextures) {
-            for (Texture t : attackTextures) {
-                if (t != null) t.dispose();
-            }
+        return frames;
+    }
+
+    /**
+     * Liste les chemins de tous les sprites du Boss (préchargement des niveaux).
+     * 
+     * @param out Le tableau qui reçoit les chemins
+     */
+    public static void collectSpritePaths(Array<String> out) {
+        collectFramePaths(IDLE_PREFIX, IDLE_FRAMES, out);
+        collectFramePaths(WALK_PREFIX, WALK_FRAMES, out);
+        collectFramePaths(ATTACK_PREFIX, ATTACK_FRAMES, out);
+    }
+    
+    private static void collectFramePaths(String prefix, int count, Array<String> out) {
+        for (int i = 0; i < count; i++) {
+            out.add(prefix + (i + 1) + ".png");
         }
     }
 
+    @Override
+    protected void disposeTextures() {
+        AssetCache.releaseAnimation(idleTextures);
+        AssetCache.releaseAnimation(walkTextures);
+        AssetCache.releaseAnimation(attackTextures);
+        idleTextures = null;
+        walkTextures = null;
+        attackTextures = null;
+    }
+
     @Override
     protected void updateAI(float delta) {
-        if (isHit || isAttacking) {
-            velocityX = 0;
+        if (isHit() || isAttacking()) {
+            setVelocityX(0);
             return;
         }
 
-        float dx = Math.abs(targetPlayer.getX() - x);
-        float dy = Math.abs(targetPlayer.getY() - y);
+        float dx = Math.abs(targetPlayer.getX() - getX());
+        float dy = Math.abs(targetPlayer.getY() - getY());
 
-        if (dx <= attackRange && dy <= 100f && attackTimer <= 0) {
+        if (dx <= attackRange && dy <= 100f && getAttackTimer() <= 0) {
             attack();
             return;
         }
 
-        if (dx <= detectionRange && dy <= 250f) {
+        if (dx <= detectionRange && dy <= 250f && canSeePlayer()) {
             chase();
             return;
         }
 
-        currentState = State.IDLE;
-        velocityX = 0;
+        setState(State.IDLE);
+        setVelocityX(0);
     }
 
     @Override
@@ -150,7 +165,7 @@ public class Boss extends Enemy {
             return null;
         }
         
-        switch (currentState) {
+        switch (getCurrentState()) {
             case IDLE:
                 return idleTextures[idleFrame % idleTextures.length];
 
@@ -182,7 +197,7 @@ public class Boss extends Enemy {
     protected void updateAnimation(float delta) {
         animationTimer += delta;
 
-        switch (currentState) {
+        switch (getCurrentState()) {
             case IDLE:
                 if (animationTimer >= 0.1f && idleTextures != null) {
                     idleFrame = (idleFrame + 1) % idleTextures.length;
@@ -209,35 +224,27 @@ public class Boss extends Enemy {
         }
     }
 
+    @Override
+    public float getDrawWidth() {
+        return BOSS_WIDTH;
+    }
+    
+    @Override
+    public float getDrawHeight() {
+        return BOSS_HEIGHT;
+    }
+    
     @Override
     public void render(SpriteBatch batch) {
         Texture tex = getCurrentTexture();
         if (tex == null) return;
 
-        if (facingRight) {
-            batch.draw(tex, x + BOSS_WIDTH, y, -BOSS_WIDTH, BOSS_HEIGHT);
+        float renderX = getRenderX();
+        float renderY = getRenderY();
+        if (isFacingRight()) {
+            batch.draw(tex, renderX + BOSS_WIDTH, renderY, -BOSS_WIDTH, BOSS_HEIGHT);
         } else {
-            batch.draw(tex, x, y, BOSS_WIDTH, BOSS_HEIGHT);
+            batch.draw(tex, renderX, renderY, BOSS_WIDTH, BOSS_HEIGHT);
         }
     }
-
-    @Override
-    protected float getHitboxWidth() {
-        return EntityConstants.ENEMY_HITBOX_WIDTH * 2.0f;
-    }
-
-    @Override
-    protected float getHitboxHeight() {
-        return EntityConstants.ENEMY_HITBOX_HEIGHT * 2.0f;
-    }
-
-    @Override
-    protected float getHitboxOffsetX() {
-        return (BOSS_WIDTH - getHitboxWidth()) / 2f;
-    }
-
-    @Override
-    protected float getHitboxOffsetY() {
-        return EntityConstants.ENEMY_HITBOX_OFFSET_Y * 1.5f;
-    }
 }
\ No newline at end of file
@@ -1,32 +1,35 @@
 package com.fistofsteel.entities.enemies;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.OccupancyGrid;
+import com.fistofsteel.physics.PlatformSegments;
 import com.fistofsteel.utils.EntityConstants;
-import com.fistofsteel.utils.PhysicsConstants;
 import com.fistofsteel.utils.HealthBar;
 
 /**
  * Classe abstraite représentant un ennemi dans le jeu.
- * Gère l'IA, les animations, les collisions et les combats.
+ * Gère l'IA, les animations et les combats.
+ * 
+ * Position, vitesse, minuteurs, hitbox, état et drapeaux sont rangés dans un
+ * emplacement d'{@link EnemyStore} : ceux du gestionnaire, ou les colonnes
+ * propres de l'ennemi tant qu'il n'y est pas. La physique et la hitbox sont
+ * calculées par {@link EnemySimulation}.
  */
 public abstract class Enemy {
     
-    protected float x, y;
     protected float width = EntityConstants.ENEMY_WIDTH;
     protected float height = EntityConstants.ENEMY_HEIGHT;
-    protected float velocityX = 0;
-    protected float velocityY = 0;
     
     protected float spawnX, spawnY;
     protected float patrolCenterX;
-    protected boolean onGroundLastFrame = false;
     
     protected Player targetPlayer;
     
@@ -40,30 +43,35 @@ public abstract class Enemy {
     protected enum State { 
         IDLE, PATROL, CHASE, ATTACK, HIT, DEAD 
     }
-    protected State currentState = State.IDLE;
+    private static final State[] STATES = State.values();
     
     protected float detectionRange = 400f;
     protected float losePlayerRange = 600f;
     protected float attackRange = 80f;
     
+    /** Écart vertical maximal entre les hitboxes pour toucher le joueur. */
+    public static final float ATTACK_HEIGHT_RANGE = 80f;
+    
     protected float patrolRange = 200f;
     protected float edgeDetectionDistance = 20f;
-    protected float patrolSpeed = 50f;
     protected float chaseSpeed = 75f;
-    protected boolean facingRight = true;
     
-    protected float attackTimer = 0;
     protected float attackCooldown = 2.0f;
-    protected float hitTimer = 0;
     protected float hitDuration = 0.3f;
-    protected float deadTimer = 0;
     protected float deadDuration = 2.0f;
     
-    protected boolean isAttacking = false;
-    protected boolean isHit = false;
-    protected boolean isDead = false;
-    protected boolean isOnGround = false;
-    protected boolean hasDealtDamageThisAttack = false;
+    /** Pas écoulés depuis la dernière décision (tenu par le {@link ThinkScheduler}). */
+    int ticksSinceThink = 0;
+    
+    /** Effets de bord du pas en cours, appliqués plus tard (null = appliqués tout de suite). */
+    protected EnemyCommands commands;
+    
+    /** Colonnes propres de l'ennemi, utilisées hors gestionnaire. */
+    private final EnemyStore home;
+    
+    /** Colonnes et emplacement où l'ennemi est rangé. */
+    private EnemyStore store;
+    private int slot;
     
     protected float animationTimer = 0f;
     protected float walkFrameDuration = 0.15f;
@@ -76,11 +84,32 @@ public abstract class Enemy {
     protected int hurtFrame = 0;
     protected int idleFrame = 0;
     
-    protected static final float GRAVITY = -800f;
-    protected static final float TERMINAL_VELOCITY = -500f;
-    protected static final float GROUND_FRICTION = 0.9f;
-    protected Rectangle hitbox;
-    protected Array<Rectangle> collisionRects;
+    /** Dossier racine des sprites des sbires (Knight, Mage, Rogue). */
+    public static final String SPRITE_BASE_PATH = "assets/sprites/sbires/";
+    /** Copie de la hitbox rendue par {@link #getHitbox()}. */
+    private final Rectangle hitbox = new Rectangle();
+    protected CollisionGrid collisionGrid;
+    
+    /** Rectangle de test réutilisé pour les sondes (bord, mur). */
+    private final Rectangle probeRect = new Rectangle();
+    
+    /** Surfaces praticables du niveau (null = sondes sur la géométrie). */
+    protected PlatformSegments platforms;
+    
+    /** Segment sur lequel l'ennemi marche, gardé tant que ses pieds y reposent. */
+    private PlatformSegments.Segment currentPlatform;
+    
+    /** Marge sous une surface acceptée pour un point de spawn. */
+    private static final float SPAWN_SNAP_TOLERANCE = 16f;
+    
+    /** Occupation des tuiles pour la ligne de vue (null = vue jamais bloquée). */
+    protected OccupancyGrid lineOfSight;
+    
+    /** Hauteur réservée au-dessus du sprite pour la barre de vie. */
+    private static final float HEALTH_BAR_SPACE = 30f;
+    
+    /** Hauteur des yeux, en fraction de la hauteur de la hitbox. */
+    private static final float EYE_HEIGHT = 0.75f;
     
     protected Texture[][] textures;
     
@@ -92,23 +121,19 @@ public abstract class Enemy {
      * @param targetPlayer Le joueur ciblé
      */
     public Enemy(float x, float y, Player targetPlayer) {
-        this.x = x;
-        this.y = y;
+        this.home = EnemyStore.createHome(this, x, y);
+        this.store = home;
+        this.slot = 0;
         this.spawnX = x;
         this.spawnY = y;
         this.patrolCenterX = x;
         this.targetPlayer = targetPlayer;
-        this.currentState = State.IDLE;
         
         initStats();
         loadTextures();
         
-        this.hitbox = new Rectangle(
-            x + getHitboxOffsetX(), 
-            y + getHitboxOffsetY(), 
-            getHitboxWidth(), 
-            getHitboxHeight()
-        );
+        store.detectionRange[slot] = detectionRange;
+        EnemySimulation.placeHitbox(store, slot);
     }
     
     /**
@@ -128,14 +153,15 @@ public abstract class Enemy {
      * Peut être surchargé pour des cas spéciaux (Boss).
      */
     protected void loadTextures() {
-        textures = EnemyAnimationHelper.loadEnemySprites("assets/sprites/sbires/", getEnemyName());
+        textures = EnemyAnimationHelper.loadEnemySprites(SPRITE_BASE_PATH, getEnemyName());
     }
     
     /**
-     * Libère les textures de l'ennemi.
+     * Rend au cache les textures de l'ennemi.
      */
     protected void disposeTextures() {
-        EnemyAnimationHelper.disposeTextures(textures);
+        EnemyAnimationHelper.releaseTextures(textures);
+        textures = null;
     }
     
     /**
@@ -158,7 +184,7 @@ public abstract class Enemy {
             return null;
         }
         
-        switch (currentState) {
+        switch (getCurrentState()) {
             case IDLE:
                 return idle[idleFrame % idle.length];
                 
@@ -196,7 +222,7 @@ public abstract class Enemy {
     protected void updateAnimation(float delta) {
         animationTimer += delta;
         
-        switch (currentState) {
+        switch (getCurrentState()) {
             case IDLE:
                 if (animationTimer >= 0.1f && textures[0] != null) {
                     idleFrame = (idleFrame + 1) % textures[0].length;
@@ -254,30 +280,134 @@ public abstract class Enemy {
     protected void onAttackFrame(int frame) {
     }
     
-    protected abstract float getHitboxWidth();
-    protected abstract float getHitboxHeight();
-    protected abstract float getHitboxOffsetX();
-    protected abstract float getHitboxOffsetY();
+    /**
+     * @return La largeur de la hitbox complète du type de l'ennemi
+     */
+    protected final float getHitboxWidth() {
+        return EnemySimulation.HITBOX_WIDTH[store.type[slot]];
+    }
+    
+    protected final float getHitboxHeight() {
+        return EnemySimulation.HITBOX_HEIGHT[store.type[slot]];
+    }
+    
+    protected final float getHitboxOffsetX() {
+        return EnemySimulation.HITBOX_OFFSET_X[store.type[slot]];
+    }
+    
+    protected final float getHitboxOffsetY() {
+        return EnemySimulation.HITBOX_OFFSET_Y[store.type[slot]];
+    }
+    
+    /**
+     * Définit la géométrie de collision pour l'ennemi.
+     * 
+     * @param collisionGrid L'index des rectangles de collision de la map
+     */
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+    }
+    
+    /**
+     * Définit les surfaces praticables utilisées pour la détection des bords et des murs.
+     * 
+     * @param platforms Les segments du niveau
+     */
+    public void setPlatforms(PlatformSegments platforms) {
+        this.platforms = platforms;
+        this.currentPlatform = null;
+    }
     
-    protected boolean useDirectionalHitbox() {
-        return false;
+    /**
+     * Remplace l'index de collision et les surfaces par des vues du même niveau
+     * (une par thread de mise à jour), sans oublier la surface courante.
+     * 
+     * @param collisionGrid Une vue de l'index de collision
+     * @param platforms Une vue des surfaces
+     */
+    public void useLevelViews(CollisionGrid collisionGrid, PlatformSegments platforms) {
+        this.collisionGrid = collisionGrid;
+        this.platforms = platforms;
     }
     
-    protected float getDirectionalHitboxWidth() {
-        return getHitboxWidth();
+    /**
+     * Affiche un message, ou l'enregistre pendant une mise à jour avec tampon.
+     * 
+     * @param message Le message
+     */
+    protected void log(String message) {
+        if (commands != null) {
+            commands.log(message);
+        } else {
+            System.out.println(message);
+        }
     }
     
-    protected float getDirectionalHitboxOffsetX() {
-        return getHitboxOffsetX();
+    /**
+     * Définit l'occupation des tuiles utilisée pour savoir si le joueur est visible.
+     * 
+     * @param lineOfSight L'occupation des tuiles du niveau
+     */
+    public void setLineOfSight(OccupancyGrid lineOfSight) {
+        this.lineOfSight = lineOfSight;
     }
     
     /**
-     * Définit les rectangles de collision pour l'ennemi.
+     * Vérifie qu'aucune tuile pleine ne sépare les yeux de l'ennemi du centre du joueur.
      * 
-     * @param collisionRects Les rectangles de collision de la map
+     * @return true si le joueur est visible (toujours vrai sans carte d'occupation)
      */
-    public void setCollisionRects(Array<Rectangle> collisionRects) {
-        this.collisionRects = collisionRects;
+    public boolean canSeePlayer() {
+        if (lineOfSight == null || targetPlayer == null) return true;
+        
+        Rectangle playerHitbox = targetPlayer.getHitbox();
+        float eyeX = store.hitX[slot] + store.hitWidth[slot] / 2f;
+        float eyeY = store.hitY[slot] + store.hitHeight[slot] * EYE_HEIGHT;
+        return lineOfSight.hasLineOfSight(eyeX, eyeY,
+                playerHitbox.x + playerHitbox.width / 2f, playerHitbox.y + playerHitbox.height / 2f);
+    }
+    
+    /**
+     * Pose l'ennemi sur la surface située sous son point de spawn.
+     * 
+     * @return true si une surface a été trouvée
+     */
+    public boolean snapToPlatform() {
+        if (platforms == null) return false;
+        
+        PlatformSegments.Segment segment = platforms.findBelow(getFootX(), getFootY(), SPAWN_SNAP_TOLERANCE);
+        if (segment == null) return false;
+        
+        setPosition(getX(), segment.y - getHitboxOffsetY());
+        setVelocityY(0);
+        setFlag(EnemyStore.FLAG_ON_GROUND, true);
+        currentPlatform = segment;
+        return true;
+    }
+    
+    /**
+     * Segment sous les pieds de l'ennemi : le segment en cache tant qu'il le porte,
+     * sinon une recherche dans l'index (après une chute ou un saut).
+     * 
+     * @return Le segment, ou null si l'ennemi n'est posé sur rien de connu
+     */
+    protected PlatformSegments.Segment getCurrentPlatform() {
+        if (platforms == null) return null;
+        
+        float footX = getFootX();
+        float footY = getFootY();
+        if (currentPlatform == null || !currentPlatform.supports(footX, footY)) {
+            currentPlatform = platforms.find(footX, footY);
+        }
+        return currentPlatform;
+    }
+    
+    private float getFootX() {
+        return getX() + getHitboxOffsetX() + getHitboxWidth() / 2f;
+    }
+    
+    private float getFootY() {
+        return getY() + getHitboxOffsetY();
     }
     
     /**
@@ -288,7 +418,6 @@ public abstract class Enemy {
      */
     public void setPatrolZone(float min, float max) {
         this.patrolRange = Math.max(Math.abs(min), Math.abs(max));
-        System.out.println("Zone de patrouille : " + (int)patrolRange + " pixels");
     }
     
     /**
@@ -297,36 +426,38 @@ public abstract class Enemy {
      * @param delta Le temps écoulé
      */
     protected void updateAI(float delta) {
-        if (isHit || isAttacking) {
-            velocityX = 0;
+        if (isHit() || isAttacking()) {
+            setVelocityX(0);
             return;
         }
         
+        float x = getX();
         float distanceToPlayerX = Math.abs(targetPlayer.getX() - x);
-        float distanceToPlayerY = Math.abs(targetPlayer.getY() - y);
+        float distanceToPlayerY = Math.abs(targetPlayer.getY() - getY());
         
-        if (currentState == State.CHASE) {
+        if (getCurrentState() == State.CHASE) {
             boolean stillInRange = distanceToPlayerX <= losePlayerRange && distanceToPlayerY <= 300f;
             
             if (stillInRange) {
-                if (canHitPlayer() && attackTimer <= 0) {
+                if (canHitPlayer() && getAttackTimer() <= 0) {
                     attack();
                 } else {
                     chase();
                 }
                 return;
             } else {
-                System.out.println("Joueur perdu ! Nouvelle zone de patrouille a x=" + (int)x);
+                log("Joueur perdu ! Nouvelle zone de patrouille a x=" + (int)x);
                 patrolCenterX = x;
-                currentState = State.IDLE;
-                velocityX = 0;
+                setState(State.IDLE);
+                setVelocityX(0);
             }
         }
         
-        boolean playerDetected = distanceToPlayerX <= detectionRange && distanceToPlayerY <= 200f;
+        // Le rayon n'est lancé que si le joueur est à portée
+        boolean playerDetected = distanceToPlayerX <= detectionRange && distanceToPlayerY <= 200f && canSeePlayer();
         
         if (playerDetected) {
-            if (canHitPlayer() && attackTimer <= 0) {
+            if (canHitPlayer() && getAttackTimer() <= 0) {
                 attack();
             } else {
                 chase();
@@ -337,89 +468,112 @@ public abstract class Enemy {
         patrolWithEdgeDetection();
     }
     
+    /**
+     * Entre deux décisions : garde l'état choisi, mais continue de réagir au
+     * décor (bords, murs, limites de patrouille) pour ne pas tomber en attendant.
+     */
+    protected void holdCourse() {
+        if (isHit() || isAttacking()) {
+            setVelocityX(0);
+            return;
+        }
+        
+        if (getCurrentState() == State.PATROL) {
+            patrolWithEdgeDetection();
+        }
+    }
+    
     /**
      * Fait patrouiller l'ennemi avec détection des bords.
      */
     protected void patrolWithEdgeDetection() {
-        currentState = State.PATROL;
+        setState(State.PATROL);
         
         boolean edgeAhead = isEdgeAhead();
         boolean wallAhead = isWallAhead();
         
-        float distanceFromCenter = x - patrolCenterX;
+        float distanceFromCenter = getX() - patrolCenterX;
         
+        boolean facingRight = isFacingRight();
         if (edgeAhead || wallAhead || Math.abs(distanceFromCenter) > patrolRange) {
             facingRight = !facingRight;
-            velocityX = facingRight ? patrolSpeed : -patrolSpeed;
-        } else {
-            velocityX = facingRight ? patrolSpeed : -patrolSpeed;
+            setFacingRight(facingRight);
         }
+        float patrolSpeed = EnemySimulation.PATROL_SPEED[store.type[slot]];
+        setVelocityX(facingRight ? patrolSpeed : -patrolSpeed);
     }
     
     /**
      * Vérifie s'il y a un bord devant l'ennemi.
+     * Avec les surfaces du niveau, c'est une comparaison avec le bout du segment courant.
      * 
      * @return true s'il y a un bord
      */
     protected boolean isEdgeAhead() {
-        if (collisionRects == null || !isOnGround) return false;
+        if (collisionGrid == null || !isOnGround()) return false;
         
+        boolean facingRight = isFacingRight();
         float testX = facingRight 
-            ? x + getHitboxWidth() + edgeDetectionDistance 
-            : x - edgeDetectionDistance;
-        
-        float testY = y + getHitboxOffsetY() - 5f;
+            ? getX() + getHitboxWidth() + edgeDetectionDistance 
+            : getX() - edgeDetectionDistance;
+        
+        PlatformSegments.Segment platform = getCurrentPlatform();
+        if (platform != null) {
+            // La sonde (10 px de large) a quitté le segment et aucun mur ne le borde
+            return facingRight
+                ? !platform.rightWall && testX - 5f >= platform.right
+                : !platform.leftWall && testX + 5f <= platform.left;
+        }
         
-        Rectangle testRect = new Rectangle(testX - 5f, testY - 10f, 10f, 10f);
+        float testY = getY() + getHitboxOffsetY() - 5f;
         
-        for (Rectangle rect : collisionRects) {
-            if (testRect.overlaps(rect)) {
-                return false;
-            }
-        }
+        probeRect.set(testX - 5f, testY - 10f, 10f, 10f);
         
-        return true;
+        return !collisionGrid.overlapsAny(probeRect);
     }
     
     /**
      * Vérifie s'il y a un mur devant l'ennemi.
+     * Avec les surfaces du niveau, c'est une comparaison avec le bout du segment courant.
      * 
      * @return true s'il y a un mur
      */
     protected boolean isWallAhead() {
-        if (collisionRects == null) return false;
+        if (collisionGrid == null) return false;
         
+        boolean facingRight = isFacingRight();
         float testX = facingRight 
-            ? x + getHitboxWidth() + edgeDetectionDistance 
-            : x - edgeDetectionDistance;
-        
-        float testY = y + getHitboxHeight() / 2f;
+            ? getX() + getHitboxWidth() + edgeDetectionDistance 
+            : getX() - edgeDetectionDistance;
+        
+        PlatformSegments.Segment platform = getCurrentPlatform();
+        if (platform != null) {
+            return facingRight
+                ? platform.rightWall && testX + 5f > platform.right
+                : platform.leftWall && testX - 5f < platform.left;
+        }
         
-        Rectangle testRect = new Rectangle(testX - 5f, testY - 20f, 10f, 40f);
+        float testY = getY() + getHitboxHeight() / 2f;
         
-        for (Rectangle rect : collisionRects) {
-            if (testRect.overlaps(rect)) {
-                return true;
-            }
-        }
+        probeRect.set(testX - 5f, testY - 20f, 10f, 40f);
         
-        return false;
+        return collisionGrid.overlapsAny(probeRect);
     }
     
     /**
      * Fait poursuivre le joueur par l'ennemi.
      */
     protected void chase() {
-        currentState = State.CHASE;
+        setState(State.CHASE);
         
-        float directionX = targetPlayer.getX() - x;
+        float directionX = targetPlayer.getX() - getX();
         
         if (directionX > 0) {
-            velocityX = chaseSpeed;
-            facingRight = true;
+            setVelocityX(chaseSpeed);
+            setFacingRight(true);
         } else {
-            velocityX = -chaseSpeed;
-            facingRight = false;
+            setVelocityX(-chaseSpeed);
+            setFacingRight(false);
         }
     }
     
@@ -427,14 +581,14 @@ public abstract class Enemy {
      * Lance une attaque.
      */
     protected void attack() {
-        currentState = State.ATTACK;
-        isAttacking = true;
-        velocityX = 0;
+        setState(State.ATTACK);
+        setFlag(EnemyStore.FLAG_ATTACKING, true);
+        setVelocityX(0);
         
-        hasDealtDamageThisAttack = false;
+        setFlag(EnemyStore.FLAG_DEALT_DAMAGE, false);
         
-        attackTimer = attackCooldown;
-        System.out.println(getClass().getSimpleName() + " commence une attaque !");
+        store.attackTimer[slot] = attackCooldown;
+        log(getClass().getSimpleName() + " commence une attaque !");
     }
     
     /**
@@ -444,19 +598,19 @@ public abstract class Enemy {
      */
     protected boolean canHitPlayer() {
         Rectangle playerHitbox = targetPlayer.getHitbox();
-        float distance = Math.abs(playerHitbox.x - hitbox.x);
-        float verticalDistance = Math.abs(playerHitbox.y - hitbox.y);
+        float distance = Math.abs(playerHitbox.x - store.hitX[slot]);
+        float verticalDistance = Math.abs(playerHitbox.y - store.hitY[slot]);
         
-        return distance <= attackRange && verticalDistance <= 80f;
+        return distance <= attackRange && verticalDistance <= ATTACK_HEIGHT_RANGE;
     }
     
     /**
      * Tente d'infliger des dégâts au joueur.
      */
     public void tryDealDamage() {
-        if (isAttacking && canHitPlayer() && !hasDealtDamageThisAttack && !targetPlayer.isDead()) {
+        if (isAttacking() && canHitPlayer() && !hasFlag(EnemyStore.FLAG_DEALT_DAMAGE) && !targetPlayer.isDead()) {
             targetPlayer.applyDamage(damage);
-            hasDealtDamageThisAttack = true;
+            setFlag(EnemyStore.FLAG_DEALT_DAMAGE, true);
             System.out.println(getClass().getSimpleName() + " touche le joueur ! (-" + damage + " HP)");
         }
     }
@@ -467,7 +621,7 @@ public abstract class Enemy {
      * @param damage Les dégâts à infliger
      */
     public void takeDamage(int damage) {
-        if (isDead || isHit) return;
+        if (isDying() || isHit()) return;
         
         health -= damage;
         System.out.println(getClass().getSimpleName() + " touche ! HP: " + health + "/" + maxHealth);
@@ -475,10 +629,10 @@ public abstract class Enemy {
         if (health <= 0) {
             die();
         } else {
-            isHit = true;
-            hitTimer = hitDuration;
-            currentState = State.HIT;
-            velocityX = 0;
+            setFlag(EnemyStore.FLAG_HIT, true);
+            store.hitTimer[slot] = hitDuration;
+            setState(State.HIT);
+            setVelocityX(0);
         }
     }
     
@@ -486,10 +640,10 @@ public abstract class Enemy {
      * Tue l'ennemi.
      */
     protected void die() {
-        isDead = true;
-        currentState = State.DEAD;
-        velocityX = 0;
-        deadTimer = deadDuration;
+        setFlag(EnemyStore.FLAG_DYING, true);
+        setState(State.DEAD);
+        setVelocityX(0);
+        store.deadTimer[slot] = deadDuration;
         System.out.println(getClass().getSimpleName() + " mort !");
     }
     
@@ -498,220 +652,49 @@ public abstract class Enemy {
  * Utilisé quand l'ennemi tombe dans une zone de mort.
  */
 public void killInstantly() {
-    isDead = true;
-    currentState = State.DEAD;
-    velocityX = 0;
-    velocityY = 0;
-    deadTimer = 0;
+    setFlag(EnemyStore.FLAG_DYING, true);
+    setState(State.DEAD);
+    setVelocityX(0);
+    setVelocityY(0);
+    store.deadTimer[slot] = 0;
     health = 0;
     System.out.println(getClass().getSimpleName() + " mort instantanément (zone de mort) !");
 }
     /**
-     * Met à jour l'ennemi.
+     * Étape de décision d'un pas ({@link EnemySimulation}) : {@link #updateAI(float)}
+     * si l'ordonnanceur l'accorde, sinon l'ennemi garde son cap ({@link #holdCourse()}).
      * 
-     * @param delta Le temps écoulé
-     */
-    public void update(float delta) {
-        if (isDead) {
-            deadTimer -= delta;
-            updateAnimation(delta);
-            return;
-        }
-        
-        if (attackTimer > 0) {
-            attackTimer -= delta;
-            if (attackTimer <= 0) {
-                isAttacking = false;
-                hasDealtDamageThisAttack = false;
-            }
-        }
-        
-        if (isHit) {
-            hitTimer -= delta;
-            if (hitTimer <= 0) {
-                isHit = false;
-            }
-        }
-        
-        updateAI(delta);
-        applyPhysics(delta);
-        updateAnimation(delta);
-        updateHitbox();
-    }
-    
-    /**
-     * Applique la physique à l'ennemi.
+     * Avec un tampon de commandes, l'ennemi ne touche qu'à lui-même : tirs et
+     * messages y sont enregistrés, ce qui permet de le mettre à jour sur un
+     * autre thread.
      * 
      * @param delta Le temps écoulé
+     * @param thinkLane La voie de l'ordonnanceur des décisions (null = décision à chaque pas)
+     * @param commands Le tampon des effets de bord (null = appliqués tout de suite)
      */
-    protected void applyPhysics(float delta) {
-        if (collisionRects == null) return;
-        
-        if (!isOnGround) {
-            velocityY += GRAVITY * delta;
-            if (velocityY < TERMINAL_VELOCITY) {
-                velocityY = TERMINAL_VELOCITY;
-            }
-        }
-        
-        if (isOnGround && currentState != State.CHASE && currentState != State.PATROL) {
-            velocityX *= GROUND_FRICTION;
-            if (Math.abs(velocityX) < 1f) {
-                velocityX = 0;
-            }
-        }
-        
-        int subdivisions = 4;
-        float subDelta = delta / subdivisions;
-        
-        for (int i = 0; i < subdivisions; i++) {
-            float nextX = x + velocityX * subDelta;
-            
-            Rectangle testHitbox;
-            if (useDirectionalHitbox()) {
-                testHitbox = new Rectangle(
-                    nextX + getDirectionalHitboxOffsetX(),
-                    y + getHitboxOffsetY(),
-                    getDirectionalHitboxWidth(),
-                    getHitboxHeight()
-                );
-            } else {
-                testHitbox = new Rectangle(
-                    nextX + getHitboxOffsetX(),
-                    y + getHitboxOffsetY(),
-                    getHitboxWidth(),
-                    getHitboxHeight()
-                );
-            }
-            
-            boolean collisionX = false;
-            for (Rectangle rect : collisionRects) {
-                if (testHitbox.overlaps(rect)) {
-                    collisionX = true;
-                    velocityX = 0;
-                    
-                    if (currentState == State.PATROL) {
-                        facingRight = !facingRight;
-                        velocityX = facingRight ? patrolSpeed : -patrolSpeed;
-                    }
-                    break;
-                }
-            }
-            
-            if (!collisionX) {
-                x = nextX;
-            }
-            
-            float nextY = y + velocityY * subDelta;
-            
-            if (useDirectionalHitbox()) {
-                testHitbox.set(
-                    x + getDirectionalHitboxOffsetX(),
-                    nextY + getHitboxOffsetY(),
-                    getDirectionalHitboxWidth(),
-                    getHitboxHeight()
-                );
-            } else {
-                testHitbox.set(
-                    x + getHitboxOffsetX(),
-                    nextY + getHitboxOffsetY(),
-                    getHitboxWidth(),
-                    getHitboxHeight()
-                );
-            }
-            
-            isOnGround = false;
-            for (Rectangle rect : collisionRects) {
-                if (testHitbox.overlaps(rect)) {
-                    if (velocityY < 0) {
-                        isOnGround = true;
-                        y = rect.y + rect.height - getHitboxOffsetY();
-                    } else {
-                        y = rect.y - getHitboxHeight() - getHitboxOffsetY();
-                    }
-                    velocityY = 0;
-                    break;
-                }
-            }
-            
-            if (!isOnGround) {
-                y = nextY;
-            }
-        }
-    }
-    
-    /**
-     * Met à jour la hitbox de l'ennemi.
-     */
-    protected void updateHitbox() {
-        if (useDirectionalHitbox()) {
-            hitbox.set(
-                x + getDirectionalHitboxOffsetX(),
-                y + getHitboxOffsetY(),
-                getDirectionalHitboxWidth(),
-                getHitboxHeight()
-            );
+    void think(float delta, ThinkScheduler.Lane thinkLane, EnemyCommands commands) {
+        this.commands = commands;
+        if (thinkLane == null) {
+            updateAI(delta);
+        } else if (thinkLane.beginThink(this)) {
+            updateAI(delta);
+            thinkLane.endThink();
         } else {
-            hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
+            holdCourse();
         }
-        
-        resolveHitboxCollisions();
+        this.commands = null;
     }
     
     /**
-     * Résout les collisions de la hitbox.
+     * Étape d'animation d'un pas, après la physique.
+     * 
+     * @param delta Le temps écoulé
+     * @param commands Le tampon des effets de bord (null = appliqués tout de suite)
      */
-    protected void resolveHitboxCollisions() {
-        if (collisionRects == null || collisionRects.size == 0) return;
-        
-        for (Rectangle collRect : collisionRects) {
-            if (hitbox.overlaps(collRect)) {
-                float overlapLeft = (hitbox.x + hitbox.width) - collRect.x;
-                float overlapRight = (collRect.x + collRect.width) - hitbox.x;
-                float overlapBottom = (hitbox.y + hitbox.height) - collRect.y;
-                float overlapTop = (collRect.y + collRect.height) - hitbox.y;
-                
-                float minOverlap = Math.min(
-                    Math.min(overlapLeft, overlapRight),
-                    Math.min(overlapBottom, overlapTop)
-                );
-                
-                if (minOverlap == overlapLeft) {
-                    float pushDistance = overlapLeft + 0.1f;
-                    x -= pushDistance;
-                    velocityX = 0;
-                } 
-                else if (minOverlap == overlapRight) {
-                    float pushDistance = overlapRight + 0.1f;
-                    x += pushDistance;
-                    velocityX = 0;
-                } 
-                else if (minOverlap == overlapBottom) {
-                    float pushDistance = overlapBottom + 0.1f;
-                    y -= pushDistance;
-                    velocityY = 0;
-                } 
-                else if (minOverlap == overlapTop) {
-                    float pushDistance = overlapTop + 0.1f;
-                    y += pushDistance;
-                    velocityY = 0;
-                    isOnGround = true;
-                }
-                
-                if (useDirectionalHitbox()) {
-                    hitbox.set(
-                        x + getDirectionalHitboxOffsetX(),
-                        y + getHitboxOffsetY(),
-                        getDirectionalHitboxWidth(),
-                        getHitboxHeight()
-                    );
-                } else {
-                    hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
-                }
-                
-                break;
-            }
-        }
+    void animate(float delta, EnemyCommands commands) {
+        this.commands = commands;
+        updateAnimation(delta);
+        this.commands = null;
     }
     
     /**
@@ -726,7 +709,10 @@ public void killInstantly() {
             return;
         }
         
-        if (currentState == State.DEAD) {
+        float renderX = getRenderX();
+        float renderY = getRenderY();
+        boolean facingRight = isFacingRight();
+        if (getCurrentState() == State.DEAD) {
             float rotatedWidth = EntityConstants.ENEMY_WIDTH;
             float rotatedHeight = EntityConstants.ENEMY_HEIGHT;
             float originX = rotatedWidth / 2f;
@@ -736,7 +722,7 @@ public void killInstantly() {
             
             batch.draw(
                 currentTexture,
-                x, y,
+                renderX, renderY,
                 originX, originY,
                 rotatedWidth, rotatedHeight,
                 scaleX, 1f,
@@ -747,33 +733,56 @@ public void killInstantly() {
             );
         } else {
             if (facingRight) {
-                batch.draw(currentTexture, x, y, EntityConstants.ENEMY_WIDTH, EntityConstants.ENEMY_HEIGHT);
+                batch.draw(currentTexture, renderX, renderY, EntityConstants.ENEMY_WIDTH, EntityConstants.ENEMY_HEIGHT);
             } else {
-                batch.draw(currentTexture, x + EntityConstants.ENEMY_WIDTH, y, -EntityConstants.ENEMY_WIDTH, EntityConstants.ENEMY_HEIGHT);
+                batch.draw(currentTexture, renderX + EntityConstants.ENEMY_WIDTH, renderY, -EntityConstants.ENEMY_WIDTH, EntityConstants.ENEMY_HEIGHT);
             }
         }
     }
     
     /**
-     * Affiche la barre de vie de l'ennemi.
+     * @return La largeur du sprite affiché
+     */
+    public float getDrawWidth() {
+        return EntityConstants.ENEMY_WIDTH;
+    }
+    
+    /**
+     * @return La hauteur du sprite affiché
+     */
+    public float getDrawHeight() {
+        return EntityConstants.ENEMY_HEIGHT;
+    }
+    
+    /**
+     * Teste si le sprite ou la barre de vie, à leur position affichée, touchent la zone.
      * 
-     * @param shapeRenderer Le ShapeRenderer pour le rendu
-     * @param camera La caméra du jeu
+     * @param view La zone visible, en coordonnées du monde
+     * @return true si l'ennemi doit être dessiné
      */
-    public void renderHealthBar(ShapeRenderer shapeRenderer, OrthographicCamera camera) {
-        if (isDead) return;
-        
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    public boolean isVisible(Rectangle view) {
+        float renderX = getRenderX();
+        float renderY = getRenderY();
+        float top = Math.max(renderY + getDrawHeight(), renderY + height + HEALTH_BAR_SPACE);
+        return renderX < view.x + view.width && renderX + getDrawWidth() > view.x &&
+               renderY < view.y + view.height && top > view.y;
+    }
+    
+    /**
+     * Affiche la barre de vie de l'ennemi dans le batch ouvert.
+     * 
+     * @param batch Le SpriteBatch pour le rendu
+     * @param white La région blanche du RenderContext
+     */
+    public void renderHealthBar(SpriteBatch batch, TextureRegion white) {
+        if (isDying()) return;
         
-        float barX = x + width / 2f;
-        float barY = y + height + 10f;
+        float barX = getRenderX() + width / 2f;
+        float barY = getRenderY() + height + 10f;
         float barWidth = 80f;
         float barHeight = 8f;
         
-        HealthBar.render(shapeRenderer, barX, barY, barWidth, barHeight, health, maxHealth);
-        
-        shapeRenderer.end();
+        HealthBar.render(batch, white, barX, barY, barWidth, barHeight, health, maxHealth);
     }
     
     /**
@@ -783,13 +792,13 @@ public void killInstantly() {
      */
     public void renderDebug(ShapeRenderer shapeRenderer) {
         shapeRenderer.setColor(Color.RED);
-        shapeRenderer.rect(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+        shapeRenderer.rect(store.hitX[slot], store.hitY[slot], store.hitWidth[slot], store.hitHeight[slot]);
         
-        shapeRenderer.setColor(new Color(1, 1, 0, 0.3f));
-        shapeRenderer.circle(x + width/2, y + height/2, detectionRange);
+        shapeRenderer.setColor(1, 1, 0, 0.3f);
+        shapeRenderer.circle(getX() + width/2, getY() + height/2, detectionRange);
         
-        shapeRenderer.setColor(new Color(1, 0.5f, 0, 0.2f));
-        shapeRenderer.circle(x + width/2, y + height/2, losePlayerRange);
+        shapeRenderer.setColor(1, 0.5f, 0, 0.2f);
+        shapeRenderer.circle(getX() + width/2, getY() + height/2, losePlayerRange);
     }
     
     /**
@@ -799,15 +808,80 @@ public void killInstantly() {
         disposeTextures();
     }
     
-    public float getX() { return x; }
-    public float getY() { return y; }
-    public Rectangle getHitbox() { return hitbox; }
-    public boolean isDead() { return isDead && deadTimer <= 0; }
-    public State getCurrentState() { return currentState; }
+    public float getX() { return store.x[slot]; }
+    public float getY() { return store.y[slot]; }
+    public float getRenderX() { return store.renderX[slot]; }
+    public float getRenderY() { return store.renderY[slot]; }
+    public boolean isDead() { return isDying() && store.deadTimer[slot] <= 0; }
+    public State getCurrentState() { return STATES[store.state[slot]]; }
     public int getHealth() { return health; }
     public int getMaxHealth() { return maxHealth; }
     public int getDamage() { return damage; }
-    public boolean getIsOnGround() { return isOnGround; }
+    public float getAttackRange() { return attackRange; }
+    public float getDetectionRange() { return detectionRange; }
+    public boolean getIsOnGround() { return isOnGround(); }
+    public boolean isAsleep() { return hasFlag(EnemyStore.FLAG_ASLEEP); }
+    
+    /**
+     * @return La hitbox, recopiée de ses colonnes (rectangle réutilisé)
+     */
+    public Rectangle getHitbox() {
+        return store.getHitbox(slot, hitbox);
+    }
+    
+    /**
+     * Un ennemi ne s'endort qu'au repos : posé au sol, en attente ou en patrouille.
+     * Un ennemi touché, en combat, en chute ou en train de mourir reste simulé.
+     * 
+     * @return true si l'ennemi peut être endormi
+     */
+    public boolean canSleep() {
+        return store.isResting(slot);
+    }
+    
+    protected final void setState(State state) { store.state[slot] = (byte) state.ordinal(); }
+    protected final float getVelocityX() { return store.velocityX[slot]; }
+    protected final void setVelocityX(float velocityX) { store.velocityX[slot] = velocityX; }
+    protected final float getVelocityY() { return store.velocityY[slot]; }
+    protected final void setVelocityY(float velocityY) { store.velocityY[slot] = velocityY; }
+    protected final float getAttackTimer() { return store.attackTimer[slot]; }
+    protected final boolean isFacingRight() { return hasFlag(EnemyStore.FLAG_FACING_RIGHT); }
+    protected final void setFacingRight(boolean facingRight) { setFlag(EnemyStore.FLAG_FACING_RIGHT, facingRight); }
+    protected final boolean isOnGround() { return hasFlag(EnemyStore.FLAG_ON_GROUND); }
+    protected final boolean isAttacking() { return hasFlag(EnemyStore.FLAG_ATTACKING); }
+    protected final boolean isHit() { return hasFlag(EnemyStore.FLAG_HIT); }
+    /** @return true dès la mort, animation de mort comprise */
+    protected final boolean isDying() { return hasFlag(EnemyStore.FLAG_DYING); }
+    
+    private boolean hasFlag(int flag) {
+        return (store.flags[slot] & flag) != 0;
+    }
+    
+    private void setFlag(int flag, boolean on) {
+        if (on) {
+            store.flags[slot] = (byte) (store.flags[slot] | flag);
+        } else {
+            store.flags[slot] = (byte) (store.flags[slot] & ~flag);
+        }
+    }
+    
+    /**
+     * @return Les colonnes propres de l'ennemi
+     */
+    EnemyStore getHome() {
+        return home;
+    }
+    
+    /**
+     * Range l'ennemi dans un emplacement, dont les colonnes ont déjà reçu son état.
+     * 
+     * @param store Les colonnes
+     * @param slot L'emplacement
+     */
+    void bind(EnemyStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
     
     /**
      * Définit la position de l'ennemi.
@@ -816,8 +890,46 @@ public void killInstantly() {
      * @param y La nouvelle position Y
      */
     public void setPosition(float x, float y) {
-        this.x = x;
-        this.y = y;
-        updateHitbox();
+        store.x[slot] = x;
+        store.y[slot] = y;
+        store.previousX[slot] = x;
+        store.previousY[slot] = y;
+        store.renderX[slot] = x;
+        store.renderY[slot] = y;
+        EnemySimulation.placeHitbox(store, slot);
+    }
+    
+    /**
+     * Remet l'ennemi à neuf à un nouveau point d'apparition, pour réutiliser
+     * une instance morte (textures conservées) au lieu d'en construire une.
+     * 
+     * @param x Position X d'apparition
+     * @param y Position Y d'apparition
+     */
+    public void respawn(float x, float y) {
+        initStats();
+        setState(State.IDLE);
+        store.flags[slot] = EnemyStore.FLAG_FACING_RIGHT;
+        store.velocityX[slot] = 0;
+        store.velocityY[slot] = 0;
+        store.attackTimer[slot] = 0;
+        store.hitTimer[slot] = 0;
+        store.deadTimer[slot] = 0;
+        store.detectionRange[slot] = detectionRange;
+        patrolRange = 200f;
+        ticksSinceThink = 0;
+        
+        animationTimer = 0f;
+        walkFrame = 0;
+        attackFrame = 0;
+        deadFrame = 0;
+        hurtFrame = 0;
+        idleFrame = 0;
+        
+        spawnX = x;
+        spawnY = y;
+        patrolCenterX = x;
+        currentPlatform = null;
+        setPosition(x, y);
     }
 }
\ No newline at end of file
@@ -1,34 +1,18 @@
 package com.fistofsteel.entities.enemies;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Pixmap.Format;
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.assets.AssetCache;
 
 /**
  * Helper pour charger automatiquement les sprites des ennemis.
  * Version robuste avec fallback et détection automatique de casse.
+ * 
+ * Les textures passent par l'AssetCache : dix Knights partagent les mêmes
+ * textures, chargées une seule fois.
  */
 public class EnemyAnimationHelper {
     
-    private static Texture fallbackTexture = null;
-    
-    /**
-     * Crée une texture de fallback rouge si le chargement échoue.
-     * 
-     * @return La texture de fallback
-     */
-    private static Texture getFallbackTexture() {
-        if (fallbackTexture == null) {
-            Pixmap pixmap = new Pixmap(64, 64, Format.RGBA8888);
-            pixmap.setColor(1, 0, 0, 0.5f);
-            pixmap.fill();
-            fallbackTexture = new Texture(pixmap);
-            pixmap.dispose();
-        }
-        return fallbackTexture;
-    }
-    
     /**
      * Charge les sprites d'un ennemi.
      * 
@@ -99,17 +83,9 @@ public class EnemyAnimationHelper {
             
             String path = basePath + enemyName + "/Idle/idle" + frameNumber + ".png";
             
-            try {
-                if (Gdx.files.internal(path).exists()) {
-                    textures[textureIndex] = new Texture(Gdx.files.internal(path));
-                    loadedCount++;
-                } else {
-                    System.err.println("Fichier non trouve : " + path);
-                    textures[textureIndex] = getFallbackTexture();
-                }
-            } catch (Exception e) {
-                System.err.println("Erreur chargement " + path + ": " + e.getMessage());
-                textures[textureIndex] = getFallbackTexture();
+            textures[textureIndex] = AssetCache.acquireTextureOrFallback(path);
+            if (textures[textureIndex] != AssetCache.getFallbackTexture()) {
+                loadedCount++;
             }
             textureIndex++;
         }
@@ -131,17 +107,9 @@ public class EnemyAnimationHelper {
             int frameNumber = startIndex + i;
             String path = basePath + enemyName + "/" + folder + "/" + prefix + frameNumber + ".png";
             
-            try {
-                if (Gdx.files.internal(path).exists()) {
-                    textures[i] = new Texture(Gdx.files.internal(path));
-                    loadedCount++;
-                } else {
-                    System.err.println("Fichier non trouve : " + path);
-                    textures[i] = getFallbackTexture();
-                }
-            } catch (Exception e) {
-                System.err.println("Erreur chargement " + path + ": " + e.getMessage());
-                textures[i] = getFallbackTexture();
+            textures[i] = AssetCache.acquireTextureOrFallback(path);
+            if (textures[i] != AssetCache.getFallbackTexture()) {
+                loadedCount++;
             }
         }
         
@@ -158,12 +126,49 @@ public class EnemyAnimationHelper {
         
         for (int i = 0; i < frameCount; i++) {
             String path = basePath + enemyName + "/" + animationPath + (startIndex + i) + ".png";
-            textures[i] = new Texture(path);
+            textures[i] = AssetCache.acquireTexture(path);
         }
         
         return textures;
     }
     
+    /**
+     * Liste les chemins de tous les sprites d'un ennemi, dans le même
+     * découpage que {@link #loadEnemySprites(String, String)}.
+     * Sert au préchargement asynchrone des niveaux.
+     * 
+     * @param basePath Le chemin de base vers les sprites
+     * @param enemyName Le nom de l'ennemi
+     * @param out Le tableau qui reçoit les chemins
+     */
+    public static void collectSpritePaths(String basePath, String enemyName, Array<String> out) {
+        String enemyPath = basePath + enemyName + "/";
+        
+        if (enemyName.equals("Rogue")) {
+            for (int frameNumber = 1; frameNumber <= 18; frameNumber++) {
+                if (frameNumber == 11) continue;
+                out.add(enemyPath + "Idle/idle" + frameNumber + ".png");
+            }
+        } else {
+            collectFramePaths(enemyPath + "Idle/idle", getIdleFrameCount(enemyName), 1, out);
+        }
+        
+        collectFramePaths(enemyPath + "Hurt/hurt", 4, 1, out);
+        collectFramePaths(enemyPath + "Walk/walk", 6, 1, out);
+        
+        String attackPrefix = enemyName.equals("Rogue") ? "Attack/Attack" : "Attack/attack";
+        int attackStartIndex = enemyName.equals("Knight") ? 0 : 1;
+        collectFramePaths(enemyPath + attackPrefix, getAttackFrameCount(enemyName), attackStartIndex, out);
+        
+        collectFramePaths(enemyPath + "Death/death", 10, 1, out);
+    }
+    
+    private static void collectFramePaths(String prefix, int frameCount, int startIndex, Array<String> out) {
+        for (int i = 0; i < frameCount; i++) {
+            out.add(prefix + (startIndex + i) + ".png");
+        }
+    }
+    
     private static int getIdleFrameCount(String enemyName) {
         switch (enemyName) {
             case "Knight": return 12;
@@ -183,26 +188,17 @@ public class EnemyAnimationHelper {
     }
     
     /**
-     * Libère toutes les textures chargées.
+     * Rend au cache les références sur toutes les textures d'un ennemi.
+     * Les textures ne sont réellement libérées que lorsque plus aucun ennemi
+     * ne les utilise ; la texture de fallback n'est jamais libérée ici.
      * 
      * @param allTextures Le tableau de textures à libérer
      */
-    public static void disposeTextures(Texture[][] allTextures) {
+    public static void releaseTextures(Texture[][] allTextures) {
         if (allTextures == null) return;
         
         for (Texture[] textures : allTextures) {
-            if (textures != null) {
-                for (Texture t : textures) {
-                    if (t != null && t != fallbackTexture) {
-                        t.dispose();
-                    }
-                }
-            }
-        }
-        
-        if (fallbackTexture != null) {
-            fallbackTexture.dispose();
-            fallbackTexture = null;
+            AssetCache.releaseAnimation(textures);
         }
     }
 }
\ No newline at end of file
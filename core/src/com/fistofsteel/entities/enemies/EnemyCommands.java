@@ -0,0 +1,93 @@
+package com.fistofsteel.entities.enemies;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.fistofsteel.entities.managers.ProjectileManager;
+
+/**
+ * Effets de bord des ennemis mis à jour en parallèle (tirs, messages),
+ * enregistrés par un thread puis appliqués dans l'ordre sur le thread principal.
+ *
+ * Chaque thread de mise à jour remplit son propre tampon ; les tampons sont
+ * rejoués dans l'ordre des ennemis, si bien que les projectiles et les messages
+ * sortent dans le même ordre qu'une mise à jour sur un seul thread.
+ * Après quelques pas, l'enregistrement n'alloue plus rien (hors messages).
+ */
+public class EnemyCommands {
+
+    private static final int LOG = 0;
+    private static final int SPAWN_MAGE_PROJECTILE = 1;
+
+    private final IntArray ops = new IntArray();
+    private final Array<String> messages = new Array<>();
+    private final FloatArray floats = new FloatArray();
+    private final IntArray ints = new IntArray();
+
+    /**
+     * @param message Message à afficher dans la console
+     */
+    public void log(String message) {
+        ops.add(LOG);
+        messages.add(message);
+    }
+
+    /**
+     * Tir d'un projectile de mage (voir {@link ProjectileManager#spawnMageProjectile}).
+     */
+    public void spawnMageProjectile(float x, float y, boolean facingRight, int damage) {
+        ops.add(SPAWN_MAGE_PROJECTILE);
+        floats.add(x);
+        floats.add(y);
+        ints.add(facingRight ? 1 : 0);
+        ints.add(damage);
+    }
+
+    /**
+     * @return Le nombre de commandes en attente
+     */
+    public int size() {
+        return ops.size;
+    }
+
+    /**
+     * Applique les commandes dans leur ordre d'enregistrement, puis vide le tampon.
+     *
+     * @param projectileManager Le gestionnaire qui reçoit les tirs (null = tirs ignorés)
+     */
+    public void commit(ProjectileManager projectileManager) {
+        int message = 0;
+        int floatIndex = 0;
+        int intIndex = 0;
+        for (int i = 0; i < ops.size; i++) {
+            switch (ops.get(i)) {
+                case LOG:
+                    System.out.println(messages.get(message++));
+                    break;
+
+                case SPAWN_MAGE_PROJECTILE:
+                    float x = floats.get(floatIndex++);
+                    float y = floats.get(floatIndex++);
+                    boolean facingRight = ints.get(intIndex++) != 0;
+                    int damage = ints.get(intIndex++);
+                    if (projectileManager != null) {
+                        projectileManager.spawnMageProjectile(x, y, facingRight, damage);
+                    } else {
+                        System.err.println("Mage ne peut pas tirer : ProjectileManager null !");
+                    }
+                    break;
+            }
+        }
+        clear();
+    }
+
+    /**
+     * Oublie les commandes en attente.
+     */
+    public void clear() {
+        ops.clear();
+        messages.clear();
+        floats.clear();
+        ints.clear();
+    }
+}
@@ -0,0 +1,332 @@
+package com.fistofsteel.entities.enemies;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.PlatformSegments;
+import com.fistofsteel.physics.SweptAabb;
+import com.fistofsteel.utils.EntityConstants;
+
+/**
+ * Passes de simulation des ennemis sur les colonnes d'un {@link EnemyStore}.
+ *
+ * Les minuteurs, la physique et la hitbox ne dépendent que du type de
+ * l'ennemi : les dimensions de hitbox et la vitesse de patrouille de chaque
+ * type (Knight, Mage, Rogue, Boss) sont lues dans des tables indexées par la
+ * colonne de type, sans appel virtuel ni accès aux objets. La décision
+ * ({@link Enemy#updateAI(float)}) et l'animation restent sur l'objet.
+ *
+ * {@link #update} enchaîne les passes sur une tranche d'emplacements :
+ * minuteurs, décisions, physique et hitbox, animation. {@link #updateEach} fait
+ * les mêmes étapes ennemi par ennemi (mise à jour par objet), avec le même
+ * résultat ; elle sert de référence aux tests et au benchmark.
+ *
+ * Une instance ne garde que ses rectangles de travail et ses vues du niveau :
+ * il en faut une par thread de mise à jour.
+ */
+public class EnemySimulation {
+
+    static final float GRAVITY = -800f;
+    static final float TERMINAL_VELOCITY = -500f;
+    /** Friction au sol appliquée par tranche de 1/60 s. */
+    static final float GROUND_FRICTION = 0.9f;
+
+    private static final float SBIRE_DIRECTIONAL_WIDTH = EntityConstants.ENEMY_HITBOX_WIDTH * 0.75f;
+
+    /** Hitbox complète de chaque type, relative à la position de l'ennemi. */
+    static final float[] HITBOX_WIDTH = {
+        EntityConstants.ENEMY_HITBOX_WIDTH, EntityConstants.ENEMY_HITBOX_WIDTH,
+        EntityConstants.ENEMY_HITBOX_WIDTH, Boss.HITBOX_WIDTH
+    };
+    static final float[] HITBOX_HEIGHT = {
+        EntityConstants.ENEMY_HITBOX_HEIGHT, EntityConstants.ENEMY_HITBOX_HEIGHT,
+        EntityConstants.ENEMY_HITBOX_HEIGHT, Boss.HITBOX_HEIGHT
+    };
+    static final float[] HITBOX_OFFSET_X = {
+        EntityConstants.ENEMY_HITBOX_OFFSET_X, EntityConstants.ENEMY_HITBOX_OFFSET_X,
+        EntityConstants.ENEMY_HITBOX_OFFSET_X, Boss.HITBOX_OFFSET_X
+    };
+    static final float[] HITBOX_OFFSET_Y = {
+        EntityConstants.ENEMY_HITBOX_OFFSET_Y, EntityConstants.ENEMY_HITBOX_OFFSET_Y,
+        EntityConstants.ENEMY_HITBOX_OFFSET_Y, Boss.HITBOX_OFFSET_Y
+    };
+
+    /**
+     * Largeur de la hitbox réduite du côté opposé au regard (0 = hitbox complète
+     * quelle que soit l'orientation).
+     */
+    static final float[] DIRECTIONAL_WIDTH = {
+        SBIRE_DIRECTIONAL_WIDTH, SBIRE_DIRECTIONAL_WIDTH, SBIRE_DIRECTIONAL_WIDTH, 0f
+    };
+
+    static final float[] PATROL_SPEED = { 50f, 50f, 50f, 0f };
+
+    private static final byte PATROL = (byte) Enemy.State.PATROL.ordinal();
+    private static final byte CHASE = (byte) Enemy.State.CHASE.ordinal();
+
+    /** Collision continue contre le décor, rectangles collectés une fois par ennemi et par pas. */
+    private final SweptAabb sweep = new SweptAabb();
+    private final Rectangle box = new Rectangle();
+    private final Rectangle gatherBox = new Rectangle();
+
+    private CollisionGrid collisionGrid;
+    private PlatformSegments platforms;
+
+    /**
+     * Change de niveau (ou de vues du niveau pour un thread de mise à jour).
+     *
+     * @param collisionGrid L'index de collision (null = pas de physique)
+     * @param platforms Les surfaces praticables (null = sondes sur la géométrie)
+     */
+    public void setLevel(CollisionGrid collisionGrid, PlatformSegments platforms) {
+        this.collisionGrid = collisionGrid;
+        this.platforms = platforms;
+        sweep.clear();
+    }
+
+    /**
+     * Met à jour les ennemis éveillés d'une tranche, passe par passe.
+     *
+     * @param store Les colonnes
+     * @param start Premier emplacement
+     * @param end Fin de la tranche (exclue)
+     * @param delta Le temps écoulé
+     * @param thinkLane La voie de l'ordonnanceur des décisions (null = décision à chaque pas)
+     * @param commands Le tampon des effets de bord (null = appliqués tout de suite)
+     */
+    public void update(EnemyStore store, int start, int end, float delta,
+                       ThinkScheduler.Lane thinkLane, EnemyCommands commands) {
+        updateTimers(store, start, end, delta);
+        for (int i = start; i < end; i++) {
+            if ((store.flags[i] & (EnemyStore.FLAG_ASLEEP | EnemyStore.FLAG_DYING)) != 0) continue;
+            Enemy enemy = store.enemies[i];
+            enemy.useLevelViews(collisionGrid, platforms);
+            enemy.think(delta, thinkLane, commands);
+        }
+        integrate(store, start, end, delta);
+        for (int i = start; i < end; i++) {
+            if ((store.flags[i] & EnemyStore.FLAG_ASLEEP) != 0) continue;
+            store.enemies[i].animate(delta, commands);
+        }
+    }
+
+    /**
+     * Met à jour les ennemis éveillés d'une tranche un par un : toutes les
+     * étapes d'un ennemi avant de passer au suivant.
+     *
+     * @see #update
+     */
+    public void updateEach(EnemyStore store, int start, int end, float delta,
+                           ThinkScheduler.Lane thinkLane, EnemyCommands commands) {
+        for (int i = start; i < end; i++) {
+            if ((store.flags[i] & EnemyStore.FLAG_ASLEEP) != 0) continue;
+            Enemy enemy = store.enemies[i];
+            updateTimers(store, i, i + 1, delta);
+            if ((store.flags[i] & EnemyStore.FLAG_DYING) == 0) {
+                enemy.useLevelViews(collisionGrid, platforms);
+                enemy.think(delta, thinkLane, commands);
+                integrate(store, i, i + 1, delta);
+            }
+            enemy.animate(delta, commands);
+        }
+    }
+
+    /**
+     * Passe des minuteurs : position précédente, fin d'attaque et de recul,
+     * décompte de l'animation de mort.
+     */
+    void updateTimers(EnemyStore store, int start, int end, float delta) {
+        for (int i = start; i < end; i++) {
+            int flags = store.flags[i];
+            if ((flags & EnemyStore.FLAG_ASLEEP) != 0) continue;
+
+            store.previousX[i] = store.x[i];
+            store.previousY[i] = store.y[i];
+
+            if ((flags & EnemyStore.FLAG_DYING) != 0) {
+                store.deadTimer[i] -= delta;
+                continue;
+            }
+
+            if (store.attackTimer[i] > 0) {
+                store.attackTimer[i] -= delta;
+                if (store.attackTimer[i] <= 0) {
+                    flags &= ~(EnemyStore.FLAG_ATTACKING | EnemyStore.FLAG_DEALT_DAMAGE);
+                }
+            }
+
+            if ((flags & EnemyStore.FLAG_HIT) != 0) {
+                store.hitTimer[i] -= delta;
+                if (store.hitTimer[i] <= 0) {
+                    flags &= ~EnemyStore.FLAG_HIT;
+                }
+            }
+            store.flags[i] = (byte) flags;
+        }
+    }
+
+    /**
+     * Passe de physique : gravité, friction, collision continue contre le
+     * décor, puis hitbox replacée et sortie des rectangles qu'elle chevauche.
+     */
+    void integrate(EnemyStore store, int start, int end, float delta) {
+        float friction = (float) Math.pow(GROUND_FRICTION, delta * 60f);
+        for (int i = start; i < end; i++) {
+            if ((store.flags[i] & (EnemyStore.FLAG_ASLEEP | EnemyStore.FLAG_DYING)) != 0) continue;
+
+            if (collisionGrid != null) {
+                move(store, i, delta, friction);
+            } else {
+                sweep.clear();
+            }
+            placeHitbox(store, i);
+            resolveOverlap(store, i);
+        }
+    }
+
+    private void move(EnemyStore store, int i, float delta, float friction) {
+        int type = store.type[i];
+        int flags = store.flags[i];
+        byte state = store.state[i];
+        float velocityX = store.velocityX[i];
+        float velocityY = store.velocityY[i];
+
+        if ((flags & EnemyStore.FLAG_ON_GROUND) == 0) {
+            velocityY += GRAVITY * delta;
+            if (velocityY < TERMINAL_VELOCITY) {
+                velocityY = TERMINAL_VELOCITY;
+            }
+        } else if (state != CHASE && state != PATROL) {
+            velocityX *= friction;
+            if (Math.abs(velocityX) < 1f) {
+                velocityX = 0;
+            }
+        }
+
+        float moveX = velocityX * delta;
+        float moveY = velocityY * delta;
+        float x = store.x[i];
+        float y = store.y[i];
+        boolean facingRight = (flags & EnemyStore.FLAG_FACING_RIGHT) != 0;
+
+        setGatherBox(type, facingRight, x, y);
+        sweep.gather(collisionGrid, gatherBox, moveX, moveY);
+
+        setBox(box, type, facingRight, x, y);
+        float allowedX = sweep.sweepX(box, moveX);
+        if (sweep.getHit() != null) {
+            velocityX = 0;
+
+            if (state == PATROL) {
+                facingRight = !facingRight;
+                velocityX = facingRight ? PATROL_SPEED[type] : -PATROL_SPEED[type];
+            }
+        }
+        x += allowedX;
+
+        setBox(box, type, facingRight, x, y);
+        flags &= ~EnemyStore.FLAG_ON_GROUND;
+        float allowedY = sweep.sweepY(box, moveY);
+        Rectangle rect = sweep.getHit();
+        if (rect != null) {
+            if (velocityY < 0) {
+                flags |= EnemyStore.FLAG_ON_GROUND;
+                y = rect.y + rect.height - HITBOX_OFFSET_Y[type];
+            } else {
+                y = rect.y - HITBOX_HEIGHT[type] - HITBOX_OFFSET_Y[type];
+            }
+            velocityY = 0;
+        } else {
+            y += allowedY;
+        }
+
+        flags = facingRight ? flags | EnemyStore.FLAG_FACING_RIGHT : flags & ~EnemyStore.FLAG_FACING_RIGHT;
+        store.flags[i] = (byte) flags;
+        store.x[i] = x;
+        store.y[i] = y;
+        store.velocityX[i] = velocityX;
+        store.velocityY[i] = velocityY;
+    }
+
+    /**
+     * Sort la hitbox du premier rectangle collecté qu'elle chevauche, par le
+     * côté le moins enfoncé.
+     */
+    private void resolveOverlap(EnemyStore store, int i) {
+        store.getHitbox(i, box);
+        Rectangle collRect = sweep.firstOverlap(box);
+        if (collRect == null) return;
+
+        float overlapLeft = (box.x + box.width) - collRect.x;
+        float overlapRight = (collRect.x + collRect.width) - box.x;
+        float overlapBottom = (box.y + box.height) - collRect.y;
+        float overlapTop = (collRect.y + collRect.height) - box.y;
+
+        float minOverlap = Math.min(
+            Math.min(overlapLeft, overlapRight),
+            Math.min(overlapBottom, overlapTop)
+        );
+
+        if (minOverlap == overlapLeft) {
+            store.x[i] -= overlapLeft + 0.1f;
+            store.velocityX[i] = 0;
+        } else if (minOverlap == overlapRight) {
+            store.x[i] += overlapRight + 0.1f;
+            store.velocityX[i] = 0;
+        } else if (minOverlap == overlapBottom) {
+            store.y[i] -= overlapBottom + 0.1f;
+            store.velocityY[i] = 0;
+        } else if (minOverlap == overlapTop) {
+            store.y[i] += overlapTop + 0.1f;
+            store.velocityY[i] = 0;
+            store.flags[i] |= EnemyStore.FLAG_ON_GROUND;
+        }
+        placeHitbox(store, i);
+    }
+
+    /**
+     * Place la zone à collecter : la hitbox, élargie à la hitbox complète quand
+     * elle dépend de l'orientation. Un demi-tour pendant le pas (patrouille
+     * contre un mur) déplace la hitbox dans cette zone, qui suffit donc aussi
+     * au test de chevauchement de fin de pas.
+     */
+    private void setGatherBox(int type, boolean facingRight, float x, float y) {
+        setBox(gatherBox, type, facingRight, x, y);
+        if (DIRECTIONAL_WIDTH[type] > 0f) {
+            float left = Math.min(gatherBox.x, x + HITBOX_OFFSET_X[type]);
+            float right = Math.max(gatherBox.x + gatherBox.width, x + HITBOX_OFFSET_X[type] + HITBOX_WIDTH[type]);
+            gatherBox.x = left;
+            gatherBox.width = right - left;
+        }
+    }
+
+    private static void setBox(Rectangle out, int type, boolean facingRight, float x, float y) {
+        out.set(x + getOffsetX(type, facingRight), y + HITBOX_OFFSET_Y[type],
+                getWidth(type), HITBOX_HEIGHT[type]);
+    }
+
+    /**
+     * Replace la hitbox d'un emplacement sur sa position, sans correction de collision.
+     */
+    static void placeHitbox(EnemyStore store, int i) {
+        int type = store.type[i];
+        boolean facingRight = (store.flags[i] & EnemyStore.FLAG_FACING_RIGHT) != 0;
+        store.hitX[i] = store.x[i] + getOffsetX(type, facingRight);
+        store.hitY[i] = store.y[i] + HITBOX_OFFSET_Y[type];
+        store.hitWidth[i] = getWidth(type);
+        store.hitHeight[i] = HITBOX_HEIGHT[type];
+    }
+
+    private static float getWidth(int type) {
+        return DIRECTIONAL_WIDTH[type] > 0f ? DIRECTIONAL_WIDTH[type] : HITBOX_WIDTH[type];
+    }
+
+    /**
+     * Une hitbox réduite reste collée au côté vers lequel l'ennemi regarde.
+     */
+    private static float getOffsetX(int type, boolean facingRight) {
+        if (DIRECTIONAL_WIDTH[type] <= 0f || facingRight) {
+            return HITBOX_OFFSET_X[type];
+        }
+        return HITBOX_OFFSET_X[type] + (HITBOX_WIDTH[type] - DIRECTIONAL_WIDTH[type]);
+    }
+}
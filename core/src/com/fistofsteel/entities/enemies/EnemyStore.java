@@ -0,0 +1,352 @@
+package com.fistofsteel.entities.enemies;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.fistofsteel.physics.SpatialHash;
+
+import java.util.Arrays;
+
+/**
+ * Stockage en colonnes des ennemis : positions, vitesses, minuteurs, hitbox,
+ * état, type et drapeaux, rangés en tableaux contigus. Emplacement = position
+ * de l'ennemi dans la liste du
+ * {@link com.fistofsteel.entities.managers.EnemyManager}.
+ *
+ * Les colonnes sont la référence : un {@link Enemy} n'a plus de position ni de
+ * vitesse à lui, il lit et écrit celles de son emplacement. Les minuteurs, la
+ * physique et la hitbox sont mis à jour par les passes de
+ * {@link EnemySimulation}, qui parcourent les colonnes sans toucher aux objets ;
+ * seules la décision et l'animation passent encore par l'objet.
+ *
+ * Chaque ennemi naît avec un emplacement unique dans ses propres colonnes
+ * (ennemi seul, hors gestionnaire). {@link #add(Enemy)} y recopie son état une
+ * fois ; un ennemi retiré y est recopié à son tour, si bien qu'un sbire en
+ * réserve garde son état sans allouer.
+ */
+public class EnemyStore {
+
+    /** Types d'ennemi (colonne {@link #getType(int)}), indices des tables de {@link EnemySimulation}. */
+    public static final byte TYPE_KNIGHT = 0;
+    public static final byte TYPE_MAGE = 1;
+    public static final byte TYPE_ROGUE = 2;
+    public static final byte TYPE_BOSS = 3;
+
+    /** Endormi : ni IA, ni physique, ni animation. */
+    static final int FLAG_ASLEEP = 1;
+    /** Mort, animation de mort en cours ou terminée. */
+    static final int FLAG_DYING = 2;
+    static final int FLAG_ON_GROUND = 4;
+    static final int FLAG_FACING_RIGHT = 8;
+    static final int FLAG_ATTACKING = 16;
+    static final int FLAG_HIT = 32;
+    /** L'attaque en cours a déjà touché le joueur. */
+    static final int FLAG_DEALT_DAMAGE = 64;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final byte IDLE = (byte) Enemy.State.IDLE.ordinal();
+    private static final byte PATROL = (byte) Enemy.State.PATROL.ordinal();
+
+    Enemy[] enemies;
+    byte[] type;
+    byte[] state;
+    byte[] flags;
+    float[] x;
+    float[] y;
+    float[] previousX;
+    float[] previousY;
+    float[] renderX;
+    float[] renderY;
+    float[] velocityX;
+    float[] velocityY;
+    float[] attackTimer;
+    float[] hitTimer;
+    float[] deadTimer;
+    float[] hitX;
+    float[] hitY;
+    float[] hitWidth;
+    float[] hitHeight;
+    float[] detectionRange;
+    private int size = 0;
+
+    public EnemyStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private EnemyStore(int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Crée les colonnes propres d'un ennemi qui vient d'être construit.
+     *
+     * @param enemy L'ennemi, seul occupant de l'emplacement 0
+     * @param x Position X initiale
+     * @param y Position Y initiale
+     * @return Ses colonnes
+     */
+    static EnemyStore createHome(Enemy enemy, float x, float y) {
+        EnemyStore home = new EnemyStore(1);
+        home.size = 1;
+        home.enemies[0] = enemy;
+        home.type[0] = typeOf(enemy);
+        home.flags[0] = FLAG_FACING_RIGHT;
+        home.x[0] = x;
+        home.y[0] = y;
+        home.previousX[0] = x;
+        home.previousY[0] = y;
+        home.renderX[0] = x;
+        home.renderY[0] = y;
+        return home;
+    }
+
+    /**
+     * Ajoute un ennemi en fin de colonnes : son état y est recopié et il est lié
+     * à son nouvel emplacement.
+     *
+     * @param enemy L'ennemi, hors de tout gestionnaire
+     * @return Son emplacement
+     */
+    public int add(Enemy enemy) {
+        if (size == enemies.length) {
+            grow(size * 2);
+        }
+
+        int slot = size++;
+        copy(enemy.getHome(), 0, this, slot);
+        enemies[slot] = enemy;
+        enemy.bind(this, slot);
+        return slot;
+    }
+
+    /**
+     * Retire en une passe tous les emplacements morts, rendus à leur ennemi ;
+     * les survivants gardent leur ordre et sont reliés à leur nouvel emplacement.
+     *
+     * @return Le nombre d'emplacements retirés
+     */
+    public int removeDead() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (isDead(read)) {
+                release(read);
+                continue;
+            }
+            if (write != read) {
+                copy(this, read, this, write);
+                enemies[write] = enemies[read];
+                enemies[write].bind(this, write);
+            }
+            write++;
+        }
+
+        int removed = size - write;
+        for (int i = write; i < size; i++) {
+            enemies[i] = null;
+        }
+        size = write;
+        return removed;
+    }
+
+    /**
+     * Vide les colonnes ; chaque ennemi reprend son état dans ses propres colonnes.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            release(i);
+            enemies[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Endort ou réveille l'ennemi d'un emplacement. Endormi, il reste affiché à
+     * sa dernière position simulée.
+     *
+     * @param slot L'emplacement
+     * @param asleep true pour l'endormir
+     */
+    public void setAsleep(int slot, boolean asleep) {
+        if (asleep) {
+            flags[slot] |= FLAG_ASLEEP;
+            previousX[slot] = x[slot];
+            previousY[slot] = y[slot];
+            renderX[slot] = x[slot];
+            renderY[slot] = y[slot];
+        } else {
+            flags[slot] &= ~FLAG_ASLEEP;
+        }
+    }
+
+    /**
+     * Calcule la position affichée des ennemis éveillés entre les deux derniers pas.
+     *
+     * @param alpha Le facteur d'interpolation (0 = pas précédent, 1 = pas courant)
+     */
+    public void interpolate(float alpha) {
+        for (int i = 0; i < size; i++) {
+            // Un ennemi endormi est déjà affiché à sa position figée
+            if ((flags[i] & FLAG_ASLEEP) != 0) continue;
+            renderX[i] = previousX[i] + (x[i] - previousX[i]) * alpha;
+            renderY[i] = previousY[i] + (y[i] - previousY[i]) * alpha;
+        }
+    }
+
+    /**
+     * Indexe les hitboxes de tous les emplacements, dans l'ordre.
+     *
+     * @param hash L'index vidé puis rempli
+     */
+    public void fillSpatialHash(SpatialHash hash) {
+        hash.clear();
+        for (int i = 0; i < size; i++) {
+            hash.add(hitX[i], hitY[i], hitWidth[i], hitHeight[i]);
+        }
+    }
+
+    /**
+     * @return true si la hitbox de l'emplacement chevauche la zone
+     */
+    public boolean overlaps(int slot, Rectangle area) {
+        return hitX[slot] < area.x + area.width && hitX[slot] + hitWidth[slot] > area.x &&
+               hitY[slot] < area.y + area.height && hitY[slot] + hitHeight[slot] > area.y;
+    }
+
+    /**
+     * @param slot L'emplacement
+     * @param out Le rectangle qui reçoit la hitbox
+     * @return out
+     */
+    public Rectangle getHitbox(int slot, Rectangle out) {
+        return out.set(hitX[slot], hitY[slot], hitWidth[slot], hitHeight[slot]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Enemy getEnemy(int slot) {
+        return enemies[slot];
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    public float getDetectionRange(int slot) {
+        return detectionRange[slot];
+    }
+
+    public byte getType(int slot) {
+        return type[slot];
+    }
+
+    public boolean isAsleep(int slot) {
+        return (flags[slot] & FLAG_ASLEEP) != 0;
+    }
+
+    /**
+     * @return true si l'ennemi est mort et son animation de mort terminée (à retirer)
+     */
+    public boolean isDead(int slot) {
+        return (flags[slot] & FLAG_DYING) != 0 && deadTimer[slot] <= 0;
+    }
+
+    /**
+     * Au repos : posé au sol, en attente ou en patrouille, ni touché, ni en
+     * combat, ni mourant ({@link Enemy#canSleep()}).
+     */
+    public boolean isResting(int slot) {
+        return (flags[slot] & (FLAG_DYING | FLAG_HIT | FLAG_ATTACKING | FLAG_ON_GROUND)) == FLAG_ON_GROUND &&
+               (state[slot] == IDLE || state[slot] == PATROL);
+    }
+
+    /**
+     * Rend un emplacement à son ennemi : son état repart dans ses propres colonnes.
+     */
+    private void release(int slot) {
+        Enemy enemy = enemies[slot];
+        EnemyStore home = enemy.getHome();
+        copy(this, slot, home, 0);
+        enemy.bind(home, 0);
+    }
+
+    private static byte typeOf(Enemy enemy) {
+        if (enemy instanceof Knight) return TYPE_KNIGHT;
+        if (enemy instanceof Mage) return TYPE_MAGE;
+        if (enemy instanceof Rogue) return TYPE_ROGUE;
+        if (enemy instanceof Boss) return TYPE_BOSS;
+        throw new IllegalArgumentException("Type d'ennemi inconnu : " + enemy.getClass().getSimpleName());
+    }
+
+    private static void copy(EnemyStore from, int source, EnemyStore to, int target) {
+        to.type[target] = from.type[source];
+        to.state[target] = from.state[source];
+        to.flags[target] = from.flags[source];
+        to.x[target] = from.x[source];
+        to.y[target] = from.y[source];
+        to.previousX[target] = from.previousX[source];
+        to.previousY[target] = from.previousY[source];
+        to.renderX[target] = from.renderX[source];
+        to.renderY[target] = from.renderY[source];
+        to.velocityX[target] = from.velocityX[source];
+        to.velocityY[target] = from.velocityY[source];
+        to.attackTimer[target] = from.attackTimer[source];
+        to.hitTimer[target] = from.hitTimer[source];
+        to.deadTimer[target] = from.deadTimer[source];
+        to.hitX[target] = from.hitX[source];
+        to.hitY[target] = from.hitY[source];
+        to.hitWidth[target] = from.hitWidth[source];
+        to.hitHeight[target] = from.hitHeight[source];
+        to.detectionRange[target] = from.detectionRange[source];
+    }
+
+    private void allocate(int capacity) {
+        enemies = new Enemy[capacity];
+        type = new byte[capacity];
+        state = new byte[capacity];
+        flags = new byte[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        renderX = new float[capacity];
+        renderY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        attackTimer = new float[capacity];
+        hitTimer = new float[capacity];
+        deadTimer = new float[capacity];
+        hitX = new float[capacity];
+        hitY = new float[capacity];
+        hitWidth = new float[capacity];
+        hitHeight = new float[capacity];
+        detectionRange = new float[capacity];
+    }
+
+    private void grow(int capacity) {
+        enemies = Arrays.copyOf(enemies, capacity);
+        type = Arrays.copyOf(type, capacity);
+        state = Arrays.copyOf(state, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        renderX = Arrays.copyOf(renderX, capacity);
+        renderY = Arrays.copyOf(renderY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        attackTimer = Arrays.copyOf(attackTimer, capacity);
+        hitTimer = Arrays.copyOf(hitTimer, capacity);
+        deadTimer = Arrays.copyOf(deadTimer, capacity);
+        hitX = Arrays.copyOf(hitX, capacity);
+        hitY = Arrays.copyOf(hitY, capacity);
+        hitWidth = Arrays.copyOf(hitWidth, capacity);
+        hitHeight = Arrays.copyOf(hitHeight, capacity);
+        detectionRange = Arrays.copyOf(detectionRange, capacity);
+    }
+}
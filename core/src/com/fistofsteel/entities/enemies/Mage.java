@@ -2,8 +2,6 @@ package com.fistofsteel.entities.enemies;
 
 import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.entities.managers.ProjectileManager;
-import com.fistofsteel.entities.projectiles.MageProjectile;
-import com.fistofsteel.utils.EntityConstants;
 
 /**
  * Ennemi Mage - Combattant à distance avec projectiles.
@@ -62,6 +60,12 @@ public class Mage extends Enemy {
         this.attackCooldown = 3.0f;
     }
     
+    @Override
+    public void respawn(float x, float y) {
+        super.respawn(x, y);
+        hasShot = false;
+    }
+    
     @Override
     protected void attack() {
         super.attack();
@@ -80,73 +84,38 @@ public class Mage extends Enemy {
      * Tire un projectile vers le joueur.
      */
     private void shootProjectile() {
-        if (projectileManager == null) {
-            System.err.println("Mage ne peut pas tirer : ProjectileManager null !");
+        // Le joueur a pu passer derrière un mur pendant l'animation
+        if (!canSeePlayer()) {
+            log("Mage : tir annule, joueur hors de vue");
             return;
         }
         
-        float projectileX = x + width / 2f;
-        float projectileY = y + height / 2f;
+        float projectileX = getX() + width / 2f;
+        float projectileY = getY() + height / 2f;
+        boolean facingRight = isFacingRight();
         
-        MageProjectile projectile = new MageProjectile(projectileX, projectileY, facingRight, damage);
-        projectileManager.addProjectile(projectile);
-        
-        System.out.println("Mage tire un projectile a (" + (int)projectileX + ", " + (int)projectileY + ")");
+        // Avec tampon, un gestionnaire absent est signalé à l'application des commandes
+        if (commands != null) {
+            commands.spawnMageProjectile(projectileX, projectileY, facingRight, damage);
+        } else if (projectileManager != null) {
+            projectileManager.spawnMageProjectile(projectileX, projectileY, facingRight, damage);
+        } else {
+            log("Mage ne peut pas tirer : ProjectileManager null !");
+        }
     }
     
     @Override
     protected boolean canHitPlayer() {
         com.badlogic.gdx.math.Rectangle playerHitbox = targetPlayer.getHitbox();
+        com.badlogic.gdx.math.Rectangle hitbox = getHitbox();
         float distance = Math.abs(playerHitbox.x - hitbox.x);
         float verticalDistance = Math.abs(playerHitbox.y - hitbox.y);
         
-        return distance <= attackRange && distance >= 100f && verticalDistance <= 80f;
+        return distance <= attackRange && distance >= 100f && verticalDistance <= ATTACK_HEIGHT_RANGE
+                && canSeePlayer();
     }
     
     @Override
     public void tryDealDamage() {
     }
-
-    @Override
-    protected float getHitboxWidth() {
-        return EntityConstants.ENEMY_HITBOX_WIDTH;
-    }
-
-    @Override
-    protected float getHitboxHeight() {
-        return EntityConstants.ENEMY_HITBOX_HEIGHT;
-    }
-
-    @Override
-    protected float getHitboxOffsetX() {
-        return EntityConstants.ENEMY_HITBOX_OFFSET_X;
-    }
-
-    @Override
-    protected float getHitboxOffsetY() {
-        return EntityConstants.ENEMY_HITBOX_OFFSET_Y;
-    }
-
-    @Override
-    protected boolean useDirectionalHitbox() {
-        return true;
-    }
-    
-    @Override
-    protected float getDirectionalHitboxWidth() {
-        return EntityConstants.ENEMY_HITBOX_WIDTH * 0.75f;
-    }
-    
-    @Override
-    protected float getDirectionalHitboxOffsetX() {
-        float fullWidth = EntityConstants.ENEMY_HITBOX_WIDTH;
-        float reducedWidth = getDirectionalHitboxWidth();
-        float reduction = fullWidth - reducedWidth;
-        
-        if (facingRight) {
-            return EntityConstants.ENEMY_HITBOX_OFFSET_X;
-        } else {
-            return EntityConstants.ENEMY_HITBOX_OFFSET_X + reduction;
-        }
-    }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.fistofsteel.entities.enemies;
 
 import com.fistofsteel.entities.player.Player;
-import com.fistofsteel.utils.EntityConstants;
 
 /**
  * Ennemi Rogue - Combattant de mêlée agile.
@@ -46,47 +45,4 @@ public class Rogue extends Enemy {
         this.detectionRange = 400f;
         this.attackRange = 80f;
     }
-
-    @Override
-    protected float getHitboxWidth() {
-        return EntityConstants.ENEMY_HITBOX_WIDTH;
-    }
-
-    @Override
-    protected float getHitboxHeight() {
-        return EntityConstants.ENEMY_HITBOX_HEIGHT;
-    }
-
-    @Override
-    protected float getHitboxOffsetX() {
-        return EntityConstants.ENEMY_HITBOX_OFFSET_X;
-    }
-
-    @Override
-    protected float getHitboxOffsetY() {
-        return EntityConstants.ENEMY_HITBOX_OFFSET_Y;
-    }
-
-    @Override
-    protected boolean useDirectionalHitbox() {
-        return true;
-    }
-    
-    @Override
-    protected float getDirectionalHitboxWidth() {
-        return EntityConstants.ENEMY_HITBOX_WIDTH * 0.75f;
-    }
-    
-    @Override
-    protected float getDirectionalHitboxOffsetX() {
-        float fullWidth = EntityConstants.ENEMY_HITBOX_WIDTH;
-        float reducedWidth = getDirectionalHitboxWidth();
-        float reduction = fullWidth - reducedWidth;
-        
-        if (facingRight) {
-            return EntityConstants.ENEMY_HITBOX_OFFSET_X;
-        } else {
-            return EntityConstants.ENEMY_HITBOX_OFFSET_X + reduction;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+package com.fistofsteel.entities.enemies;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Ordonnanceur des décisions des ennemis ({@link Enemy#updateAI(float)}).
+ *
+ * La physique et l'animation tournent à chaque pas ; seule la prise de décision
+ * est espacée selon la distance au joueur (niveau de détail) :
+ * à chaque pas près du joueur, puis tous les 2, 4 et 8 pas au-delà. Un ennemi
+ * en combat, touché ou qui poursuit le joueur décide toujours à chaque pas.
+ * Les ennemis sont décalés à l'ajout pour que les décisions espacées ne tombent
+ * pas toutes sur le même pas.
+ *
+ * Un budget en microsecondes limite le temps de décision par pas : une fois
+ * dépassé, les décisions espacées restantes sont reportées au pas suivant, sans
+ * dépasser deux fois leur période. Les décisions à chaque pas ne sont jamais
+ * reportées ; un pas qui dépasse le budget est compté comme un dépassement.
+ *
+ * Les ennemis mis à jour en parallèle passent par une {@link Lane} par thread,
+ * qui tient ses propres compteurs ; le budget du pas est partagé à parts égales
+ * entre les voies, si bien que le temps de décision total du pas reste dans le
+ * budget quel que soit le nombre de threads. Les mesures du pas additionnent
+ * toutes les voies.
+ */
+public class ThinkScheduler {
+
+    /** Budget de décision par défaut, par pas de simulation. */
+    public static final float DEFAULT_BUDGET_MICROS = 500f;
+
+    /** Distance au-delà de la portée de détection en dessous de laquelle on décide à chaque pas. */
+    public static final float FULL_RATE_MARGIN = 400f;
+
+    /** Nombre de niveaux de détail. */
+    public static final int TIER_COUNT = 4;
+
+    /** Période de décision (en pas) de chaque niveau. */
+    private static final int[] PERIODS = { 1, 2, 4, 8 };
+
+    /** Distance supplémentaire (au-delà de la portée de détection) de chaque niveau. */
+    private static final float[] TIER_DISTANCES = { FULL_RATE_MARGIN, 1200f, 2800f };
+
+    private long budgetNanos = (long) (DEFAULT_BUDGET_MICROS * 1000f);
+    /** Part du budget de chaque voie pendant le pas en cours. */
+    private long laneBudgetNanos = budgetNanos;
+    private boolean lodEnabled = true;
+    private int registered = 0;
+
+    /**
+     * Compteurs d'un pas pour un thread de mise à jour.
+     */
+    public static class Lane {
+        private final ThinkScheduler scheduler;
+        private long spentNanos = 0;
+        private long thinkStart = 0;
+        private int thinkCount = 0;
+        private int deferredCount = 0;
+        private final int[] tierCounts = new int[TIER_COUNT];
+
+        private Lane(ThinkScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        private void reset() {
+            spentNanos = 0;
+            thinkCount = 0;
+            deferredCount = 0;
+            for (int i = 0; i < TIER_COUNT; i++) {
+                tierCounts[i] = 0;
+            }
+        }
+
+        /**
+         * Décide si l'ennemi prend une décision à ce pas. Si oui, l'appelant doit
+         * appeler {@link #endThink()} juste après.
+         *
+         * @param enemy L'ennemi
+         * @return true si l'ennemi décide maintenant
+         */
+        boolean beginThink(Enemy enemy) {
+            int tier = scheduler.getTier(enemy);
+            int period = PERIODS[tier];
+            tierCounts[tier]++;
+
+            enemy.ticksSinceThink++;
+            if (enemy.ticksSinceThink < period) return false;
+
+            long budgetNanos = scheduler.laneBudgetNanos;
+            if (period > 1 && budgetNanos > 0 && spentNanos >= budgetNanos &&
+                enemy.ticksSinceThink < period * 2) {
+                deferredCount++;
+                return false;
+            }
+
+            enemy.ticksSinceThink = 0;
+            thinkCount++;
+            thinkStart = System.nanoTime();
+            return true;
+        }
+
+        /**
+         * Fin de la décision commencée par {@link #beginThink(Enemy)}.
+         */
+        void endThink() {
+            spentNanos += System.nanoTime() - thinkStart;
+        }
+    }
+
+    private final Array<Lane> lanes = new Array<>();
+
+    private long lastSpentNanos = 0;
+    private int lastThinkCount = 0;
+    private int lastDeferredCount = 0;
+    private final int[] lastTierCounts = new int[TIER_COUNT];
+    private int tickCount = 0;
+    private int overrunCount = 0;
+
+    /**
+     * Prend en charge un nouvel ennemi et décale sa première décision espacée.
+     *
+     * @param enemy L'ennemi ajouté
+     */
+    public void register(Enemy enemy) {
+        enemy.ticksSinceThink = registered % PERIODS[TIER_COUNT - 1];
+        registered++;
+    }
+
+    /**
+     * @param index L'indice de la voie (0 = mise à jour sur un seul thread)
+     * @return La voie, créée au besoin (à appeler hors de la mise à jour parallèle)
+     */
+    public Lane getLane(int index) {
+        while (lanes.size <= index) {
+            lanes.add(new Lane(this));
+        }
+        return lanes.get(index);
+    }
+
+    /**
+     * Début d'un pas de simulation : partage le budget entre les voies utilisées.
+     *
+     * @param laneCount Le nombre de voies qui décident pendant ce pas
+     */
+    public void beginTick(int laneCount) {
+        laneBudgetNanos = budgetNanos > 0 ? Math.max(1L, budgetNanos / Math.max(1, laneCount)) : 0L;
+        for (Lane lane : lanes) {
+            lane.reset();
+        }
+    }
+
+    /**
+     * Fin d'un pas de simulation : publie les mesures du pas, toutes voies confondues.
+     */
+    public void endTick() {
+        lastSpentNanos = 0;
+        lastThinkCount = 0;
+        lastDeferredCount = 0;
+        for (int i = 0; i < TIER_COUNT; i++) {
+            lastTierCounts[i] = 0;
+        }
+
+        for (Lane lane : lanes) {
+            lastSpentNanos += lane.spentNanos;
+            lastThinkCount += lane.thinkCount;
+            lastDeferredCount += lane.deferredCount;
+            for (int i = 0; i < TIER_COUNT; i++) {
+                lastTierCounts[i] += lane.tierCounts[i];
+            }
+        }
+
+        tickCount++;
+        if (budgetNanos > 0 && lastSpentNanos > budgetNanos) {
+            overrunCount++;
+        }
+    }
+
+    /**
+     * @param enemy L'ennemi
+     * @return Son niveau de détail (0 = décision à chaque pas)
+     */
+    public int getTier(Enemy enemy) {
+        if (!lodEnabled || enemy.targetPlayer == null) return 0;
+        Enemy.State state = enemy.getCurrentState();
+        if (enemy.isHit() || enemy.isAttacking() || state == Enemy.State.CHASE ||
+            state == Enemy.State.ATTACK || state == Enemy.State.HIT) {
+            return 0;
+        }
+
+        float gap = Math.max(Math.abs(enemy.targetPlayer.getX() - enemy.getX()),
+                             Math.abs(enemy.targetPlayer.getY() - enemy.getY())) - enemy.detectionRange;
+        for (int tier = 0; tier < TIER_DISTANCES.length; tier++) {
+            if (gap <= TIER_DISTANCES[tier]) return tier;
+        }
+        return TIER_COUNT - 1;
+    }
+
+    /**
+     * @param tier Un niveau de détail
+     * @return Sa période de décision en pas
+     */
+    public static int getPeriod(int tier) {
+        return PERIODS[tier];
+    }
+
+    /**
+     * @param micros Budget de décision par pas, toutes voies confondues (0 ou moins = illimité)
+     */
+    public void setBudgetMicros(float micros) {
+        this.budgetNanos = micros > 0f ? (long) (micros * 1000f) : 0L;
+    }
+
+    public float getBudgetMicros() {
+        return budgetNanos / 1000f;
+    }
+
+    /**
+     * @return La part du budget de chaque voie au dernier pas, en microsecondes
+     */
+    public float getLaneBudgetMicros() {
+        return laneBudgetNanos / 1000f;
+    }
+
+    /**
+     * @param enabled false pour que tous les ennemis décident à chaque pas
+     */
+    public void setLodEnabled(boolean enabled) {
+        this.lodEnabled = enabled;
+    }
+
+    /**
+     * @return Le temps passé en décisions au dernier pas (toutes voies), en microsecondes
+     */
+    public float getLastThinkMicros() {
+        return lastSpentNanos / 1000f;
+    }
+
+    /**
+     * @return Le nombre de décisions prises au dernier pas
+     */
+    public int getLastThinkCount() {
+        return lastThinkCount;
+    }
+
+    /**
+     * @return Le nombre de décisions reportées faute de budget au dernier pas
+     */
+    public int getLastDeferredCount() {
+        return lastDeferredCount;
+    }
+
+    /**
+     * @param tier Un niveau de détail
+     * @return Le nombre d'ennemis simulés dans ce niveau au dernier pas
+     */
+    public int getLastTierCount(int tier) {
+        return lastTierCounts[tier];
+    }
+
+    /**
+     * @return Le nombre de pas qui ont dépassé le budget depuis la remise à zéro
+     */
+    public int getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * @return Le nombre de pas depuis la remise à zéro
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Remet à zéro les compteurs de pas et de dépassements.
+     */
+    public void resetMetrics() {
+        tickCount = 0;
+        overrunCount = 0;
+    }
+}
@@ -1,373 +1,987 @@
-package com.fistofsteel.entities.managers;
-
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
-import com.fistofsteel.entities.player.Player;
-import com.fistofsteel.entities.enemies.Enemy;
-import com.fistofsteel.entities.enemies.Knight;
-import com.fistofsteel.entities.enemies.Mage;
-import com.fistofsteel.entities.enemies.Rogue;
-import com.fistofsteel.entities.enemies.Boss;
-import com.fistofsteel.utils.HitboxDebugger;
-
-/**
- * Gestionnaire des ennemis du jeu.
- * Gère le spawn, l'update, le rendu et les combats de tous les ennemis.
- * 
- * MODIFIÉ : Les ennemis meurent maintenant s'ils touchent une zone de mort.
- */
-public class EnemyManager {
-
-    private Array<Enemy> enemies;
-    private Player player;
-    
-    private int enemiesKilled = 0;
-    private int totalEnemiesSpawned = 0;
-    
-    private ProjectileManager projectileManager;
-    
-    // ═══════════════════════════════════════════════════════════════════════════
-    // AJOUTÉ : Zones de mort pour tuer les ennemis qui tombent sous la map
-    // ═══════════════════════════════════════════════════════════════════════════
-    private Array<Rectangle> deathRects;
-
-    /**
-     * Constructeur du gestionnaire d'ennemis.
-     * 
-     * @param player Le joueur cible
-     */
-    public EnemyManager(Player player) {
-        this.enemies = new Array<>();
-        this.player = player;
-        this.deathRects = new Array<>();  // ← AJOUTÉ
-    }
-    
-    /**
-     * Définit le gestionnaire de projectiles.
-     * 
-     * @param manager Le ProjectileManager
-     */
-    public void setProjectileManager(ProjectileManager manager) {
-        this.projectileManager = manager;
-        
-        for (Enemy enemy : enemies) {
-            if (enemy instanceof Mage) {
-                ((Mage) enemy).setProjectileManager(manager);
-            }
-        }
-    }
-    
-    // ═══════════════════════════════════════════════════════════════════════════
-    // AJOUTÉ : Méthode pour définir les zones de mort
-    // ═══════════════════════════════════════════════════════════════════════════
-    /**
-     * Définit les zones de mort pour les ennemis.
-     * Les ennemis qui touchent ces zones meurent instantanément.
-     * 
-     * @param deathRects Les rectangles des zones de mort
-     */
-    public void setDeathRects(Array<Rectangle> deathRects) {
-        this.deathRects = deathRects;
-        if (deathRects != null) {
-            System.out.println("Zones de mort configurées pour les ennemis (" + deathRects.size + " zones)");
-        }
-    }
-
-    /**
-     * Ajoute un Knight à la position donnée.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     */
-    public void addKnight(float x, float y) {
-        Knight knight = new Knight(x, y, player);
-        enemies.add(knight);
-        totalEnemiesSpawned++;
-        System.out.println("Knight ajoute a (" + (int)x + ", " + (int)y + ")");
-    }
-
-    /**
-     * Ajoute un Knight avec une zone de patrouille.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     * @param patrolMin Distance minimale de patrouille
-     * @param patrolMax Distance maximale de patrouille
-     */
-    public void addKnight(float x, float y, float patrolMin, float patrolMax) {
-        Knight knight = new Knight(x, y, player);
-        knight.setPatrolZone(patrolMin, patrolMax);
-        enemies.add(knight);
-        totalEnemiesSpawned++;
-        System.out.println("Knight ajoute a (" + (int)x + ", " + (int)y + ") | Patrol: [" +
-                (int)patrolMin + " -> " + (int)patrolMax + "]");
-    }
-
-    /**
-     * Ajoute un Mage à la position donnée.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     */
-    public void addMage(float x, float y) {
-        Mage mage = new Mage(x, y, player);
-        if (projectileManager != null) {
-            mage.setProjectileManager(projectileManager);
-        }
-        enemies.add(mage);
-        totalEnemiesSpawned++;
-        System.out.println("Mage ajoute a (" + (int)x + ", " + (int)y + ")");
-    }
-
-    /**
-     * Ajoute un Mage avec une zone de patrouille.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     * @param patrolMin Distance minimale de patrouille
-     * @param patrolMax Distance maximale de patrouille
-     */
-    public void addMage(float x, float y, float patrolMin, float patrolMax) {
-        Mage mage = new Mage(x, y, player);
-        mage.setPatrolZone(patrolMin, patrolMax);
-        if (projectileManager != null) {
-            mage.setProjectileManager(projectileManager);
-        }
-        enemies.add(mage);
-        totalEnemiesSpawned++;
-        System.out.println("Mage ajoute a (" + (int)x + ", " + (int)y + 
-                ") | Patrol: [" + (int)patrolMin + " -> " + (int)patrolMax + "]");
-    }
-
-    /**
-     * Ajoute un Rogue à la position donnée.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     */
-    public void addRogue(float x, float y) {
-        Rogue rogue = new Rogue(x, y, player);
-        enemies.add(rogue);
-        totalEnemiesSpawned++;
-        System.out.println("Rogue ajoute a (" + (int)x + ", " + (int)y + ")");
-    }
-
-    /**
-     * Ajoute un Rogue avec une zone de patrouille.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     * @param patrolMin Distance minimale de patrouille
-     * @param patrolMax Distance maximale de patrouille
-     */
-    public void addRogue(float x, float y, float patrolMin, float patrolMax) {
-        Rogue rogue = new Rogue(x, y, player);
-        rogue.setPatrolZone(patrolMin, patrolMax);
-        enemies.add(rogue);
-        totalEnemiesSpawned++;
-        System.out.println("Rogue ajoute a (" + (int)x + ", " + (int)y + 
-                ") | Patrol: [" + (int)patrolMin + " -> " + (int)patrolMax + "]");
-    }
-
-    /**
-     * Ajoute un Boss à la position donnée.
-     * 
-     * @param x Position X
-     * @param y Position Y
-     */
-    public void addBoss(float x, float y) {
-        Boss boss = new Boss(x, y, player);
-        enemies.add(boss);
-        totalEnemiesSpawned++;
-        System.out.println("BOSS ajoute a (" + (int)x + ", " + (int)y + ")");
-    }
-
-    /**
-     * Définit les rectangles de collision pour tous les ennemis.
-     * 
-     * @param collisions Les rectangles de collision
-     */
-    public void setCollisionRects(Array<Rectangle> collisions) {
-        for (Enemy enemy : enemies) {
-            enemy.setCollisionRects(collisions);
-        }
-    }
-
-    /**
-     * Met à jour tous les ennemis.
-     * Vérifie également si un ennemi touche une zone de mort.
-     * 
-     * @param delta Le temps écoulé
-     */
-    public void update(float delta) {
-        for (Enemy enemy : enemies) {
-            enemy.update(delta);
-        }
-        
-        // ═══════════════════════════════════════════════════════════════════════════
-        // AJOUTÉ : Vérifier si un ennemi touche une zone de mort
-        // ═══════════════════════════════════════════════════════════════════════════
-        checkEnemyDeathZones();
-    }
-    
-    // ═══════════════════════════════════════════════════════════════════════════
-    // AJOUTÉ : Méthode pour vérifier les zones de mort
-    // ═══════════════════════════════════════════════════════════════════════════
-    /**
-     * Vérifie si des ennemis touchent une zone de mort et les tue.
-     */
-    private void checkEnemyDeathZones() {
-        if (deathRects == null || deathRects.size == 0) return;
-        
-        for (Enemy enemy : enemies) {
-            // Ne pas vérifier les ennemis déjà morts
-            if (enemy.isDead()) continue;
-            
-            Rectangle enemyHitbox = enemy.getHitbox();
-            
-            for (Rectangle deathRect : deathRects) {
-                if (enemyHitbox.overlaps(deathRect)) {
-                    // Tuer l'ennemi instantanément
-                    enemy.killInstantly();
-                    System.out.println(enemy.getClass().getSimpleName() + 
-                            " est tombé dans une zone de mort ! Position: (" + 
-                            (int)enemy.getX() + ", " + (int)enemy.getY() + ")");
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * Affiche tous les ennemis.
-     * 
-     * @param batch Le SpriteBatch pour le rendu
-     */
-    public void render(SpriteBatch batch) {
-        for (Enemy enemy : enemies) {
-            enemy.render(batch);
-        }
-    }
-    
-    /**
-     * Affiche les barres de vie de tous les ennemis.
-     * 
-     * @param shapeRenderer Le ShapeRenderer pour le rendu
-     * @param camera La caméra du jeu
-     */
-    public void renderHealthBars(ShapeRenderer shapeRenderer, OrthographicCamera camera) {
-        for (Enemy enemy : enemies) {
-            enemy.renderHealthBar(shapeRenderer, camera);
-        }
-    }
-
-    /**
-     * Vérifie et applique les attaques des ennemis sur le joueur.
-     * 
-     * @param player Le joueur
-     */
-    public void checkEnemyAttacks(Player player) {
-        for (Enemy enemy : enemies) {
-            enemy.tryDealDamage();
-        }
-    }
-
-    /**
-     * Vérifie et applique l'attaque du joueur sur les ennemis.
-     * 
-     * @param player Le joueur
-     */
-    public void checkPlayerAttack(Player player) {
-        if (player.isRangedAttacker()) {
-            return;
-        }
-        
-        if (!player.isAttacking()) return;
-        if (player.hasDealtDamageThisAttack()) return;
-
-        Rectangle playerHitbox = player.getHitbox();
-        Rectangle attackBox = new Rectangle(player.getX(), player.getY(), 80f, playerHitbox.height);
-
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead() && attackBox.overlaps(enemy.getHitbox())) {
-                int damage = player.getTotalAttack();
-                enemy.takeDamage(damage);
-                player.markDamageDealt();
-                System.out.println(enemy.getClass().getSimpleName() +
-                        " touche ! (-" + damage + " HP) | HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
-                break;
-            }
-        }
-    }
-
-    /**
-     * Retire les ennemis morts de la liste.
-     */
-    public void removeDeadEnemies() {
-        Array<Enemy> toRemove = new Array<>();
-        for (Enemy enemy : enemies) {
-            if (enemy.isDead()) {
-                toRemove.add(enemy);
-                enemiesKilled++;
-            }
-        }
-
-        for (Enemy enemy : toRemove) {
-            enemies.removeValue(enemy, true);
-            enemy.dispose();
-        }
-    }
-
-    /**
-     * Compte le nombre d'ennemis vivants.
-     * 
-     * @return Le nombre d'ennemis vivants
-     */
-    public int getAliveCount() {
-        int count = 0;
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead()) count++;
-        }
-        return count;
-    }
-
-    public int getTotalCount() {
-        return enemies.size;
-    }
-    
-    public int getEnemiesKilled() {
-        return enemiesKilled;
-    }
-    
-    public int getTotalEnemiesSpawned() {
-        return totalEnemiesSpawned;
-    }
-    
-    public Array<Enemy> getEnemies() {
-        return enemies;
-    }
-
-    /**
-     * Affiche les hitboxes de debug pour tous les ennemis.
-     * 
-     * @param camera La caméra du jeu
-     */
-    public void renderDebugHitboxes(OrthographicCamera camera) {
-        for (Enemy enemy : enemies) {
-            HitboxDebugger.renderEnemyHitbox(enemy, camera);
-        }
-    }
-
-    /**
-     * Libère les ressources de tous les ennemis.
-     */
-    public void dispose() {
-        for (Enemy enemy : enemies) {
-            enemy.dispose();
-        }
-        enemies.clear();
-    }
+package com.fistofsteel.entities.managers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.enemies.Knight;
+import com.fistofsteel.entities.enemies.Mage;
+import com.fistofsteel.entities.enemies.Rogue;
+import com.fistofsteel.entities.enemies.Boss;
+import com.fistofsteel.entities.enemies.EnemyCommands;
+import com.fistofsteel.entities.enemies.EnemySimulation;
+import com.fistofsteel.entities.enemies.EnemyStore;
+import com.fistofsteel.entities.enemies.ThinkScheduler;
+import com.fistofsteel.level.TriggerSystem;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.OccupancyGrid;
+import com.fistofsteel.physics.PlatformSegments;
+import com.fistofsteel.physics.SpatialHash;
+import com.fistofsteel.utils.HitboxDebugger;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gestionnaire des ennemis du jeu.
+ * Gère le spawn, l'update, le rendu et les combats de tous les ennemis.
+ * 
+ * MODIFIÉ : Les ennemis meurent maintenant s'ils touchent une zone de mort
+ * (événement d'entrée du {@link TriggerSystem} du niveau).
+ * 
+ * Les hitboxes sont indexées dans une {@link SpatialHash} après chaque update :
+ * les tests de combat (attaque du joueur, projectiles, attaques ennemies) ne
+ * regardent que les ennemis proches au lieu de parcourir toute la liste.
+ * 
+ * Les ennemis au repos hors de la zone d'activité (la vue élargie d'une marge)
+ * et hors de portée de détection du joueur sont endormis : ni IA, ni physique,
+ * ni animation. La zone est calculée à partir de la position simulée du joueur,
+ * si bien que les réveils ne dépendent pas du rendu.
+ * 
+ * Les décisions des ennemis éveillés sont espacées par un {@link ThinkScheduler}
+ * selon leur distance au joueur et un budget de temps par pas ; la physique et
+ * l'animation restent mises à jour à chaque pas.
+ * 
+ * Avec beaucoup d'ennemis éveillés, la mise à jour est répartie sur plusieurs
+ * threads : chaque thread simule une tranche contiguë d'ennemis (qui ne lisent
+ * que le joueur et des vues du niveau) et enregistre leurs tirs et messages dans
+ * un {@link EnemyCommands}. Les tampons sont ensuite appliqués dans l'ordre sur
+ * le thread principal, avec le même résultat qu'une mise à jour sur un thread.
+ * Dégâts, zones de mort et compteurs restent traités sur le thread principal.
+ * 
+ * Positions, vitesses, minuteurs, hitboxes et drapeaux des ennemis sont rangés
+ * dans les colonnes contiguës d'un {@link EnemyStore}. Chaque tranche est
+ * simulée passe par passe par un {@link EnemySimulation} : minuteurs,
+ * décisions, physique et hitbox, animation ; seules la décision et l'animation
+ * passent par les objets. Les passes sur toute la foule (endormissement,
+ * déclencheurs, index spatial, interpolation) ne lisent que les colonnes.
+ * {@link #setColumnUpdate(boolean)} revient à la mise à jour ennemi par ennemi,
+ * pour comparaison.
+ * 
+ * Avec la réserve activée ({@link #setPooling(boolean)}), les sbires morts ne
+ * sont pas détruits mais gardés par type, puis remis à neuf par
+ * {@link #spawn(byte, float, float)} : les vagues du mode survie ne
+ * reconstruisent aucun ennemi une fois la réserve remplie.
+ * 
+ * Le rendu ne parcourt que les ennemis que l'index spatial place près de la
+ * zone visible ; seuls ceux dont le sprite la touche sont dessinés.
+ */
+public class EnemyManager {
+
+    private Array<Enemy> enemies;
+    private Player player;
+    
+    /** Colonnes des ennemis, emplacement = position dans {@link #enemies}. */
+    private final EnemyStore store = new EnemyStore();
+    
+    /** Passes de simulation du thread principal. */
+    private final EnemySimulation simulation = new EnemySimulation();
+    private boolean columnUpdate = true;
+    
+    private int enemiesKilled = 0;
+    private int totalEnemiesSpawned = 0;
+    
+    /** Sbires morts gardés pour être réutilisés, par type. */
+    private boolean pooling = false;
+    private final Array<Enemy> knightPool = new Array<>(false, 64);
+    private final Array<Enemy> magePool = new Array<>(false, 64);
+    private final Array<Enemy> roguePool = new Array<>(false, 64);
+    
+    /** Suivi des déclencheurs gardé avec chaque sbire en réserve, même indice. */
+    private final Array<TriggerSystem.Occupant> knightOccupantPool = new Array<>(false, 64);
+    private final Array<TriggerSystem.Occupant> mageOccupantPool = new Array<>(false, 64);
+    private final Array<TriggerSystem.Occupant> rogueOccupantPool = new Array<>(false, 64);
+    
+    private ProjectileManager projectileManager;
+    
+    /** Volumes déclencheurs du niveau (null = pas de zone de mort). */
+    private TriggerSystem triggers;
+    
+    /** Suivi des volumes occupés, indice = position dans {@link #enemies}. */
+    private final Array<TriggerSystem.Occupant> triggerOccupants = new Array<>();
+    
+    /** Tue l'ennemi qui entre dans une zone de mort. */
+    private final TriggerSystem.Listener deathZoneListener = new TriggerSystem.Listener() {
+        @Override
+        public void onEnter(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+            if (volume.getType() != TriggerSystem.Type.DEATH) return;
+            
+            Enemy enemy = (Enemy) occupant.getOwner();
+            if (enemy.isDead()) return;
+            enemy.killInstantly();
+            System.out.println(enemy.getClass().getSimpleName() + 
+                    " est tombé dans une zone de mort ! Position: (" + 
+                    (int)enemy.getX() + ", " + (int)enemy.getY() + ")");
+        }
+        
+        @Override
+        public void onExit(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+        }
+    };
+    
+    private CollisionGrid collisionGrid;
+    private PlatformSegments platforms;
+    private OccupancyGrid lineOfSight;
+    
+    /** Marge par défaut autour de la vue dans laquelle les ennemis restent éveillés. */
+    public static final float DEFAULT_ACTIVITY_MARGIN = 256f;
+    
+    private float activityMargin = DEFAULT_ACTIVITY_MARGIN;
+    private final Rectangle activityArea = new Rectangle();
+    private boolean activityEnabled = false;
+    private int sleepingCount = 0;
+    
+    private final ThinkScheduler thinkScheduler = new ThinkScheduler();
+    
+    /** Nombre d'ennemis éveillés à partir duquel la mise à jour est répartie sur plusieurs threads. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private int workerThreads = Runtime.getRuntime().availableProcessors();
+    private ForkJoinPool pool;
+    private UpdateLane[] lanes;
+    private boolean lanesDirty = true;
+    private int lastLaneCount = 1;
+    
+    /**
+     * Une tranche contiguë d'ennemis simulée par un thread, avec ses propres
+     * vues du niveau, sa voie d'ordonnancement et son tampon de commandes.
+     */
+    private final class UpdateLane extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final transient ThinkScheduler.Lane thinkLane;
+        private final transient EnemyCommands commands = new EnemyCommands();
+        private final transient EnemySimulation simulation = new EnemySimulation();
+        private int start;
+        private int end;
+        private float delta;
+        
+        private UpdateLane(int index) {
+            this.thinkLane = thinkScheduler.getLane(index);
+            simulation.setLevel(collisionGrid != null ? collisionGrid.createReader() : null,
+                                platforms != null ? platforms.createReader() : null);
+        }
+        
+        @Override
+        protected void compute() {
+            simulate(simulation, start, end, delta, thinkLane, commands);
+        }
+    }
+    
+    /**
+     * Tâche racine d'un pas parallèle : lance toutes les tranches et attend la
+     * fin de la plus lente.
+     */
+    private final class ParallelUpdate extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        @Override
+        protected void compute() {
+            invokeAll(lanes);
+        }
+    }
+    
+    private final ParallelUpdate parallelUpdate = new ParallelUpdate();
+    
+    /** Zone d'attaque du joueur, réutilisée à chaque frame. */
+    private final Rectangle attackBox = new Rectangle();
+    
+    /** Hitbox d'un ennemi lue dans les colonnes pour les déclencheurs. */
+    private final Rectangle triggerBox = new Rectangle();
+    
+    /** Hitboxes des ennemis, indice = position dans {@link #enemies}. */
+    private final SpatialHash broadphase = new SpatialHash();
+    private boolean broadphaseDirty = true;
+    private final IntArray nearbyEnemies = new IntArray();
+    
+    /** Zone où un ennemi peut atteindre le joueur, réutilisée à chaque frame. */
+    private final Rectangle reachArea = new Rectangle();
+    private float maxAttackRange = 0f;
+    
+    /** Plus grande taille de sprite, dont la zone visible est élargie pour interroger l'index. */
+    private float maxDrawExtent = 0f;
+    /** Décalage toléré entre la position affichée (interpolée) et la hitbox indexée. */
+    private static final float RENDER_SLACK = 32f;
+    private final Rectangle cullArea = new Rectangle();
+    private final IntArray visibleEnemies = new IntArray();
+
+    /**
+     * Constructeur du gestionnaire d'ennemis.
+     * 
+     * @param player Le joueur cible
+     */
+    public EnemyManager(Player player) {
+        this.enemies = new Array<>();
+        this.player = player;
+    }
+    
+    /**
+     * Définit le gestionnaire de projectiles.
+     * 
+     * @param manager Le ProjectileManager
+     */
+    public void setProjectileManager(ProjectileManager manager) {
+        this.projectileManager = manager;
+        
+        for (Enemy enemy : enemies) {
+            if (enemy instanceof Mage) {
+                ((Mage) enemy).setProjectileManager(manager);
+            }
+        }
+    }
+    
+    /**
+     * Définit les volumes déclencheurs du niveau.
+     * Les ennemis qui entrent dans une zone de mort meurent instantanément.
+     * 
+     * @param triggers Les volumes du niveau
+     */
+    public void setTriggers(TriggerSystem triggers) {
+        this.triggers = triggers;
+        for (TriggerSystem.Occupant occupant : triggerOccupants) {
+            triggers.forget(occupant);
+        }
+        System.out.println("Zones de mort configurées pour les ennemis (" + 
+                triggers.count(TriggerSystem.Type.DEATH) + " zones)");
+    }
+
+    /**
+     * Ajoute un ennemi à la liste et au compteur de spawn, et le pose sur
+     * la surface sous son point d'apparition.
+     * 
+     * @param enemy L'ennemi ajouté
+     */
+    private void register(Enemy enemy) {
+        register(enemy, new TriggerSystem.Occupant(enemy, deathZoneListener));
+    }
+
+    /**
+     * @param enemy L'ennemi ajouté
+     * @param occupant Son suivi des déclencheurs, vide
+     */
+    private void register(Enemy enemy, TriggerSystem.Occupant occupant) {
+        enemy.setCollisionGrid(collisionGrid);
+        enemy.setLineOfSight(lineOfSight);
+        if (platforms != null) {
+            enemy.setPlatforms(platforms);
+            if (!enemy.snapToPlatform()) {
+                System.out.println(enemy.getClass().getSimpleName() + " : aucune surface sous le spawn (" +
+                        (int)enemy.getX() + ", " + (int)enemy.getY() + "), il tombera");
+            }
+        }
+        
+        enemies.add(enemy);
+        store.add(enemy);
+        thinkScheduler.register(enemy);
+        triggerOccupants.add(occupant);
+        totalEnemiesSpawned++;
+        maxAttackRange = Math.max(maxAttackRange, enemy.getAttackRange());
+        maxDrawExtent = Math.max(maxDrawExtent, Math.max(enemy.getDrawWidth(), enemy.getDrawHeight()));
+        broadphaseDirty = true;
+    }
+
+    /**
+     * Ajoute un Knight à la position donnée.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     */
+    public void addKnight(float x, float y) {
+        Knight knight = new Knight(x, y, player);
+        register(knight);
+        System.out.println("Knight ajoute a (" + (int)x + ", " + (int)y + ")");
+    }
+
+    /**
+     * Ajoute un Knight avec une zone de patrouille.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     * @param patrolMin Distance minimale de patrouille
+     * @param patrolMax Distance maximale de patrouille
+     */
+    public void addKnight(float x, float y, float patrolMin, float patrolMax) {
+        Knight knight = new Knight(x, y, player);
+        knight.setPatrolZone(patrolMin, patrolMax);
+        register(knight);
+        System.out.println("Knight ajoute a (" + (int)x + ", " + (int)y + ") | Patrol: [" +
+                (int)patrolMin + " -> " + (int)patrolMax + "]");
+    }
+
+    /**
+     * Ajoute un Mage à la position donnée.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     */
+    public void addMage(float x, float y) {
+        Mage mage = new Mage(x, y, player);
+        if (projectileManager != null) {
+            mage.setProjectileManager(projectileManager);
+        }
+        register(mage);
+        System.out.println("Mage ajoute a (" + (int)x + ", " + (int)y + ")");
+    }
+
+    /**
+     * Ajoute un Mage avec une zone de patrouille.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     * @param patrolMin Distance minimale de patrouille
+     * @param patrolMax Distance maximale de patrouille
+     */
+    public void addMage(float x, float y, float patrolMin, float patrolMax) {
+        Mage mage = new Mage(x, y, player);
+        mage.setPatrolZone(patrolMin, patrolMax);
+        if (projectileManager != null) {
+            mage.setProjectileManager(projectileManager);
+        }
+        register(mage);
+        System.out.println("Mage ajoute a (" + (int)x + ", " + (int)y + 
+                ") | Patrol: [" + (int)patrolMin + " -> " + (int)patrolMax + "]");
+    }
+
+    /**
+     * Ajoute un Rogue à la position donnée.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     */
+    public void addRogue(float x, float y) {
+        Rogue rogue = new Rogue(x, y, player);
+        register(rogue);
+        System.out.println("Rogue ajoute a (" + (int)x + ", " + (int)y + ")");
+    }
+
+    /**
+     * Ajoute un Rogue avec une zone de patrouille.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     * @param patrolMin Distance minimale de patrouille
+     * @param patrolMax Distance maximale de patrouille
+     */
+    public void addRogue(float x, float y, float patrolMin, float patrolMax) {
+        Rogue rogue = new Rogue(x, y, player);
+        rogue.setPatrolZone(patrolMin, patrolMax);
+        register(rogue);
+        System.out.println("Rogue ajoute a (" + (int)x + ", " + (int)y + 
+                ") | Patrol: [" + (int)patrolMin + " -> " + (int)patrolMax + "]");
+    }
+
+    /**
+     * Ajoute un Boss à la position donnée.
+     * 
+     * @param x Position X
+     * @param y Position Y
+     */
+    public void addBoss(float x, float y) {
+        Boss boss = new Boss(x, y, player);
+        register(boss);
+        System.out.println("BOSS ajoute a (" + (int)x + ", " + (int)y + ")");
+    }
+
+    /**
+     * Fait apparaître un sbire sans message console, en réutilisant une
+     * instance morte du même type si la réserve en contient une.
+     * 
+     * @param type {@link EnemyStore#TYPE_KNIGHT}, {@link EnemyStore#TYPE_MAGE} ou {@link EnemyStore#TYPE_ROGUE}
+     * @param x Position X
+     * @param y Position Y
+     * @return L'ennemi apparu
+     */
+    public Enemy spawn(byte type, float x, float y) {
+        Array<Enemy> pool = getPool(type);
+        Enemy enemy;
+        TriggerSystem.Occupant occupant;
+        if (pool.size > 0) {
+            enemy = pool.pop();
+            enemy.respawn(x, y);
+            occupant = getOccupantPool(type).pop();
+            if (triggers != null) {
+                triggers.forget(occupant);
+            }
+        } else {
+            switch (type) {
+                case EnemyStore.TYPE_KNIGHT: enemy = new Knight(x, y, player); break;
+                case EnemyStore.TYPE_MAGE: enemy = new Mage(x, y, player); break;
+                default: enemy = new Rogue(x, y, player); break;
+            }
+            occupant = new TriggerSystem.Occupant(enemy, deathZoneListener);
+        }
+        
+        if (enemy instanceof Mage && projectileManager != null) {
+            ((Mage) enemy).setProjectileManager(projectileManager);
+        }
+        register(enemy, occupant);
+        return enemy;
+    }
+    
+    /**
+     * @param type Un type de sbire
+     * @return La réserve de ce type
+     */
+    private Array<Enemy> getPool(byte type) {
+        switch (type) {
+            case EnemyStore.TYPE_KNIGHT: return knightPool;
+            case EnemyStore.TYPE_MAGE: return magePool;
+            case EnemyStore.TYPE_ROGUE: return roguePool;
+            default: throw new IllegalArgumentException("Type de sbire inconnu : " + type);
+        }
+    }
+    
+    /**
+     * @param type Un type de sbire
+     * @return Les suivis des déclencheurs de la réserve de ce type
+     */
+    private Array<TriggerSystem.Occupant> getOccupantPool(byte type) {
+        switch (type) {
+            case EnemyStore.TYPE_KNIGHT: return knightOccupantPool;
+            case EnemyStore.TYPE_MAGE: return mageOccupantPool;
+            case EnemyStore.TYPE_ROGUE: return rogueOccupantPool;
+            default: throw new IllegalArgumentException("Type de sbire inconnu : " + type);
+        }
+    }
+    
+    /**
+     * @param pooling true pour garder les sbires morts et les réutiliser au spawn
+     */
+    public void setPooling(boolean pooling) {
+        this.pooling = pooling;
+    }
+    
+    /**
+     * @return Le nombre de sbires morts en réserve, prêts à être réutilisés
+     */
+    public int getPooledCount() {
+        return knightPool.size + magePool.size + roguePool.size;
+    }
+    
+    /**
+     * Définit la géométrie de collision pour tous les ennemis.
+     * 
+     * @param collisionGrid L'index des rectangles de collision
+     */
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+        simulation.setLevel(collisionGrid, platforms);
+        lanesDirty = true;
+        for (Enemy enemy : enemies) {
+            enemy.setCollisionGrid(collisionGrid);
+        }
+    }
+    
+    /**
+     * Définit les surfaces praticables du niveau. Les ennemis ajoutés ensuite
+     * sont posés directement sur la surface sous leur point d'apparition.
+     * 
+     * @param platforms Les segments du niveau
+     */
+    public void setPlatforms(PlatformSegments platforms) {
+        this.platforms = platforms;
+        simulation.setLevel(collisionGrid, platforms);
+        lanesDirty = true;
+        for (Enemy enemy : enemies) {
+            enemy.setPlatforms(platforms);
+        }
+    }
+    
+    /**
+     * Définit l'occupation des tuiles utilisée par les ennemis pour voir le joueur.
+     * 
+     * @param lineOfSight L'occupation des tuiles du niveau
+     */
+    public void setLineOfSight(OccupancyGrid lineOfSight) {
+        this.lineOfSight = lineOfSight;
+        for (Enemy enemy : enemies) {
+            enemy.setLineOfSight(lineOfSight);
+        }
+    }
+
+    /**
+     * Met à jour tous les ennemis.
+     * Vérifie également si un ennemi touche une zone de mort.
+     * 
+     * @param delta Le temps écoulé
+     */
+    public void update(float delta) {
+        sleepingCount = 0;
+        for (int i = 0; i < store.size(); i++) {
+            if (activityEnabled) {
+                updateActivity(i);
+            }
+            if (store.isAsleep(i)) {
+                sleepingCount++;
+            }
+        }
+        
+        int awake = enemies.size - sleepingCount;
+        if (workerThreads > 1 && awake >= parallelThreshold) {
+            thinkScheduler.beginTick(workerThreads);
+            updateParallel(delta, awake);
+        } else {
+            thinkScheduler.beginTick(1);
+            lastLaneCount = 1;
+            simulate(simulation, 0, store.size(), delta, thinkScheduler.getLane(0), null);
+        }
+        thinkScheduler.endTick();
+        
+        updateTriggers();
+        
+        rebuildBroadphase();
+    }
+    
+    /**
+     * Simule une tranche d'emplacements, passe par passe ou ennemi par ennemi
+     * selon {@link #columnUpdate}.
+     */
+    private void simulate(EnemySimulation simulation, int start, int end, float delta,
+                          ThinkScheduler.Lane thinkLane, EnemyCommands commands) {
+        if (columnUpdate) {
+            simulation.update(store, start, end, delta, thinkLane, commands);
+        } else {
+            simulation.updateEach(store, start, end, delta, thinkLane, commands);
+        }
+    }
+    
+    /**
+     * @param columnUpdate true (par défaut) pour simuler passe par passe sur les
+     *                     colonnes, false pour tout faire ennemi par ennemi
+     */
+    public void setColumnUpdate(boolean columnUpdate) {
+        this.columnUpdate = columnUpdate;
+    }
+    
+    /**
+     * Simule les ennemis éveillés sur {@link #workerThreads} threads, en tranches
+     * d'autant d'ennemis éveillés, puis applique les tampons dans l'ordre.
+     * 
+     * @param delta Le temps écoulé
+     * @param awake Le nombre d'ennemis éveillés
+     */
+    private void updateParallel(float delta, int awake) {
+        if (lanes == null || lanesDirty) {
+            lanes = new UpdateLane[workerThreads];
+            for (int i = 0; i < workerThreads; i++) {
+                lanes[i] = new UpdateLane(i);
+            }
+            lanesDirty = false;
+        }
+        if (pool == null) {
+            pool = new ForkJoinPool(workerThreads);
+        }
+        
+        // Découpe en tranches contiguës d'ennemis éveillés de même taille
+        int lane = 0;
+        int seen = 0;
+        lanes[0].start = 0;
+        for (int i = 0; i < enemies.size && lane < lanes.length - 1; i++) {
+            if (store.isAsleep(i)) continue;
+            seen++;
+            if (seen * lanes.length >= awake * (lane + 1)) {
+                lanes[lane].end = i + 1;
+                lane++;
+                lanes[lane].start = i + 1;
+            }
+        }
+        lanes[lane].end = enemies.size;
+        for (int i = 0; i < lanes.length; i++) {
+            if (i > lane) {
+                lanes[i].start = enemies.size;
+                lanes[i].end = enemies.size;
+            }
+            lanes[i].delta = delta;
+            lanes[i].reinitialize();
+        }
+        
+        parallelUpdate.reinitialize();
+        pool.invoke(parallelUpdate);
+        lastLaneCount = lanes.length;
+        
+        for (UpdateLane updateLane : lanes) {
+            updateLane.commands.commit(projectileManager);
+        }
+    }
+    
+    /**
+     * @param threads Nombre de threads de mise à jour (1 = tout sur le thread principal)
+     */
+    public void setWorkerThreads(int threads) {
+        threads = Math.max(1, threads);
+        if (threads == workerThreads) return;
+        
+        workerThreads = threads;
+        lanesDirty = true;
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+    
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+    
+    /**
+     * @param threshold Nombre d'ennemis éveillés à partir duquel la mise à jour est parallèle
+     */
+    public void setParallelThreshold(int threshold) {
+        this.parallelThreshold = threshold;
+    }
+    
+    /**
+     * @return Le nombre de threads utilisés au dernier update
+     */
+    public int getLastLaneCount() {
+        return lastLaneCount;
+    }
+    
+    /**
+     * Réindexe les hitboxes de tous les ennemis (à appeler après les avoir déplacés).
+     */
+    public void rebuildBroadphase() {
+        store.fillSpatialHash(broadphase);
+        broadphaseDirty = false;
+    }
+    
+    /**
+     * Ajoute à resultSink les indices (dans {@link #getEnemies()}, par ordre croissant)
+     * des ennemis dont la hitbox indexée chevauche la zone, morts compris.
+     * 
+     * @param area La zone testée
+     * @param resultSink Le tableau qui reçoit les indices
+     * @return Le nombre d'indices ajoutés
+     */
+    public int queryEnemies(Rectangle area, IntArray resultSink) {
+        if (broadphaseDirty) rebuildBroadphase();
+        return broadphase.query(area, resultSink);
+    }
+    
+    /**
+     * Premier ennemi vivant (dans l'ordre de la liste) dont la hitbox chevauche la zone.
+     * 
+     * @param area La zone testée
+     * @return L'ennemi touché, ou null
+     */
+    public Enemy findFirstEnemyHit(Rectangle area) {
+        nearbyEnemies.clear();
+        queryEnemies(area, nearbyEnemies);
+        
+        for (int i = 0; i < nearbyEnemies.size; i++) {
+            int slot = nearbyEnemies.get(i);
+            if (!store.isDead(slot) && store.overlaps(slot, area)) {
+                return store.getEnemy(slot);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Définit la vue autour de laquelle les ennemis restent éveillés.
+     * À appeler avant chaque {@link #update(float)} ; sans vue, aucun ennemi ne dort.
+     * 
+     * @param x Bord gauche de la vue
+     * @param y Bord bas de la vue
+     * @param width Largeur de la vue
+     * @param height Hauteur de la vue
+     */
+    public void setActivityView(float x, float y, float width, float height) {
+        activityArea.set(x - activityMargin, y - activityMargin,
+                         width + activityMargin * 2f, height + activityMargin * 2f);
+        activityEnabled = true;
+    }
+    
+    /**
+     * @param margin Marge autour de la vue dans laquelle les ennemis restent éveillés
+     */
+    public void setActivityMargin(float margin) {
+        this.activityMargin = margin;
+    }
+    
+    /**
+     * Désactive l'endormissement et réveille tous les ennemis.
+     */
+    public void clearActivityView() {
+        activityEnabled = false;
+        for (int i = 0; i < store.size(); i++) {
+            store.setAsleep(i, false);
+        }
+        sleepingCount = 0;
+    }
+    
+    /**
+     * Endort ou réveille un ennemi selon sa distance à la vue et au joueur,
+     * à partir de ses colonnes.
+     * 
+     * @param slot L'emplacement de l'ennemi
+     */
+    private void updateActivity(int slot) {
+        boolean nearby = store.overlaps(slot, activityArea) ||
+                (player != null && Math.abs(player.getX() - store.getX(slot)) <= store.getDetectionRange(slot));
+        
+        if (store.isAsleep(slot)) {
+            // Un ennemi endormi touché (projectile) se réveille aussi
+            if (nearby || !store.isResting(slot)) {
+                store.setAsleep(slot, false);
+            }
+        } else if (!nearby && store.isResting(slot)) {
+            store.setAsleep(slot, true);
+        }
+    }
+    
+    /**
+     * Met à jour les volumes occupés par chaque ennemi vivant. Les entrées
+     * en zone de mort tuent l'ennemi ({@link #deathZoneListener}).
+     */
+    private void updateTriggers() {
+        if (triggers == null) return;
+        
+        for (int i = 0; i < store.size(); i++) {
+            if (store.isDead(i) || store.isAsleep(i)) continue;
+            triggers.update(triggerOccupants.get(i), store.getHitbox(i, triggerBox));
+        }
+    }
+
+    /**
+     * Interpole la position affichée de tous les ennemis.
+     * 
+     * @param alpha Le facteur d'interpolation entre les deux derniers pas de simulation
+     */
+    public void interpolate(float alpha) {
+        store.interpolate(alpha);
+    }
+
+    /**
+     * Affiche les ennemis visibles, dans l'ordre de la liste.
+     * 
+     * @param batch Le SpriteBatch pour le rendu
+     * @param view La zone visible, en coordonnées du monde
+     * @return Le nombre d'ennemis dessinés
+     */
+    public int render(SpriteBatch batch, Rectangle view) {
+        collectVisible(view);
+        
+        int drawn = 0;
+        for (int i = 0; i < visibleEnemies.size; i++) {
+            Enemy enemy = enemies.get(visibleEnemies.get(i));
+            if (enemy.isVisible(view)) {
+                enemy.render(batch);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+    
+    /**
+     * Affiche les barres de vie des ennemis visibles (Boss compris) dans le
+     * batch ouvert. Appelé après tous les sprites, les barres partagent une
+     * seule texture et ne coûtent qu'un appel de dessin.
+     * 
+     * @param batch Le SpriteBatch pour le rendu
+     * @param white La région blanche du RenderContext
+     * @param view La zone visible, en coordonnées du monde
+     * @return Le nombre d'ennemis visibles (barres dessinées ou non)
+     */
+    public int renderHealthBars(SpriteBatch batch, TextureRegion white, Rectangle view) {
+        collectVisible(view);
+        
+        int drawn = 0;
+        for (int i = 0; i < visibleEnemies.size; i++) {
+            Enemy enemy = enemies.get(visibleEnemies.get(i));
+            if (enemy.isVisible(view)) {
+                enemy.renderHealthBar(batch, white);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+    
+    /**
+     * Remplit {@link #visibleEnemies} avec les ennemis indexés près de la zone
+     * visible. Les hitboxes indexées sont plus petites que les sprites : la zone
+     * est élargie du plus grand sprite.
+     * 
+     * @param view La zone visible
+     */
+    private void collectVisible(Rectangle view) {
+        float margin = maxDrawExtent + RENDER_SLACK;
+        cullArea.set(view.x - margin, view.y - margin, view.width + margin * 2f, view.height + margin * 2f);
+        visibleEnemies.clear();
+        queryEnemies(cullArea, visibleEnemies);
+    }
+
+    /**
+     * Vérifie et applique les attaques des ennemis sur le joueur.
+     * 
+     * @param player Le joueur
+     */
+    public void checkEnemyAttacks(Player player) {
+        // Seuls les ennemis à portée d'attaque (+1 px, le test de portée est inclusif) sont concernés
+        Rectangle playerHitbox = player.getHitbox();
+        reachArea.set(playerHitbox.x - maxAttackRange - 1f,
+                      playerHitbox.y - Enemy.ATTACK_HEIGHT_RANGE - 1f,
+                      maxAttackRange * 2f + 2f,
+                      Enemy.ATTACK_HEIGHT_RANGE * 2f + 2f);
+        
+        nearbyEnemies.clear();
+        queryEnemies(reachArea, nearbyEnemies);
+        
+        for (int i = 0; i < nearbyEnemies.size; i++) {
+            enemies.get(nearbyEnemies.get(i)).tryDealDamage();
+        }
+    }
+
+    /**
+     * Vérifie et applique l'attaque du joueur sur les ennemis.
+     * 
+     * @param player Le joueur
+     */
+    public void checkPlayerAttack(Player player) {
+        if (player.isRangedAttacker()) {
+            return;
+        }
+        
+        if (!player.isAttacking()) return;
+        if (player.hasDealtDamageThisAttack()) return;
+
+        Rectangle playerHitbox = player.getHitbox();
+        attackBox.set(player.getX(), player.getY(), 80f, playerHitbox.height);
+
+        Enemy enemy = findFirstEnemyHit(attackBox);
+        if (enemy != null) {
+            int damage = player.getTotalAttack();
+            enemy.takeDamage(damage);
+            player.markDamageDealt();
+            System.out.println(enemy.getClass().getSimpleName() +
+                    " touche ! (-" + damage + " HP) | HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
+        }
+    }
+
+    /**
+     * Retire les ennemis morts de la liste, en une passe qui garde l'ordre des
+     * survivants. Les sbires morts vont en réserve si elle est activée.
+     */
+    public void removeDeadEnemies() {
+        int write = 0;
+        for (int read = 0; read < enemies.size; read++) {
+            Enemy enemy = enemies.get(read);
+            if (store.isDead(read)) {
+                byte type = store.getType(read);
+                if (pooling && type <= EnemyStore.TYPE_ROGUE) {
+                    getPool(type).add(enemy);
+                    getOccupantPool(type).add(triggerOccupants.get(read));
+                } else {
+                    enemy.dispose();
+                }
+                enemiesKilled++;
+                continue;
+            }
+            if (write != read) {
+                enemies.set(write, enemy);
+                triggerOccupants.set(write, triggerOccupants.get(read));
+            }
+            write++;
+        }
+        
+        if (write == enemies.size) return;
+        enemies.truncate(write);
+        triggerOccupants.truncate(write);
+        store.removeDead();
+        broadphaseDirty = true;
+    }
+
+    /**
+     * Compte le nombre d'ennemis vivants.
+     * 
+     * @return Le nombre d'ennemis vivants
+     */
+    public int getAliveCount() {
+        int count = 0;
+        for (int i = 0; i < store.size(); i++) {
+            if (!store.isDead(i)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return Le nombre d'ennemis endormis au dernier update
+     */
+    public int getSleepingCount() {
+        return sleepingCount;
+    }
+    
+    /**
+     * @return Le nombre d'ennemis simulés au dernier update
+     */
+    public int getActiveCount() {
+        return enemies.size - sleepingCount;
+    }
+
+    /**
+     * @return L'ordonnanceur des décisions (budget et mesures)
+     */
+    public ThinkScheduler getThinkScheduler() {
+        return thinkScheduler;
+    }
+
+    public int getTotalCount() {
+        return enemies.size;
+    }
+    
+    public int getEnemiesKilled() {
+        return enemiesKilled;
+    }
+    
+    public int getTotalEnemiesSpawned() {
+        return totalEnemiesSpawned;
+    }
+    
+    public Array<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Affiche les hitboxes de debug pour tous les ennemis.
+     * 
+     * @param camera La caméra du jeu
+     */
+    public void renderDebugHitboxes(OrthographicCamera camera) {
+        for (Enemy enemy : enemies) {
+            HitboxDebugger.renderEnemyHitbox(enemy, camera);
+        }
+    }
+
+    /**
+     * Libère les ressources de tous les ennemis.
+     */
+    public void dispose() {
+        for (Enemy enemy : enemies) {
+            enemy.dispose();
+        }
+        enemies.clear();
+        store.clear();
+        for (Enemy enemy : knightPool) enemy.dispose();
+        for (Enemy enemy : magePool) enemy.dispose();
+        for (Enemy enemy : roguePool) enemy.dispose();
+        knightPool.clear();
+        magePool.clear();
+        roguePool.clear();
+        knightOccupantPool.clear();
+        mageOccupantPool.clear();
+        rogueOccupantPool.clear();
+        triggerOccupants.clear();
+        broadphaseDirty = true;
+        
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        lanes = null;
+    }
 }
\ No newline at end of file
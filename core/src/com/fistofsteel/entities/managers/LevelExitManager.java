@@ -1,27 +1,44 @@
 package com.fistofsteel.entities.managers;
 
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
-import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.entities.world.LevelExit;
+import com.fistofsteel.level.TriggerSystem;
 
 /**
  * Gestionnaire des portes de sortie de niveau.
  * Gère l'affichage, l'état et les interactions avec les portes.
+ * 
+ * Chaque porte est un volume déclencheur : le gestionnaire retient la porte
+ * occupée par le joueur à partir des événements d'entrée et de sortie, sans
+ * tester toutes les portes à chaque pas.
  */
 public class LevelExitManager {
     
+    /**
+     * Notifié quand une porte se déverrouille (ex. pour précharger le niveau cible).
+     */
+    public interface UnlockListener {
+        void onExitUnlocked(String targetLevel);
+    }
+    
     private Array<LevelExit> exits;
-    private ShapeRenderer shapeRenderer;
+    private UnlockListener unlockListener;
+    private TriggerSystem triggers;
+    
+    /** Porte dans laquelle se trouve le joueur (null si aucune). */
+    private LevelExit playerExit;
     
     /**
      * Constructeur du gestionnaire de sorties.
+     * 
+     * @param triggers Les volumes déclencheurs du niveau
      */
-    public LevelExitManager() {
+    public LevelExitManager(TriggerSystem triggers) {
         this.exits = new Array<>();
-        this.shapeRenderer = new ShapeRenderer();
+        this.triggers = triggers;
     }
     
     /**
@@ -34,9 +51,19 @@ public class LevelExitManager {
     public void addExit(float x, float y, String targetLevel) {
         LevelExit exit = new LevelExit(x, y, targetLevel);
         exits.add(exit);
+        triggers.add(TriggerSystem.Type.EXIT, exit.getBounds(), exit);
         System.out.println("Porte de sortie ajoutee : " + targetLevel);
     }
     
+    /**
+     * Définit l'écouteur de déverrouillage des portes.
+     * 
+     * @param listener L'écouteur (null pour aucun)
+     */
+    public void setUnlockListener(UnlockListener listener) {
+        this.unlockListener = listener;
+    }
+    
     /**
      * Met à jour toutes les portes selon les ennemis tués.
      * 
@@ -45,34 +72,60 @@ public class LevelExitManager {
      */
     public void update(int enemiesKilled, int totalEnemies) {
         for (LevelExit exit : exits) {
-            exit.update(enemiesKilled, totalEnemies);
+            if (exit.update(enemiesKilled, totalEnemies) && unlockListener != null) {
+                unlockListener.onExitUnlocked(exit.getTargetLevel());
+            }
         }
     }
     
     /**
-     * Affiche toutes les portes.
+     * Affiche les portes visibles.
      * 
      * @param batch Le SpriteBatch pour le rendu
-     * @param camera La caméra du jeu
+     * @param white La région blanche du RenderContext
+     * @param view La zone visible, en coordonnées du monde
+     * @return Le nombre de portes dessinées
      */
-    public void render(SpriteBatch batch, OrthographicCamera camera) {
+    public int render(SpriteBatch batch, TextureRegion white, Rectangle view) {
+        int drawn = 0;
         for (LevelExit exit : exits) {
-            exit.render(batch, shapeRenderer, camera);
+            if (!view.overlaps(exit.getBounds())) continue;
+            exit.render(batch, white);
+            drawn++;
+        }
+        return drawn;
+    }
+    
+    /**
+     * Appelé quand le joueur entre dans une porte.
+     * 
+     * @param exit La porte
+     */
+    public void onPlayerEnter(LevelExit exit) {
+        playerExit = exit;
+    }
+    
+    /**
+     * Appelé quand le joueur sort d'une porte.
+     * 
+     * @param exit La porte
+     */
+    public void onPlayerExit(LevelExit exit) {
+        if (playerExit == exit) {
+            playerExit = null;
         }
     }
     
     /**
-     * Vérifie si le joueur est sur une porte déverrouillée.
+     * Vérifie si le joueur est sur une porte déverrouillée. Une porte qui se
+     * déverrouille pendant que le joueur est dedans compte aussi.
      * 
-     * @param player Le joueur
      * @return Le nom du prochain niveau, ou null si aucune porte accessible
      */
-    public String checkPlayerOnExit(Player player) {
-        for (LevelExit exit : exits) {
-            if (exit.isUnlocked() && exit.isPlayerInside(player)) {
-                System.out.println("Joueur sur la porte -> " + exit.getTargetLevel());
-                return exit.getTargetLevel();
-            }
+    public String checkPlayerOnExit() {
+        if (playerExit != null && playerExit.isUnlocked()) {
+            System.out.println("Joueur sur la porte -> " + playerExit.getTargetLevel());
+            return playerExit.getTargetLevel();
         }
         return null;
     }
@@ -99,9 +152,8 @@ public class LevelExitManager {
      * Libère les ressources.
      */
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
         exits.clear();
+        unlockListener = null;
+        playerExit = null;
     }
 }
\ No newline at end of file
@@ -1,159 +1,316 @@
-package com.fistofsteel.entities.managers;
-
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
-import com.fistofsteel.entities.player.Player;
-import com.fistofsteel.entities.projectiles.Projectile;
-import com.fistofsteel.entities.projectiles.HugoProjectile;
-import com.fistofsteel.entities.projectiles.MageProjectile;
-import com.fistofsteel.entities.enemies.Enemy;
-
-/**
- * Gestionnaire de tous les projectiles du jeu.
- * Gère les projectiles du joueur et des ennemis.
- */
-public class ProjectileManager {
-    
-    private Array<Projectile> projectiles;
-    private float mapWidth;
-    
-    /**
-     * Constructeur du gestionnaire de projectiles.
-     * 
-     * @param mapWidth La largeur de la map
-     */
-    public ProjectileManager(float mapWidth) {
-        this.projectiles = new Array<>();
-        this.mapWidth = mapWidth;
-    }
-    
-    /**
-     * Ajoute un projectile.
-     * 
-     * @param projectile Le projectile à ajouter
-     */
-    public void addProjectile(Projectile projectile) {
-        projectiles.add(projectile);
-    }
-    
-    /**
-     * Met à jour tous les projectiles.
-     * 
-     * @param delta Le temps écoulé
-     */
-    public void update(float delta) {
-        for (Projectile projectile : projectiles) {
-            if (projectile.isActive()) {
-                projectile.update(delta);
-                
-                if (projectile.isOffScreen(mapWidth)) {
-                    projectile.deactivate();
-                }
-            }
-        }
-    }
-    
-    /**
-     * Affiche tous les projectiles actifs.
-     * 
-     * @param batch Le SpriteBatch pour le rendu
-     */
-    public void render(SpriteBatch batch) {
-        for (Projectile projectile : projectiles) {
-            if (projectile.isActive()) {
-                projectile.render(batch);
-            }
-        }
-    }
-    
-    /**
-     * Vérifie les collisions avec le joueur (projectiles ennemis).
-     * 
-     * @param player Le joueur
-     */
-    public void checkPlayerCollisions(Player player) {
-        if (player.isDead()) return;
-        
-        Rectangle playerHitbox = player.getHitbox();
-        
-        for (Projectile projectile : projectiles) {
-            if (projectile instanceof MageProjectile && projectile.isActive() && 
-                !projectile.hasDealtDamage() && projectile.getHitbox().overlaps(playerHitbox)) {
-                
-                player.applyDamage(projectile.getDamage());
-                projectile.markDamageDealt();
-                projectile.deactivate();
-                
-                System.out.println("Projectile ennemi touche le joueur ! -" + projectile.getDamage() + " HP");
-            }
-        }
-    }
-    
-    /**
-     * Vérifie les collisions avec les ennemis (projectiles joueur).
-     * 
-     * @param enemyManager Le gestionnaire d'ennemis
-     */
-    public void checkEnemyCollisions(EnemyManager enemyManager) {
-        for (Projectile projectile : projectiles) {
-            if (projectile instanceof HugoProjectile && projectile.isActive() && !projectile.hasDealtDamage()) {
-                
-                for (Enemy enemy : enemyManager.getEnemies()) {
-                    if (!enemy.isDead() && projectile.getHitbox().overlaps(enemy.getHitbox())) {
-                        
-                        enemy.takeDamage(projectile.getDamage());
-                        
-                        projectile.markDamageDealt();
-                        projectile.deactivate();
-                        
-                        System.out.println("Projectile Hugo touche " + enemy.getClass().getSimpleName() + " ! -" + 
-                                         projectile.getDamage() + " HP | HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
-                        break;
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Nettoie les projectiles inactifs.
-     */
-    public void removeInactiveProjectiles() {
-        Array<Projectile> toRemove = new Array<>();
-        
-        for (Projectile projectile : projectiles) {
-            if (!projectile.isActive()) {
-                toRemove.add(projectile);
-            }
-        }
-        
-        for (Projectile projectile : toRemove) {
-            projectile.dispose();
-            projectiles.removeValue(projectile, true);
-        }
-    }
-    
-    /**
-     * Compte les projectiles actifs.
-     * 
-     * @return Le nombre de projectiles actifs
-     */
-    public int getActiveCount() {
-        int count = 0;
-        for (Projectile projectile : projectiles) {
-            if (projectile.isActive()) count++;
-        }
-        return count;
-    }
-    
-    /**
-     * Libère les ressources.
-     */
-    public void dispose() {
-        for (Projectile projectile : projectiles) {
-            projectile.dispose();
-        }
-        projectiles.clear();
-    }
-}
\ No newline at end of file
+package com.fistofsteel.entities.managers;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.projectiles.Projectile;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.entities.projectiles.MageProjectile;
+import com.fistofsteel.entities.projectiles.ProjectileAnimation;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.SweptAabb;
+
+/**
+ * Gestionnaire de tous les projectiles du jeu.
+ * Gère les projectiles du joueur et des ennemis.
+ * 
+ * Les projectiles sont recyclés via des pools et partagent une animation
+ * par type : un tir n'alloue rien et ne charge aucune texture.
+ */
+public class ProjectileManager {
+    
+    private static final int INITIAL_POOL_SIZE = 16;
+    
+    private Array<Projectile> projectiles;
+    private float mapWidth;
+    
+    private ProjectileAnimation hugoAnimation;
+    private ProjectileAnimation mageAnimation;
+    
+    private CollisionGrid collisionGrid;
+    
+    /** Solveur partagé : les projectiles sont mis à jour l'un après l'autre. */
+    private final SweptAabb sweep = new SweptAabb();
+    
+    private final Pool<HugoProjectile> hugoPool = new Pool<HugoProjectile>() {
+        @Override
+        protected HugoProjectile newObject() {
+            return new HugoProjectile();
+        }
+    };
+    
+    private final Pool<MageProjectile> magePool = new Pool<MageProjectile>() {
+        @Override
+        protected MageProjectile newObject() {
+            return new MageProjectile();
+        }
+    };
+    
+    /**
+     * Constructeur du gestionnaire de projectiles.
+     * Charge les animations partagées via l'AssetCache.
+     * 
+     * @param mapWidth La largeur de la map
+     */
+    public ProjectileManager(float mapWidth) {
+        this(mapWidth,
+             ProjectileAnimation.load(HugoProjectile.FRAME_PATHS, HugoProjectile.FRAME_DURATION,
+                                      HugoProjectile.PROJECTILE_WIDTH, HugoProjectile.PROJECTILE_HEIGHT),
+             ProjectileAnimation.load(MageProjectile.FRAME_PATHS, MageProjectile.FRAME_DURATION,
+                                      MageProjectile.PROJECTILE_WIDTH, MageProjectile.PROJECTILE_HEIGHT));
+    }
+    
+    /**
+     * Constructeur avec animations fournies (null accepté, ex. tests sans GPU).
+     * Le gestionnaire devient propriétaire des animations et les libère dans dispose().
+     * 
+     * @param mapWidth La largeur de la map
+     * @param hugoAnimation L'animation des projectiles d'Hugo
+     * @param mageAnimation L'animation des projectiles du Mage
+     */
+    public ProjectileManager(float mapWidth, ProjectileAnimation hugoAnimation, ProjectileAnimation mageAnimation) {
+        this.projectiles = new Array<>(false, INITIAL_POOL_SIZE * 2);
+        this.mapWidth = mapWidth;
+        this.hugoAnimation = hugoAnimation;
+        this.mageAnimation = mageAnimation;
+        
+        hugoPool.fill(INITIAL_POOL_SIZE);
+        magePool.fill(INITIAL_POOL_SIZE);
+    }
+    
+    /**
+     * Définit la géométrie du niveau qui arrête les projectiles.
+     * 
+     * @param collisionGrid L'index des rectangles de collision (null = aucun obstacle)
+     */
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+        sweep.clear();
+    }
+    
+    /**
+     * Tire un projectile d'Hugo (sorti du pool).
+     * 
+     * @param x Position X initiale
+     * @param y Position Y initiale
+     * @param facingRight Direction du projectile
+     * @param damage Les dégâts infligés
+     * @return Le projectile tiré
+     */
+    public HugoProjectile spawnHugoProjectile(float x, float y, boolean facingRight, int damage) {
+        HugoProjectile projectile = hugoPool.obtain();
+        projectile.setAnimation(hugoAnimation);
+        projectile.init(x, y, facingRight, damage);
+        projectiles.add(projectile);
+        return projectile;
+    }
+    
+    /**
+     * Tire un projectile du Mage (sorti du pool).
+     * 
+     * @param x Position X initiale
+     * @param y Position Y initiale
+     * @param facingRight Direction du projectile
+     * @param damage Les dégâts infligés
+     * @return Le projectile tiré
+     */
+    public MageProjectile spawnMageProjectile(float x, float y, boolean facingRight, int damage) {
+        MageProjectile projectile = magePool.obtain();
+        projectile.setAnimation(mageAnimation);
+        projectile.init(x, y, facingRight, damage);
+        projectiles.add(projectile);
+        return projectile;
+    }
+    
+    /**
+     * Met à jour tous les projectiles.
+     * 
+     * @param delta Le temps écoulé
+     */
+    public void update(float delta) {
+        for (Projectile projectile : projectiles) {
+            if (projectile.isActive()) {
+                projectile.update(delta, collisionGrid, sweep);
+                
+                if (projectile.isOffScreen(mapWidth)) {
+                    projectile.deactivate();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Interpole la position affichée des projectiles actifs.
+     * 
+     * @param alpha Le facteur d'interpolation entre les deux derniers pas de simulation
+     */
+    public void interpolate(float alpha) {
+        for (Projectile projectile : projectiles) {
+            if (projectile.isActive()) {
+                projectile.interpolate(alpha);
+            }
+        }
+    }
+    
+    /**
+     * Affiche les projectiles actifs visibles.
+     * 
+     * @param batch Le SpriteBatch pour le rendu
+     * @param view La zone visible, en coordonnées du monde
+     * @return Le nombre de projectiles dessinés
+     */
+    public int render(SpriteBatch batch, Rectangle view) {
+        int drawn = 0;
+        for (Projectile projectile : projectiles) {
+            if (projectile.isVisible(view)) {
+                projectile.render(batch);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+    
+    /**
+     * Vérifie les collisions avec le joueur (projectiles ennemis).
+     * 
+     * @param player Le joueur
+     */
+    public void checkPlayerCollisions(Player player) {
+        if (player.isDead()) return;
+        
+        Rectangle playerHitbox = player.getHitbox();
+        
+        for (Projectile projectile : projectiles) {
+            if (projectile instanceof MageProjectile && projectile.isActive() && 
+                !projectile.hasDealtDamage() && projectile.getHitbox().overlaps(playerHitbox)) {
+                
+                player.applyDamage(projectile.getDamage());
+                projectile.markDamageDealt();
+                projectile.deactivate();
+                
+                System.out.println("Projectile ennemi touche le joueur ! -" + projectile.getDamage() + " HP");
+            }
+        }
+    }
+    
+    /**
+     * Vérifie les collisions avec les ennemis (projectiles joueur).
+     * Chaque projectile ne teste que les ennemis proches (broadphase de l'EnemyManager).
+     * 
+     * @param enemyManager Le gestionnaire d'ennemis
+     */
+    public void checkEnemyCollisions(EnemyManager enemyManager) {
+        for (Projectile projectile : projectiles) {
+            if (projectile instanceof HugoProjectile && projectile.isActive() && !projectile.hasDealtDamage()) {
+                
+                Enemy enemy = enemyManager.findFirstEnemyHit(projectile.getHitbox());
+                if (enemy != null) {
+                    
+                    enemy.takeDamage(projectile.getDamage());
+                    
+                    projectile.markDamageDealt();
+                    projectile.deactivate();
+                    
+                    System.out.println("Projectile Hugo touche " + enemy.getClass().getSimpleName() + " ! -" + 
+                                     projectile.getDamage() + " HP | HP: " + enemy.getHealth() + "/" + enemy.getMaxHealth());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Nettoie les projectiles inactifs et les rend à leur pool, en une passe :
+     * les actifs gardent leur ordre.
+     */
+    public void removeInactiveProjectiles() {
+        int write = 0;
+        for (int read = 0; read < projectiles.size; read++) {
+            Projectile projectile = projectiles.get(read);
+            if (!projectile.isActive()) {
+                free(projectile);
+                continue;
+            }
+            if (write != read) {
+                projectiles.set(write, projectile);
+            }
+            write++;
+        }
+        
+        if (write == projectiles.size) return;
+        projectiles.truncate(write);
+    }
+    
+    /**
+     * Rend un projectile à son pool (reset() est appelé par le pool).
+     * 
+     * @param projectile Le projectile à recycler
+     */
+    private void free(Projectile projectile) {
+        if (projectile instanceof HugoProjectile) {
+            hugoPool.free((HugoProjectile) projectile);
+        } else if (projectile instanceof MageProjectile) {
+            magePool.free((MageProjectile) projectile);
+        }
+    }
+    
+    /**
+     * Rend tous les projectiles à leur pool (changement de niveau).
+     * Les pools et les animations partagées sont conservés.
+     * 
+     * @param mapWidth La largeur de la nouvelle map
+     */
+    public void reset(float mapWidth) {
+        this.mapWidth = mapWidth;
+        for (int i = projectiles.size - 1; i >= 0; i--) {
+            free(projectiles.removeIndex(i));
+        }
+    }
+    
+    /**
+     * Compte les projectiles actifs.
+     * 
+     * @return Le nombre de projectiles actifs
+     */
+    public int getActiveCount() {
+        int count = 0;
+        for (Projectile projectile : projectiles) {
+            if (projectile.isActive()) count++;
+        }
+        return count;
+    }
+    
+    /**
+     * @return Le nombre de projectiles en vol (actifs ou en attente de recyclage)
+     */
+    public int getProjectileCount() {
+        return projectiles.size;
+    }
+    
+    /**
+     * @return Le nombre maximal de projectiles libres atteint par les pools
+     */
+    public int getPoolPeak() {
+        return hugoPool.peak + magePool.peak;
+    }
+    
+    /**
+     * Libère les ressources.
+     */
+    public void dispose() {
+        projectiles.clear();
+        hugoPool.clear();
+        magePool.clear();
+        
+        if (hugoAnimation != null) {
+            hugoAnimation.dispose();
+            hugoAnimation = null;
+        }
+        if (mageAnimation != null) {
+            mageAnimation.dispose();
+            mageAnimation = null;
+        }
+    }
+}
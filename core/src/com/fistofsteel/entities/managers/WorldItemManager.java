@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.entities.world.ItemPickup;
 import com.fistofsteel.items.Item;
@@ -13,15 +14,59 @@ import com.fistofsteel.items.HeavyArmor;
 import com.fistofsteel.items.Sword1;
 import com.fistofsteel.items.Sword2;
 import com.fistofsteel.items.Sword3;
+import com.fistofsteel.level.TriggerSystem;
 
 /**
  * Gestionnaire des items ramassables dans le monde.
  * Gère le spawn, l'affichage et la collecte des items.
+ * 
+ * Les items ne font que flotter sur place : chacun est un volume déclencheur
+ * couvrant toute son amplitude de flottement. Seuls les items dont le joueur
+ * occupe le volume sont testés contre sa hitbox.
  */
 public class WorldItemManager {
 
+    public static final String POTION_TEXTURE = "assets/items/potion_frame_1.png";
+    public static final String ARMOR_LIGHT_TEXTURE = "assets/items/armor_light.png";
+    public static final String ARMOR_HEAVY_TEXTURE = "assets/items/armor_heavy.png";
+    public static final String SWORD1_TEXTURE = "assets/items/sword_1.png";
+    public static final String SWORD2_TEXTURE = "assets/items/sword_2.png";
+    public static final String SWORD3_TEXTURE = "assets/items/sword_3.png";
+
     private Array<ItemPickup> pickups = new Array<>();
 
+    /** Volume déclencheur de chaque item, indice = position dans {@link #pickups}. */
+    private final Array<TriggerSystem.Volume> pickupVolumes = new Array<>();
+    private final TriggerSystem triggers;
+
+    /** Items dont le joueur occupe la zone de flottement. */
+    private final Array<ItemPickup> touching = new Array<>();
+    private final Rectangle floatingArea = new Rectangle();
+
+    /**
+     * @param triggers Les volumes déclencheurs du niveau
+     */
+    public WorldItemManager(TriggerSystem triggers) {
+        this.triggers = triggers;
+    }
+
+    /**
+     * Retourne la texture d'un type d'item de la couche Tiled "Items".
+     * 
+     * @param itemType Le type d'item (armor_light, sword1, ...)
+     * @return Le chemin de la texture, ou null si le type est inconnu
+     */
+    public static String getItemTexturePath(String itemType) {
+        switch (itemType.toLowerCase()) {
+            case "armor_light": return ARMOR_LIGHT_TEXTURE;
+            case "armor_heavy": return ARMOR_HEAVY_TEXTURE;
+            case "sword1": return SWORD1_TEXTURE;
+            case "sword2": return SWORD2_TEXTURE;
+            case "sword3": return SWORD3_TEXTURE;
+            default: return null;
+        }
+    }
+
     /**
      * Met à jour tous les items.
      * 
@@ -34,14 +79,27 @@ public class WorldItemManager {
     }
 
     /**
-     * Affiche tous les items.
+     * Affiche les items visibles (zone de flottement dans la vue).
      * 
      * @param batch Le SpriteBatch pour le rendu
+     * @param view La zone visible, en coordonnées du monde
+     * @return Le nombre d'items dessinés
      */
-    public void render(SpriteBatch batch) {
+    public int render(SpriteBatch batch, Rectangle view) {
+        int drawn = 0;
         for (ItemPickup pickup : pickups) {
+            if (pickup.isCollected() || !view.overlaps(pickup.getFloatingArea(floatingArea))) continue;
             pickup.render(batch);
+            drawn++;
         }
+        return drawn;
+    }
+
+    /**
+     * @return Le nombre d'items encore dans le monde
+     */
+    public int getItemCount() {
+        return pickups.size;
     }
 
     /**
@@ -52,17 +110,58 @@ public class WorldItemManager {
     public void checkPlayerCollisions(Player player) {
         Rectangle playerBounds = player.getHitbox();
 
-        for (ItemPickup pickup : pickups) {
+        int i = 0;
+        while (i < touching.size) {
+            ItemPickup pickup = touching.get(i);
             if (!pickup.isCollected() && pickup.getBounds().overlaps(playerBounds)) {
                 pickup.onPickup(player);
+                touching.removeIndex(i);
+                removePickup(pickup);
+            } else {
+                i++;
             }
         }
+    }
 
-        for (int i = pickups.size - 1; i >= 0; i--) {
-            if (pickups.get(i).isCollected()) {
-                pickups.removeIndex(i);
-            }
-        }
+    /**
+     * Appelé quand le joueur entre dans la zone de flottement d'un item.
+     * 
+     * @param pickup L'item
+     */
+    public void onPlayerEnter(ItemPickup pickup) {
+        touching.add(pickup);
+    }
+
+    /**
+     * Appelé quand le joueur sort de la zone de flottement d'un item.
+     * 
+     * @param pickup L'item
+     */
+    public void onPlayerExit(ItemPickup pickup) {
+        touching.removeValue(pickup, true);
+    }
+
+    /**
+     * Ajoute un item au monde et son volume déclencheur.
+     * 
+     * @param pickup L'item à ajouter
+     */
+    private void addPickup(ItemPickup pickup) {
+        pickups.add(pickup);
+        pickupVolumes.add(triggers.add(TriggerSystem.Type.PICKUP, pickup.getFloatingArea(floatingArea), pickup));
+    }
+
+    /**
+     * Retire un item ramassé du monde et désactive son volume.
+     * 
+     * @param pickup L'item ramassé
+     */
+    private void removePickup(ItemPickup pickup) {
+        int index = pickups.indexOf(pickup, true);
+        if (index < 0) return;
+
+        triggers.setEnabled(pickupVolumes.removeIndex(index), false);
+        pickups.removeIndex(index).dispose();
     }
 
     /**
@@ -72,11 +171,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnHealPotion(float x, float y) {
-        Texture tex = new Texture("assets/items/potion_frame_1.png");
+        Texture tex = AssetCache.acquireTexture(POTION_TEXTURE);
         Item item = new Potion("heal_small", "Potion de soin", 30);
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Potion spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -88,11 +187,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnArmorLight(float x, float y) {
-        Texture tex = new Texture("assets/items/armor_light.png");
+        Texture tex = AssetCache.acquireTexture(ARMOR_LIGHT_TEXTURE);
         Item item = new LightArmor();
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Armure legere spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -104,11 +203,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnArmorHeavy(float x, float y) {
-        Texture tex = new Texture("assets/items/armor_heavy.png");
+        Texture tex = AssetCache.acquireTexture(ARMOR_HEAVY_TEXTURE);
         Item item = new HeavyArmor();
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Armure lourde spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -120,11 +219,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnSword1(float x, float y) {
-        Texture tex = new Texture("assets/items/sword_1.png");
+        Texture tex = AssetCache.acquireTexture(SWORD1_TEXTURE);
         Item item = new Sword1();
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Epee de base spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -136,11 +235,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnSword2(float x, float y) {
-        Texture tex = new Texture("assets/items/sword_2.png");
+        Texture tex = AssetCache.acquireTexture(SWORD2_TEXTURE);
         Item item = new Sword2();
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Epee tranchante spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -152,11 +251,11 @@ public class WorldItemManager {
      * @param y Position Y
      */
     public void spawnSword3(float x, float y) {
-        Texture tex = new Texture("assets/items/sword_3.png");
+        Texture tex = AssetCache.acquireTexture(SWORD3_TEXTURE);
         Item item = new Sword3();
 
         ItemPickup pickup = new ItemPickup(x, y, tex, item);
-        pickups.add(pickup);
+        addPickup(pickup);
 
         System.out.println("Epee legendaire spawn a (" + (int)x + ", " + (int)y + "). Total pickups = " + pickups.size);
     }
@@ -169,5 +268,7 @@ public class WorldItemManager {
             pickup.dispose();
         }
         pickups.clear();
+        pickupVolumes.clear();
+        touching.clear();
     }
 }
\ No newline at end of file
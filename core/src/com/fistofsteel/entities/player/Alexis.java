@@ -1,6 +1,7 @@
 package com.fistofsteel.entities.player;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.input.InputHandler;
 import com.fistofsteel.audio.AudioManager;
 import com.fistofsteel.utils.EntityConstants;
@@ -11,6 +12,24 @@ import com.fistofsteel.utils.PhysicsConstants;
  * Possède trois niveaux de combo avec multiplicateurs de dégâts.
  */
 public class Alexis extends Player {
+    /** Toutes les textures chargées par loadTextures(), pour le préchargement des niveaux. */
+    public static final String[] TEXTURE_PATHS = {
+        "assets/sprites/alexis/alexis_idle.png",
+        "assets/sprites/alexis/alexis_jump.png",
+        "assets/sprites/alexis/alexis_block.png",
+        "assets/sprites/alexis/alexis_crouch.png",
+        "assets/sprites/alexis/alexis_hit.png",
+        "assets/sprites/alexis/alexis_walk_1.png",
+        "assets/sprites/alexis/alexis_walk_2.png",
+        "assets/sprites/alexis/alexis_walk_3.png",
+        "assets/sprites/alexis/alexis_attack_1.png",
+        "assets/sprites/alexis/alexis_attack_2.png",
+        "assets/sprites/alexis/alexis_attack_3.png",
+        "assets/sprites/alexis/alexis_attack_4.png",
+        "assets/sprites/alexis/alexis_dead_1.png",
+        "assets/sprites/alexis/alexis_dead_2.png"
+    };
+    
     private Texture idleTexture;
     private Texture jumpTexture;
     private Texture blockTexture;
@@ -38,42 +57,42 @@ public class Alexis extends Player {
 
     @Override
     protected void loadTextures() {
-        idleTexture = new Texture("assets/sprites/alexis/alexis_idle.png");
-        jumpTexture = new Texture("assets/sprites/alexis/alexis_jump.png");
-        blockTexture = new Texture("assets/sprites/alexis/alexis_block.png");
-        crouchTexture = new Texture("assets/sprites/alexis/alexis_crouch.png");
-        hitTexture = new Texture("assets/sprites/alexis/alexis_hit.png");
+        idleTexture = AssetCache.acquireTexture("assets/sprites/alexis/alexis_idle.png");
+        jumpTexture = AssetCache.acquireTexture("assets/sprites/alexis/alexis_jump.png");
+        blockTexture = AssetCache.acquireTexture("assets/sprites/alexis/alexis_block.png");
+        crouchTexture = AssetCache.acquireTexture("assets/sprites/alexis/alexis_crouch.png");
+        hitTexture = AssetCache.acquireTexture("assets/sprites/alexis/alexis_hit.png");
         
         walkTextures = new Texture[]{
-            new Texture("assets/sprites/alexis/alexis_walk_1.png"),
-            new Texture("assets/sprites/alexis/alexis_walk_2.png"),
-            new Texture("assets/sprites/alexis/alexis_walk_3.png")
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_walk_1.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_walk_2.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_walk_3.png")
         };
         
         attackTextures = new Texture[]{
-            new Texture("assets/sprites/alexis/alexis_attack_1.png"),
-            new Texture("assets/sprites/alexis/alexis_attack_2.png"),
-            new Texture("assets/sprites/alexis/alexis_attack_3.png"),
-            new Texture("assets/sprites/alexis/alexis_attack_4.png")
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_attack_1.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_attack_2.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_attack_3.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_attack_4.png")
         };
         
         deadTextures = new Texture[]{
-            new Texture("assets/sprites/alexis/alexis_dead_1.png"),
-            new Texture("assets/sprites/alexis/alexis_dead_2.png")
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_dead_1.png"),
+            AssetCache.acquireTexture("assets/sprites/alexis/alexis_dead_2.png")
         };
     }
 
     @Override
     protected void disposeTextures() {
-        idleTexture.dispose();
-        jumpTexture.dispose();
-        blockTexture.dispose();
-        crouchTexture.dispose();
-        hitTexture.dispose();
+        AssetCache.releaseTexture(idleTexture);
+        AssetCache.releaseTexture(jumpTexture);
+        AssetCache.releaseTexture(blockTexture);
+        AssetCache.releaseTexture(crouchTexture);
+        AssetCache.releaseTexture(hitTexture);
         
-        for (Texture t : walkTextures) t.dispose();
-        for (Texture t : attackTextures) t.dispose();
-        for (Texture t : deadTextures) t.dispose();
+        AssetCache.releaseAnimation(walkTextures);
+        AssetCache.releaseAnimation(attackTextures);
+        AssetCache.releaseAnimation(deadTextures);
     }
 
     @Override
@@ -1,8 +1,8 @@
 package com.fistofsteel.entities.player;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.entities.managers.ProjectileManager;
-import com.fistofsteel.entities.projectiles.HugoProjectile;
 import com.fistofsteel.input.InputHandler;
 import com.fistofsteel.audio.AudioManager;
 import com.fistofsteel.utils.EntityConstants;
@@ -12,6 +12,22 @@ import com.fistofsteel.utils.EntityConstants;
  * Tire des projectiles au lieu d'attaquer au corps à corps.
  */
 public class Hugo extends Player {
+    /** Toutes les textures chargées par loadTextures(), pour le préchargement des niveaux. */
+    public static final String[] TEXTURE_PATHS = {
+        "assets/sprites/hugo/hugo_idle.png",
+        "assets/sprites/hugo/hugo_jump.png",
+        "assets/sprites/hugo/hugo_block.png",
+        "assets/sprites/hugo/hugo_crouch.png",
+        "assets/sprites/hugo/hugo_hit.png",
+        "assets/sprites/hugo/hugo_walk_1.png",
+        "assets/sprites/hugo/hugo_walk_2.png",
+        "assets/sprites/hugo/hugo_walk_3.png",
+        "assets/sprites/hugo/hugo_attack_1.png",
+        "assets/sprites/hugo/hugo_attack_2.png",
+        "assets/sprites/hugo/hugo_dead_1.png",
+        "assets/sprites/hugo/hugo_dead_2.png"
+    };
+    
     private Texture idleTexture;
     private Texture jumpTexture;
     private Texture blockTexture;
@@ -46,40 +62,40 @@ public class Hugo extends Player {
 
     @Override
     protected void loadTextures() {
-        idleTexture = new Texture("assets/sprites/hugo/hugo_idle.png");
-        jumpTexture = new Texture("assets/sprites/hugo/hugo_jump.png");
-        blockTexture = new Texture("assets/sprites/hugo/hugo_block.png");
-        crouchTexture = new Texture("assets/sprites/hugo/hugo_crouch.png");
-        hitTexture = new Texture("assets/sprites/hugo/hugo_hit.png");
+        idleTexture = AssetCache.acquireTexture("assets/sprites/hugo/hugo_idle.png");
+        jumpTexture = AssetCache.acquireTexture("assets/sprites/hugo/hugo_jump.png");
+        blockTexture = AssetCache.acquireTexture("assets/sprites/hugo/hugo_block.png");
+        crouchTexture = AssetCache.acquireTexture("assets/sprites/hugo/hugo_crouch.png");
+        hitTexture = AssetCache.acquireTexture("assets/sprites/hugo/hugo_hit.png");
         
         walkTextures = new Texture[]{
-            new Texture("assets/sprites/hugo/hugo_walk_1.png"),
-            new Texture("assets/sprites/hugo/hugo_walk_2.png"),
-            new Texture("assets/sprites/hugo/hugo_walk_3.png")
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_walk_1.png"),
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_walk_2.png"),
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_walk_3.png")
         };
         
         attackTextures = new Texture[]{
-            new Texture("assets/sprites/hugo/hugo_attack_1.png"),
-            new Texture("assets/sprites/hugo/hugo_attack_2.png")
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_attack_1.png"),
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_attack_2.png")
         };
         
         deadTextures = new Texture[]{
-            new Texture("assets/sprites/hugo/hugo_dead_1.png"),
-            new Texture("assets/sprites/hugo/hugo_dead_2.png")
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_dead_1.png"),
+            AssetCache.acquireTexture("assets/sprites/hugo/hugo_dead_2.png")
         };
     }
 
     @Override
     protected void disposeTextures() {
-        idleTexture.dispose();
-        jumpTexture.dispose();
-        blockTexture.dispose();
-        crouchTexture.dispose();
-        hitTexture.dispose();
+        AssetCache.releaseTexture(idleTexture);
+        AssetCache.releaseTexture(jumpTexture);
+        AssetCache.releaseTexture(blockTexture);
+        AssetCache.releaseTexture(crouchTexture);
+        AssetCache.releaseTexture(hitTexture);
         
-        for (Texture t : walkTextures) t.dispose();
-        for (Texture t : attackTextures) t.dispose();
-        for (Texture t : deadTextures) t.dispose();
+        AssetCache.releaseAnimation(walkTextures);
+        AssetCache.releaseAnimation(attackTextures);
+        AssetCache.releaseAnimation(deadTextures);
     }
 
     @Override
@@ -205,9 +221,6 @@ public class Hugo extends Player {
         float projectileX = x + EntityConstants.PLAYER_WIDTH / 2f;
         float projectileY = y + EntityConstants.PLAYER_HEIGHT / 2f;
         
-        HugoProjectile projectile = new HugoProjectile(projectileX, projectileY, facingRight, getTotalAttack());
-        projectileManager.addProjectile(projectile);
-        
-        System.out.println("Hugo tire un projectile a (" + (int)projectileX + ", " + (int)projectileY + ")");
+        projectileManager.spawnHugoProjectile(projectileX, projectileY, facingRight, getTotalAttack());
     }
 }
\ No newline at end of file
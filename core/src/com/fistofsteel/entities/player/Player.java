@@ -6,6 +6,8 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.fistofsteel.input.InputHandler;
 import com.fistofsteel.audio.AudioManager;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.SweptAabb;
 import com.fistofsteel.utils.PhysicsConstants;
 import com.fistofsteel.utils.EntityConstants;
 import com.fistofsteel.items.Armor;
@@ -17,6 +19,10 @@ import com.fistofsteel.items.Weapon;
  */
 public abstract class Player {
     protected float x, y;
+    
+    /** Position au pas de simulation précédent, et position affichée (interpolée entre les deux). */
+    protected float previousX, previousY;
+    protected float renderX, renderY;
     protected float velocityX, velocityY;
     protected boolean onGround = false;
     protected boolean facingRight = true;
@@ -25,7 +31,10 @@ public abstract class Player {
     protected InputHandler input;
     protected AudioManager audioManager;
     
-    protected Array<Rectangle> collisionRects;
+    protected CollisionGrid collisionGrid;
+    
+    /** Collision continue contre le décor (rectangles proches collectés une fois par pas). */
+    protected final SweptAabb sweep = new SweptAabb();
 
     /**
      * États possibles du joueur.
@@ -64,7 +73,7 @@ public abstract class Player {
     protected int attackFrame = 0;
     protected int deadFrame = 0;
     
-    private int debugFrameCounter = 0;
+    private float debugLogTimer = 0f;
 
     protected int maxHealth = 100;
     protected int health = maxHealth;
@@ -102,12 +111,13 @@ public abstract class Player {
     protected abstract float getHitboxOffsetY();
     
     /**
-     * Définit les rectangles de collision.
+     * Définit la géométrie de collision du niveau.
      * 
-     * @param collisions Les rectangles de collision
+     * @param collisionGrid L'index des rectangles de collision
      */
-    public void setCollisionRects(Array<Rectangle> collisions) {
-        this.collisionRects = collisions;
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+        sweep.clear();
     }
     
     /**
@@ -116,6 +126,9 @@ public abstract class Player {
      * @param delta Le temps écoulé
      */
     public void update(float delta) {
+        previousX = x;
+        previousY = y;
+        
         handleInput(delta);
         updateTimers(delta);
         applyPhysics(delta);
@@ -123,10 +136,10 @@ public abstract class Player {
         hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
         resolveHitboxCollisions();
         
-        debugFrameCounter++;
-        if (debugFrameCounter >= 60) {
+        debugLogTimer += delta;
+        if (debugLogTimer >= 1f) {
             System.out.println("Player: (" + (int)x + ", " + (int)y + ") | Ground: " + onGround + " | State: " + currentState);
-            debugFrameCounter = 0;
+            debugLogTimer = 0f;
         }
     }
 
@@ -270,7 +283,10 @@ public abstract class Player {
      * @param delta Le temps écoulé
      */
     protected void applyPhysics(float delta) {
-        if (isDead) return;
+        if (isDead) {
+            sweep.clear();
+            return;
+        }
         
         if (!isFastFalling) {
             velocityY -= PhysicsConstants.GRAVITY * delta;
@@ -280,76 +296,44 @@ public abstract class Player {
             velocityY = -PhysicsConstants.MAX_FALL_SPEED;
         }
         
-        float totalMoveY = velocityY * delta;
+        float moveX = velocityX * delta;
+        float moveY = velocityY * delta;
         
-        int steps = 1;
-        if (Math.abs(totalMoveY) > PhysicsConstants.MAX_MOVE_PER_STEP) {
-            steps = (int) Math.ceil(Math.abs(totalMoveY) / PhysicsConstants.MAX_MOVE_PER_STEP);
-            if (steps > PhysicsConstants.MAX_PHYSICS_STEPS) steps = PhysicsConstants.MAX_PHYSICS_STEPS;
-        }
+        hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
+        sweep.gather(collisionGrid, hitbox, moveX, moveY);
         
-        float movePerStep = totalMoveY / steps;
+        float allowedY = sweep.sweepY(hitbox, moveY);
+        Rectangle collRect = sweep.getHit();
         
-        for (int i = 0; i < steps; i++) {
-            float newY = y + movePerStep;
-            hitbox.setPosition(x + getHitboxOffsetX(), newY + getHitboxOffsetY());
-            boolean collidedVertically = false;
-            
-            if (collisionRects != null) {
-                for (Rectangle collRect : collisionRects) {
-                    if (hitbox.overlaps(collRect)) {
-                        collidedVertically = true;
-                        
-                        if (velocityY < 0) {
-                            y = collRect.y + collRect.height - getHitboxOffsetY();
-                            velocityY = 0;
-                            onGround = true;
-                            isFastFalling = false;
-                            jumpProtectionTimer = 0;
-                            
-                            if (currentState != State.CROUCH && currentState != State.BLOCK 
-                                && currentState != State.ATTACK && currentState != State.HIT) {
-                                currentState = velocityX == 0 ? State.IDLE : State.WALK;
-                            }
-                        }
-                        else if (velocityY > 0) {
-                            y = collRect.y - getHitboxHeight() - getHitboxOffsetY();
-                            velocityY = 0;
-                        }
-                        break;
-                    }
-                }
-            }
-            
-            if (!collidedVertically) {
-                y = newY;
-                onGround = false;
+        if (collRect != null) {
+            if (velocityY < 0) {
+                y = collRect.y + collRect.height - getHitboxOffsetY();
+                velocityY = 0;
+                onGround = true;
+                isFastFalling = false;
+                jumpProtectionTimer = 0;
                 
                 if (currentState != State.CROUCH && currentState != State.BLOCK 
                     && currentState != State.ATTACK && currentState != State.HIT) {
-                    currentState = velocityY > 0 ? State.JUMP : State.FALL;
+                    currentState = velocityX == 0 ? State.IDLE : State.WALK;
                 }
-            } else {
-                break;
             }
-        }
-        
-        float newX = x + velocityX * delta;
-        hitbox.setPosition(newX + getHitboxOffsetX(), y + getHitboxOffsetY());
-        
-        boolean collidedHorizontally = false;
-        if (collisionRects != null) {
-            for (Rectangle collRect : collisionRects) {
-                if (hitbox.overlaps(collRect)) {
-                    collidedHorizontally = true;
-                    break;
-                }
+            else if (velocityY > 0) {
+                y = collRect.y - getHitboxHeight() - getHitboxOffsetY();
+                velocityY = 0;
+            }
+        } else {
+            y += allowedY;
+            onGround = false;
+            
+            if (currentState != State.CROUCH && currentState != State.BLOCK 
+                && currentState != State.ATTACK && currentState != State.HIT) {
+                currentState = velocityY > 0 ? State.JUMP : State.FALL;
             }
         }
         
-        if (!collidedHorizontally) {
-            x = newX;
-        }
+        hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
+        x += sweep.sweepX(hitbox, moveX);
     }
 
     /**
@@ -408,7 +392,7 @@ public abstract class Player {
             
             batch.draw(
                 currentTexture,
-                x, y,
+                renderX, renderY,
                 originX, originY,
                 rotatedWidth, rotatedHeight,
                 scaleX, 1f,
@@ -419,9 +403,9 @@ public abstract class Player {
             );
         } else {
             if (facingRight) {
-                batch.draw(currentTexture, x, y, EntityConstants.PLAYER_WIDTH, EntityConstants.PLAYER_HEIGHT);
+                batch.draw(currentTexture, renderX, renderY, EntityConstants.PLAYER_WIDTH, EntityConstants.PLAYER_HEIGHT);
             } else {
-                batch.draw(currentTexture, x + EntityConstants.PLAYER_WIDTH, y, -EntityConstants.PLAYER_WIDTH, EntityConstants.PLAYER_HEIGHT);
+                batch.draw(currentTexture, renderX + EntityConstants.PLAYER_WIDTH, renderY, -EntityConstants.PLAYER_WIDTH, EntityConstants.PLAYER_HEIGHT);
             }
         }
     }
@@ -430,45 +414,42 @@ public abstract class Player {
      * Résout les collisions de la hitbox.
      */
     protected void resolveHitboxCollisions() {
-        if (collisionRects == null || collisionRects.size == 0) return;
-        
-        for (Rectangle collRect : collisionRects) {
-            if (hitbox.overlaps(collRect)) {
-                float overlapLeft = (hitbox.x + hitbox.width) - collRect.x;
-                float overlapRight = (collRect.x + collRect.width) - hitbox.x;
-                float overlapBottom = (hitbox.y + hitbox.height) - collRect.y;
-                float overlapTop = (collRect.y + collRect.height) - hitbox.y;
-                
-                float minOverlap = Math.min(
-                    Math.min(overlapLeft, overlapRight),
-                    Math.min(overlapBottom, overlapTop)
-                );
-                
-                if (minOverlap == overlapLeft) {
-                    float pushDistance = overlapLeft + 0.1f;
-                    x -= pushDistance;
-                    velocityX = 0;
-                } 
-                else if (minOverlap == overlapRight) {
-                    float pushDistance = overlapRight + 0.1f;
-                    x += pushDistance;
-                    velocityX = 0;
-                } 
-                else if (minOverlap == overlapBottom) {
-                    float pushDistance = overlapBottom + 0.1f;
-                    y -= pushDistance;
-                    velocityY = 0;
-                } 
-                else if (minOverlap == overlapTop) {
-                    float pushDistance = overlapTop + 0.1f;
-                    y += pushDistance;
-                    velocityY = 0;
-                    onGround = true;
-                }
-                
-                hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
-                break;
+        // Seuls les rectangles déjà collectés par applyPhysics peuvent être touchés
+        Rectangle collRect = sweep.firstOverlap(hitbox);
+        if (collRect != null) {
+            float overlapLeft = (hitbox.x + hitbox.width) - collRect.x;
+            float overlapRight = (collRect.x + collRect.width) - hitbox.x;
+            float overlapBottom = (hitbox.y + hitbox.height) - collRect.y;
+            float overlapTop = (collRect.y + collRect.height) - hitbox.y;
+            
+            float minOverlap = Math.min(
+                Math.min(overlapLeft, overlapRight),
+                Math.min(overlapBottom, overlapTop)
+            );
+            
+            if (minOverlap == overlapLeft) {
+                float pushDistance = overlapLeft + 0.1f;
+                x -= pushDistance;
+                velocityX = 0;
+            } 
+            else if (minOverlap == overlapRight) {
+                float pushDistance = overlapRight + 0.1f;
+                x += pushDistance;
+                velocityX = 0;
+            } 
+            else if (minOverlap == overlapBottom) {
+                float pushDistance = overlapBottom + 0.1f;
+                y -= pushDistance;
+                velocityY = 0;
+            } 
+            else if (minOverlap == overlapTop) {
+                float pushDistance = overlapTop + 0.1f;
+                y += pushDistance;
+                velocityY = 0;
+                onGround = true;
             }
+            
+            hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
         }
     }
 
@@ -627,6 +608,18 @@ public abstract class Player {
     public boolean isDead() { return isDead; }
     public float getX() { return x; }
     public float getY() { return y; }
+    public float getRenderX() { return renderX; }
+    public float getRenderY() { return renderY; }
+    
+    /**
+     * Calcule la position affichée entre les deux derniers pas de simulation.
+     * 
+     * @param alpha Le facteur d'interpolation (0 = pas précédent, 1 = pas courant)
+     */
+    public void interpolate(float alpha) {
+        renderX = previousX + (x - previousX) * alpha;
+        renderY = previousY + (y - previousY) * alpha;
+    }
     public Rectangle getHitbox() { return hitbox; }
 
     /**
@@ -645,9 +638,13 @@ public abstract class Player {
     public void setPosition(float x, float y) {
         this.x = x;
         this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        this.renderX = x;
+        this.renderY = y;
         this.hitbox.setPosition(x + getHitboxOffsetX(), y + getHitboxOffsetY());
         
-        if (collisionRects != null) {
+        if (collisionGrid != null) {
             Rectangle testHitbox = new Rectangle(
                 x + getHitboxOffsetX(), 
                 y + getHitboxOffsetY() - 2, 
@@ -655,17 +652,41 @@ public abstract class Player {
                 getHitboxHeight()
             );
             
-            for (Rectangle collRect : collisionRects) {
-                if (testHitbox.overlaps(collRect)) {
-                    onGround = true;
-                    velocityY = 0;
-                    currentState = State.IDLE;
-                    break;
-                }
+            if (collisionGrid.overlapsAny(testHitbox)) {
+                onGround = true;
+                velocityY = 0;
+                currentState = State.IDLE;
             }
         }
     }
 
+    /**
+     * Remet à zéro l'état transitoire du joueur (mouvement, attaque, animations)
+     * avant de le placer dans un nouveau niveau. PV et équipement sont conservés.
+     */
+    public void resetForNewLevel() {
+        velocityX = 0;
+        velocityY = 0;
+        onGround = false;
+        currentState = State.IDLE;
+        
+        attackTimer = 0f;
+        attackCooldownTimer = 0f;
+        hitTimer = 0f;
+        isHit = false;
+        isAttacking = false;
+        hasDealtDamageThisAttack = false;
+        
+        fastFallCooldownTimer = 0f;
+        isFastFalling = false;
+        jumpProtectionTimer = 0f;
+        
+        animationTimer = 0f;
+        walkFrame = 0;
+        attackFrame = 0;
+        deadFrame = 0;
+    }
+
     /**
      * Libère les ressources du joueur.
      */
@@ -3,18 +3,27 @@ package com.fistofsteel.entities.projectiles;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.SweptAabb;
 
 /**
  * Classe de base pour un projectile.
  * Gère le déplacement, l'animation et la détection de collision.
+ * Les instances sont recyclées par le ProjectileManager via des pools.
  */
-public abstract class Projectile {
+public abstract class Projectile implements Pool.Poolable {
     
     protected float x, y;
+    
+    /** Position au pas de simulation précédent, et position affichée (interpolée entre les deux). */
+    protected float previousX, previousY;
+    protected float renderX, renderY;
+    
     protected float velocityX, velocityY;
     protected float speed = 300f;
     protected int damage = 10;
-    protected boolean active = true;
+    protected boolean active = false;
     protected boolean facingRight;
     
     protected Rectangle hitbox;
@@ -29,48 +38,91 @@ public abstract class Projectile {
     protected float distanceTraveled = 0f;
     protected float maxDistance = 600f;
 
+    protected ProjectileAnimation animation;
+
     /**
-     * Constructeur avec distance maximale par défaut.
+     * Constructeur appelé par les pools : le projectile est inactif
+     * jusqu'à son initialisation via {@link #init(float, float, boolean, int)}.
      * 
-     * @param x Position X initiale
-     * @param y Position Y initiale
-     * @param facingRight Direction du projectile
-     * @param damage Les dégâts infligés
+     * @param maxDistance Distance maximale avant désactivation
      */
-    public Projectile(float x, float y, boolean facingRight, int damage) {
-        this(x, y, facingRight, damage, 600f);
+    protected Projectile(float maxDistance) {
+        this.maxDistance = maxDistance;
+        this.hitbox = new Rectangle();
     }
     
     /**
-     * Constructeur complet.
+     * Initialise un projectile sorti du pool.
      * 
      * @param x Position X initiale
      * @param y Position Y initiale
      * @param facingRight Direction du projectile
      * @param damage Les dégâts infligés
-     * @param maxDistance Distance maximale avant désactivation
      */
-    public Projectile(float x, float y, boolean facingRight, int damage, float maxDistance) {
+    public void init(float x, float y, boolean facingRight, int damage) {
         this.x = x;
         this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        this.renderX = x;
+        this.renderY = y;
         this.facingRight = facingRight;
         this.damage = damage;
-        this.maxDistance = maxDistance;
         
         this.velocityX = facingRight ? speed : -speed;
         this.velocityY = 0f;
         
-        this.hitbox = new Rectangle(x, y, hitboxWidth, hitboxHeight);
+        this.hitbox.set(x, y, hitboxWidth, hitboxHeight);
+        this.active = true;
     }
     
     /**
-     * Met à jour le projectile.
+     * Remet le projectile dans son état initial avant retour au pool.
+     */
+    @Override
+    public void reset() {
+        active = false;
+        hasDealtDamage = false;
+        distanceTraveled = 0f;
+        animationTimer = 0f;
+        currentFrame = 0;
+        velocityX = 0f;
+        velocityY = 0f;
+    }
+    
+    /**
+     * Associe l'animation partagée du type de projectile.
+     * 
+     * @param animation L'animation (peut être null, le projectile n'est alors pas affiché)
+     */
+    public void setAnimation(ProjectileAnimation animation) {
+        this.animation = animation;
+    }
+    
+    /**
+     * Met à jour le projectile, sans collision avec le décor.
      * 
      * @param delta Le temps écoulé
      */
     public void update(float delta) {
+        update(delta, null, null);
+    }
+    
+    /**
+     * Met à jour le projectile. Le déplacement est balayé contre le décor :
+     * le projectile s'arrête et se désactive au contact d'un mur, même s'il
+     * est plus rapide que l'épaisseur du mur.
+     * 
+     * @param delta Le temps écoulé
+     * @param collisionGrid La géométrie du niveau (null = pas de collision avec le décor)
+     * @param sweep Le solveur de collision continue à utiliser (ignoré si collisionGrid est null)
+     */
+    public void update(float delta, CollisionGrid collisionGrid, SweptAabb sweep) {
         if (!active) return;
         
+        previousX = x;
+        previousY = y;
+        
         float deltaDistance = Math.abs(velocityX * delta);
         distanceTraveled += deltaDistance;
         
@@ -79,8 +131,31 @@ public abstract class Projectile {
             return;
         }
         
-        x += velocityX * delta;
-        y += velocityY * delta;
+        float moveX = velocityX * delta;
+        float moveY = velocityY * delta;
+        
+        if (collisionGrid != null) {
+            hitbox.setPosition(x, y);
+            sweep.gather(collisionGrid, hitbox, moveX, moveY);
+            
+            moveX = sweep.sweepX(hitbox, moveX);
+            boolean hitWall = sweep.getHit() != null;
+            
+            hitbox.setPosition(x + moveX, y);
+            moveY = sweep.sweepY(hitbox, moveY);
+            hitWall |= sweep.getHit() != null;
+            
+            if (hitWall) {
+                x += moveX;
+                y += moveY;
+                hitbox.setPosition(x, y);
+                deactivate();
+                return;
+            }
+        }
+        
+        x += moveX;
+        y += moveY;
         
         hitbox.setPosition(x, y);
         
@@ -92,19 +167,56 @@ public abstract class Projectile {
      * 
      * @param delta Le temps écoulé
      */
-    protected abstract void updateAnimation(float delta);
+    protected void updateAnimation(float delta) {
+        if (animation == null || animation.getFrameCount() == 0) return;
+        
+        animationTimer += delta;
+        if (animationTimer >= animation.getFrameDuration()) {
+            currentFrame = (currentFrame + 1) % animation.getFrameCount();
+            animationTimer = 0f;
+        }
+    }
     
     /**
      * Affiche le projectile.
      * 
      * @param batch Le SpriteBatch pour le rendu
      */
-    public abstract void render(SpriteBatch batch);
+    public void render(SpriteBatch batch) {
+        if (!active || animation == null || animation.getFrameCount() == 0) return;
+        
+        Texture currentTexture = animation.getFrame(currentFrame);
+        if (currentTexture == null) return;
+        
+        float width = animation.getWidth();
+        float height = animation.getHeight();
+        
+        if (facingRight) {
+            batch.draw(currentTexture, renderX, renderY, width, height);
+        } else {
+            batch.draw(currentTexture, renderX + width, renderY, -width, height);
+        }
+    }
     
     /**
-     * Libère les ressources du projectile.
+     * @param view La zone visible, en coordonnées du monde
+     * @return true si le projectile est actif, dessinable et touche la zone
      */
-    public abstract void dispose();
+    public boolean isVisible(Rectangle view) {
+        if (!active || animation == null) return false;
+        return renderX < view.x + view.width && renderX + animation.getWidth() > view.x &&
+               renderY < view.y + view.height && renderY + animation.getHeight() > view.y;
+    }
+    
+    /**
+     * Calcule la position affichée entre les deux derniers pas de simulation.
+     * 
+     * @param alpha Le facteur d'interpolation (0 = pas précédent, 1 = pas courant)
+     */
+    public void interpolate(float alpha) {
+        renderX = previousX + (x - previousX) * alpha;
+        renderY = previousY + (y - previousY) * alpha;
+    }
     
     /**
      * Désactive le projectile.
@@ -136,6 +248,8 @@ public abstract class Projectile {
     public int getDamage() { return damage; }
     public float getX() { return x; }
     public float getY() { return y; }
+    public float getRenderX() { return renderX; }
+    public float getRenderY() { return renderY; }
     public float getDistanceTraveled() { return distanceTraveled; }
     public float getMaxDistance() { return maxDistance; }
 }
\ No newline at end of file
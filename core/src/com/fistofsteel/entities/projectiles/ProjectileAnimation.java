@@ -0,0 +1,74 @@
+package com.fistofsteel.entities.projectiles;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.fistofsteel.assets.AssetCache;
+
+/**
+ * Définition d'animation partagée par tous les projectiles d'un même type (flyweight).
+ * Les frames sont chargées une seule fois via l'AssetCache et référencées
+ * par chaque projectile : tirer ne coûte ni lecture disque ni upload GPU.
+ */
+public class ProjectileAnimation {
+
+    private final Texture[] frames;
+    private final float frameDuration;
+    private final float width;
+    private final float height;
+
+    /**
+     * Constructeur.
+     *
+     * @param frames Les frames de l'animation
+     * @param frameDuration La durée d'une frame en secondes
+     * @param width La largeur d'affichage
+     * @param height La hauteur d'affichage
+     */
+    public ProjectileAnimation(Texture[] frames, float frameDuration, float width, float height) {
+        this.frames = frames;
+        this.frameDuration = frameDuration;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Charge une animation de projectile via l'AssetCache.
+     *
+     * @param paths Les chemins des frames
+     * @param frameDuration La durée d'une frame en secondes
+     * @param width La largeur d'affichage
+     * @param height La hauteur d'affichage
+     * @return L'animation partagée
+     */
+    public static ProjectileAnimation load(String[] paths, float frameDuration, float width, float height) {
+        Texture[] frames = AssetCache.acquireAnimation(paths);
+        System.out.println("Animation projectile : " + frames.length + " frames chargees");
+        return new ProjectileAnimation(frames, frameDuration, width, height);
+    }
+
+    public Texture getFrame(int index) {
+        return frames[index];
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * Rend les frames au cache.
+     */
+    public void dispose() {
+        AssetCache.releaseAnimation(frames);
+    }
+}
@@ -1,9 +1,8 @@
 package com.fistofsteel.entities.world;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.fistofsteel.entities.player.Player;
 
@@ -13,6 +12,10 @@ import com.fistofsteel.entities.player.Player;
  */
 public class LevelExit {
     
+    private static final Color UNLOCKED_COLOR = new Color(0f, 0.8f, 0f, 0.8f);
+    private static final Color LOCKED_COLOR = new Color(0.8f, 0f, 0f, 0.8f);
+    private static final float OUTLINE_WIDTH = 2f;
+    
     private float x, y;
     private float width = 80f;
     private float height = 120f;
@@ -43,14 +46,17 @@ public class LevelExit {
      * 
      * @param enemiesKilled Le nombre d'ennemis tués
      * @param totalEnemies Le nombre total d'ennemis
+     * @return true si la porte vient d'être déverrouillée à cette frame
      */
-    public void update(int enemiesKilled, int totalEnemies) {
+    public boolean update(int enemiesKilled, int totalEnemies) {
         boolean wasUnlocked = unlocked;
         unlocked = (enemiesKilled >= totalEnemies);
         
         if (!wasUnlocked && unlocked) {
             System.out.println("Porte deverrouillee ! Tous les ennemis ont ete vaincus");
+            return true;
         }
+        return false;
     }
     
     /**
@@ -64,34 +70,30 @@ public class LevelExit {
     }
     
     /**
-     * Dessine la porte (rectangle coloré).
+     * Dessine la porte (rectangle coloré et contour noir) dans le batch ouvert,
+     * avec la région blanche teintée : le batch n'est plus interrompu.
      * 
      * @param batch Le SpriteBatch pour le rendu
-     * @param shapeRenderer Le ShapeRenderer pour dessiner
-     * @param camera La caméra du jeu
+     * @param white La région blanche du RenderContext
      */
-    public void render(SpriteBatch batch, ShapeRenderer shapeRenderer, OrthographicCamera camera) {
-        batch.end();
-        
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    public void render(SpriteBatch batch, TextureRegion white) {
+        float previousColor = batch.getPackedColor();
         
         if (unlocked) {
-            shapeRenderer.setColor(new Color(0f, 0.8f, 0f, 0.8f));
+            batch.setColor(UNLOCKED_COLOR);
         } else {
-            shapeRenderer.setColor(new Color(0.8f, 0f, 0f, 0.8f));
+            batch.setColor(LOCKED_COLOR);
         }
         
-        shapeRenderer.rect(x, y, width, height);
-        
-        shapeRenderer.end();
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.rect(x, y, width, height);
+        batch.draw(white, x, y, width, height);
         
-        shapeRenderer.end();
+        batch.setColor(Color.BLACK);
+        batch.draw(white, x, y, width, OUTLINE_WIDTH);
+        batch.draw(white, x, y + height - OUTLINE_WIDTH, width, OUTLINE_WIDTH);
+        batch.draw(white, x, y, OUTLINE_WIDTH, height);
+        batch.draw(white, x + width - OUTLINE_WIDTH, y, OUTLINE_WIDTH, height);
         
-        batch.begin();
+        batch.setPackedColor(previousColor);
     }
     
     public boolean isUnlocked() {
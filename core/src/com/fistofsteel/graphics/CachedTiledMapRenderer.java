@@ -0,0 +1,337 @@
+package com.fistofsteel.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Rendu d'une map Tiled dont les couches de tuiles statiques sont précalculées.
+ *
+ * Au chargement du niveau, chaque couche statique est découpée en morceaux de
+ * {@link #CHUNK_TILES} x {@link #CHUNK_TILES} tuiles, dont les sommets sont
+ * écrits une fois pour toutes dans le SpriteCache partagé du
+ * {@link RenderContext}. À chaque frame, seuls les morceaux qui touchent la vue
+ * sont dessinés, un appel par morceau, sans aucun travail par tuile.
+ *
+ * Une couche reste dessinée tuile par tuile par un OrthogonalTiledMapRenderer
+ * classique si elle contient des tuiles animées ou tournées, si elle a un
+ * facteur de parallaxe, si sa propriété Tiled "dynamic" vaut true, ou si le
+ * cache est plein. L'ordre des couches est respecté.
+ */
+public class CachedTiledMapRenderer implements Disposable {
+
+    /** Côté d'un morceau, en tuiles. */
+    public static final int CHUNK_TILES = 16;
+
+    /** Propriété Tiled qui force le rendu classique d'une couche modifiée en jeu. */
+    public static final String DYNAMIC_PROPERTY = "dynamic";
+
+    private static class LayerEntry {
+        final MapLayer layer;
+        final boolean cached;
+        /** Morceaux non vides (couches précalculées seulement). */
+        final Array<ChunkCache> chunks = new Array<>();
+
+        LayerEntry(MapLayer layer, boolean cached) {
+            this.layer = layer;
+            this.cached = cached;
+        }
+    }
+
+    /** Un morceau précalculé : son identifiant dans le SpriteCache et les limites de ses tuiles. */
+    private static class ChunkCache {
+        int cacheId;
+        float minX, minY, maxX, maxY;
+    }
+
+    private final SpriteBatch batch;
+    private final SpriteCache cache;
+    private final OrthogonalTiledMapRenderer fallback;
+    private final int capacity;
+
+    private final Array<LayerEntry> entries = new Array<>();
+    private final Rectangle viewBounds = new Rectangle();
+    private OrthographicCamera camera;
+    private TiledMap map;
+
+    private int cachedTiles = 0;
+    private int chunkCount = 0;
+
+    /**
+     * @param batch Le batch partagé, utilisé pour les couches non précalculées
+     * @param cache Le SpriteCache partagé, vidé à chaque changement de map
+     * @param capacity Le nombre de tuiles que le cache peut contenir
+     */
+    public CachedTiledMapRenderer(SpriteBatch batch, SpriteCache cache, int capacity) {
+        this.batch = batch;
+        this.cache = cache;
+        this.capacity = capacity;
+        this.fallback = new OrthogonalTiledMapRenderer(null, batch);
+    }
+
+    /**
+     * Change de map et précalcule ses couches de tuiles statiques.
+     *
+     * @param map La nouvelle map (peut être null)
+     */
+    public void setMap(TiledMap map) {
+        this.map = map;
+        fallback.setMap(map);
+        entries.clear();
+        cache.clear();
+        cachedTiles = 0;
+        chunkCount = 0;
+        if (map == null) return;
+
+        addLayers(map.getLayers());
+        System.out.println("Map precalculee : " + cachedTiles + " tuiles en " + chunkCount + " morceaux, " +
+                           getFallbackLayerCount() + " couche(s) dynamique(s)");
+    }
+
+    /**
+     * Ajoute les couches dans l'ordre de rendu, groupes compris.
+     */
+    private void addLayers(MapLayers layers) {
+        for (MapLayer layer : layers) {
+            if (layer instanceof MapGroupLayer) {
+                addLayers(((MapGroupLayer) layer).getLayers());
+            } else if (layer instanceof TiledMapTileLayer) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer) layer;
+                int tiles = countStaticTiles(tileLayer);
+                if (tiles >= 0 && cachedTiles + tiles <= capacity) {
+                    LayerEntry entry = new LayerEntry(layer, true);
+                    bakeLayer(tileLayer, entry);
+                    cachedTiles += tiles;
+                    entries.add(entry);
+                } else {
+                    entries.add(new LayerEntry(layer, false));
+                }
+            } else if (layer instanceof TiledMapImageLayer) {
+                entries.add(new LayerEntry(layer, false));
+            }
+        }
+    }
+
+    /**
+     * @return Le nombre de tuiles de la couche, ou -1 si elle doit rester dessinée tuile par tuile
+     */
+    private static int countStaticTiles(TiledMapTileLayer layer) {
+        if (layer.getProperties().get(DYNAMIC_PROPERTY, false, Boolean.class)) return -1;
+        if (layer.getParallaxX() != 1f || layer.getParallaxY() != 1f) return -1;
+
+        int count = 0;
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell == null || cell.getTile() == null) continue;
+                if (cell.getTile() instanceof AnimatedTiledMapTile) return -1;
+                if (cell.getRotation() != TiledMapTileLayer.Cell.ROTATE_0) return -1;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Écrit les tuiles de la couche dans le cache, un cache par morceau non vide.
+     */
+    private void bakeLayer(TiledMapTileLayer layer, LayerEntry entry) {
+        float tileWidth = layer.getTileWidth();
+        float tileHeight = layer.getTileHeight();
+        float offsetX = layer.getRenderOffsetX();
+        float offsetY = -layer.getRenderOffsetY();
+        float color = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+
+        for (int chunkRow = 0; chunkRow < layer.getHeight(); chunkRow += CHUNK_TILES) {
+            for (int chunkCol = 0; chunkCol < layer.getWidth(); chunkCol += CHUNK_TILES) {
+                ChunkCache chunk = null;
+                int rowEnd = Math.min(chunkRow + CHUNK_TILES, layer.getHeight());
+                int colEnd = Math.min(chunkCol + CHUNK_TILES, layer.getWidth());
+
+                for (int row = chunkRow; row < rowEnd; row++) {
+                    for (int col = chunkCol; col < colEnd; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null) continue;
+
+                        if (chunk == null) {
+                            chunk = new ChunkCache();
+                            chunk.minX = chunk.minY = Float.MAX_VALUE;
+                            chunk.maxX = chunk.maxY = -Float.MAX_VALUE;
+                            cache.beginCache();
+                        }
+                        addTile(cell, col * tileWidth + offsetX, row * tileHeight + offsetY, color, chunk);
+                    }
+                }
+
+                if (chunk != null) {
+                    chunk.cacheId = cache.endCache();
+                    entry.chunks.add(chunk);
+                    chunkCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ajoute une tuile au cache en cours, avec les mêmes coordonnées que le renderer classique.
+     */
+    private void addTile(TiledMapTileLayer.Cell cell, float cellX, float cellY, float color, ChunkCache chunk) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+
+        float x = cellX + tile.getOffsetX();
+        float y = cellY + tile.getOffsetY();
+        int width = region.getRegionWidth();
+        int height = region.getRegionHeight();
+
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        if (cell.getFlipHorizontally()) {
+            float swap = u;
+            u = u2;
+            u2 = swap;
+        }
+        if (cell.getFlipVertically()) {
+            float swap = v;
+            v = v2;
+            v2 = swap;
+        }
+
+        cache.add(region.getTexture(), x, y, width, height, u, v, u2, v2, color);
+
+        chunk.minX = Math.min(chunk.minX, x);
+        chunk.minY = Math.min(chunk.minY, y);
+        chunk.maxX = Math.max(chunk.maxX, x + width);
+        chunk.maxY = Math.max(chunk.maxY, y + height);
+    }
+
+    /**
+     * @param camera La caméra du monde, dont la vue délimite les morceaux dessinés
+     */
+    public void setView(OrthographicCamera camera) {
+        this.camera = camera;
+        fallback.setView(camera);
+
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+    }
+
+    /**
+     * Dessine les couches visibles dans leur ordre : morceaux précalculés qui
+     * touchent la vue, puis couches classiques via le batch.
+     *
+     * @return Le nombre d'appels de dessin du cache
+     */
+    public int render() {
+        if (map == null || camera == null) return 0;
+
+        AnimatedTiledMapTile.updateAnimationBaseTime();
+        cache.totalRenderCalls = 0;
+        boolean cacheOpen = false;
+        boolean batchOpen = false;
+
+        for (int i = 0; i < entries.size; i++) {
+            LayerEntry entry = entries.get(i);
+            if (!entry.layer.isVisible()) continue;
+
+            if (entry.cached) {
+                if (batchOpen) {
+                    batch.end();
+                    batchOpen = false;
+                }
+                if (!cacheOpen) {
+                    Gdx.gl.glEnable(GL20.GL_BLEND);
+                    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                    cache.setProjectionMatrix(camera.combined);
+                    cache.begin();
+                    cacheOpen = true;
+                }
+                for (int c = 0; c < entry.chunks.size; c++) {
+                    ChunkCache chunk = entry.chunks.get(c);
+                    if (chunk.minX < viewBounds.x + viewBounds.width && chunk.maxX > viewBounds.x &&
+                        chunk.minY < viewBounds.y + viewBounds.height && chunk.maxY > viewBounds.y) {
+                        cache.draw(chunk.cacheId);
+                    }
+                }
+            } else {
+                if (cacheOpen) {
+                    cache.end();
+                    Gdx.gl.glDisable(GL20.GL_BLEND);
+                    cacheOpen = false;
+                }
+                if (!batchOpen) {
+                    batch.begin();
+                    batchOpen = true;
+                }
+                if (entry.layer instanceof TiledMapTileLayer) {
+                    fallback.renderTileLayer((TiledMapTileLayer) entry.layer);
+                } else {
+                    fallback.renderImageLayer((TiledMapImageLayer) entry.layer);
+                }
+            }
+        }
+
+        if (cacheOpen) {
+            cache.end();
+            Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
+        if (batchOpen) {
+            batch.end();
+        }
+        return cache.totalRenderCalls;
+    }
+
+    /**
+     * @return Le nombre de tuiles précalculées
+     */
+    public int getCachedTileCount() {
+        return cachedTiles;
+    }
+
+    /**
+     * @return Le nombre de morceaux précalculés non vides
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * @return Le nombre de couches de tuiles dessinées tuile par tuile
+     */
+    public int getFallbackLayerCount() {
+        int count = 0;
+        for (LayerEntry entry : entries) {
+            if (!entry.cached && entry.layer instanceof TiledMapTileLayer) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Libère le renderer classique. Le cache et le batch, partagés, ne sont pas libérés.
+     */
+    @Override
+    public void dispose() {
+        fallback.dispose();
+        entries.clear();
+        map = null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.fistofsteel.graphics;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Fond du niveau en couches de parallaxe répétées horizontalement.
+ *
+ * Chaque couche est dessinée en un seul quad qui couvre exactement la largeur
+ * visible de la caméra : la répétition vient des coordonnées de texture
+ * (TextureWrap.Repeat), plus d'une boucle sur toute la largeur de la map. Le
+ * coût est d'un quad par couche, quelle que soit la taille du niveau.
+ *
+ * Le facteur de défilement d'une couche vaut 1 pour un fond qui suit le monde,
+ * moins pour un fond lointain qui défile plus lentement, 0 pour un fond fixe à
+ * l'écran (même convention que le parallaxx de Tiled).
+ */
+public class ParallaxBackground {
+
+    /** Marque les couches image de la map déjà prises en charge (et masquées au renderer Tiled). */
+    private static final String CAPTURED_PROPERTY = "parallaxBackground";
+
+    private static class Layer {
+        Texture texture;
+        float scrollFactor;
+        float offsetX;
+        float y;
+        float height;
+        float opacity;
+    }
+
+    private final Array<Layer> layers = new Array<>();
+
+    /**
+     * Construit le fond à partir des couches image de la map, dans leur ordre.
+     * Ces couches sont masquées pour que le renderer Tiled ne les dessine plus
+     * une seconde fois.
+     *
+     * @param map La map Tiled (peut être null)
+     * @return Le fond, éventuellement sans couche
+     */
+    public static ParallaxBackground fromMap(TiledMap map) {
+        ParallaxBackground background = new ParallaxBackground();
+        if (map == null) return background;
+
+        for (MapLayer layer : map.getLayers()) {
+            if (!(layer instanceof TiledMapImageLayer)) continue;
+
+            boolean captured = layer.getProperties().containsKey(CAPTURED_PROPERTY);
+            if (!layer.isVisible() && !captured) continue;
+
+            TiledMapImageLayer imageLayer = (TiledMapImageLayer) layer;
+            if (imageLayer.getTextureRegion() == null) continue;
+
+            background.addLayer(imageLayer.getTextureRegion().getTexture(), layer.getParallaxX(),
+                                imageLayer.getX(), imageLayer.getY(), layer.getOpacity());
+            layer.getProperties().put(CAPTURED_PROPERTY, true);
+            layer.setVisible(false);
+        }
+
+        System.out.println("Background : " + background.getLayerCount() + " couche(s) de parallaxe");
+        return background;
+    }
+
+    /**
+     * Ajoute une couche derrière les suivantes. La texture passe en répétition horizontale.
+     *
+     * @param texture La texture de la couche
+     * @param scrollFactor Le facteur de défilement (1 = suit le monde, 0 = fixe à l'écran)
+     * @param offsetX Le décalage horizontal du motif
+     * @param y La position verticale du bas de la couche
+     * @param opacity L'opacité de la couche
+     */
+    public void addLayer(Texture texture, float scrollFactor, float offsetX, float y, float opacity) {
+        texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+
+        Layer layer = new Layer();
+        layer.texture = texture;
+        layer.scrollFactor = scrollFactor;
+        layer.offsetX = offsetX;
+        layer.y = y;
+        layer.height = texture.getHeight();
+        layer.opacity = opacity;
+        layers.add(layer);
+    }
+
+    /**
+     * Dessine chaque couche en un quad sur la largeur visible de la caméra.
+     * Le batch doit être ouvert avec la projection de la caméra.
+     *
+     * @param batch Le SpriteBatch
+     * @param camera La caméra du monde
+     * @return Le nombre de quads dessinés
+     */
+    public int render(SpriteBatch batch, OrthographicCamera camera) {
+        if (layers.size == 0) return 0;
+
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewLeft = camera.position.x - viewWidth / 2f;
+        float previousColor = batch.getPackedColor();
+
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+            float textureWidth = layer.texture.getWidth();
+
+            // Abscisse dans le motif du bord gauche de la vue
+            float u = (viewLeft * layer.scrollFactor - layer.offsetX) / textureWidth;
+            float u2 = u + viewWidth / textureWidth;
+
+            batch.setColor(1f, 1f, 1f, layer.opacity);
+            batch.draw(layer.texture, viewLeft, layer.y, viewWidth, layer.height, u, 1f, u2, 0f);
+        }
+
+        batch.setPackedColor(previousColor);
+        return layers.size;
+    }
+
+    /**
+     * @return Le nombre de couches
+     */
+    public int getLayerCount() {
+        return layers.size;
+    }
+}
@@ -0,0 +1,115 @@
+package com.fistofsteel.graphics;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Objets de rendu partagés par tous les écrans et managers du jeu.
+ *
+ * Créé une seule fois par FistOfSteelGame : les changements d'écran ne
+ * recompilent plus de shaders et n'allouent plus de buffers GPU.
+ * Les utilisateurs ne doivent jamais libérer ces objets eux-mêmes, et doivent
+ * fixer leur projection (et l'échelle des fonts) avant de dessiner.
+ */
+public class RenderContext implements Disposable {
+
+    /** Tuiles au plus dans le cache des couches de la map (maximum d'un SpriteCache indexé). */
+    public static final int TILE_CACHE_SIZE = 8191;
+
+    private final SpriteBatch batch;
+    private final SpriteCache tileCache;
+    private final ShapeRenderer shapeRenderer;
+    private final BitmapFont font;
+    private final BitmapFont titleFont;
+
+    private final Texture whiteTexture;
+    private final TextureRegion whiteRegion;
+
+    private final Matrix4 screenProjection = new Matrix4();
+
+    /**
+     * Crée le batch, le cache des tuiles, le ShapeRenderer, les deux fonts et la texture blanche 1x1.
+     */
+    public RenderContext() {
+        batch = new SpriteBatch();
+        tileCache = new SpriteCache(TILE_CACHE_SIZE, true);
+        shapeRenderer = new ShapeRenderer();
+        font = new BitmapFont();
+        titleFont = new BitmapFont();
+
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        whiteTexture = new Texture(pixmap);
+        pixmap.dispose();
+        whiteRegion = new TextureRegion(whiteTexture);
+
+        System.out.println("RenderContext cree (batch, shapes, fonts)");
+    }
+
+    /**
+     * Applique une projection écran (origine en bas à gauche) au batch et au ShapeRenderer.
+     *
+     * @param width Largeur de l'écran en pixels
+     * @param height Hauteur de l'écran en pixels
+     */
+    public void setScreenProjection(float width, float height) {
+        screenProjection.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(screenProjection);
+        shapeRenderer.setProjectionMatrix(screenProjection);
+    }
+
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * @return Le cache des couches de tuiles statiques, rempli à chaque chargement de map
+     */
+    public SpriteCache getTileCache() {
+        return tileCache;
+    }
+
+    public ShapeRenderer getShapeRenderer() {
+        return shapeRenderer;
+    }
+
+    /**
+     * @return La font des textes courants (boutons, HUD)
+     */
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * @return La font des titres
+     */
+    public BitmapFont getTitleFont() {
+        return titleFont;
+    }
+
+    /**
+     * @return Une région blanche 1x1, à teinter avec la couleur du batch pour dessiner des rectangles pleins
+     */
+    public TextureRegion getWhiteRegion() {
+        return whiteRegion;
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        tileCache.dispose();
+        shapeRenderer.dispose();
+        font.dispose();
+        titleFont.dispose();
+        whiteTexture.dispose();
+    }
+}
@@ -3,6 +3,7 @@ package com.fistofsteel.entities.world;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.items.Item;
 
@@ -106,6 +107,16 @@ public class ItemPickup {
         return bounds;
     }
 
+    /**
+     * Zone couverte par l'item sur toute son oscillation de flottement.
+     * 
+     * @param out Le rectangle qui reçoit la zone
+     * @return out
+     */
+    public Rectangle getFloatingArea(Rectangle out) {
+        return out.set(bounds.x, baseY - floatAmplitude, bounds.width, bounds.height + floatAmplitude * 2f);
+    }
+
     public boolean isCollected() {
         return collected;
     }
@@ -127,11 +138,12 @@ public class ItemPickup {
     }
 
     /**
-     * Libère les ressources.
+     * Rend la texture au cache (partagée entre les items du même type).
      */
     public void dispose() {
         if (texture != null) {
-            texture.dispose();
+            AssetCache.releaseTexture(texture);
+            texture = null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,618 @@
+package com.fistofsteel.level;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.LevelExitManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.managers.WorldItemManager;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.world.ItemPickup;
+import com.fistofsteel.entities.world.LevelExit;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.CollisionRectMerger;
+import com.fistofsteel.physics.OccupancyGrid;
+import com.fistofsteel.physics.PlatformSegments;
+
+/**
+ * État propre à un niveau : map Tiled, collisions, zones de mort, ennemis,
+ * items et portes de sortie.
+ *
+ * Un Level est construit à partir de LevelAssets déjà chargés et détruit en bloc
+ * au changement de niveau. Les objets de longue durée (joueur, SpriteBatch,
+ * ShapeRenderer, HUD, projectiles) appartiennent au GameManager et sont
+ * seulement reliés au niveau.
+ */
+public class Level {
+
+    /** Taille de tuile utilisée si la map ne la précise pas. */
+    private static final int DEFAULT_TILE_SIZE = 64;
+
+    private final LevelAssets levelAssets;
+    private final String levelName;
+    private final Player player;
+
+    private TiledMap tiledMap;
+    private Array<Rectangle> collisionRects;
+    private CollisionGrid collisionGrid;
+    private PlatformSegments platforms;
+    private OccupancyGrid occupancy;
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private int rawCollisionCount;
+    private Array<Rectangle> deathRects;
+    private final TriggerSystem triggers = new TriggerSystem();
+    private float mapWidthInPixels;
+    private float mapHeightInPixels;
+    
+    /** Points d'apparition des vagues du mode survie. */
+    private final Array<Vector2> waveSpawnPoints = new Array<>();
+
+    private EnemyManager enemyManager;
+    private WorldItemManager worldItemManager;
+    private LevelExitManager levelExitManager;
+
+    /** Nombre de zones de mort occupées par le joueur. */
+    private int playerDeathZones = 0;
+
+    /** Aiguille les entrées et sorties du joueur vers le gestionnaire concerné. */
+    private final TriggerSystem.Listener playerTriggerListener = new TriggerSystem.Listener() {
+        @Override
+        public void onEnter(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+            switch (volume.getType()) {
+                case DEATH:
+                    playerDeathZones++;
+                    break;
+                case EXIT:
+                    levelExitManager.onPlayerEnter((LevelExit) volume.getPayload());
+                    break;
+                case PICKUP:
+                    worldItemManager.onPlayerEnter((ItemPickup) volume.getPayload());
+                    break;
+            }
+        }
+
+        @Override
+        public void onExit(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+            switch (volume.getType()) {
+                case DEATH:
+                    playerDeathZones--;
+                    break;
+                case EXIT:
+                    levelExitManager.onPlayerExit((LevelExit) volume.getPayload());
+                    break;
+                case PICKUP:
+                    worldItemManager.onPlayerExit((ItemPickup) volume.getPayload());
+                    break;
+            }
+        }
+    };
+
+    private final TriggerSystem.Occupant playerOccupant;
+
+    /**
+     * Construit le niveau et y place le joueur.
+     * Le Level devient propriétaire des LevelAssets et les libère dans dispose().
+     *
+     * @param levelAssets Les assets du niveau, entièrement chargés
+     * @param player Le joueur (conservé d'un niveau à l'autre)
+     * @param projectileManager Le gestionnaire de projectiles partagé
+     */
+    public Level(LevelAssets levelAssets, Player player, ProjectileManager projectileManager) {
+        this.levelAssets = levelAssets;
+        this.levelName = levelAssets.getLevelName();
+        this.player = player;
+        this.playerOccupant = new TriggerSystem.Occupant(player, playerTriggerListener);
+
+        loadTiledMap();
+
+        player.resetForNewLevel();
+        player.setCollisionGrid(collisionGrid);
+        projectileManager.setCollisionGrid(collisionGrid);
+        if (collisionGrid != null && collisionGrid.size() > 0) {
+            System.out.println("Collisions configurees pour le joueur (" + collisionRects.size + " rectangles)");
+        } else {
+            System.err.println("ATTENTION : Aucune collision chargee !");
+        }
+
+        loadSpawnFromTiled();
+
+        enemyManager = new EnemyManager(player);
+        enemyManager.setProjectileManager(projectileManager);
+        if (collisionGrid != null) {
+            enemyManager.setCollisionGrid(collisionGrid);
+            enemyManager.setPlatforms(platforms);
+            enemyManager.setLineOfSight(occupancy);
+        }
+        loadEnemiesFromTiled();
+        loadWaveSpawnsFromTiled();
+
+        if (collisionGrid != null) {
+            System.out.println("Collisions configurees pour " + enemyManager.getTotalCount() + " ennemis");
+        }
+
+        enemyManager.setTriggers(triggers);
+
+        worldItemManager = new WorldItemManager(triggers);
+        loadPotionsFromTiled();
+        loadItemsFromTiled();
+
+        levelExitManager = new LevelExitManager(triggers);
+        loadExitsFromTiled();
+
+        System.out.println("Declencheurs: " + triggers.size() + " volumes (" +
+                           triggers.count(TriggerSystem.Type.DEATH) + " mort, " +
+                           triggers.count(TriggerSystem.Type.EXIT) + " sorties, " +
+                           triggers.count(TriggerSystem.Type.PICKUP) + " items)");
+    }
+
+    /**
+     * Met à jour les volumes déclencheurs occupés par le joueur (zones de mort,
+     * portes, items). N'émet des événements que si le joueur entre ou sort d'un volume.
+     */
+    public void updatePlayerTriggers() {
+        triggers.update(playerOccupant, player.getHitbox());
+    }
+
+    /**
+     * @return true si le joueur est dans une zone de mort
+     */
+    public boolean isPlayerInDeathZone() {
+        return playerDeathZones > 0;
+    }
+
+    /**
+     * Récupère la map Tiled préchargée par les LevelAssets et ses dimensions.
+     */
+    private void loadTiledMap() {
+        try {
+            tiledMap = levelAssets.getMap();
+            if (tiledMap == null) {
+                System.err.println("Map introuvable : " + LevelAssets.getMapPath(levelName));
+                return;
+            }
+            int mapWidthInTiles = tiledMap.getProperties().get("width", Integer.class);
+            int mapHeightInTiles = tiledMap.getProperties().get("height", Integer.class);
+            int tileWidth = tiledMap.getProperties().get("tilewidth", Integer.class);
+            int tileHeight = tiledMap.getProperties().get("tileheight", Integer.class);
+            
+            tileSize = tileWidth;
+            mapWidthInPixels = mapWidthInTiles * tileWidth;
+            mapHeightInPixels = mapHeightInTiles * tileHeight;
+            
+            System.out.println("Map Tiled: " + mapWidthInPixels + "x" + mapHeightInPixels + " pixels");
+            
+            loadCollisions();
+            loadDeathZones();
+        } catch (Exception e) {
+            System.err.println("Erreur chargement map: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Charge les rectangles de collision depuis la map, fusionne les rectangles
+     * adjacents, les indexe dans une grille puis en déduit les surfaces praticables.
+     */
+    private void loadCollisions() {
+        collisionRects = new Array<>();
+        if (tiledMap == null) return;
+        
+        MapLayer collisionLayer = tiledMap.getLayers().get("Collisions");
+        if (collisionLayer != null) {
+            Array<Rectangle> rawRects = new Array<>();
+            for (MapObject object : collisionLayer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    RectangleMapObject rectObject = (RectangleMapObject) object;
+                    Rectangle rect = rectObject.getRectangle();
+                    rawRects.add(new Rectangle(rect));
+                }
+            }
+            
+            rawCollisionCount = rawRects.size;
+            collisionRects = CollisionRectMerger.merge(rawRects);
+            System.out.println("Collisions (" + levelName + "): " + rawCollisionCount + " rectangles -> " +
+                               collisionRects.size + " apres fusion");
+        }
+        
+        collisionGrid = new CollisionGrid(collisionRects);
+        System.out.println("Grille de collision: " + collisionGrid.getColumnCount() + "x" + collisionGrid.getRowCount() + " cellules");
+        
+        platforms = PlatformSegments.build(collisionRects, collisionGrid);
+        System.out.println("Surfaces praticables: " + platforms.size() + " segments");
+        
+        occupancy = new OccupancyGrid(collisionRects, tileSize);
+        System.out.println("Occupation (ligne de vue): " + occupancy.getColumnCount() + "x" + occupancy.getRowCount() +
+                           " tuiles, " + occupancy.getSolidCount() + " pleines");
+    }
+    
+    /**
+     * Charge les zones de mort depuis la map.
+     */
+    private void loadDeathZones() {
+        deathRects = new Array<>();
+        if (tiledMap == null) return;
+        
+        MapLayer deathLayer = tiledMap.getLayers().get("Death");
+        if (deathLayer != null) {
+            for (MapObject object : deathLayer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    RectangleMapObject rectObject = (RectangleMapObject) object;
+                    Rectangle rect = rectObject.getRectangle();
+                    deathRects.add(new Rectangle(rect));
+                    triggers.add(TriggerSystem.Type.DEATH, rect, null);
+                }
+            }
+            System.out.println("Zones de mort: " + deathRects.size + " rectangles");
+        } else {
+            System.out.println("Aucune layer 'Death' trouvee dans la map");
+        }
+    }
+    
+    /**
+     * Charge le point de spawn du joueur depuis la map.
+     */
+    private void loadSpawnFromTiled() {
+        if (tiledMap == null) return;
+        
+        MapLayer spawnLayer = tiledMap.getLayers().get("spawn");
+        if (spawnLayer == null) {
+            System.err.println("Layer 'spawn' introuvable !");
+            return;
+        }
+        
+        for (MapObject object : spawnLayer.getObjects()) {
+            String objectName = object.getName();
+            String className = object.getProperties().get("class", String.class);
+            
+            boolean isSpawn = "spawn".equalsIgnoreCase(className) || 
+                            "playerSpawn".equalsIgnoreCase(objectName);
+            
+            if (isSpawn) {
+                float tiledX = object.getProperties().get("x", Float.class);
+                float tiledY = object.getProperties().get("y", Float.class);
+                
+                float libgdxX = tiledX;
+                float libgdxY = tiledY;
+                
+                player.setPosition(libgdxX, libgdxY);
+                System.out.println("Spawn: (" + (int)libgdxX + ", " + (int)libgdxY + ")");
+                
+                if (collisionGrid != null) {
+                    Rectangle playerHitbox = player.getHitbox();
+                    Rectangle testHitbox = new Rectangle(
+                        playerHitbox.x,
+                        playerHitbox.y - 5f,
+                        playerHitbox.width,
+                        playerHitbox.height
+                    );
+                    
+                    boolean playerGrounded = collisionGrid.overlapsAny(testHitbox);
+                    
+                    if (playerGrounded) {
+                        System.out.println("   Joueur bien positionne au sol");
+                    } else {
+                        System.err.println("   ATTENTION : Joueur pas au sol ! Verifiez le spawn dans Tiled");
+                    }
+                }
+                
+                return;
+            }
+        }
+        
+        System.err.println("Aucun spawn trouve dans le layer 'spawn' !");
+    }
+    
+    /**
+     * Charge les potions depuis la couche Tiled "Potions".
+     */
+    private void loadPotionsFromTiled() {
+        if (tiledMap == null) return;
+        
+        MapLayer potionLayer = tiledMap.getLayers().get("Potions");
+        if (potionLayer == null) {
+            System.out.println("Layer 'Potions' non trouve");
+            return;
+        }
+        
+        int potionCount = 0;
+        
+        for (MapObject object : potionLayer.getObjects()) {
+            float tiledX = object.getProperties().get("x", Float.class);
+            float tiledY = object.getProperties().get("y", Float.class);
+            
+            float libgdxX = tiledX;
+            float libgdxY = tiledY;
+            
+            worldItemManager.spawnHealPotion(libgdxX, libgdxY);
+            potionCount++;
+        }
+        
+        System.out.println("Potions: " + potionCount + " chargees via WorldItemManager");
+    }
+    
+    /**
+     * Charge les items (armures, armes) depuis la couche Tiled "Items".
+     */
+    private void loadItemsFromTiled() {
+        if (tiledMap == null) return;
+        
+        MapLayer itemsLayer = tiledMap.getLayers().get("Items");
+        if (itemsLayer == null) {
+            System.out.println("Layer 'Items' non trouve - Aucun item d'equipement");
+            return;
+        }
+        
+        int itemCount = 0;
+        
+        for (MapObject object : itemsLayer.getObjects()) {
+            float tiledX = object.getProperties().get("x", Float.class);
+            float tiledY = object.getProperties().get("y", Float.class);
+            
+            float libgdxX = tiledX;
+            float libgdxY = tiledY;
+            
+            String itemType = object.getProperties().get("type", "sword1", String.class);
+            
+            switch (itemType.toLowerCase()) {
+                case "armor_light":
+                    worldItemManager.spawnArmorLight(libgdxX, libgdxY);
+                    itemCount++;
+                    break;
+                case "armor_heavy":
+                    worldItemManager.spawnArmorHeavy(libgdxX, libgdxY);
+                    itemCount++;
+                    break;
+                case "sword1":
+                    worldItemManager.spawnSword1(libgdxX, libgdxY);
+                    itemCount++;
+                    break;
+                case "sword2":
+                    worldItemManager.spawnSword2(libgdxX, libgdxY);
+                    itemCount++;
+                    break;
+                case "sword3":
+                    worldItemManager.spawnSword3(libgdxX, libgdxY);
+                    itemCount++;
+                    break;
+                default:
+                    System.out.println("Type d'item non reconnu : " + itemType);
+            }
+        }
+        
+        System.out.println("Items d'equipement: " + itemCount + " charges");
+    }
+    
+    /**
+     * Charge les portes de sortie depuis la couche Tiled "Exits".
+     */
+    private void loadExitsFromTiled() {
+        if (tiledMap == null) return;
+        
+        MapLayer exitsLayer = tiledMap.getLayers().get("Exits");
+        if (exitsLayer == null) {
+            System.out.println("Layer 'Exits' non trouve - Aucune porte de sortie");
+            return;
+        }
+        
+        int exitCount = 0;
+        
+        for (MapObject object : exitsLayer.getObjects()) {
+            float tiledX = object.getProperties().get("x", Float.class);
+            float tiledY = object.getProperties().get("y", Float.class);
+            
+            float libgdxX = tiledX;
+            float libgdxY = tiledY;
+            
+            String targetLevel = object.getProperties().get("targetLevel", "level2_example", String.class);
+            
+            levelExitManager.addExit(libgdxX, libgdxY, targetLevel);
+            exitCount++;
+        }
+        
+        System.out.println("Portes de sortie: " + exitCount + " chargees");
+    }
+    
+    /**
+     * Charge les ennemis depuis la couche Tiled "Enemies".
+     */
+    private void loadEnemiesFromTiled() {
+        System.out.println("\nChargement des ennemis...");
+        
+        if (tiledMap == null) {
+            System.out.println("tiledMap est NULL !");
+            return;
+        }
+        
+        MapLayer enemyLayer = tiledMap.getLayers().get("Enemies");
+        if (enemyLayer == null) {
+            System.out.println("Layer 'Enemies' non trouve");
+            return;
+        }
+        
+        System.out.println("Layer 'Enemies' trouve !");
+        System.out.println("Nombre d'objets dans la couche : " + enemyLayer.getObjects().getCount());
+        
+        int enemyCount = 0;
+        
+        for (MapObject object : enemyLayer.getObjects()) {
+            float tiledX = object.getProperties().get("x", Float.class);
+            float tiledY = object.getProperties().get("y", Float.class);
+            
+            float libgdxX = tiledX;
+            float libgdxY = tiledY;
+            
+            String enemyType = object.getProperties().get("type", "Knight", String.class);
+            
+            Float patrolMinObj = object.getProperties().get("patrolMin", Float.class);
+            Float patrolMaxObj = object.getProperties().get("patrolMax", Float.class);
+            
+            if ("Knight".equalsIgnoreCase(enemyType)) {
+                if (patrolMinObj != null && patrolMaxObj != null) {
+                    enemyManager.addKnight(libgdxX, libgdxY, 
+                                          libgdxX + patrolMinObj, 
+                                          libgdxX + patrolMaxObj);
+                } else {
+                    enemyManager.addKnight(libgdxX, libgdxY);
+                }
+                enemyCount++;
+            } else if ("Mage".equalsIgnoreCase(enemyType)) {
+                if (patrolMinObj != null && patrolMaxObj != null) {
+                    enemyManager.addMage(libgdxX, libgdxY, 
+                                        libgdxX + patrolMinObj, 
+                                        libgdxX + patrolMaxObj);
+                } else {
+                    enemyManager.addMage(libgdxX, libgdxY);
+                }
+                enemyCount++;
+            } else if ("Rogue".equalsIgnoreCase(enemyType)) {
+                if (patrolMinObj != null && patrolMaxObj != null) {
+                    enemyManager.addRogue(libgdxX, libgdxY, 
+                                         libgdxX + patrolMinObj, 
+                                         libgdxX + patrolMaxObj);
+                } else {
+                    enemyManager.addRogue(libgdxX, libgdxY);
+                }
+                enemyCount++;
+            } else if ("Boss".equalsIgnoreCase(enemyType)) {
+                enemyManager.addBoss(libgdxX, libgdxY);
+                enemyCount++;
+                System.out.println("BOSS Marvin charge !");
+            } else {
+                System.out.println("Type d'ennemi non reconnu : " + enemyType);
+            }
+        }
+        
+        System.out.println("Ennemis: " + enemyCount + " charges\n");
+    }
+
+    /**
+     * Charge les points d'apparition des vagues (mode survie) depuis la couche
+     * Tiled "WaveSpawns". Sans cette couche, les points de la couche "Enemies"
+     * servent de repli.
+     */
+    private void loadWaveSpawnsFromTiled() {
+        if (tiledMap == null) return;
+        
+        MapLayer waveLayer = tiledMap.getLayers().get("WaveSpawns");
+        if (waveLayer == null) {
+            waveLayer = tiledMap.getLayers().get("Enemies");
+            if (waveLayer == null) return;
+        }
+        
+        for (MapObject object : waveLayer.getObjects()) {
+            float tiledX = object.getProperties().get("x", Float.class);
+            float tiledY = object.getProperties().get("y", Float.class);
+            waveSpawnPoints.add(new Vector2(tiledX, tiledY));
+        }
+        
+        System.out.println("Points d'apparition des vagues: " + waveSpawnPoints.size +
+                           " (layer '" + waveLayer.getName() + "')");
+    }
+
+    public String getLevelName() {
+        return levelName;
+    }
+
+    public TiledMap getTiledMap() {
+        return tiledMap;
+    }
+
+    public Array<Rectangle> getCollisionRects() {
+        return collisionRects;
+    }
+
+    /**
+     * @return Le nombre de rectangles de collision dans la map, avant fusion
+     */
+    public int getRawCollisionCount() {
+        return rawCollisionCount;
+    }
+
+    /**
+     * @return L'index spatial des collisions (null si la map n'a pas pu être chargée)
+     */
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * @return Les surfaces praticables du niveau (null si la map n'a pas pu être chargée)
+     */
+    public PlatformSegments getPlatforms() {
+        return platforms;
+    }
+
+    /**
+     * @return L'occupation des tuiles pour la ligne de vue (null si la map n'a pas pu être chargée)
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * @return Les points d'apparition des vagues du mode survie
+     */
+    public Array<Vector2> getWaveSpawnPoints() {
+        return waveSpawnPoints;
+    }
+
+    public Array<Rectangle> getDeathRects() {
+        return deathRects;
+    }
+
+    /**
+     * @return Les volumes déclencheurs du niveau
+     */
+    public TriggerSystem getTriggers() {
+        return triggers;
+    }
+
+    public float getMapWidth() {
+        return mapWidthInPixels;
+    }
+
+    public float getMapHeight() {
+        return mapHeightInPixels;
+    }
+
+    public EnemyManager getEnemyManager() {
+        return enemyManager;
+    }
+
+    public WorldItemManager getWorldItemManager() {
+        return worldItemManager;
+    }
+
+    public LevelExitManager getLevelExitManager() {
+        return levelExitManager;
+    }
+
+    /**
+     * Détruit tout l'état du niveau et rend ses assets au cache.
+     * Le joueur et les objets partagés ne sont pas touchés.
+     */
+    public void dispose() {
+        if (worldItemManager != null) worldItemManager.dispose();
+        if (enemyManager != null) enemyManager.dispose();
+        if (levelExitManager != null) levelExitManager.dispose();
+        levelAssets.dispose();
+
+        worldItemManager = null;
+        enemyManager = null;
+        levelExitManager = null;
+        tiledMap = null;
+        collisionRects = null;
+        collisionGrid = null;
+        platforms = null;
+        occupancy = null;
+        deathRects = null;
+        triggers.clear();
+
+        System.out.println("Niveau " + levelName + " libere");
+    }
+}
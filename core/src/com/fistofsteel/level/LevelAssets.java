@@ -0,0 +1,250 @@
+package com.fistofsteel.level;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.fistofsteel.assets.AssetCache;
+import com.fistofsteel.entities.enemies.Boss;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.enemies.EnemyAnimationHelper;
+import com.fistofsteel.entities.managers.WorldItemManager;
+import com.fistofsteel.entities.player.Alexis;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.entities.projectiles.MageProjectile;
+
+/**
+ * Ensemble des assets nécessaires à un niveau, chargés en arrière-plan via l'AssetCache.
+ *
+ * Le chargement se fait en deux phases :
+ * 1. la map Tiled (et ses tilesets), le background, le joueur et le HUD ;
+ * 2. une fois la map chargée, les sprites des ennemis et items réellement
+ *    présents dans ses couches "Enemies", "Items" et "Potions".
+ *
+ * Tant que l'instance n'est pas libérée, elle garde une référence sur chaque
+ * asset : le GameManager ne fait ensuite que des accès en cache.
+ */
+public class LevelAssets {
+
+    public static final String BACKGROUND_PATH = "assets/maps/Gemini_Generated_Image_3ijzal3ijzal3ijz_2 (1).png";
+
+    private static final float MAP_PHASE_WEIGHT = 0.3f;
+
+    private final String levelName;
+    private final String characterName;
+    private final String mapPath;
+
+    private final Array<String> pinnedPaths = new Array<>();
+    private final ObjectSet<String> pinnedSet = new ObjectSet<>();
+
+    private boolean queued = false;
+    private boolean entityAssetsQueued = false;
+
+    /**
+     * Constructeur.
+     *
+     * @param levelName Le nom du niveau (fichier maps/levelName.tmx)
+     * @param characterName Le personnage joué ("Alexis" ou "Hugo")
+     */
+    public LevelAssets(String levelName, String characterName) {
+        this.levelName = levelName;
+        this.characterName = characterName;
+        this.mapPath = getMapPath(levelName);
+    }
+
+    /**
+     * @param levelName Le nom du niveau
+     * @return Le chemin du fichier TMX du niveau
+     */
+    public static String getMapPath(String levelName) {
+        return "maps/" + levelName + ".tmx";
+    }
+
+    /**
+     * Met en file la première phase (map, background, joueur, HUD, projectiles).
+     * Sans effet si déjà appelé.
+     */
+    public void queue() {
+        if (queued) return;
+        queued = true;
+
+        pin(mapPath, TiledMap.class);
+        pin(BACKGROUND_PATH, Texture.class);
+
+        String[] playerPaths = "Alexis".equals(characterName) ? Alexis.TEXTURE_PATHS : Hugo.TEXTURE_PATHS;
+        pinTextures(playerPaths);
+
+        pin(WorldItemManager.ARMOR_LIGHT_TEXTURE, Texture.class);
+        pin(WorldItemManager.ARMOR_HEAVY_TEXTURE, Texture.class);
+        pin(WorldItemManager.SWORD1_TEXTURE, Texture.class);
+        pin(WorldItemManager.SWORD2_TEXTURE, Texture.class);
+        pin(WorldItemManager.SWORD3_TEXTURE, Texture.class);
+
+        pinTextures(HugoProjectile.FRAME_PATHS);
+        pinTextures(MageProjectile.FRAME_PATHS);
+
+        System.out.println("LevelAssets : " + pinnedPaths.size + " assets en file pour " + levelName);
+    }
+
+    /**
+     * Fait avancer le chargement pendant au plus le budget donné.
+     *
+     * @param budgetMs Le budget de temps en millisecondes
+     * @return true quand tous les assets du niveau sont chargés
+     */
+    public boolean update(int budgetMs) {
+        queue();
+
+        if (!AssetCache.update(budgetMs)) return false;
+
+        if (!entityAssetsQueued) {
+            queueEntityAssets();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Charge tous les assets du niveau de façon synchrone.
+     */
+    public void finishLoading() {
+        queue();
+        AssetCache.finishLoading();
+
+        if (!entityAssetsQueued) {
+            queueEntityAssets();
+            AssetCache.finishLoading();
+        }
+    }
+
+    /**
+     * Met en file la seconde phase : sprites des ennemis et items présents dans la map.
+     */
+    private void queueEntityAssets() {
+        entityAssetsQueued = true;
+
+        TiledMap map = getMap();
+        if (map == null) return;
+
+        int before = pinnedPaths.size;
+        Array<String> paths = new Array<>();
+
+        MapLayer enemyLayer = map.getLayers().get("Enemies");
+        if (enemyLayer != null) {
+            ObjectSet<String> enemyTypes = new ObjectSet<>();
+            for (MapObject object : enemyLayer.getObjects()) {
+                String enemyType = object.getProperties().get("type", "Knight", String.class);
+                enemyTypes.add(enemyType.toLowerCase());
+            }
+
+            for (String enemyType : enemyTypes) {
+                switch (enemyType) {
+                    case "knight":
+                        EnemyAnimationHelper.collectSpritePaths(Enemy.SPRITE_BASE_PATH, "Knight", paths);
+                        break;
+                    case "mage":
+                        EnemyAnimationHelper.collectSpritePaths(Enemy.SPRITE_BASE_PATH, "Mage", paths);
+                        break;
+                    case "rogue":
+                        EnemyAnimationHelper.collectSpritePaths(Enemy.SPRITE_BASE_PATH, "Rogue", paths);
+                        break;
+                    case "boss":
+                        Boss.collectSpritePaths(paths);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        MapLayer potionLayer = map.getLayers().get("Potions");
+        if (potionLayer != null && potionLayer.getObjects().getCount() > 0) {
+            paths.add(WorldItemManager.POTION_TEXTURE);
+        }
+
+        MapLayer itemsLayer = map.getLayers().get("Items");
+        if (itemsLayer != null) {
+            for (MapObject object : itemsLayer.getObjects()) {
+                String itemType = object.getProperties().get("type", "sword1", String.class);
+                String path = WorldItemManager.getItemTexturePath(itemType);
+                if (path != null) paths.add(path);
+            }
+        }
+
+        for (String path : paths) {
+            pin(path, Texture.class);
+        }
+
+        System.out.println("LevelAssets : " + (pinnedPaths.size - before) + " sprites d'ennemis/items en file");
+    }
+
+    private void pinTextures(String[] paths) {
+        for (String path : paths) {
+            pin(path, Texture.class);
+        }
+    }
+
+    private void pin(String path, Class<?> type) {
+        if (pinnedSet.contains(path)) return;
+
+        if (AssetCache.queue(path, type)) {
+            pinnedSet.add(path);
+            pinnedPaths.add(path);
+        }
+    }
+
+    /**
+     * Progression du chargement, entre 0 et 1.
+     * La seconde phase n'étant connue qu'après la map, la première compte pour une part fixe.
+     *
+     * @return La progression
+     */
+    public float getProgress() {
+        if (pinnedPaths.size == 0) return queued && entityAssetsQueued ? 1f : 0f;
+
+        int loaded = 0;
+        for (int i = 0; i < pinnedPaths.size; i++) {
+            if (AssetCache.isLoaded(pinnedPaths.get(i))) loaded++;
+        }
+
+        float ratio = (float) loaded / pinnedPaths.size;
+        return entityAssetsQueued ? ratio : ratio * MAP_PHASE_WEIGHT;
+    }
+
+    /**
+     * @return true quand les deux phases sont chargées
+     */
+    public boolean isLoaded() {
+        return entityAssetsQueued && getProgress() >= 1f;
+    }
+
+    /**
+     * @return La map du niveau, ou null si elle n'a pas pu être chargée
+     */
+    public TiledMap getMap() {
+        return AssetCache.get(mapPath, TiledMap.class);
+    }
+
+    public String getLevelName() {
+        return levelName;
+    }
+
+    public String getCharacterName() {
+        return characterName;
+    }
+
+    /**
+     * Rend au cache toutes les références prises par ce niveau.
+     */
+    public void dispose() {
+        for (String path : pinnedPaths) {
+            AssetCache.release(path);
+        }
+        pinnedPaths.clear();
+        pinnedSet.clear();
+    }
+}
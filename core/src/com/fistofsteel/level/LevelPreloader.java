@@ -0,0 +1,101 @@
+package com.fistofsteel.level;
+
+/**
+ * Préchargement en arrière-plan du niveau suivant.
+ *
+ * Dès qu'une porte se déverrouille, les assets du niveau cible sont mis en file
+ * et chargés par petites tranches pendant que le joueur finit le niveau en cours.
+ * Le changement de niveau récupère ensuite ces assets déjà en mémoire.
+ *
+ * Un seul niveau est préchargé à la fois.
+ */
+public class LevelPreloader {
+
+    private static LevelAssets pending = null;
+    private static boolean enabled = true;
+
+    /**
+     * Lance le préchargement d'un niveau. Sans effet s'il est déjà en cours ;
+     * un autre préchargement en cours est annulé.
+     *
+     * @param levelName Le niveau à précharger
+     * @param characterName Le personnage joué
+     */
+    public static void prefetch(String levelName, String characterName) {
+        if (!enabled) return;
+
+        if (pending != null) {
+            if (matches(pending, levelName, characterName)) return;
+            cancel();
+        }
+
+        pending = new LevelAssets(levelName, characterName);
+        pending.queue();
+        System.out.println("Prechargement du niveau " + levelName + " lance");
+    }
+
+    /**
+     * Fait avancer le préchargement pendant au plus le budget donné.
+     *
+     * @param budgetMs Le budget de temps en millisecondes
+     */
+    public static void update(int budgetMs) {
+        if (pending != null && !pending.isLoaded()) {
+            pending.update(budgetMs);
+        }
+    }
+
+    /**
+     * @param levelName Le niveau
+     * @param characterName Le personnage joué
+     * @return true si ce niveau est entièrement préchargé
+     */
+    public static boolean isReady(String levelName, String characterName) {
+        return pending != null && matches(pending, levelName, characterName) && pending.isLoaded();
+    }
+
+    /**
+     * Récupère les assets préchargés d'un niveau (complets ou non).
+     * L'appelant en devient propriétaire.
+     *
+     * @param levelName Le niveau
+     * @param characterName Le personnage joué
+     * @return Les assets, ou null si ce niveau n'était pas préchargé
+     */
+    public static LevelAssets take(String levelName, String characterName) {
+        if (pending == null || !matches(pending, levelName, characterName)) return null;
+
+        LevelAssets assets = pending;
+        pending = null;
+        return assets;
+    }
+
+    /**
+     * Annule le préchargement en cours et libère ses assets.
+     */
+    public static void cancel() {
+        if (pending != null) {
+            System.out.println("Prechargement du niveau " + pending.getLevelName() + " annule");
+            pending.dispose();
+            pending = null;
+        }
+    }
+
+    /**
+     * Active ou désactive le préchargement (comparaison des temps de transition).
+     *
+     * @param value true pour activer
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (!enabled) cancel();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    private static boolean matches(LevelAssets assets, String levelName, String characterName) {
+        return assets.getLevelName().equals(levelName) && assets.getCharacterName().equals(characterName);
+    }
+}
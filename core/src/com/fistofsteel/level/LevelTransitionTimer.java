@@ -0,0 +1,63 @@
+package com.fistofsteel.level;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Mesure la latence d'un changement de niveau : du moment où le joueur
+ * entre dans la porte jusqu'à la première frame rendue du niveau suivant.
+ */
+public class LevelTransitionTimer {
+
+    private static long startNanos = -1;
+    private static String targetLevel;
+    private static boolean prefetched;
+
+    private static long lastLatencyMs = -1;
+    private static long totalLatencyMs = 0;
+    private static int transitionCount = 0;
+
+    /**
+     * Démarre la mesure d'une transition.
+     *
+     * @param level Le niveau cible
+     * @param wasPrefetched true si les assets du niveau étaient déjà préchargés
+     */
+    public static void start(String level, boolean wasPrefetched) {
+        startNanos = TimeUtils.nanoTime();
+        targetLevel = level;
+        prefetched = wasPrefetched;
+    }
+
+    /**
+     * Termine la mesure en cours (appelé à la première frame du nouveau niveau).
+     * Sans effet si aucune transition n'est en cours.
+     */
+    public static void stop() {
+        if (startNanos < 0) return;
+
+        lastLatencyMs = TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(startNanos));
+        totalLatencyMs += lastLatencyMs;
+        transitionCount++;
+        startNanos = -1;
+
+        System.out.println("Transition -> " + targetLevel + " : " + lastLatencyMs + " ms (" +
+                           (prefetched ? "prechargee" : "chargement a froid") + "), moyenne " +
+                           getAverageLatencyMs() + " ms sur " + transitionCount + " transitions");
+    }
+
+    public static boolean isRunning() {
+        return startNanos >= 0;
+    }
+
+    public static long getLastLatencyMs() {
+        return lastLatencyMs;
+    }
+
+    public static long getAverageLatencyMs() {
+        return transitionCount > 0 ? totalLatencyMs / transitionCount : -1;
+    }
+
+    public static int getTransitionCount() {
+        return transitionCount;
+    }
+}
@@ -0,0 +1,256 @@
+package com.fistofsteel.level;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.fistofsteel.physics.CollisionGrid;
+
+/**
+ * Volumes déclencheurs statiques d'un niveau (zones de mort, portes, items),
+ * indexés dans une grille, avec des événements d'entrée et de sortie.
+ *
+ * Chaque entité suivie est un {@link Occupant} qui retient les volumes qu'elle
+ * touche. Un événement n'est émis que lorsque cet ensemble change : rester dans
+ * une zone (ou loin de toute zone) ne déclenche rien. L'occupant garde aussi les
+ * volumes proches d'une zone élargie autour de sa hitbox : tant qu'il y reste,
+ * la grille n'est pas interrogée et seuls ces volumes (souvent aucun) sont testés.
+ *
+ * Ajouter un type de déclencheur revient à ajouter une valeur à {@link Type} et
+ * à la traiter dans les écouteurs concernés. Les mises à jour n'allouent rien.
+ */
+public class TriggerSystem {
+
+    /** Marge de la zone élargie autour de la hitbox d'un occupant. */
+    public static final float NEARBY_MARGIN = 64f;
+
+    /**
+     * Nature d'un volume déclencheur.
+     */
+    public enum Type {
+        DEATH,
+        EXIT,
+        PICKUP
+    }
+
+    /**
+     * Reçoit les entrées et sorties d'un occupant.
+     */
+    public interface Listener {
+        void onEnter(Occupant occupant, Volume volume);
+        void onExit(Occupant occupant, Volume volume);
+    }
+
+    /**
+     * Un volume déclencheur : une zone fixe, son type et l'objet associé
+     * (porte, item...).
+     */
+    public static class Volume {
+        private final int index;
+        private final Type type;
+        private final Rectangle bounds;
+        private final Object payload;
+        private boolean enabled = true;
+
+        private Volume(int index, Type type, Rectangle bounds, Object payload) {
+            this.index = index;
+            this.type = type;
+            this.bounds = bounds;
+            this.payload = payload;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Rectangle getBounds() {
+            return bounds;
+        }
+
+        public Object getPayload() {
+            return payload;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
+
+    /**
+     * Une entité suivie (joueur, ennemi) et les volumes qu'elle occupe.
+     */
+    public static class Occupant {
+        private final Object owner;
+        private final Listener listener;
+
+        /** Volumes occupés, par indice croissant. */
+        private final IntArray inside = new IntArray();
+
+        /** Volumes qui chevauchent la zone élargie (triés), valables pour {@link #nearbyVersion}. */
+        private final IntArray nearby = new IntArray();
+        private final Rectangle nearbyArea = new Rectangle();
+        private int nearbyVersion = -1;
+
+        /**
+         * @param owner L'entité suivie
+         * @param listener L'écouteur de ses entrées et sorties
+         */
+        public Occupant(Object owner, Listener listener) {
+            this.owner = owner;
+            this.listener = listener;
+        }
+
+        public Object getOwner() {
+            return owner;
+        }
+
+        /**
+         * @return Le nombre de volumes actuellement occupés
+         */
+        public int getInsideCount() {
+            return inside.size;
+        }
+    }
+
+    private final Array<Volume> volumes = new Array<>();
+    private final Array<Rectangle> bounds = new Array<>();
+    private CollisionGrid index;
+    private boolean dirty = true;
+
+    /** Incrémenté à chaque changement de volume : invalide les zones élargies des occupants. */
+    private int version = 0;
+
+    private final IntArray current = new IntArray();
+    private final IntArray previous = new IntArray();
+
+    /**
+     * Ajoute un volume déclencheur.
+     *
+     * @param type Le type du volume
+     * @param area La zone (copiée)
+     * @param payload L'objet associé (peut être null)
+     * @return Le volume créé
+     */
+    public Volume add(Type type, Rectangle area, Object payload) {
+        Rectangle copy = new Rectangle(area);
+        Volume volume = new Volume(volumes.size, type, copy, payload);
+        volumes.add(volume);
+        bounds.add(copy);
+        dirty = true;
+        version++;
+        return volume;
+    }
+
+    /**
+     * Active ou désactive un volume. Un occupant qui se trouve dans un volume
+     * désactivé en sort à sa prochaine mise à jour.
+     *
+     * @param volume Le volume
+     * @param enabled false pour l'ignorer
+     */
+    public void setEnabled(Volume volume, boolean enabled) {
+        if (volume.enabled == enabled) return;
+        volume.enabled = enabled;
+        version++;
+    }
+
+    /**
+     * Met à jour les volumes occupés par une entité et émet ses sorties et ses
+     * entrées (par indice de volume croissant). Ne fait rien de plus qu'un test
+     * d'inclusion tant que l'entité reste loin de tout volume. Un écouteur peut
+     * désactiver des volumes mais ne doit pas rappeler cette méthode.
+     *
+     * @param occupant L'entité suivie
+     * @param hitbox Sa hitbox courante
+     */
+    public void update(Occupant occupant, Rectangle hitbox) {
+        if (dirty) {
+            index = new CollisionGrid(bounds);
+            dirty = false;
+        }
+
+        if (occupant.nearbyVersion != version || !occupant.nearbyArea.contains(hitbox)) {
+            occupant.nearbyArea.set(hitbox.x - NEARBY_MARGIN, hitbox.y - NEARBY_MARGIN,
+                                    hitbox.width + NEARBY_MARGIN * 2f, hitbox.height + NEARBY_MARGIN * 2f);
+            occupant.nearby.clear();
+            index.queryIndices(occupant.nearbyArea, occupant.nearby);
+            occupant.nearbyVersion = version;
+        }
+
+        if (occupant.nearby.size == 0 && occupant.inside.size == 0) return;
+
+        current.clear();
+        for (int i = 0; i < occupant.nearby.size; i++) {
+            Volume volume = volumes.get(occupant.nearby.get(i));
+            if (volume.enabled && volume.bounds.overlaps(hitbox)) {
+                current.add(volume.index);
+            }
+        }
+        if (current.equals(occupant.inside)) return;
+
+        previous.clear();
+        previous.addAll(occupant.inside);
+        occupant.inside.clear();
+        occupant.inside.addAll(current);
+
+        // Fusion de deux listes triées : absents de la nouvelle = sorties, nouveaux = entrées
+        int a = 0;
+        int b = 0;
+        while (a < previous.size || b < current.size) {
+            int before = a < previous.size ? previous.get(a) : Integer.MAX_VALUE;
+            int after = b < current.size ? current.get(b) : Integer.MAX_VALUE;
+            if (before == after) {
+                a++;
+                b++;
+            } else if (before < after) {
+                occupant.listener.onExit(occupant, volumes.get(before));
+                a++;
+            } else {
+                occupant.listener.onEnter(occupant, volumes.get(after));
+                b++;
+            }
+        }
+    }
+
+    /**
+     * Oublie les volumes occupés par une entité, sans émettre de sortie.
+     *
+     * @param occupant L'entité suivie
+     */
+    public void forget(Occupant occupant) {
+        occupant.inside.clear();
+        occupant.nearbyVersion = -1;
+    }
+
+    /**
+     * @return Le nombre de volumes (désactivés compris)
+     */
+    public int size() {
+        return volumes.size;
+    }
+
+    /**
+     * @param type Le type compté
+     * @return Le nombre de volumes de ce type (désactivés compris)
+     */
+    public int count(Type type) {
+        int count = 0;
+        for (Volume volume : volumes) {
+            if (volume.type == type) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Supprime tous les volumes.
+     */
+    public void clear() {
+        volumes.clear();
+        bounds.clear();
+        dirty = true;
+        version++;
+    }
+}
@@ -0,0 +1,195 @@
+package com.fistofsteel.level;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.EnemyStore;
+import com.fistofsteel.entities.managers.EnemyManager;
+
+/**
+ * Vagues du mode survie : des Knights, Rogues et Mages apparaissent sans fin
+ * aux points de la couche Tiled "WaveSpawns", par vagues de plus en plus
+ * grosses.
+ *
+ * Une vague ne fait pas tout apparaître d'un coup : au plus
+ * {@link #getSpawnBudget()} ennemis par pas, et jamais plus de
+ * {@link #getMaxAlive()} ennemis dans le niveau. Le reste attend les pas
+ * suivants. Les ennemis sont pris dans la réserve de l'{@link EnemyManager}
+ * (sbires morts remis à neuf), si bien qu'une partie longue ne reconstruit
+ * plus d'ennemis.
+ */
+public class WaveDirector {
+
+    /** Ennemis apparus au plus par pas de simulation. */
+    public static final int DEFAULT_SPAWN_BUDGET = 16;
+    /** Ennemis présents au plus dans le niveau. */
+    public static final int DEFAULT_MAX_ALIVE = 4000;
+
+    public static final int FIRST_WAVE_SIZE = 20;
+    public static final float WAVE_GROWTH = 1.5f;
+    public static final int MAX_WAVE_SIZE = 2000;
+
+    /** Délai avant la première vague, puis entre deux vagues (secondes). */
+    public static final float FIRST_WAVE_DELAY = 3f;
+    public static final float WAVE_INTERVAL = 20f;
+    /** Délai avant la vague suivante quand la précédente est entièrement vaincue. */
+    public static final float CLEARED_WAVE_DELAY = 2f;
+
+    /** Écart horizontal entre deux ennemis apparus au même point. */
+    private static final float SPAWN_SPREAD = 24f;
+    private static final int SPREAD_SLOTS = 5;
+
+    private final EnemyManager enemyManager;
+    private final Array<Vector2> spawnPoints;
+
+    private int spawnBudget = DEFAULT_SPAWN_BUDGET;
+    private int maxAlive = DEFAULT_MAX_ALIVE;
+    private float waveInterval = WAVE_INTERVAL;
+
+    private int wave = 0;
+    private int pending = 0;
+    private float waveTimer = FIRST_WAVE_DELAY;
+    private int spawnIndex = 0;
+    private int lastSpawnCount = 0;
+
+    /**
+     * @param enemyManager Le gestionnaire qui reçoit les ennemis (sa réserve est activée)
+     * @param spawnPoints Les points d'apparition (vide = aucune vague)
+     */
+    public WaveDirector(EnemyManager enemyManager, Array<Vector2> spawnPoints) {
+        this.enemyManager = enemyManager;
+        this.spawnPoints = spawnPoints;
+        enemyManager.setPooling(true);
+
+        if (spawnPoints.size == 0) {
+            System.err.println("Mode survie : aucun point d'apparition, aucune vague !");
+        } else {
+            System.out.println("Mode survie : " + spawnPoints.size + " points d'apparition");
+        }
+    }
+
+    /**
+     * Avance le minuteur des vagues et fait apparaître les ennemis en attente,
+     * dans la limite du budget du pas.
+     *
+     * @param delta Le temps écoulé
+     */
+    public void update(float delta) {
+        lastSpawnCount = 0;
+        if (spawnPoints.size == 0) return;
+
+        // Vague vaincue : la suivante n'attend pas la fin de l'intervalle
+        if (wave > 0 && pending == 0 && enemyManager.getTotalCount() == 0) {
+            waveTimer = Math.min(waveTimer, CLEARED_WAVE_DELAY);
+        }
+
+        waveTimer -= delta;
+        if (waveTimer <= 0f) {
+            startWave();
+            waveTimer += waveInterval;
+        }
+
+        int room = maxAlive - enemyManager.getTotalCount();
+        int count = Math.max(0, Math.min(pending, Math.min(spawnBudget, room)));
+        for (int i = 0; i < count; i++) {
+            spawnNext();
+        }
+        pending -= count;
+        lastSpawnCount = count;
+    }
+
+    /**
+     * Lance la vague suivante : ses ennemis s'ajoutent à ceux encore en attente.
+     */
+    public void startWave() {
+        wave++;
+        int size = getWaveSize(wave);
+        pending += size;
+        System.out.println("Vague " + wave + " : " + size + " ennemis (" + pending + " en attente)");
+    }
+
+    /**
+     * Fait apparaître un ennemi. Les types tournent (Knight, Rogue, Mage), ainsi
+     * que les points d'apparition, légèrement décalés pour ne pas s'empiler.
+     */
+    private void spawnNext() {
+        Vector2 point = spawnPoints.get(spawnIndex % spawnPoints.size);
+        int slot = (spawnIndex / spawnPoints.size) % SPREAD_SLOTS;
+        float x = point.x + (slot - SPREAD_SLOTS / 2) * SPAWN_SPREAD;
+
+        byte type;
+        switch (spawnIndex % 3) {
+            case 0: type = EnemyStore.TYPE_KNIGHT; break;
+            case 1: type = EnemyStore.TYPE_ROGUE; break;
+            default: type = EnemyStore.TYPE_MAGE; break;
+        }
+
+        enemyManager.spawn(type, x, point.y);
+        spawnIndex++;
+    }
+
+    /**
+     * @param wave Le numéro de vague (à partir de 1)
+     * @return Le nombre d'ennemis de cette vague
+     */
+    public static int getWaveSize(int wave) {
+        double size = FIRST_WAVE_SIZE * Math.pow(WAVE_GROWTH, wave - 1);
+        return (int) Math.min(MAX_WAVE_SIZE, Math.round(size));
+    }
+
+    /**
+     * @param budget Ennemis apparus au plus par pas
+     */
+    public void setSpawnBudget(int budget) {
+        this.spawnBudget = Math.max(1, budget);
+    }
+
+    public int getSpawnBudget() {
+        return spawnBudget;
+    }
+
+    /**
+     * @param maxAlive Ennemis présents au plus dans le niveau
+     */
+    public void setMaxAlive(int maxAlive) {
+        this.maxAlive = maxAlive;
+    }
+
+    public int getMaxAlive() {
+        return maxAlive;
+    }
+
+    /**
+     * @param interval Délai entre deux vagues, en secondes
+     */
+    public void setWaveInterval(float interval) {
+        this.waveInterval = interval;
+    }
+
+    /**
+     * @return Le numéro de la vague en cours (0 avant la première)
+     */
+    public int getWave() {
+        return wave;
+    }
+
+    /**
+     * @return Le nombre d'ennemis des vagues lancées qui ne sont pas encore apparus
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * @return Le nombre d'ennemis apparus au dernier pas
+     */
+    public int getLastSpawnCount() {
+        return lastSpawnCount;
+    }
+
+    /**
+     * @return Le temps avant la prochaine vague, en secondes
+     */
+    public float getTimeToNextWave() {
+        return Math.max(0f, waveTimer);
+    }
+}
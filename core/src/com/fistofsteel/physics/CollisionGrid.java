@@ -0,0 +1,281 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Index spatial en grille uniforme pour la géométrie de collision statique d'un niveau.
+ *
+ * Chaque rectangle est référencé dans toutes les cellules qu'il recouvre. Une
+ * requête ne teste donc que les rectangles proches de la zone demandée : le coût
+ * dépend de la densité locale et non plus de la taille de la map.
+ *
+ * Les résultats sont toujours rendus dans l'ordre du tableau d'origine, ce qui
+ * garantit le même comportement que les anciennes boucles sur tous les rectangles
+ * (qui s'arrêtaient sur le premier rectangle touché). Les requêtes n'allouent rien.
+ * La grille n'est pas thread-safe : chaque thread qui l'interroge en parallèle
+ * utilise sa propre vue ({@link #createReader()}).
+ */
+public class CollisionGrid {
+
+    /** Taille de cellule par défaut : deux tuiles de 64 pixels. */
+    public static final float DEFAULT_CELL_SIZE = 128f;
+
+    private final Array<Rectangle> rects;
+    private final float cellSize;
+
+    private float originX;
+    private float originY;
+    private int columns;
+    private int rows;
+    private IntArray[] cells;
+
+    /** Dernière requête ayant vu chaque rectangle, pour ne pas le rendre deux fois. */
+    private final int[] queryMarks;
+    private int queryStamp = 0;
+
+    private final IntArray candidates = new IntArray();
+
+    /**
+     * Construit la grille avec la taille de cellule par défaut.
+     *
+     * @param rects Les rectangles de collision (ni copiés ni modifiés, ne doivent plus bouger)
+     */
+    public CollisionGrid(Array<Rectangle> rects) {
+        this(rects, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Construit la grille.
+     *
+     * @param rects Les rectangles de collision (ni copiés ni modifiés, ne doivent plus bouger)
+     * @param cellSize La taille d'une cellule en pixels
+     */
+    public CollisionGrid(Array<Rectangle> rects, float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("cellSize doit etre positif : " + cellSize);
+        }
+
+        this.rects = rects;
+        this.cellSize = cellSize;
+        this.queryMarks = new int[rects.size];
+
+        build();
+    }
+
+    private CollisionGrid(CollisionGrid shared) {
+        this.rects = shared.rects;
+        this.cellSize = shared.cellSize;
+        this.queryMarks = new int[rects.size];
+        this.originX = shared.originX;
+        this.originY = shared.originY;
+        this.columns = shared.columns;
+        this.rows = shared.rows;
+        this.cells = shared.cells;
+    }
+
+    /**
+     * Vue de la même grille avec ses propres tampons de requête. L'index est
+     * partagé (lecture seule) : la vue ne coûte qu'un tableau de marques.
+     *
+     * @return Une vue utilisable depuis un autre thread
+     */
+    public CollisionGrid createReader() {
+        return new CollisionGrid(this);
+    }
+
+    private void build() {
+        if (rects.size == 0) {
+            columns = 0;
+            rows = 0;
+            cells = new IntArray[0];
+            return;
+        }
+
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+
+        for (int i = 0; i < rects.size; i++) {
+            Rectangle rect = rects.get(i);
+            minX = Math.min(minX, rect.x);
+            minY = Math.min(minY, rect.y);
+            maxX = Math.max(maxX, rect.x + rect.width);
+            maxY = Math.max(maxY, rect.y + rect.height);
+        }
+
+        originX = minX;
+        originY = minY;
+        columns = (int) ((maxX - minX) / cellSize) + 1;
+        rows = (int) ((maxY - minY) / cellSize) + 1;
+        cells = new IntArray[columns * rows];
+
+        for (int i = 0; i < rects.size; i++) {
+            Rectangle rect = rects.get(i);
+            int startColumn = columnOf(rect.x);
+            int endColumn = columnOf(rect.x + rect.width);
+            int startRow = rowOf(rect.y);
+            int endRow = rowOf(rect.y + rect.height);
+
+            for (int row = startRow; row <= endRow; row++) {
+                for (int column = startColumn; column <= endColumn; column++) {
+                    int cellIndex = row * columns + column;
+                    IntArray cell = cells[cellIndex];
+                    if (cell == null) {
+                        cell = new IntArray(4);
+                        cells[cellIndex] = cell;
+                    }
+                    cell.add(i);
+                }
+            }
+        }
+    }
+
+    private int columnOf(float x) {
+        int column = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+
+    private int rowOf(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    /**
+     * Ajoute à resultSink tous les rectangles qui chevauchent la zone donnée,
+     * dans l'ordre du tableau d'origine. Le sink n'est pas vidé au préalable.
+     *
+     * @param area La zone testée
+     * @param resultSink Le tableau qui reçoit les rectangles touchés
+     * @return Le nombre de rectangles ajoutés
+     */
+    public int query(Rectangle area, Array<Rectangle> resultSink) {
+        collectCandidates(area);
+
+        int found = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            Rectangle rect = rects.get(candidates.get(i));
+            if (area.overlaps(rect)) {
+                resultSink.add(rect);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Variante de {@link #query} qui rend les indices des rectangles touchés
+     * dans le tableau d'origine, par ordre croissant.
+     *
+     * @param area La zone testée
+     * @param resultSink Le tableau qui reçoit les indices
+     * @return Le nombre d'indices ajoutés
+     */
+    public int queryIndices(Rectangle area, IntArray resultSink) {
+        collectCandidates(area);
+
+        int found = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            int rectIndex = candidates.get(i);
+            if (area.overlaps(rects.get(rectIndex))) {
+                resultSink.add(rectIndex);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Premier rectangle (dans l'ordre du tableau d'origine) qui chevauche la zone.
+     *
+     * @param area La zone testée
+     * @return Le rectangle touché, ou null
+     */
+    public Rectangle firstOverlap(Rectangle area) {
+        collectCandidates(area);
+
+        for (int i = 0; i < candidates.size; i++) {
+            Rectangle rect = rects.get(candidates.get(i));
+            if (area.overlaps(rect)) {
+                return rect;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param area La zone testée
+     * @return true si au moins un rectangle chevauche la zone
+     */
+    public boolean overlapsAny(Rectangle area) {
+        return firstOverlap(area) != null;
+    }
+
+    /**
+     * Remplit {@link #candidates} avec les indices (triés, sans doublon) des
+     * rectangles présents dans les cellules couvertes par la zone.
+     */
+    private void collectCandidates(Rectangle area) {
+        candidates.clear();
+        if (cells.length == 0) return;
+
+        queryStamp++;
+        if (queryStamp == 0) {
+            // Débordement du compteur : on repart d'un marquage propre
+            Arrays.fill(queryMarks, 0);
+            queryStamp = 1;
+        }
+
+        int startColumn = columnOf(area.x);
+        int endColumn = columnOf(area.x + area.width);
+        int startRow = rowOf(area.y);
+        int endRow = rowOf(area.y + area.height);
+
+        for (int row = startRow; row <= endRow; row++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                IntArray cell = cells[row * columns + column];
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size; i++) {
+                    int rectIndex = cell.get(i);
+                    if (queryMarks[rectIndex] != queryStamp) {
+                        queryMarks[rectIndex] = queryStamp;
+                        candidates.add(rectIndex);
+                    }
+                }
+            }
+        }
+
+        candidates.sort();
+    }
+
+    /**
+     * @return Les rectangles indexés (tableau d'origine)
+     */
+    public Array<Rectangle> getRects() {
+        return rects;
+    }
+
+    /**
+     * @return Le nombre de rectangles indexés
+     */
+    public int size() {
+        return rects.size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumnCount() {
+        return columns;
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+}
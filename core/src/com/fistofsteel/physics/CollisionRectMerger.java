@@ -0,0 +1,187 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Comparator;
+
+/**
+ * Fusion des rectangles de collision au chargement d'un niveau.
+ *
+ * Les level designers peignent la couche "Collisions" avec beaucoup de petits
+ * rectangles adjacents. Ce prétraitement les regroupe en rectangles maximaux par
+ * passes gloutonnes successives :
+ * - suppression des rectangles entièrement contenus dans un autre ;
+ * - fusion en ligne des rectangles de même hauteur qui se touchent ou se chevauchent ;
+ * - fusion en colonne des rectangles de même largeur qui se touchent ou se chevauchent.
+ *
+ * Les passes sont répétées tant que le nombre de rectangles diminue. La zone
+ * couverte est conservée, à la tolérance près (les maps Tiled dessinées à la
+ * main ont des coordonnées décimales).
+ */
+public class CollisionRectMerger {
+
+    /** Écart maximal (en pixels) toléré entre deux bords considérés comme alignés. */
+    public static final float DEFAULT_TOLERANCE = 0.5f;
+
+    private static final Comparator<Rectangle> BY_ROW = (a, b) -> {
+        int result = Float.compare(a.y, b.y);
+        return result != 0 ? result : Float.compare(a.x, b.x);
+    };
+
+    private static final Comparator<Rectangle> BY_COLUMN = (a, b) -> {
+        int result = Float.compare(a.x, b.x);
+        return result != 0 ? result : Float.compare(a.y, b.y);
+    };
+
+    /**
+     * Fusionne les rectangles avec la tolérance par défaut.
+     *
+     * @param rects Les rectangles d'origine (non modifiés)
+     * @return Un nouveau tableau de rectangles fusionnés
+     */
+    public static Array<Rectangle> merge(Array<Rectangle> rects) {
+        return merge(rects, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Fusionne les rectangles.
+     *
+     * @param rects Les rectangles d'origine (non modifiés)
+     * @param tolerance L'écart toléré entre deux bords alignés, en pixels
+     * @return Un nouveau tableau de rectangles fusionnés
+     */
+    public static Array<Rectangle> merge(Array<Rectangle> rects, float tolerance) {
+        Array<Rectangle> merged = new Array<>(rects.size);
+        for (Rectangle rect : rects) {
+            if (rect.width > 0f && rect.height > 0f) {
+                merged.add(new Rectangle(rect));
+            }
+        }
+
+        int previousSize;
+        do {
+            previousSize = merged.size;
+            removeContained(merged, tolerance);
+            mergeRows(merged, tolerance);
+            mergeColumns(merged, tolerance);
+        } while (merged.size < previousSize);
+
+        return merged;
+    }
+
+    /**
+     * Retire les rectangles entièrement recouverts par un autre.
+     */
+    private static void removeContained(Array<Rectangle> rects, float tolerance) {
+        if (rects.size < 2) return;
+
+        CollisionGrid grid = new CollisionGrid(rects);
+        IntArray candidates = new IntArray();
+        boolean[] removed = new boolean[rects.size];
+
+        for (int i = 0; i < rects.size; i++) {
+            Rectangle inner = rects.get(i);
+            candidates.clear();
+            grid.queryIndices(inner, candidates);
+
+            for (int c = 0; c < candidates.size; c++) {
+                int outerIndex = candidates.get(c);
+                if (outerIndex == i || removed[outerIndex]) continue;
+                Rectangle outer = rects.get(outerIndex);
+
+                // Deux rectangles identiques : on garde le premier
+                if (contains(outer, inner, tolerance) && !(contains(inner, outer, tolerance) && outerIndex > i)) {
+                    removed[i] = true;
+                    break;
+                }
+            }
+        }
+
+        compact(rects, removed);
+    }
+
+    /**
+     * Fusionne les rectangles alignés horizontalement (même y, même hauteur).
+     */
+    private static void mergeRows(Array<Rectangle> rects, float tolerance) {
+        rects.sort(BY_ROW);
+        boolean[] removed = new boolean[rects.size];
+
+        for (int i = 0; i < rects.size; i++) {
+            if (removed[i]) continue;
+            Rectangle current = rects.get(i);
+
+            boolean grown = true;
+            while (grown) {
+                grown = false;
+                for (int j = i + 1; j < rects.size && rects.get(j).y - current.y <= tolerance; j++) {
+                    if (removed[j]) continue;
+                    Rectangle other = rects.get(j);
+
+                    if (Math.abs(other.height - current.height) <= tolerance
+                        && rangesTouch(current.x, current.width, other.x, other.width, tolerance)) {
+                        current.merge(other);
+                        removed[j] = true;
+                        grown = true;
+                    }
+                }
+            }
+        }
+
+        compact(rects, removed);
+    }
+
+    /**
+     * Fusionne les rectangles alignés verticalement (même x, même largeur).
+     */
+    private static void mergeColumns(Array<Rectangle> rects, float tolerance) {
+        rects.sort(BY_COLUMN);
+        boolean[] removed = new boolean[rects.size];
+
+        for (int i = 0; i < rects.size; i++) {
+            if (removed[i]) continue;
+            Rectangle current = rects.get(i);
+
+            boolean grown = true;
+            while (grown) {
+                grown = false;
+                for (int j = i + 1; j < rects.size && rects.get(j).x - current.x <= tolerance; j++) {
+                    if (removed[j]) continue;
+                    Rectangle other = rects.get(j);
+
+                    if (Math.abs(other.width - current.width) <= tolerance
+                        && rangesTouch(current.y, current.height, other.y, other.height, tolerance)) {
+                        current.merge(other);
+                        removed[j] = true;
+                        grown = true;
+                    }
+                }
+            }
+        }
+
+        compact(rects, removed);
+    }
+
+    private static boolean rangesTouch(float startA, float lengthA, float startB, float lengthB, float tolerance) {
+        return startB <= startA + lengthA + tolerance && startA <= startB + lengthB + tolerance;
+    }
+
+    private static boolean contains(Rectangle outer, Rectangle inner, float tolerance) {
+        return inner.x >= outer.x - tolerance
+            && inner.y >= outer.y - tolerance
+            && inner.x + inner.width <= outer.x + outer.width + tolerance
+            && inner.y + inner.height <= outer.y + outer.height + tolerance;
+    }
+
+    private static void compact(Array<Rectangle> rects, boolean[] removed) {
+        int write = 0;
+        for (int read = 0; read < rects.size; read++) {
+            if (!removed[read]) {
+                rects.set(write++, rects.get(read));
+            }
+        }
+        rects.truncate(write);
+    }
+}
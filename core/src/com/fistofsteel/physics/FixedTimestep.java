@@ -0,0 +1,119 @@
+package com.fistofsteel.physics;
+
+/**
+ * Accumulateur de pas de temps fixe pour la simulation.
+ *
+ * Le temps réel de chaque frame est accumulé puis découpé en pas de durée
+ * constante : la physique se comporte de la même façon quel que soit le
+ * framerate, et une même durée de jeu donne toujours le même nombre de pas.
+ *
+ * Après un gros pic (chargement, fenêtre déplacée...), le nombre de pas
+ * rattrapés par frame est plafonné : le temps en trop est abandonné plutôt que
+ * de simuler toujours plus de pas chaque frame (spirale de la mort).
+ *
+ * Le reste de l'accumulateur donne le facteur d'interpolation (alpha) entre
+ * l'avant-dernier et le dernier état simulé, utilisé pour le rendu.
+ */
+public class FixedTimestep {
+
+    /** Pas de simulation par défaut : 120 Hz. */
+    public static final float DEFAULT_STEP = 1f / 120f;
+
+    /** Nombre maximal de pas simulés en une frame (environ 66 ms de jeu à 120 Hz). */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 8;
+
+    private final float step;
+    private final int maxStepsPerFrame;
+
+    private float accumulator = 0f;
+    private long totalSteps = 0;
+    private long droppedFrames = 0;
+
+    /**
+     * Crée un accumulateur à 120 Hz.
+     */
+    public FixedTimestep() {
+        this(DEFAULT_STEP, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+
+    /**
+     * @param step La durée d'un pas de simulation, en secondes
+     * @param maxStepsPerFrame Le nombre maximal de pas rattrapés par frame
+     */
+    public FixedTimestep(float step, int maxStepsPerFrame) {
+        if (step <= 0f) {
+            throw new IllegalArgumentException("step doit etre positif : " + step);
+        }
+        if (maxStepsPerFrame < 1) {
+            throw new IllegalArgumentException("maxStepsPerFrame doit etre >= 1 : " + maxStepsPerFrame);
+        }
+
+        this.step = step;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Ajoute le temps de la frame et retourne le nombre de pas à simuler.
+     *
+     * @param delta Le temps écoulé depuis la dernière frame, en secondes
+     * @return Le nombre de pas de durée {@link #getStep()} à simuler (0 possible)
+     */
+    public int advance(float delta) {
+        if (delta > 0f) {
+            accumulator += delta;
+        }
+
+        int steps = 0;
+        while (accumulator >= step && steps < maxStepsPerFrame) {
+            accumulator -= step;
+            steps++;
+        }
+
+        if (accumulator >= step) {
+            // Trop de retard : on abandonne le temps non simulé
+            accumulator %= step;
+            droppedFrames++;
+        }
+
+        totalSteps += steps;
+        return steps;
+    }
+
+    /**
+     * Facteur d'interpolation entre l'état précédent et l'état courant.
+     *
+     * @return Une valeur dans [0, 1[
+     */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    /**
+     * Vide l'accumulateur (changement de niveau, téléportation...).
+     */
+    public void reset() {
+        accumulator = 0f;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * @return Le nombre total de pas simulés depuis la création
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * @return Le nombre de frames où du temps a été abandonné à cause du plafond
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+}
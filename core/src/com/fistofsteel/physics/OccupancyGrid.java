@@ -0,0 +1,180 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Carte d'occupation des tuiles d'un niveau (un bit par tuile), construite au
+ * chargement à partir des rectangles de collision, pour les tests de ligne de vue.
+ *
+ * Une tuile est pleine si son centre est dans un rectangle de collision. Un rayon
+ * parcourt les tuiles qu'il traverse une à une (DDA, Amanatides et Woo) : son coût
+ * dépend de sa longueur en tuiles, pas du nombre de rectangles de la map. Un test
+ * par ennemi et par pas reste négligeable. Les requêtes n'allouent rien.
+ *
+ * En dehors de la carte, tout est considéré comme vide.
+ */
+public class OccupancyGrid {
+
+    private final float cellSize;
+    private final float originX;
+    private final float originY;
+    private final int columns;
+    private final int rows;
+    private final long[] bits;
+
+    private int solidCount = 0;
+
+    /**
+     * Construit la carte d'occupation.
+     *
+     * @param rects Les rectangles de collision
+     * @param cellSize La taille d'une tuile en pixels
+     */
+    public OccupancyGrid(Array<Rectangle> rects, float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("cellSize doit etre positif : " + cellSize);
+        }
+        this.cellSize = cellSize;
+
+        if (rects.size == 0) {
+            originX = 0f;
+            originY = 0f;
+            columns = 0;
+            rows = 0;
+            bits = new long[0];
+            return;
+        }
+
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (Rectangle rect : rects) {
+            minX = Math.min(minX, rect.x);
+            minY = Math.min(minY, rect.y);
+            maxX = Math.max(maxX, rect.x + rect.width);
+            maxY = Math.max(maxY, rect.y + rect.height);
+        }
+
+        originX = (float) Math.floor(minX / cellSize) * cellSize;
+        originY = (float) Math.floor(minY / cellSize) * cellSize;
+        columns = (int) Math.ceil((maxX - originX) / cellSize);
+        rows = (int) Math.ceil((maxY - originY) / cellSize);
+        bits = new long[(columns * rows + 63) >> 6];
+
+        for (Rectangle rect : rects) {
+            // Tuiles dont le centre est dans le rectangle
+            int startColumn = Math.max(0, MathUtils.ceil((rect.x - originX) / cellSize - 0.5f));
+            int endColumn = Math.min(columns - 1, MathUtils.ceil((rect.x + rect.width - originX) / cellSize - 0.5f) - 1);
+            int startRow = Math.max(0, MathUtils.ceil((rect.y - originY) / cellSize - 0.5f));
+            int endRow = Math.min(rows - 1, MathUtils.ceil((rect.y + rect.height - originY) / cellSize - 0.5f) - 1);
+
+            for (int row = startRow; row <= endRow; row++) {
+                for (int column = startColumn; column <= endColumn; column++) {
+                    int index = row * columns + column;
+                    if ((bits[index >> 6] & (1L << index)) == 0) {
+                        bits[index >> 6] |= 1L << index;
+                        solidCount++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param column La colonne de la tuile
+     * @param row La ligne de la tuile
+     * @return true si la tuile est pleine (false en dehors de la carte)
+     */
+    public boolean isSolidCell(int column, int row) {
+        if (column < 0 || row < 0 || column >= columns || row >= rows) return false;
+        int index = row * columns + column;
+        return (bits[index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     * @return true si le point est dans une tuile pleine
+     */
+    public boolean isSolid(float x, float y) {
+        return isSolidCell(MathUtils.floor((x - originX) / cellSize), MathUtils.floor((y - originY) / cellSize));
+    }
+
+    /**
+     * Lance un rayon de (x0, y0) vers (x1, y1).
+     *
+     * @return La fraction du segment parcourue avant d'entrer dans une tuile pleine
+     *         (0 si le départ est dans une tuile pleine), ou 1 si le segment est dégagé
+     */
+    public float raycast(float x0, float y0, float x1, float y1) {
+        float gridX0 = (x0 - originX) / cellSize;
+        float gridY0 = (y0 - originY) / cellSize;
+        float gridX1 = (x1 - originX) / cellSize;
+        float gridY1 = (y1 - originY) / cellSize;
+
+        int column = MathUtils.floor(gridX0);
+        int row = MathUtils.floor(gridY0);
+        if (isSolidCell(column, row)) return 0f;
+
+        float deltaX = gridX1 - gridX0;
+        float deltaY = gridY1 - gridY0;
+        int stepX = deltaX > 0f ? 1 : (deltaX < 0f ? -1 : 0);
+        int stepY = deltaY > 0f ? 1 : (deltaY < 0f ? -1 : 0);
+
+        // Fraction du segment pour traverser une tuile, et avant la prochaine frontière
+        float tDeltaX = stepX != 0 ? Math.abs(1f / deltaX) : Float.POSITIVE_INFINITY;
+        float tDeltaY = stepY != 0 ? Math.abs(1f / deltaY) : Float.POSITIVE_INFINITY;
+        float tMaxX = stepX > 0 ? (column + 1 - gridX0) * tDeltaX
+                    : stepX < 0 ? (gridX0 - column) * tDeltaX : Float.POSITIVE_INFINITY;
+        float tMaxY = stepY > 0 ? (row + 1 - gridY0) * tDeltaY
+                    : stepY < 0 ? (gridY0 - row) * tDeltaY : Float.POSITIVE_INFINITY;
+
+        int steps = Math.abs(MathUtils.floor(gridX1) - column) + Math.abs(MathUtils.floor(gridY1) - row);
+        for (int i = 0; i < steps; i++) {
+            float t;
+            if (tMaxX < tMaxY) {
+                column += stepX;
+                t = tMaxX;
+                tMaxX += tDeltaX;
+            } else {
+                row += stepY;
+                t = tMaxY;
+                tMaxY += tDeltaY;
+            }
+
+            if (isSolidCell(column, row)) {
+                return Math.min(t, 1f);
+            }
+        }
+        return 1f;
+    }
+
+    /**
+     * @return true si aucune tuile pleine ne coupe le segment entre les deux points
+     */
+    public boolean hasLineOfSight(float x0, float y0, float x1, float y1) {
+        return raycast(x0, y0, x1, y1) >= 1f;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumnCount() {
+        return columns;
+    }
+
+    public int getRowCount() {
+        return rows;
+    }
+
+    /**
+     * @return Le nombre de tuiles pleines
+     */
+    public int getSolidCount() {
+        return solidCount;
+    }
+}
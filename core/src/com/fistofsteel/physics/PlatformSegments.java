@@ -0,0 +1,242 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Surfaces praticables d'un niveau, précalculées au chargement à partir des
+ * rectangles de collision.
+ *
+ * Un segment est une portion horizontale du dessus d'un rectangle avec de la
+ * place au-dessus : les parties recouvertes par un autre rectangle (mur posé
+ * sur le sol, marche) sont retirées, et les dessus adjacents à la même hauteur
+ * sont recollés. Chaque extrémité sait si elle donne sur un mur ou sur le vide.
+ *
+ * Un ennemi qui connaît son segment détecte bords et murs en comparant sa
+ * position aux extrémités, sans interroger la géométrie à chaque pas.
+ */
+public class PlatformSegments {
+
+    /** Hauteur au-dessus d'une surface dans laquelle un rectangle la coupe. */
+    public static final float CUT_HEIGHT = 45f;
+
+    /** Bande (au-dessus de la surface) où un rectangle au bout du segment compte comme un mur. */
+    public static final float WALL_PROBE_BOTTOM = 5f;
+    public static final float WALL_PROBE_TOP = 45f;
+    public static final float WALL_PROBE_DEPTH = 10f;
+
+    /** Largeur minimale d'un segment : en dessous, ce n'est qu'un coin de rectangle. */
+    public static final float MIN_WIDTH = 1f;
+
+    /** Tolérance verticale pour considérer des pieds posés sur un segment. */
+    public static final float STAND_TOLERANCE = 0.5f;
+
+    /**
+     * Une surface praticable : [left, right] à la hauteur y.
+     */
+    public static class Segment {
+        public final float left;
+        public final float right;
+        public final float y;
+        public final boolean leftWall;
+        public final boolean rightWall;
+
+        public Segment(float left, float right, float y, boolean leftWall, boolean rightWall) {
+            this.left = left;
+            this.right = right;
+            this.y = y;
+            this.leftWall = leftWall;
+            this.rightWall = rightWall;
+        }
+
+        /**
+         * @param footX La position X testée (milieu des pieds)
+         * @param footY La hauteur des pieds
+         * @return true si des pieds à cette position reposent sur le segment
+         */
+        public boolean supports(float footX, float footY) {
+            return footX >= left && footX <= right && Math.abs(footY - y) <= STAND_TOLERANCE;
+        }
+
+        public float getWidth() {
+            return right - left;
+        }
+    }
+
+    private final Array<Segment> segments;
+    private final CollisionGrid segmentGrid;
+
+    private final Rectangle lookupArea = new Rectangle();
+    private final IntArray lookupResults = new IntArray();
+
+    private PlatformSegments(Array<Segment> segments) {
+        this.segments = segments;
+
+        // Chaque segment est indexé comme une bande fine autour de sa hauteur
+        Array<Rectangle> bands = new Array<>(segments.size);
+        for (Segment segment : segments) {
+            bands.add(new Rectangle(segment.left, segment.y - STAND_TOLERANCE,
+                                    segment.getWidth(), STAND_TOLERANCE * 2f));
+        }
+        this.segmentGrid = new CollisionGrid(bands);
+    }
+
+    private PlatformSegments(Array<Segment> segments, CollisionGrid segmentGrid) {
+        this.segments = segments;
+        this.segmentGrid = segmentGrid;
+    }
+
+    /**
+     * Vue des mêmes segments avec ses propres tampons de recherche, pour un
+     * autre thread. Les segments sont partagés.
+     *
+     * @return Une vue utilisable depuis un autre thread
+     */
+    public PlatformSegments createReader() {
+        return new PlatformSegments(segments, segmentGrid.createReader());
+    }
+
+    /**
+     * Calcule les segments praticables d'un niveau.
+     *
+     * @param rects Les rectangles de collision (après fusion)
+     * @param grid L'index de ces rectangles
+     * @return Les segments, triés par hauteur puis de gauche à droite
+     */
+    public static PlatformSegments build(Array<Rectangle> rects, CollisionGrid grid) {
+        Array<Segment> pieces = new Array<>();
+        Array<Rectangle> covering = new Array<>();
+        Rectangle band = new Rectangle();
+        float[] intervals = new float[16];
+        float[] remaining = new float[16];
+
+        for (Rectangle rect : rects) {
+            float top = rect.y + rect.height;
+            if (rect.width <= 0f) continue;
+
+            // Le chevauchement est strict : le rectangle lui-même et ses voisins
+            // à la même hauteur ne coupent pas la surface
+            band.set(rect.x, top, rect.width, CUT_HEIGHT);
+            covering.clear();
+            grid.query(band, covering);
+
+            intervals[0] = rect.x;
+            intervals[1] = rect.x + rect.width;
+            int count = 1;
+
+            for (Rectangle cover : covering) {
+                float coverLeft = cover.x;
+                float coverRight = cover.x + cover.width;
+                if (remaining.length < (count + 1) * 2) {
+                    remaining = new float[(count + 1) * 4];
+                }
+
+                // Soustrait [coverLeft, coverRight] de chaque intervalle restant
+                int written = 0;
+                for (int i = 0; i < count; i++) {
+                    float left = intervals[i * 2];
+                    float right = intervals[i * 2 + 1];
+                    if (coverRight <= left || coverLeft >= right) {
+                        remaining[written * 2] = left;
+                        remaining[written * 2 + 1] = right;
+                        written++;
+                        continue;
+                    }
+                    if (coverLeft > left) {
+                        remaining[written * 2] = left;
+                        remaining[written * 2 + 1] = coverLeft;
+                        written++;
+                    }
+                    if (coverRight < right) {
+                        remaining[written * 2] = coverRight;
+                        remaining[written * 2 + 1] = right;
+                        written++;
+                    }
+                }
+
+                float[] swap = intervals;
+                intervals = remaining;
+                remaining = swap;
+                count = written;
+            }
+
+            for (int i = 0; i < count; i++) {
+                pieces.add(new Segment(intervals[i * 2], intervals[i * 2 + 1], top, false, false));
+            }
+        }
+
+        pieces.sort((a, b) -> a.y != b.y ? Float.compare(a.y, b.y) : Float.compare(a.left, b.left));
+
+        Array<Segment> segments = new Array<>(pieces.size);
+        int i = 0;
+        while (i < pieces.size) {
+            Segment first = pieces.get(i);
+            float left = first.left;
+            float right = first.right;
+            int j = i + 1;
+
+            // Recolle les dessus adjacents à la même hauteur (rectangles non fusionnés)
+            while (j < pieces.size && pieces.get(j).y == first.y && pieces.get(j).left <= right) {
+                right = Math.max(right, pieces.get(j).right);
+                j++;
+            }
+
+            i = j;
+            if (right - left < MIN_WIDTH) continue;
+
+            band.set(left - WALL_PROBE_DEPTH, first.y + WALL_PROBE_BOTTOM,
+                     WALL_PROBE_DEPTH, WALL_PROBE_TOP - WALL_PROBE_BOTTOM);
+            boolean leftWall = grid.overlapsAny(band);
+            band.setX(right);
+            boolean rightWall = grid.overlapsAny(band);
+
+            segments.add(new Segment(left, right, first.y, leftWall, rightWall));
+        }
+
+        return new PlatformSegments(segments);
+    }
+
+    /**
+     * Segment sur lequel reposent des pieds à cette position.
+     *
+     * @param footX La position X des pieds
+     * @param footY La hauteur des pieds
+     * @return Le segment, ou null si les pieds ne reposent sur aucune surface
+     */
+    public Segment find(float footX, float footY) {
+        lookupArea.set(footX - 0.01f, footY - 0.01f, 0.02f, 0.02f);
+        lookupResults.clear();
+        if (segmentGrid.queryIndices(lookupArea, lookupResults) == 0) return null;
+
+        return segments.get(lookupResults.first());
+    }
+
+    /**
+     * Surface la plus haute sous un point (spawn d'un ennemi).
+     *
+     * @param footX La position X des pieds
+     * @param footY La hauteur des pieds
+     * @param tolerance Marge autorisée sous la surface (point de spawn légèrement enfoncé)
+     * @return Le segment, ou null s'il n'y a que du vide sous le point
+     */
+    public Segment findBelow(float footX, float footY, float tolerance) {
+        Segment best = null;
+        for (Segment segment : segments) {
+            if (footX < segment.left || footX > segment.right) continue;
+            if (segment.y > footY + tolerance) continue;
+            if (best == null || segment.y > best.y) {
+                best = segment;
+            }
+        }
+        return best;
+    }
+
+    public Array<Segment> getSegments() {
+        return segments;
+    }
+
+    public int size() {
+        return segments.size;
+    }
+}
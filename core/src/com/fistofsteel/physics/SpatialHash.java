@@ -0,0 +1,268 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Broadphase pour les entités qui bougent (ennemis, items...), reconstruit à chaque pas.
+ *
+ * Contrairement à {@link CollisionGrid}, la zone couverte n'est pas connue à l'avance :
+ * les cellules sont hachées dans une table de taille fixe. Chaque boîte est référencée
+ * dans toutes les cellules qu'elle recouvre ; une requête ne teste que les boîtes des
+ * cellules couvertes par la zone demandée. Tester N projectiles contre M ennemis coûte
+ * donc environ N + M au lieu de N x M.
+ *
+ * Utilisation à chaque pas : {@link #clear()}, puis {@link #add} pour chaque entité
+ * (l'indice rendu est l'ordre d'ajout), puis autant de requêtes que nécessaire. Les
+ * bornes sont copiées à l'ajout : une entité qui bouge ensuite doit être réindexée.
+ *
+ * Comme pour {@link CollisionGrid}, les résultats sont rendus par indice croissant
+ * et, une fois les tableaux dimensionnés, ni la reconstruction ni les requêtes
+ * n'allouent. La table n'est pas thread-safe.
+ */
+public class SpatialHash {
+
+    /** Taille de cellule par défaut : un peu plus qu'une hitbox d'ennemi. */
+    public static final float DEFAULT_CELL_SIZE = 128f;
+
+    private static final int MIN_TABLE_SIZE = 64;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    private float[] minX = new float[16];
+    private float[] minY = new float[16];
+    private float[] maxX = new float[16];
+    private float[] maxY = new float[16];
+    private int size = 0;
+
+    /** Début de chaque alvéole dans {@link #entries} (tableSize + 1 valeurs). */
+    private int[] bucketStart = new int[MIN_TABLE_SIZE + 1];
+    private int[] bucketCursor = new int[MIN_TABLE_SIZE];
+    private int[] entries = new int[32];
+    private int tableSize = MIN_TABLE_SIZE;
+    private boolean dirty = false;
+
+    /** Dernière requête ayant vu chaque boîte, pour ne pas la rendre deux fois. */
+    private int[] queryMarks = new int[16];
+    private int queryStamp = 0;
+
+    private final IntArray overlapping = new IntArray();
+
+    /**
+     * Crée une table avec la taille de cellule par défaut.
+     */
+    public SpatialHash() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize La taille d'une cellule en pixels
+     */
+    public SpatialHash(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("cellSize doit etre positif : " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    /**
+     * Vide la table avant de réindexer les entités.
+     */
+    public void clear() {
+        size = 0;
+        dirty = true;
+    }
+
+    /**
+     * Indexe une boîte.
+     *
+     * @param bounds La boîte (copiée)
+     * @return L'indice de la boîte, dans l'ordre d'ajout depuis le dernier {@link #clear()}
+     */
+    public int add(Rectangle bounds) {
+        return add(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Indexe une boîte.
+     *
+     * @return L'indice de la boîte, dans l'ordre d'ajout depuis le dernier {@link #clear()}
+     */
+    public int add(float x, float y, float width, float height) {
+        if (size == minX.length) {
+            int capacity = size * 2;
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            queryMarks = Arrays.copyOf(queryMarks, capacity);
+        }
+
+        minX[size] = x;
+        minY[size] = y;
+        maxX[size] = x + width;
+        maxY[size] = y + height;
+        dirty = true;
+        return size++;
+    }
+
+    /**
+     * Range les boîtes dans les alvéoles (tri par comptage, deux passes).
+     * Les boîtes sont parcourues par indice croissant : chaque alvéole reste triée.
+     */
+    private void build() {
+        dirty = false;
+
+        tableSize = MathUtils.nextPowerOfTwo(Math.max(MIN_TABLE_SIZE, size * 2));
+        if (bucketStart.length < tableSize + 1) {
+            bucketStart = new int[tableSize + 1];
+            bucketCursor = new int[tableSize];
+        }
+        Arrays.fill(bucketStart, 0, tableSize + 1, 0);
+
+        int references = 0;
+        for (int i = 0; i < size; i++) {
+            int startColumn = cellOf(minX[i]);
+            int endColumn = cellOf(maxX[i]);
+            int startRow = cellOf(minY[i]);
+            int endRow = cellOf(maxY[i]);
+
+            for (int row = startRow; row <= endRow; row++) {
+                for (int column = startColumn; column <= endColumn; column++) {
+                    bucketStart[bucketOf(column, row) + 1]++;
+                    references++;
+                }
+            }
+        }
+
+        for (int bucket = 1; bucket <= tableSize; bucket++) {
+            bucketStart[bucket] += bucketStart[bucket - 1];
+        }
+        if (entries.length < references) {
+            entries = new int[MathUtils.nextPowerOfTwo(references)];
+        }
+        System.arraycopy(bucketStart, 0, bucketCursor, 0, tableSize);
+
+        for (int i = 0; i < size; i++) {
+            int startColumn = cellOf(minX[i]);
+            int endColumn = cellOf(maxX[i]);
+            int startRow = cellOf(minY[i]);
+            int endRow = cellOf(maxY[i]);
+
+            for (int row = startRow; row <= endRow; row++) {
+                for (int column = startColumn; column <= endColumn; column++) {
+                    entries[bucketCursor[bucketOf(column, row)]++] = i;
+                }
+            }
+        }
+    }
+
+    private int cellOf(float coordinate) {
+        return MathUtils.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucketOf(int column, int row) {
+        int hash = column * 0x8da6b343 ^ row * 0xd8163841;
+        return (hash ^ (hash >>> 16)) & (tableSize - 1);
+    }
+
+    /**
+     * Ajoute à resultSink les indices des boîtes qui chevauchent la zone donnée,
+     * par ordre croissant. Le sink n'est pas vidé au préalable.
+     *
+     * @param area La zone testée
+     * @param resultSink Le tableau qui reçoit les indices
+     * @return Le nombre d'indices ajoutés
+     */
+    public int query(Rectangle area, IntArray resultSink) {
+        collectOverlaps(area);
+        resultSink.addAll(overlapping);
+        return overlapping.size;
+    }
+
+    /**
+     * Premier indice (le plus petit) dont la boîte chevauche la zone.
+     *
+     * @param area La zone testée
+     * @return L'indice de la boîte touchée, ou -1
+     */
+    public int firstOverlap(Rectangle area) {
+        collectOverlaps(area);
+        return overlapping.size > 0 ? overlapping.first() : -1;
+    }
+
+    /**
+     * Même test que {@link Rectangle#overlaps} : un bord commun ne compte pas.
+     */
+    private boolean overlaps(int index, Rectangle area) {
+        return area.x < maxX[index] && area.x + area.width > minX[index] &&
+               area.y < maxY[index] && area.y + area.height > minY[index];
+    }
+
+    /**
+     * Remplit {@link #overlapping} avec les indices (triés, sans doublon) des
+     * boîtes qui chevauchent la zone, parmi celles des cellules couvertes.
+     */
+    private void collectOverlaps(Rectangle area) {
+        overlapping.clear();
+        if (dirty) build();
+        if (size == 0) return;
+
+        int startColumn = cellOf(area.x);
+        int endColumn = cellOf(area.x + area.width);
+        int startRow = cellOf(area.y);
+        int endRow = cellOf(area.y + area.height);
+        long cellCount = (long) (endColumn - startColumn + 1) * (endRow - startRow + 1);
+
+        if (cellCount > tableSize) {
+            // Zone immense : toutes les alvéoles seraient visitées, autant tout tester
+            for (int i = 0; i < size; i++) {
+                if (overlaps(i, area)) overlapping.add(i);
+            }
+            return;
+        }
+
+        queryStamp++;
+        if (queryStamp == 0) {
+            // Débordement du compteur : on repart d'un marquage propre
+            Arrays.fill(queryMarks, 0);
+            queryStamp = 1;
+        }
+
+        boolean sorted = true;
+        for (int row = startRow; row <= endRow; row++) {
+            for (int column = startColumn; column <= endColumn; column++) {
+                int bucket = bucketOf(column, row);
+                for (int e = bucketStart[bucket]; e < bucketStart[bucket + 1]; e++) {
+                    int index = entries[e];
+                    if (queryMarks[index] == queryStamp) continue;
+                    queryMarks[index] = queryStamp;
+
+                    if (overlaps(index, area)) {
+                        if (overlapping.size > 0 && index < overlapping.peek()) sorted = false;
+                        overlapping.add(index);
+                    }
+                }
+            }
+        }
+
+        // Une seule cellule (cas courant) rend déjà des indices croissants
+        if (!sorted) overlapping.sort();
+    }
+
+    /**
+     * @return Le nombre de boîtes indexées
+     */
+    public int size() {
+        return size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,167 @@
+package com.fistofsteel.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Collision continue (swept AABB) d'une boîte en mouvement contre la géométrie statique.
+ *
+ * Utilisation, une fois par pas de simulation :
+ * 1. {@link #gather} interroge la {@link CollisionGrid} une seule fois avec la zone
+ *    balayée par la boîte (position de départ + déplacement complet) ;
+ * 2. {@link #sweepY} puis {@link #sweepX} (ou l'inverse) calculent, axe par axe, le
+ *    déplacement possible avant le premier contact parmi les rectangles collectés.
+ *
+ * Le déplacement n'est jamais découpé en sous-pas : un corps rapide (chute rapide,
+ * boule de feu) s'arrête sur une plateforme fine au lieu de passer au travers.
+ *
+ * Une boîte qui s'enfonce déjà légèrement dans un rectangle (moins de la moitié de
+ * sa taille) est ramenée au contact, comme le faisaient les anciens tests de
+ * chevauchement. En cas d'égalité, le premier rectangle dans l'ordre du niveau gagne.
+ *
+ * Chaque corps (ou chaque passe qui déplace des corps l'un après l'autre) garde sa
+ * propre instance : rien n'est alloué après le premier pas.
+ */
+public class SweptAabb {
+
+    /** Marge absorbant les arrondis : une boîte posée exactement sur un rectangle le touche. */
+    public static final float CONTACT_EPSILON = 0.01f;
+
+    private final Array<Rectangle> nearby = new Array<>(16);
+    private final Rectangle sweepArea = new Rectangle();
+    private Rectangle hit;
+
+    /**
+     * Collecte les rectangles statiques que la boîte peut toucher pendant ce déplacement.
+     *
+     * @param grid La grille de collision du niveau (null = aucun obstacle)
+     * @param box La boîte à sa position de départ
+     * @param dx Le déplacement horizontal prévu
+     * @param dy Le déplacement vertical prévu
+     * @return Le nombre de rectangles collectés
+     */
+    public int gather(CollisionGrid grid, Rectangle box, float dx, float dy) {
+        nearby.clear();
+        hit = null;
+        if (grid == null) return 0;
+
+        sweepArea.set(
+            Math.min(box.x, box.x + dx) - CONTACT_EPSILON,
+            Math.min(box.y, box.y + dy) - CONTACT_EPSILON,
+            box.width + Math.abs(dx) + 2 * CONTACT_EPSILON,
+            box.height + Math.abs(dy) + 2 * CONTACT_EPSILON
+        );
+        return grid.query(sweepArea, nearby);
+    }
+
+    /**
+     * Oublie les rectangles collectés (changement de niveau, corps mort...).
+     */
+    public void clear() {
+        nearby.clear();
+        hit = null;
+    }
+
+    /**
+     * Déplacement vertical possible avant contact.
+     *
+     * @param box La boîte à sa position courante
+     * @param dy Le déplacement vertical voulu
+     * @return dy, raccourci au premier contact ; {@link #getHit()} donne le rectangle touché
+     */
+    public float sweepY(Rectangle box, float dy) {
+        hit = null;
+        if (dy == 0f) return 0f;
+
+        float allowed = dy;
+        for (int i = 0; i < nearby.size; i++) {
+            Rectangle rect = nearby.get(i);
+            if (!overlapsOnX(box, rect)) continue;
+
+            if (dy < 0f) {
+                float gap = rect.y + rect.height - box.y;  // <= 0 : rectangle sous la boîte
+                if (gap <= box.height / 2f && gap > allowed) {
+                    allowed = gap;
+                    hit = rect;
+                }
+            } else {
+                float gap = rect.y - (box.y + box.height);  // >= 0 : rectangle au-dessus
+                if (gap >= -box.height / 2f && gap < allowed) {
+                    allowed = gap;
+                    hit = rect;
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Déplacement horizontal possible avant contact.
+     *
+     * @param box La boîte à sa position courante
+     * @param dx Le déplacement horizontal voulu
+     * @return dx, raccourci au premier contact ; {@link #getHit()} donne le rectangle touché
+     */
+    public float sweepX(Rectangle box, float dx) {
+        hit = null;
+        if (dx == 0f) return 0f;
+
+        float allowed = dx;
+        for (int i = 0; i < nearby.size; i++) {
+            Rectangle rect = nearby.get(i);
+            if (!overlapsOnY(box, rect)) continue;
+
+            if (dx < 0f) {
+                float gap = rect.x + rect.width - box.x;  // <= 0 : rectangle à gauche
+                if (gap <= box.width / 2f && gap > allowed) {
+                    allowed = gap;
+                    hit = rect;
+                }
+            } else {
+                float gap = rect.x - (box.x + box.width);  // >= 0 : rectangle à droite
+                if (gap >= -box.width / 2f && gap < allowed) {
+                    allowed = gap;
+                    hit = rect;
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Premier rectangle collecté qui chevauche la boîte (dans l'ordre du niveau).
+     * La boîte doit rester dans la zone passée au dernier {@link #gather}.
+     *
+     * @param box La boîte testée
+     * @return Le rectangle touché, ou null
+     */
+    public Rectangle firstOverlap(Rectangle box) {
+        for (int i = 0; i < nearby.size; i++) {
+            Rectangle rect = nearby.get(i);
+            if (box.overlaps(rect)) return rect;
+        }
+        return null;
+    }
+
+    /**
+     * @return Le rectangle qui a arrêté le dernier balayage, ou null
+     */
+    public Rectangle getHit() {
+        return hit;
+    }
+
+    /**
+     * @return Le nombre de rectangles collectés au dernier {@link #gather}
+     */
+    public int getNearbyCount() {
+        return nearby.size;
+    }
+
+    private static boolean overlapsOnX(Rectangle box, Rectangle rect) {
+        return box.x + CONTACT_EPSILON < rect.x + rect.width && box.x + box.width - CONTACT_EPSILON > rect.x;
+    }
+
+    private static boolean overlapsOnY(Rectangle box, Rectangle rect) {
+        return box.y + CONTACT_EPSILON < rect.y + rect.height && box.y + box.height - CONTACT_EPSILON > rect.y;
+    }
+}
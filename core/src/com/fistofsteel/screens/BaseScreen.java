@@ -8,15 +8,19 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.fistofsteel.FistOfSteelGame;
 import com.fistofsteel.audio.AudioManager;
+import com.fistofsteel.graphics.RenderContext;
 
 /**
  * Classe de base pour tous les écrans du jeu.
  * Gère les ressources communes (batch, fonts, background).
+ * Le batch, le ShapeRenderer et les fonts viennent du RenderContext du jeu
+ * et ne sont jamais libérés par l'écran.
  */
 public abstract class BaseScreen implements Screen {
     
     protected final FistOfSteelGame game;
     protected final AudioManager audioManager;
+    protected final RenderContext renderContext;
     
     protected SpriteBatch batch;
     protected ShapeRenderer shapeRenderer;
@@ -37,21 +41,23 @@ public abstract class BaseScreen implements Screen {
     public BaseScreen(FistOfSteelGame game, AudioManager audioManager) {
         this.game = game;
         this.audioManager = audioManager;
+        this.renderContext = game.getRenderContext();
     }
     
     @Override
     public void show() {
-        batch = new SpriteBatch();
-        shapeRenderer = new ShapeRenderer();
+        batch = renderContext.getBatch();
+        shapeRenderer = renderContext.getShapeRenderer();
         
-        font = new BitmapFont();
+        font = renderContext.getFont();
         font.getData().setScale(1.8f);
         
-        titleFont = new BitmapFont();
+        titleFont = renderContext.getTitleFont();
         titleFont.getData().setScale(3f);
         
         screenWidth = Gdx.graphics.getWidth();
         screenHeight = Gdx.graphics.getHeight();
+        renderContext.setScreenProjection(screenWidth, screenHeight);
         
         initializeFonts();
         loadBackground();
@@ -108,6 +114,7 @@ public abstract class BaseScreen implements Screen {
     public void resize(int width, int height) {
         screenWidth = width;
         screenHeight = height;
+        renderContext.setScreenProjection(width, height);
         createElements();
     }
     
@@ -122,10 +129,7 @@ public abstract class BaseScreen implements Screen {
     
     @Override
     public void dispose() {
-        if (batch != null) batch.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
-        if (font != null) font.dispose();
-        if (titleFont != null) titleFont.dispose();
         if (backgroundTexture != null) backgroundTexture.dispose();
+        backgroundTexture = null;
     }
 }
\ No newline at end of file
@@ -22,8 +22,16 @@ public class CharactersChoice extends BaseScreen {
     
     private String selectedCharacter = null;
     
+    /** Partie lancée en mode survie (vagues sans fin). */
+    private final boolean survival;
+    
     public CharactersChoice(FistOfSteelGame game, AudioManager audioManager) {
+        this(game, audioManager, false);
+    }
+    
+    public CharactersChoice(FistOfSteelGame game, AudioManager audioManager, boolean survival) {
         super(game, audioManager);
+        this.survival = survival;
     }
     
     @Override
@@ -72,11 +80,11 @@ public class CharactersChoice extends BaseScreen {
         if (Gdx.input.justTouched()) {
             if (hugoButton.isClicked(mouseX, mouseY)) {
                 selectedCharacter = "Hugo";
-                game.setScreen(new GameManager(game, "Hugo", audioManager));
+                game.setScreen(new LoadingScreen(game, audioManager, "Hugo", survival));
                 return;
             } else if (alexisButton.isClicked(mouseX, mouseY)) {
                 selectedCharacter = "Alexis";
-                game.setScreen(new GameManager(game, "Alexis", audioManager));
+                game.setScreen(new LoadingScreen(game, audioManager, "Alexis", survival));
                 return;
             } else if (backButton.isClicked(mouseX, mouseY)) {
                 game.setScreen(new MenuScreen(game, audioManager));
@@ -90,7 +98,7 @@ public class CharactersChoice extends BaseScreen {
         
         batch.begin();
         renderBackground();
-        titleFont.draw(batch, "CHOOSE YOUR FIGHTER", 0, screenHeight * 0.86f, screenWidth, Align.center, false);
+        titleFont.draw(batch, survival ? "SURVIVAL - CHOOSE YOUR FIGHTER" : "CHOOSE YOUR FIGHTER", 0, screenHeight * 0.86f, screenWidth, Align.center, false);
         
         if (selectedCharacter == null) {
             font.setColor(Color.LIGHT_GRAY);
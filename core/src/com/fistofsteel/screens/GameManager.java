@@ -7,17 +7,13 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
 
 import com.fistofsteel.FistOfSteelGame;
+import com.fistofsteel.assets.AssetCache;
 import com.fistofsteel.audio.AudioManager;
 import com.fistofsteel.entities.player.Player;
 import com.fistofsteel.entities.player.PlayerData;  // ← AJOUTÉ : Import PlayerData
@@ -27,7 +23,17 @@ import com.fistofsteel.entities.managers.EnemyManager;
 import com.fistofsteel.entities.managers.ProjectileManager;
 import com.fistofsteel.entities.managers.WorldItemManager;
 import com.fistofsteel.entities.managers.LevelExitManager;
+import com.fistofsteel.graphics.CachedTiledMapRenderer;
+import com.fistofsteel.graphics.ParallaxBackground;
+import com.fistofsteel.graphics.RenderContext;
 import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.level.Level;
+import com.fistofsteel.level.LevelAssets;
+import com.fistofsteel.level.LevelPreloader;
+import com.fistofsteel.level.LevelTransitionTimer;
+import com.fistofsteel.level.WaveDirector;
+import com.fistofsteel.physics.FixedTimestep;
+import com.fistofsteel.ui.PauseMenu;
 import com.fistofsteel.ui.PlayerHUD;
 import com.fistofsteel.utils.EntityConstants;
 import com.fistofsteel.utils.HitboxDebugger;
@@ -37,36 +43,81 @@ import com.fistofsteel.utils.HitboxDebugger;
  * Gère le chargement des niveaux, l'update des entités et le rendu.
  * 
  * MODIFIÉ : Supporte maintenant la persistance des données joueur entre les niveaux.
+ * 
+ * Le GameManager vit pendant toute la partie : caméra, joueur, HUD et projectiles
+ * sont créés une seule fois ; SpriteBatch et ShapeRenderer viennent du RenderContext du jeu. Seul le {@link Level}
+ * (map, ennemis, items, portes) est détruit et reconstruit à chaque changement de niveau.
+ * 
+ * La pause est un état interne : le niveau reste figé à l'écran sous le {@link PauseMenu},
+ * sans changement de Screen ni réinitialisation.
+ * 
+ * La simulation avance par pas fixes ({@link FixedTimestep}, 120 Hz) indépendamment du
+ * framerate ; le rendu interpole les positions entre les deux derniers pas.
+ * 
+ * En mode survie ({@link #enableSurvivalMode()}), un {@link WaveDirector} fait
+ * apparaître des vagues sans fin ; les portes de sortie et la victoire sont
+ * ignorées, seule la mort du joueur termine la partie. Le HUD affiche le nombre
+ * d'ennemis, le temps de frame et le temps de simulation.
+ * 
+ * La zone visible (vue de la caméra élargie d'une marge) est calculée une fois
+ * par frame ; chaque passe de rendu ne dessine que les entités qui la touchent.
  */
 public class GameManager implements Screen {
+    /** Temps accordé par frame au préchargement du niveau suivant. */
+    private static final int PREFETCH_BUDGET_MS = 2;
+    
+    /** Niveau joué en mode survie. */
+    public static final String SURVIVAL_LEVEL = "level1_example";
+    
+    /** Lissage des temps affichés en mode survie (part de la nouvelle mesure). */
+    private static final float TIMING_SMOOTHING = 0.1f;
+    
+    /** Marge autour de la vue dans laquelle les entités sont encore dessinées. */
+    private static final float CULL_MARGIN = 64f;
+    
     private FistOfSteelGame game;
     private OrthographicCamera camera;
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
+    private TextureRegion whiteRegion;
     private Player player;
     private InputHandler inputHandler;
     private AudioManager audioManager;
     
-    private TiledMap tiledMap;
-    private OrthogonalTiledMapRenderer tiledMapRenderer;
-    private Array<Rectangle> collisionRects;
-    private Array<Rectangle> deathRects;
+    private LevelAssets levelAssets;
+    private Level level;
+    private CachedTiledMapRenderer tiledMapRenderer;
     
     private String selectedCharacter;
     private String currentLevel;
     
     private Texture backgroundTexture;
-    private float mapWidthInPixels;
-    private float mapHeightInPixels;
+    private ParallaxBackground background;
     
     private boolean debugMode = false;
+    private boolean initialized = false;
+    private boolean paused = false;
+    /** Vrai quand la simulation vient de passer la main à un autre écran pendant cette frame */
+    private boolean screenReplaced = false;
     
-    private WorldItemManager worldItemManager;
-    private EnemyManager enemyManager;
-    private LevelExitManager levelExitManager;
     private ProjectileManager projectileManager;
     
     private PlayerHUD playerHUD;
+    private PauseMenu pauseMenu;
+    
+    private final FixedTimestep timestep = new FixedTimestep();
+    
+    private boolean survivalMode = false;
+    private WaveDirector waveDirector;
+    private float frameMillis = 0f;
+    private float updateMillis = 0f;
+    private float victoryLogTimer = 0f;
+    
+    /** Zone visible de la frame, et compteurs de rendu de la frame précédente (overlay F3). */
+    private final Rectangle visibleBounds = new Rectangle();
+    private int spritesDrawn = 0;
+    private int spritesTotal = 0;
+    private int drawCalls = 0;
     
     // ═══════════════════════════════════════════════════════════════════════════
     // AJOUTÉ : Données du joueur à conserver entre les niveaux
@@ -118,9 +169,54 @@ public class GameManager implements Screen {
             System.out.println("GameManager créé pour nouvelle partie");
         }
     }
+    
+    /**
+     * Constructeur avec assets déjà chargés (depuis le LoadingScreen).
+     * Le GameManager devient propriétaire des assets et les libère dans dispose().
+     * 
+     * @param game L'instance du jeu
+     * @param selectedCharacter Le personnage choisi
+     * @param audioManager Le gestionnaire audio
+     * @param levelAssets Les assets du niveau, entièrement chargés
+     * @param playerData Les données du joueur à restaurer (null = nouvelle partie)
+     */
+    public GameManager(FistOfSteelGame game, String selectedCharacter, AudioManager audioManager, LevelAssets levelAssets, PlayerData playerData) {
+        this(game, selectedCharacter, audioManager, levelAssets.getLevelName(), playerData);
+        this.levelAssets = levelAssets;
+    }
 
+    /**
+     * Passe la partie en mode survie (à appeler avant le premier show()).
+     */
+    public void enableSurvivalMode() {
+        survivalMode = true;
+        System.out.println("Mode survie active");
+    }
+    
+    /**
+     * @return true si la partie est en mode survie
+     */
+    public boolean isSurvivalMode() {
+        return survivalMode;
+    }
+    
     @Override
     public void show() {
+        if (!initialized) {
+            initialize();
+        }
+        
+        Gdx.input.setInputProcessor(inputHandler);
+        HitboxDebugger.setShapeRenderer(shapeRenderer);
+        HitboxDebugger.setDebugEnabled(debugMode);
+    }
+    
+    /**
+     * Crée les objets de longue durée puis charge le premier niveau.
+     */
+    private void initialize() {
+        initialized = true;
+        
         System.out.println("\n========================================");
         System.out.println("INITIALISATION DE GAMEMANAGER");
         System.out.println("Niveau: " + currentLevel);
@@ -133,15 +229,22 @@ public class GameManager implements Screen {
         camera.setToOrtho(false, viewportWidth, worldHeight);
         System.out.println("Camera initialisee");
         
-        batch = new SpriteBatch();
-        shapeRenderer = new ShapeRenderer();
-        System.out.println("SpriteBatch et ShapeRenderer crees");
+        RenderContext renderContext = game.getRenderContext();
+        batch = renderContext.getBatch();
+        shapeRenderer = renderContext.getShapeRenderer();
+        whiteRegion = renderContext.getWhiteRegion();
+        tiledMapRenderer = new CachedTiledMapRenderer(batch, renderContext.getTileCache(), RenderContext.TILE_CACHE_SIZE);
+        System.out.println("SpriteBatch et ShapeRenderer partages recuperes");
         
         inputHandler = new InputHandler(audioManager);
-        Gdx.input.setInputProcessor(inputHandler);
         System.out.println("InputHandler cree et connecte a AudioManager");
         
-        loadTiledMap();
+        if (levelAssets == null) {
+            // Lancé sans LoadingScreen : chargement synchrone
+            levelAssets = new LevelAssets(currentLevel, selectedCharacter);
+            levelAssets.finishLoading();
+        }
+        
         loadBackgroundFromTiled();
         
         if ("Alexis".equals(selectedCharacter)) {
@@ -160,16 +263,7 @@ public class GameManager implements Screen {
             System.out.println("Données du joueur restaurées depuis le niveau précédent");
         }
         
-        if (collisionRects != null && collisionRects.size > 0) {
-            player.setCollisionRects(collisionRects);
-            System.out.println("Collisions configurees pour le joueur (" + collisionRects.size + " rectangles)");
-        } else {
-            System.err.println("ATTENTION : Aucune collision chargee !");
-        }
-        
-        loadSpawnFromTiled();
-        
-        projectileManager = new ProjectileManager(mapWidthInPixels);
+        projectileManager = new ProjectileManager(0f);
         System.out.println("ProjectileManager cree");
         
         if (player instanceof Hugo) {
@@ -177,42 +271,51 @@ public class GameManager implements Screen {
             System.out.println("Hugo connecte au ProjectileManager");
         }
         
-        enemyManager = new EnemyManager(player);
-        enemyManager.setProjectileManager(projectileManager);
-        loadEnemiesFromTiled();
+        playerHUD = new PlayerHUD(renderContext);
+        pauseMenu = new PauseMenu(renderContext, audioManager);
+        System.out.println("HUD du joueur et menu pause initialises");
         
-        if (collisionRects != null) {
-            enemyManager.setCollisionRects(collisionRects);
-            System.out.println("Collisions configurees pour " + enemyManager.getTotalCount() + " ennemis");
-        }
+        LevelAssets firstLevel = levelAssets;
+        levelAssets = null;
+        loadLevel(firstLevel);
         
-        // ═══════════════════════════════════════════════════════════════════════════
-        // AJOUTÉ : Passer les zones de mort à EnemyManager
-        // ═══════════════════════════════════════════════════════════════════════════
-        if (deathRects != null) {
-            enemyManager.setDeathRects(deathRects);
-        }
+        System.out.println("\nGAMEMANAGER PRET !\n");
+    }
+    
+    /**
+     * Remplace le niveau courant par un niveau déjà chargé.
+     * Le nouveau niveau est construit avant de libérer l'ancien : les textures
+     * communes (ennemis du même type, items) ne sont jamais rechargées.
+     * 
+     * @param assets Les assets du niveau, entièrement chargés (le GameManager en devient propriétaire)
+     */
+    public void loadLevel(LevelAssets assets) {
+        System.out.println("Chargement du niveau " + assets.getLevelName());
         
-        worldItemManager = new WorldItemManager();
-        loadPotionsFromTiled();
-        loadItemsFromTiled();
+        Level previous = level;
+        level = new Level(assets, player, projectileManager);
+        level.getLevelExitManager().setUnlockListener(targetLevel -> LevelPreloader.prefetch(targetLevel, selectedCharacter));
+        currentLevel = level.getLevelName();
+        if (survivalMode) {
+            waveDirector = new WaveDirector(level.getEnemyManager(), level.getWaveSpawnPoints());
+        }
         
-        levelExitManager = new LevelExitManager();
-        loadExitsFromTiled();
+        if (previous != null) {
+            previous.dispose();
+        }
         
-        playerHUD = new PlayerHUD();
-        System.out.println("HUD du joueur initialise");
+        projectileManager.reset(level.getMapWidth());
+        tiledMapRenderer.setMap(level.getTiledMap());
+        background = createBackground(level.getTiledMap());
+        playerHUD.resetTimer();
+        timestep.reset();
         
         audioManager.startLevelMusic();
         System.out.println("Musique level demarree");
         
-        HitboxDebugger.setDebugEnabled(debugMode);
-        
         updateCamera();
         camera.update();
         batch.setProjectionMatrix(camera.combined);
-        
-        System.out.println("\nGAMEMANAGER PRET !\n");
     }
     
     /**
@@ -220,7 +323,7 @@ public class GameManager implements Screen {
      */
     private void loadBackgroundFromTiled() {
         try {
-            backgroundTexture = new Texture(Gdx.files.internal("assets/maps/Gemini_Generated_Image_3ijzal3ijzal3ijz_2 (1).png"));
+            backgroundTexture = AssetCache.acquireTexture(LevelAssets.BACKGROUND_PATH);
             backgroundTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
             System.out.println("Background charge avec repetition X");
         } catch (Exception e) {
@@ -228,339 +331,16 @@ public class GameManager implements Screen {
         }
     }
     
-    /**
-     * Charge la map Tiled.
-     */
-    private void loadTiledMap() {
-        try {
-            String mapPath = "maps/" + currentLevel + ".tmx";
-            tiledMap = new TmxMapLoader().load(mapPath);
-            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
-            
-            int mapWidthInTiles = tiledMap.getProperties().get("width", Integer.class);
-            int mapHeightInTiles = tiledMap.getProperties().get("height", Integer.class);
-            int tileWidth = tiledMap.getProperties().get("tilewidth", Integer.class);
-            int tileHeight = tiledMap.getProperties().get("tileheight", Integer.class);
-            
-            mapWidthInPixels = mapWidthInTiles * tileWidth;
-            mapHeightInPixels = mapHeightInTiles * tileHeight;
-            
-            System.out.println("Map Tiled: " + mapWidthInPixels + "x" + mapHeightInPixels + " pixels");
-            
-            loadCollisions();
-            loadDeathZones();
-        } catch (Exception e) {
-            System.err.println("Erreur chargement map: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Charge les rectangles de collision depuis la map.
-     */
-    private void loadCollisions() {
-        collisionRects = new Array<>();
-        if (tiledMap == null) return;
-        
-        MapLayer collisionLayer = tiledMap.getLayers().get("Collisions");
-        if (collisionLayer != null) {
-            for (MapObject object : collisionLayer.getObjects()) {
-                if (object instanceof RectangleMapObject) {
-                    RectangleMapObject rectObject = (RectangleMapObject) object;
-                    Rectangle rect = rectObject.getRectangle();
-                    collisionRects.add(new Rectangle(rect));
-                }
-            }
-            System.out.println("Collisions: " + collisionRects.size + " rectangles");
-        }
-    }
-    
-    /**
-     * Charge les zones de mort depuis la map.
-     */
-    private void loadDeathZones() {
-        deathRects = new Array<>();
-        if (tiledMap == null) return;
-        
-        MapLayer deathLayer = tiledMap.getLayers().get("Death");
-        if (deathLayer != null) {
-            for (MapObject object : deathLayer.getObjects()) {
-                if (object instanceof RectangleMapObject) {
-                    RectangleMapObject rectObject = (RectangleMapObject) object;
-                    Rectangle rect = rectObject.getRectangle();
-                    deathRects.add(new Rectangle(rect));
-                }
-            }
-            System.out.println("Zones de mort: " + deathRects.size + " rectangles");
-        } else {
-            System.out.println("Aucune layer 'Death' trouvee dans la map");
-        }
-    }
-    
-    /**
-     * Charge le point de spawn du joueur depuis la map.
-     */
-    private void loadSpawnFromTiled() {
-        if (tiledMap == null) return;
-        
-        MapLayer spawnLayer = tiledMap.getLayers().get("spawn");
-        if (spawnLayer == null) {
-            System.err.println("Layer 'spawn' introuvable !");
-            return;
-        }
-        
-        for (MapObject object : spawnLayer.getObjects()) {
-            String objectName = object.getName();
-            String className = object.getProperties().get("class", String.class);
-            
-            boolean isSpawn = "spawn".equalsIgnoreCase(className) || 
-                            "playerSpawn".equalsIgnoreCase(objectName);
-            
-            if (isSpawn) {
-                float tiledX = object.getProperties().get("x", Float.class);
-                float tiledY = object.getProperties().get("y", Float.class);
-                
-                float libgdxX = tiledX;
-                float libgdxY = tiledY;
-                
-                player.setPosition(libgdxX, libgdxY);
-                System.out.println("Spawn: (" + (int)libgdxX + ", " + (int)libgdxY + ")");
-                
-                if (collisionRects != null) {
-                    Rectangle playerHitbox = player.getHitbox();
-                    Rectangle testHitbox = new Rectangle(
-                        playerHitbox.x,
-                        playerHitbox.y - 5f,
-                        playerHitbox.width,
-                        playerHitbox.height
-                    );
-                    
-                    boolean playerGrounded = false;
-                    for (Rectangle collRect : collisionRects) {
-                        if (testHitbox.overlaps(collRect)) {
-                            playerGrounded = true;
-                            break;
-                        }
-                    }
-                    
-                    if (playerGrounded) {
-                        System.out.println("   Joueur bien positionne au sol");
-                    } else {
-                        System.err.println("   ATTENTION : Joueur pas au sol ! Verifiez le spawn dans Tiled");
-                    }
-                }
-                
-                return;
-            }
-        }
-        
-        System.err.println("Aucun spawn trouve dans le layer 'spawn' !");
-    }
-    
-    /**
-     * Charge les potions depuis la couche Tiled "Potions".
-     */
-    private void loadPotionsFromTiled() {
-        if (tiledMap == null || worldItemManager == null) return;
-        
-        MapLayer potionLayer = tiledMap.getLayers().get("Potions");
-        if (potionLayer == null) {
-            System.out.println("Layer 'Potions' non trouve");
-            return;
-        }
-        
-        int potionCount = 0;
-        
-        for (MapObject object : potionLayer.getObjects()) {
-            float tiledX = object.getProperties().get("x", Float.class);
-            float tiledY = object.getProperties().get("y", Float.class);
-            
-            float libgdxX = tiledX;
-            float libgdxY = tiledY;
-            
-            worldItemManager.spawnHealPotion(libgdxX, libgdxY);
-            potionCount++;
-        }
-        
-        System.out.println("Potions: " + potionCount + " chargees via WorldItemManager");
-    }
-    
-    /**
-     * Charge les items (armures, armes) depuis la couche Tiled "Items".
-     */
-    private void loadItemsFromTiled() {
-        if (tiledMap == null || worldItemManager == null) return;
-        
-        MapLayer itemsLayer = tiledMap.getLayers().get("Items");
-        if (itemsLayer == null) {
-            System.out.println("Layer 'Items' non trouve - Aucun item d'equipement");
-            return;
-        }
-        
-        int itemCount = 0;
-        
-        for (MapObject object : itemsLayer.getObjects()) {
-            float tiledX = object.getProperties().get("x", Float.class);
-            float tiledY = object.getProperties().get("y", Float.class);
-            
-            float libgdxX = tiledX;
-            float libgdxY = tiledY;
-            
-            String itemType = object.getProperties().get("type", "sword1", String.class);
-            
-            switch (itemType.toLowerCase()) {
-                case "armor_light":
-                    worldItemManager.spawnArmorLight(libgdxX, libgdxY);
-                    itemCount++;
-                    break;
-                case "armor_heavy":
-                    worldItemManager.spawnArmorHeavy(libgdxX, libgdxY);
-                    itemCount++;
-                    break;
-                case "sword1":
-                    worldItemManager.spawnSword1(libgdxX, libgdxY);
-                    itemCount++;
-                    break;
-                case "sword2":
-                    worldItemManager.spawnSword2(libgdxX, libgdxY);
-                    itemCount++;
-                    break;
-                case "sword3":
-                    worldItemManager.spawnSword3(libgdxX, libgdxY);
-                    itemCount++;
-                    break;
-                default:
-                    System.out.println("Type d'item non reconnu : " + itemType);
-            }
-        }
-        
-        System.out.println("Items d'equipement: " + itemCount + " charges");
-    }
-    
-    /**
-     * Charge les portes de sortie depuis la couche Tiled "Exits".
-     */
-    private void loadExitsFromTiled() {
-        if (tiledMap == null || levelExitManager == null) return;
-        
-        MapLayer exitsLayer = tiledMap.getLayers().get("Exits");
-        if (exitsLayer == null) {
-            System.out.println("Layer 'Exits' non trouve - Aucune porte de sortie");
-            return;
-        }
-        
-        int exitCount = 0;
-        
-        for (MapObject object : exitsLayer.getObjects()) {
-            float tiledX = object.getProperties().get("x", Float.class);
-            float tiledY = object.getProperties().get("y", Float.class);
-            
-            float libgdxX = tiledX;
-            float libgdxY = tiledY;
-            
-            String targetLevel = object.getProperties().get("targetLevel", "level2_example", String.class);
-            
-            levelExitManager.addExit(libgdxX, libgdxY, targetLevel);
-            exitCount++;
-        }
-        
-        System.out.println("Portes de sortie: " + exitCount + " chargees");
-    }
-    
-    /**
-     * Charge les ennemis depuis la couche Tiled "Enemies".
-     */
-    private void loadEnemiesFromTiled() {
-        System.out.println("\nChargement des ennemis...");
-        
-        if (tiledMap == null) {
-            System.out.println("tiledMap est NULL !");
-            return;
-        }
-        
-        MapLayer enemyLayer = tiledMap.getLayers().get("Enemies");
-        if (enemyLayer == null) {
-            System.out.println("Layer 'Enemies' non trouve");
-            return;
-        }
-        
-        System.out.println("Layer 'Enemies' trouve !");
-        System.out.println("Nombre d'objets dans la couche : " + enemyLayer.getObjects().getCount());
-        
-        int enemyCount = 0;
-        
-        for (MapObject object : enemyLayer.getObjects()) {
-            float tiledX = object.getProperties().get("x", Float.class);
-            float tiledY = object.getProperties().get("y", Float.class);
-            
-            float libgdxX = tiledX;
-            float libgdxY = tiledY;
-            
-            String enemyType = object.getProperties().get("type", "Knight", String.class);
-            
-            Float patrolMinObj = object.getProperties().get("patrolMin", Float.class);
-            Float patrolMaxObj = object.getProperties().get("patrolMax", Float.class);
-            
-            if ("Knight".equalsIgnoreCase(enemyType)) {
-                if (patrolMinObj != null && patrolMaxObj != null) {
-                    enemyManager.addKnight(libgdxX, libgdxY, 
-                                          libgdxX + patrolMinObj, 
-                                          libgdxX + patrolMaxObj);
-                } else {
-                    enemyManager.addKnight(libgdxX, libgdxY);
-                }
-                enemyCount++;
-            } else if ("Mage".equalsIgnoreCase(enemyType)) {
-                if (patrolMinObj != null && patrolMaxObj != null) {
-                    enemyManager.addMage(libgdxX, libgdxY, 
-                                        libgdxX + patrolMinObj, 
-                                        libgdxX + patrolMaxObj);
-                } else {
-                    enemyManager.addMage(libgdxX, libgdxY);
-                }
-                enemyCount++;
-            } else if ("Rogue".equalsIgnoreCase(enemyType)) {
-                if (patrolMinObj != null && patrolMaxObj != null) {
-                    enemyManager.addRogue(libgdxX, libgdxY, 
-                                         libgdxX + patrolMinObj, 
-                                         libgdxX + patrolMaxObj);
-                } else {
-                    enemyManager.addRogue(libgdxX, libgdxY);
-                }
-                enemyCount++;
-            } else if ("Boss".equalsIgnoreCase(enemyType)) {
-                enemyManager.addBoss(libgdxX, libgdxY);
-                enemyCount++;
-                System.out.println("BOSS Marvin charge !");
-            } else {
-                System.out.println("Type d'ennemi non reconnu : " + enemyType);
-            }
-        }
-        
-        stabilizeAllEnemies();
-        
-        System.out.println("Ennemis: " + enemyCount + " charges\n");
-    }
-    
-    /**
-     * Stabilise tous les ennemis en les faisant tomber au sol.
-     */
-    private void stabilizeAllEnemies() {
-        if (enemyManager == null) return;
-        
-        int maxAttempts = 100;
-        for (int i = 0; i < maxAttempts; i++) {
-            enemyManager.update(0.016f);
-        }
-        
-        System.out.println("Tous les ennemis stabilises apres " + maxAttempts + " frames");
-    }
-    
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        if (paused) {
+            renderPaused();
+            return;
+        }
+
         if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
             debugMode = !debugMode;
             HitboxDebugger.setDebugEnabled(debugMode);
@@ -571,90 +351,157 @@ public class GameManager implements Screen {
         // MODIFIÉ : Ouvrir le menu pause au lieu de quitter directement
         // ═══════════════════════════════════════════════════════════════════════════
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            System.out.println("Ouverture du menu pause");
-            game.setScreen(new PauseScreen(game, audioManager, this));
+            openPauseMenu();
+            renderWorld();
+            pauseMenu.render();
             return;
         }
 
-        player.update(delta);
-        enemyManager.update(delta);
+        long updateStart = System.nanoTime();
+        int steps = timestep.advance(delta);
+        screenReplaced = false;
+        for (int i = 0; i < steps; i++) {
+            if (!updateSimulation(timestep.getStep())) {
+                if (screenReplaced) {
+                    return;
+                }
+                // Niveau échangé en mémoire : il est dessiné dès cette frame
+                break;
+            }
+        }
+        float updateSample = (System.nanoTime() - updateStart) / 1000000f;
+        updateMillis += (updateSample - updateMillis) * TIMING_SMOOTHING;
+        frameMillis += (delta * 1000f - frameMillis) * TIMING_SMOOTHING;
+        
+        LevelPreloader.update(PREFETCH_BUDGET_MS);
+        
+        renderWorld();
+        
+        LevelTransitionTimer.stop();
+    }
+    
+    /**
+     * Avance la simulation d'un pas fixe : entités, combats, sorties et fin de partie.
+     * 
+     * @param step La durée du pas, en secondes
+     * @return false si la simulation doit s'arrêter pour cette frame (changement d'écran ou de niveau)
+     */
+    private boolean updateSimulation(float step) {
+        EnemyManager enemyManager = level.getEnemyManager();
+        WorldItemManager worldItemManager = level.getWorldItemManager();
+        LevelExitManager levelExitManager = level.getLevelExitManager();
+        
+        player.update(step);
+        if (waveDirector != null) {
+            waveDirector.update(step);
+        }
+        updateActivityView(enemyManager);
+        enemyManager.update(step);
         
         if (projectileManager != null) {
-            projectileManager.update(delta);
+            projectileManager.update(step);
             projectileManager.checkPlayerCollisions(player);
             projectileManager.checkEnemyCollisions(enemyManager);
             projectileManager.removeInactiveProjectiles();
         }
         
+        level.updatePlayerTriggers();
+        
         if (worldItemManager != null) {
-            worldItemManager.update(delta);       
+            worldItemManager.update(step);
             worldItemManager.checkPlayerCollisions(player);
         }
         
         if (playerHUD != null) {
-            playerHUD.update(delta);
+            playerHUD.update(step);
         }
         
         if (checkGameOver()) {
+            screenReplaced = true;
             game.setScreen(new GameOverScreen(game, audioManager));
-            return;
+            dispose();
+            return false;
         }
         
-        if (levelExitManager != null) {
+        if (levelExitManager != null && !survivalMode) {
             levelExitManager.update(enemyManager.getEnemiesKilled(), enemyManager.getTotalEnemiesSpawned());
             
-            String nextLevel = levelExitManager.checkPlayerOnExit(player);
+            String nextLevel = levelExitManager.checkPlayerOnExit();
             if (nextLevel != null) {
                 System.out.println("Changement de niveau -> " + nextLevel);
-                loadNextLevel(nextLevel);
-                return;
+                screenReplaced = loadNextLevel(nextLevel);
+                return false;
             }
         }
         
-        if (checkVictory()) {
+        if (!survivalMode && checkVictory(step)) {
+            screenReplaced = true;
             game.setScreen(new WinnerScreen(game, audioManager));
-            return;
+            dispose();
+            return false;
         }
         
         enemyManager.checkEnemyAttacks(player);
         enemyManager.checkPlayerAttack(player);
         enemyManager.removeDeadEnemies();
         
+        return true;
+    }
+    
+    /**
+     * Dessine le niveau, les entités et le HUD dans leur état courant, sans les mettre à jour.
+     */
+    private void renderWorld() {
+        EnemyManager enemyManager = level.getEnemyManager();
+        WorldItemManager worldItemManager = level.getWorldItemManager();
+        LevelExitManager levelExitManager = level.getLevelExitManager();
+        
+        float alpha = timestep.getAlpha();
+        player.interpolate(alpha);
+        enemyManager.interpolate(alpha);
+        if (projectileManager != null) {
+            projectileManager.interpolate(alpha);
+        }
+        
         updateCamera();
         camera.update();
+        updateVisibleBounds();
+        batch.totalRenderCalls = 0;
 
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         renderBackground();
         batch.end();
         
-        if (tiledMapRenderer != null) {
-            tiledMapRenderer.setView(camera);
-            tiledMapRenderer.render();
-        }
+        tiledMapRenderer.setView(camera);
+        int mapDrawCalls = tiledMapRenderer.render();
         
         batch.begin();
         player.render(batch);
-        enemyManager.render(batch);
+        int drawn = 1;
+        int total = 1;
+        drawn += enemyManager.render(batch, visibleBounds);
+        total += enemyManager.getTotalCount();
         
         if (projectileManager != null) {
-            projectileManager.render(batch);
+            drawn += projectileManager.render(batch, visibleBounds);
+            total += projectileManager.getProjectileCount();
         }
         
         if (worldItemManager != null) {
-            worldItemManager.render(batch);
+            drawn += worldItemManager.render(batch, visibleBounds);
+            total += worldItemManager.getItemCount();
         }
         
         if (levelExitManager != null) {
-            levelExitManager.render(batch, camera);
+            drawn += levelExitManager.render(batch, whiteRegion, visibleBounds);
+            total += levelExitManager.getExitCount();
         }
         
+        // Barres de vie en dernier : une seule texture, un seul appel de dessin
+        enemyManager.renderHealthBars(batch, whiteRegion, visibleBounds);
         batch.end();
         
-        if (shapeRenderer != null) {
-            enemyManager.renderHealthBars(shapeRenderer, camera);
-        }
-        
         if (debugMode) {
             HitboxDebugger.renderPlayerHitbox(player, camera);
             enemyManager.renderDebugHitboxes(camera);
@@ -662,7 +509,102 @@ public class GameManager implements Screen {
         
         if (playerHUD != null) {
             playerHUD.render(batch, player, enemyManager.getEnemiesKilled(), enemyManager.getTotalEnemiesSpawned());
+            if (waveDirector != null) {
+                int projectiles = projectileManager != null ? projectileManager.getProjectileCount() : 0;
+                playerHUD.renderSurvivalStats(batch, waveDirector, enemyManager.getAliveCount(), projectiles,
+                                              frameMillis, updateMillis);
+            }
+            if (debugMode) {
+                playerHUD.renderDebugStats(batch, enemyManager, drawCalls, spritesDrawn, spritesTotal);
+            }
         }
+        
+        drawCalls = batch.totalRenderCalls + mapDrawCalls;
+        spritesDrawn = drawn;
+        spritesTotal = total;
+    }
+    
+    /**
+     * Calcule la zone visible de la frame : la vue de la caméra élargie de {@link #CULL_MARGIN}.
+     */
+    private void updateVisibleBounds() {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        visibleBounds.set(camera.position.x - width / 2f - CULL_MARGIN,
+                          camera.position.y - height / 2f - CULL_MARGIN,
+                          width + CULL_MARGIN * 2f,
+                          height + CULL_MARGIN * 2f);
+    }
+    
+    /**
+     * @return La zone visible de la dernière frame, en coordonnées du monde
+     */
+    public Rectangle getVisibleBounds() {
+        return visibleBounds;
+    }
+    
+    /**
+     * Frame de pause : le niveau figé, puis le menu pause par-dessus.
+     */
+    private void renderPaused() {
+        PauseMenu.Action action = pauseMenu.update();
+        
+        if (action == PauseMenu.Action.MAIN_MENU) {
+            returnToMenu();
+            return;
+        }
+        
+        renderWorld();
+        
+        if (action == PauseMenu.Action.RESUME) {
+            closePauseMenu();
+        } else {
+            pauseMenu.render();
+        }
+    }
+    
+    /**
+     * Met le jeu en pause et affiche le menu pause.
+     */
+    public void openPauseMenu() {
+        if (paused) return;
+        
+        paused = true;
+        if (pauseMenu != null) {
+            pauseMenu.open();
+        }
+        audioManager.pauseLevelMusic();
+        System.out.println("Jeu en pause");
+    }
+    
+    /**
+     * Ferme le menu pause et reprend la partie là où elle s'était arrêtée.
+     */
+    public void closePauseMenu() {
+        if (!paused) return;
+        
+        paused = false;
+        audioManager.resumeLevelMusic();
+        System.out.println("Reprise du jeu");
+    }
+    
+    /**
+     * @return true si le menu pause est affiché
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+    
+    /**
+     * Quitte la partie depuis le menu pause et retourne au menu principal.
+     */
+    private void returnToMenu() {
+        System.out.println("Retour au menu principal");
+        audioManager.stopLevelMusic();
+        audioManager.startMenuMusic();
+        
+        game.setScreen(new MenuScreen(game, audioManager));
+        dispose();
     }
     
     /**
@@ -676,14 +618,9 @@ public class GameManager implements Screen {
             return true;
         }
         
-        if (deathRects != null && deathRects.size > 0) {
-            Rectangle playerHitbox = player.getHitbox();
-            for (Rectangle deathRect : deathRects) {
-                if (playerHitbox.overlaps(deathRect)) {
-                    System.out.println("GAME OVER - Le joueur est tombe dans une zone de mort");
-                    return true;
-                }
-            }
+        if (level.isPlayerInDeathZone()) {
+            System.out.println("GAME OVER - Le joueur est tombe dans une zone de mort");
+            return true;
         }
         
         return false;
@@ -692,10 +629,16 @@ public class GameManager implements Screen {
     /**
      * Vérifie si le joueur a gagné (niveau 4 terminé).
      * 
+     * @param step La durée du pas, en secondes (cadence du log de debug)
      * @return true si le jeu est gagné
      */
-    private boolean checkVictory() {
-        if (System.currentTimeMillis() % 1000 < 16) {
+    private boolean checkVictory(float step) {
+        EnemyManager enemyManager = level.getEnemyManager();
+        
+        // Une fois par seconde de jeu, quelle que soit la cadence des frames
+        victoryLogTimer += step;
+        if (victoryLogTimer >= 1f) {
+            victoryLogTimer = 0f;
             System.out.println("Debug victoire - Niveau: " + currentLevel + 
                               " | Ennemis vivants: " + enemyManager.getAliveCount() + 
                               " | Total ennemis: " + enemyManager.getTotalEnemiesSpawned());
@@ -720,57 +663,107 @@ public class GameManager implements Screen {
      * Charge le niveau suivant EN CONSERVANT les données du joueur.
      * 
      * @param nextLevelName Le nom du prochain niveau
+     * @return true si l'écran de chargement a remplacé le jeu, false si le niveau a été échangé en mémoire
      */
-    private void loadNextLevel(String nextLevelName) {
+    private boolean loadNextLevel(String nextLevelName) {
         System.out.println("\n========================================");
         System.out.println("CHANGEMENT DE NIVEAU");
         System.out.println("Ancien: " + currentLevel + " -> Nouveau: " + nextLevelName);
         System.out.println("========================================\n");
         
-        // ═══════════════════════════════════════════════════════════════════════════
-        // MODIFIÉ : Sauvegarder les données du joueur avant de changer de niveau
-        // ═══════════════════════════════════════════════════════════════════════════
-        PlayerData savedData = new PlayerData(player);
+        // Le joueur (PV, équipement) est conservé : seul le niveau est remplacé.
+        // Niveau déjà préchargé : simple échange en mémoire, sinon écran de chargement
+        boolean prefetched = LevelPreloader.isReady(nextLevelName, selectedCharacter);
+        LevelTransitionTimer.start(nextLevelName, prefetched);
         
-        // Créer le nouveau GameManager AVEC les données du joueur
-        game.setScreen(new GameManager(game, selectedCharacter, audioManager, nextLevelName, savedData));
+        if (prefetched) {
+            loadLevel(LevelPreloader.take(nextLevelName, selectedCharacter));
+            return false;
+        }
+        game.setScreen(new LoadingScreen(game, audioManager, this, nextLevelName));
+        return true;
+    }
+    
+    /**
+     * Construit le fond du niveau depuis ses couches image, ou à défaut
+     * depuis le background commun, qui suit alors le monde.
+     * 
+     * @param map La map du niveau
+     * @return Le fond du niveau
+     */
+    private ParallaxBackground createBackground(TiledMap map) {
+        ParallaxBackground parallax = ParallaxBackground.fromMap(map);
+        if (parallax.getLayerCount() == 0 && backgroundTexture != null) {
+            parallax.addLayer(backgroundTexture, 1f, 0f, 0f, 1f);
+        }
+        return parallax;
     }
     
     /**
-     * Affiche le background répété horizontalement.
+     * Affiche le background : un quad par couche, sur la seule largeur visible.
      */
     private void renderBackground() {
-        if (backgroundTexture == null) return;
+        if (background == null) return;
         
-        float bgWidth = backgroundTexture.getWidth();
-        float bgHeight = backgroundTexture.getHeight();
-        
-        for (float x = 0; x < mapWidthInPixels; x += bgWidth) {
-            batch.draw(backgroundTexture, x, 0f, bgWidth, bgHeight);
-        }
+        background.render(batch, camera);
     }
     
     /**
      * Met à jour la position de la caméra pour suivre le joueur.
      */
     private void updateCamera() {
-        float mapWidth = mapWidthInPixels;
-        float mapHeight = mapHeightInPixels;
-        
-        float playerX = player.getX() + EntityConstants.PLAYER_WIDTH / 2;
-        camera.position.x = playerX;
-        camera.position.y = mapHeight / 2;
-        
+        camera.position.x = getCameraCenterX(player.getRenderX());
+        camera.position.y = level.getMapHeight() / 2;
+    }
+    
+    /**
+     * Centre horizontal de la caméra quand le joueur est en playerX, bloqué aux bords de la map.
+     * 
+     * @param playerX La position X du joueur
+     * @return La position X du centre de la caméra
+     */
+    private float getCameraCenterX(float playerX) {
+        float mapWidth = level.getMapWidth();
+        float centerX = playerX + EntityConstants.PLAYER_WIDTH / 2;
         float halfViewportWidth = camera.viewportWidth / 2;
         
-        if (camera.position.x < halfViewportWidth) {
-            camera.position.x = halfViewportWidth;
+        if (centerX < halfViewportWidth) {
+            centerX = halfViewportWidth;
         }
-        if (camera.position.x > mapWidth - halfViewportWidth) {
-            camera.position.x = mapWidth - halfViewportWidth;
+        if (centerX > mapWidth - halfViewportWidth) {
+            centerX = mapWidth - halfViewportWidth;
         }
+        return centerX;
+    }
+    
+    /**
+     * Donne aux ennemis la vue de la caméra au pas courant, calculée depuis la
+     * position simulée du joueur (et non interpolée) pour des réveils déterministes.
+     * 
+     * @param enemyManager Le gestionnaire d'ennemis du niveau
+     */
+    private void updateActivityView(EnemyManager enemyManager) {
+        float centerX = getCameraCenterX(player.getX());
+        float centerY = level.getMapHeight() / 2;
+        enemyManager.setActivityView(centerX - camera.viewportWidth / 2, centerY - camera.viewportHeight / 2,
+                                     camera.viewportWidth, camera.viewportHeight);
     }
 
+    public String getSelectedCharacter() {
+        return selectedCharacter;
+    }
+    
+    public Player getPlayer() {
+        return player;
+    }
+    
+    /**
+     * @return Le niveau en cours (null avant le premier show())
+     */
+    public Level getLevel() {
+        return level;
+    }
+    
     @Override 
     public void resize(int width, int height) {
         float worldHeight = 20 * 64;
@@ -784,6 +777,10 @@ public class GameManager implements Screen {
         if (playerHUD != null) {
             playerHUD.resize(width, height);
         }
+        
+        if (pauseMenu != null) {
+            pauseMenu.resize(width, height);
+        }
     }
     
     @Override 
@@ -793,7 +790,10 @@ public class GameManager implements Screen {
     
     @Override 
     public void resume() {
-        audioManager.resumeLevelMusic();
+        // La musique reste coupée tant que le menu pause est ouvert
+        if (!paused) {
+            audioManager.resumeLevelMusic();
+        }
     }
     
     @Override 
@@ -807,20 +807,31 @@ public class GameManager implements Screen {
     public void dispose() {
         System.out.println("\nNettoyage GameManager...");
         
-        if (batch != null) batch.dispose();
-        if (shapeRenderer != null) shapeRenderer.dispose();
-        if (worldItemManager != null) worldItemManager.dispose();
-        if (enemyManager != null) enemyManager.dispose();
+        if (level != null) level.dispose();
+        if (levelAssets != null) levelAssets.dispose();
         if (player != null) player.dispose();
-        if (tiledMap != null) tiledMap.dispose();
         if (tiledMapRenderer != null) tiledMapRenderer.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
+        AssetCache.releaseTexture(backgroundTexture);
         if (playerHUD != null) playerHUD.dispose();
-        if (levelExitManager != null) levelExitManager.dispose();
         if (projectileManager != null) projectileManager.dispose();
         
-        HitboxDebugger.dispose();
+        level = null;
+        waveDirector = null;
+        levelAssets = null;
+        batch = null;
+        shapeRenderer = null;
+        whiteRegion = null;
+        player = null;
+        tiledMapRenderer = null;
+        backgroundTexture = null;
+        background = null;
+        playerHUD = null;
+        pauseMenu = null;
+        projectileManager = null;
+        
+        HitboxDebugger.setShapeRenderer(null);
+        LevelPreloader.cancel();
         
         System.out.println("GameManager dispose\n");
     }
-}
\ No newline at end of file
+}
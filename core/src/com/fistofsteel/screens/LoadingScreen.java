@@ -0,0 +1,199 @@
+package com.fistofsteel.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.fistofsteel.FistOfSteelGame;
+import com.fistofsteel.audio.AudioManager;
+import com.fistofsteel.entities.player.PlayerData;
+import com.fistofsteel.graphics.RenderContext;
+import com.fistofsteel.level.LevelAssets;
+import com.fistofsteel.level.LevelPreloader;
+
+/**
+ * Écran de chargement d'un niveau.
+ * Charge les assets du niveau par petites tranches à chaque frame (la fenêtre
+ * reste réactive) et ne lance le GameManager qu'une fois tout chargé.
+ * Si le niveau était en cours de préchargement, le chargement reprend où il en était.
+ */
+public class LoadingScreen implements Screen {
+
+    /** Temps de chargement accordé par frame, pour rester proche de 60 FPS. */
+    private static final int LOAD_BUDGET_MS = 12;
+
+    private FistOfSteelGame game;
+    private AudioManager audioManager;
+    private String selectedCharacter;
+    private String levelName;
+    private PlayerData playerData;
+    private GameManager gameManager;
+    private boolean survival = false;
+
+    private LevelAssets levelAssets;
+    private long loadStartTime;
+
+    private SpriteBatch batch;
+    private ShapeRenderer shapeRenderer;
+    private BitmapFont font;
+
+    private float screenWidth;
+    private float screenHeight;
+
+    /**
+     * Constructeur pour une nouvelle partie (premier niveau).
+     *
+     * @param game L'instance du jeu
+     * @param audioManager Le gestionnaire audio
+     * @param selectedCharacter Le personnage choisi
+     */
+    public LoadingScreen(FistOfSteelGame game, AudioManager audioManager, String selectedCharacter) {
+        this(game, audioManager, selectedCharacter, "level1_example", null);
+    }
+
+    /**
+     * Constructeur pour une nouvelle partie en mode survie.
+     *
+     * @param game L'instance du jeu
+     * @param audioManager Le gestionnaire audio
+     * @param selectedCharacter Le personnage choisi
+     * @param survival true pour le mode survie (vagues sans fin)
+     */
+    public LoadingScreen(FistOfSteelGame game, AudioManager audioManager, String selectedCharacter, boolean survival) {
+        this(game, audioManager, selectedCharacter, survival ? GameManager.SURVIVAL_LEVEL : "level1_example", null);
+        this.survival = survival;
+    }
+
+    /**
+     * Constructeur complet.
+     *
+     * @param game L'instance du jeu
+     * @param audioManager Le gestionnaire audio
+     * @param selectedCharacter Le personnage choisi
+     * @param levelName Le nom du niveau à charger
+     * @param playerData Les données du joueur à restaurer (null = nouvelle partie)
+     */
+    public LoadingScreen(FistOfSteelGame game, AudioManager audioManager, String selectedCharacter,
+                         String levelName, PlayerData playerData) {
+        this.game = game;
+        this.audioManager = audioManager;
+        this.selectedCharacter = selectedCharacter;
+        this.levelName = levelName;
+        this.playerData = playerData;
+    }
+
+    /**
+     * Constructeur pour un changement de niveau dans une partie en cours :
+     * le niveau chargé est confié au GameManager existant.
+     *
+     * @param game L'instance du jeu
+     * @param audioManager Le gestionnaire audio
+     * @param gameManager Le GameManager de la partie en cours
+     * @param levelName Le nom du niveau à charger
+     */
+    public LoadingScreen(FistOfSteelGame game, AudioManager audioManager, GameManager gameManager, String levelName) {
+        this(game, audioManager, gameManager.getSelectedCharacter(), levelName, null);
+        this.gameManager = gameManager;
+    }
+
+    @Override
+    public void show() {
+        RenderContext renderContext = game.getRenderContext();
+        batch = renderContext.getBatch();
+        shapeRenderer = renderContext.getShapeRenderer();
+
+        font = renderContext.getFont();
+        font.getData().setScale(2f);
+        font.setColor(Color.WHITE);
+
+        screenWidth = Gdx.graphics.getWidth();
+        screenHeight = Gdx.graphics.getHeight();
+        renderContext.setScreenProjection(screenWidth, screenHeight);
+
+        loadStartTime = TimeUtils.millis();
+
+        // Reprend un éventuel préchargement déjà entamé
+        levelAssets = LevelPreloader.take(levelName, selectedCharacter);
+        if (levelAssets == null) {
+            levelAssets = new LevelAssets(levelName, selectedCharacter);
+        }
+        levelAssets.queue();
+
+        System.out.println("Chargement du niveau " + levelName + "...");
+    }
+
+    @Override
+    public void render(float delta) {
+        if (levelAssets.update(LOAD_BUDGET_MS)) {
+            System.out.println("Niveau " + levelName + " charge en " + TimeUtils.timeSinceMillis(loadStartTime) + " ms");
+
+            if (gameManager != null) {
+                gameManager.loadLevel(levelAssets);
+            } else {
+                gameManager = new GameManager(game, selectedCharacter, audioManager, levelAssets, playerData);
+                if (survival) {
+                    gameManager.enableSurvivalMode();
+                }
+            }
+            levelAssets = null;
+            game.setScreen(gameManager);
+            dispose();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0.05f, 0.05f, 0.1f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float progress = levelAssets.getProgress();
+
+        float barWidth = Math.min(800f, screenWidth * 0.6f);
+        float barHeight = 30f;
+        float barX = (screenWidth - barWidth) / 2f;
+        float barY = screenHeight * 0.4f;
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.2f, 0.2f, 0.25f, 1f);
+        shapeRenderer.rect(barX, barY, barWidth, barHeight);
+        shapeRenderer.setColor(1f, 0.8f, 0.2f, 1f);
+        shapeRenderer.rect(barX, barY, barWidth * progress, barHeight);
+        shapeRenderer.end();
+
+        batch.begin();
+        font.draw(batch, "LOADING " + (int) (progress * 100) + "%", 0, barY + barHeight + 60f,
+                  screenWidth, Align.center, false);
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        screenWidth = width;
+        screenHeight = height;
+        game.getRenderContext().setScreenProjection(width, height);
+    }
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void hide() {}
+
+    @Override
+    public void dispose() {
+        if (levelAssets != null) {
+            levelAssets.dispose();
+            levelAssets = null;
+        }
+        // Batch, ShapeRenderer et font appartiennent au RenderContext
+        batch = null;
+        shapeRenderer = null;
+        font = null;
+    }
+}
@@ -16,6 +16,7 @@ import com.fistofsteel.ui.UIComponents.SimpleButton;
 public class MenuScreen extends BaseScreen {
     
     private SimpleButton newGameButton;
+    private SimpleButton survivalButton;
     private SimpleButton optionsButton;
     private SimpleButton quitButton;
     
@@ -50,14 +51,15 @@ public class MenuScreen extends BaseScreen {
     @Override
     protected void createElements() {
         float centerX = screenWidth / 2f;
-        float startY = screenHeight * 0.55f;
+        float startY = screenHeight * 0.62f;
         float buttonWidth = Math.max(300f, screenWidth * 0.2f);
         float buttonHeight = 80f;
         float buttonSpacing = screenHeight * 0.11f;
         
         newGameButton = new SimpleButton("NEW GAME", centerX, startY, buttonWidth, buttonHeight);
-        optionsButton = new SimpleButton("OPTIONS", centerX, startY - buttonSpacing, buttonWidth, buttonHeight);
-        quitButton = new SimpleButton("QUIT", centerX, startY - buttonSpacing * 2, buttonWidth, buttonHeight);
+        survivalButton = new SimpleButton("SURVIVAL", centerX, startY - buttonSpacing, buttonWidth, buttonHeight);
+        optionsButton = new SimpleButton("OPTIONS", centerX, startY - buttonSpacing * 2, buttonWidth, buttonHeight);
+        quitButton = new SimpleButton("QUIT", centerX, startY - buttonSpacing * 3, buttonWidth, buttonHeight);
     }
     
     @Override
@@ -80,17 +82,20 @@ public class MenuScreen extends BaseScreen {
         int mouseY = (int)screenHeight - Gdx.input.getY();
         
         newGameButton.update(mouseX, mouseY);
+        survivalButton.update(mouseX, mouseY);
         optionsButton.update(mouseX, mouseY);
         quitButton.update(mouseX, mouseY);
         
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         newGameButton.renderWithBorder(shapeRenderer);
+        survivalButton.renderWithBorder(shapeRenderer);
         optionsButton.renderWithBorder(shapeRenderer);
         quitButton.renderWithBorder(shapeRenderer);
         shapeRenderer.end();
         
         batch.begin();
         newGameButton.renderText(batch, font);
+        survivalButton.renderText(batch, font);
         optionsButton.renderText(batch, font);
         quitButton.renderText(batch, font);
         batch.end();
@@ -98,6 +103,8 @@ public class MenuScreen extends BaseScreen {
         if (Gdx.input.justTouched()) {
             if (newGameButton.isClicked(mouseX, mouseY)) {
                 game.setScreen(new CharactersChoice(game, audioManager));
+            } else if (survivalButton.isClicked(mouseX, mouseY)) {
+                game.setScreen(new CharactersChoice(game, audioManager, true));
             } else if (optionsButton.isClicked(mouseX, mouseY)) {
                 game.setScreen(new OptionsScreen(game, audioManager));
             } else if (quitButton.isClicked(mouseX, mouseY)) {
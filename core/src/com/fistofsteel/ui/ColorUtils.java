@@ -17,11 +17,22 @@ public class ColorUtils {
      * @return La couleur correspondante
      */
     public static Color getHealthColor(float healthPercent) {
+        return getHealthColor(healthPercent, new Color());
+    }
+    
+    /**
+     * Variante sans allocation, pour le rendu à chaque frame.
+     * 
+     * @param healthPercent Pourcentage de vie (0.0 à 1.0)
+     * @param out La couleur à remplir
+     * @return out, rempli avec la couleur correspondante
+     */
+    public static Color getHealthColor(float healthPercent, Color out) {
         if (healthPercent > 0.5f) {
-            return new Color(1f - (healthPercent - 0.5f) * 2f, 1f, 0f, 1f);
+            return out.set(1f - (healthPercent - 0.5f) * 2f, 1f, 0f, 1f);
         } else {
             float green = healthPercent * 2f;
-            return new Color(1f, green, 0f, 1f);
+            return out.set(1f, green, 0f, 1f);
         }
     }
 }
\ No newline at end of file
@@ -7,9 +7,16 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.fistofsteel.assets.AssetCache;
+import com.fistofsteel.entities.enemies.ThinkScheduler;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.WorldItemManager;
 import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.graphics.RenderContext;
 import com.fistofsteel.items.Armor;
 import com.fistofsteel.items.Weapon;
+import com.fistofsteel.level.WaveDirector;
 import com.fistofsteel.utils.ColorUtils;
 
 /**
@@ -30,6 +37,17 @@ public class PlayerHUD {
     private static final float INVENTORY_SLOT_SIZE = 50f;
     private static final float SPACING = 15f;
     
+    private static final Color HP_BAR_BACKGROUND = new Color(0.2f, 0.2f, 0.2f, 0.9f);
+    private static final Color SLOT_BACKGROUND = new Color(0.15f, 0.15f, 0.2f, 0.9f);
+    
+    // Objets réutilisés à chaque frame pour ne rien allouer pendant le rendu
+    private final Color healthColor = new Color();
+    private final StringBuilder hpText = new StringBuilder(32);
+    private final StringBuilder timeText = new StringBuilder(16);
+    private final StringBuilder killText = new StringBuilder(32);
+    private final StringBuilder debugText = new StringBuilder(48);
+    private final StringBuilder survivalText = new StringBuilder(48);
+    
     private Texture armorLightIcon;
     private Texture armorHeavyIcon;
     private Texture sword1Icon;
@@ -38,19 +56,19 @@ public class PlayerHUD {
     
     /**
      * Constructeur. Initialise le HUD et charge les icônes d'items.
+     * 
+     * @param renderContext Les objets de rendu partagés (ShapeRenderer et font)
      */
-    public PlayerHUD() {
-        shapeRenderer = new ShapeRenderer();
-        font = new BitmapFont();
-        font.getData().setScale(1.5f);
-        font.setColor(Color.WHITE);
+    public PlayerHUD(RenderContext renderContext) {
+        shapeRenderer = renderContext.getShapeRenderer();
+        font = renderContext.getFont();
         
         try {
-            armorLightIcon = new Texture("assets/items/armor_light.png");
-            armorHeavyIcon = new Texture("assets/items/armor_heavy.png");
-            sword1Icon = new Texture("assets/items/sword_1.png");
-            sword2Icon = new Texture("assets/items/sword_2.png");
-            sword3Icon = new Texture("assets/items/sword_3.png");
+            armorLightIcon = AssetCache.acquireTexture(WorldItemManager.ARMOR_LIGHT_TEXTURE);
+            armorHeavyIcon = AssetCache.acquireTexture(WorldItemManager.ARMOR_HEAVY_TEXTURE);
+            sword1Icon = AssetCache.acquireTexture(WorldItemManager.SWORD1_TEXTURE);
+            sword2Icon = AssetCache.acquireTexture(WorldItemManager.SWORD2_TEXTURE);
+            sword3Icon = AssetCache.acquireTexture(WorldItemManager.SWORD3_TEXTURE);
             System.out.println("Icones d'items chargees pour le HUD");
         } catch (Exception e) {
             System.err.println("Erreur chargement icones items : " + e.getMessage());
@@ -83,6 +101,7 @@ public class PlayerHUD {
     public void render(SpriteBatch batch, Player player, int enemiesKilled, int totalEnemies) {
         shapeRenderer.setProjectionMatrix(hudCamera.combined);
         batch.setProjectionMatrix(hudCamera.combined);
+        font.getData().setScale(1.5f);
         
         float screenHeight = Gdx.graphics.getHeight();
         float currentY = screenHeight - MARGIN;
@@ -118,18 +137,18 @@ public class PlayerHUD {
         shapeRenderer.setColor(Color.BLACK);
         shapeRenderer.rect(MARGIN - 2, y - 2, HP_BAR_WIDTH + 4, HP_BAR_HEIGHT + 4);
         
-        shapeRenderer.setColor(new Color(0.2f, 0.2f, 0.2f, 0.9f));
+        shapeRenderer.setColor(HP_BAR_BACKGROUND);
         shapeRenderer.rect(MARGIN, y, HP_BAR_WIDTH, HP_BAR_HEIGHT);
         
-        Color healthColor = ColorUtils.getHealthColor(healthPercent);
-        shapeRenderer.setColor(healthColor);
+        shapeRenderer.setColor(ColorUtils.getHealthColor(healthPercent, healthColor));
         shapeRenderer.rect(MARGIN, y, HP_BAR_WIDTH * healthPercent, HP_BAR_HEIGHT);
         
         shapeRenderer.end();
         
         batch.begin();
         font.setColor(Color.WHITE);
-        String hpText = currentHealth + " / " + maxHealth + " HP";
+        hpText.setLength(0);
+        hpText.append(currentHealth).append(" / ").append(maxHealth).append(" HP");
         font.draw(batch, hpText, MARGIN + 5, y + HP_BAR_HEIGHT - 5);
         batch.end();
     }
@@ -150,7 +169,7 @@ public class PlayerHUD {
             shapeRenderer.setColor(Color.BLACK);
             shapeRenderer.rect(slotX - 2, y - 2, INVENTORY_SLOT_SIZE + 4, INVENTORY_SLOT_SIZE + 4);
             
-            shapeRenderer.setColor(new Color(0.15f, 0.15f, 0.2f, 0.9f));
+            shapeRenderer.setColor(SLOT_BACKGROUND);
             shapeRenderer.rect(slotX, y, INVENTORY_SLOT_SIZE, INVENTORY_SLOT_SIZE);
         }
         
@@ -239,7 +258,12 @@ public class PlayerHUD {
         int seconds = (int) levelTime;
         int minutes = seconds / 60;
         seconds = seconds % 60;
-        String timeText = String.format("Time: %02d:%02d", minutes, seconds);
+        timeText.setLength(0);
+        timeText.append("Time: ");
+        if (minutes < 10) timeText.append('0');
+        timeText.append(minutes).append(':');
+        if (seconds < 10) timeText.append('0');
+        timeText.append(seconds);
         font.draw(batch, timeText, MARGIN, y);
         batch.end();
     }
@@ -255,11 +279,104 @@ public class PlayerHUD {
     private void renderKillCounter(SpriteBatch batch, float y, int killed, int total) {
         batch.begin();
         font.setColor(Color.YELLOW);
-        String killText = "Kills: " + killed + " / " + total;
+        killText.setLength(0);
+        killText.append("Kills: ").append(killed).append(" / ").append(total);
         font.draw(batch, killText, MARGIN, y);
         batch.end();
     }
     
+    /**
+     * Affiche les compteurs de debug (F3) en haut à droite de l'écran.
+     * 
+     * @param batch Le SpriteBatch
+     * @param enemyManager Le gestionnaire d'ennemis (sommeil et décisions)
+     * @param drawCalls Appels de dessin du SpriteBatch à la frame précédente
+     * @param spritesDrawn Entités dessinées à la frame précédente
+     * @param spritesTotal Entités du niveau à la frame précédente (dessinées ou non)
+     */
+    public void renderDebugStats(SpriteBatch batch, EnemyManager enemyManager, int drawCalls,
+                                 int spritesDrawn, int spritesTotal) {
+        ThinkScheduler scheduler = enemyManager.getThinkScheduler();
+        float x = Gdx.graphics.getWidth() - 380f;
+        float y = Gdx.graphics.getHeight() - MARGIN;
+        
+        batch.setProjectionMatrix(hudCamera.combined);
+        font.getData().setScale(1.5f);
+        
+        batch.begin();
+        font.setColor(Color.LIME);
+        debugText.setLength(0);
+        debugText.append("Enemies: ").append(enemyManager.getActiveCount()).append(" active / ")
+                 .append(enemyManager.getSleepingCount()).append(" asleep");
+        font.draw(batch, debugText, x, y);
+        
+        debugText.setLength(0);
+        debugText.append("AI: ").append(scheduler.getLastThinkCount()).append(" thinks, ")
+                 .append(scheduler.getLastDeferredCount()).append(" deferred");
+        font.draw(batch, debugText, x, y - 30f);
+        
+        debugText.setLength(0);
+        debugText.append("AI time: ").append((int) scheduler.getLastThinkMicros()).append(" / ")
+                 .append((int) scheduler.getBudgetMicros()).append(" us, ")
+                 .append(scheduler.getOverrunCount()).append(" overruns");
+        font.draw(batch, debugText, x, y - 60f);
+        
+        debugText.setLength(0);
+        debugText.append("Draw: ").append(drawCalls).append(" calls, ")
+                 .append(spritesDrawn).append(" / ").append(spritesTotal).append(" sprites");
+        font.draw(batch, debugText, x, y - 90f);
+        batch.end();
+    }
+    
+    /**
+     * Affiche les compteurs du mode survie en haut au centre de l'écran :
+     * vague, ennemis et projectiles en jeu, temps de frame et de simulation.
+     * 
+     * @param batch Le SpriteBatch
+     * @param waveDirector Les vagues en cours
+     * @param alive Ennemis vivants
+     * @param projectiles Projectiles en vol
+     * @param frameMillis Temps de frame lissé, en millisecondes
+     * @param updateMillis Temps de simulation par frame lissé, en millisecondes
+     */
+    public void renderSurvivalStats(SpriteBatch batch, WaveDirector waveDirector, int alive, int projectiles,
+                                    float frameMillis, float updateMillis) {
+        float x = Gdx.graphics.getWidth() / 2f - 180f;
+        float y = Gdx.graphics.getHeight() - MARGIN;
+        
+        batch.setProjectionMatrix(hudCamera.combined);
+        font.getData().setScale(1.5f);
+        
+        batch.begin();
+        font.setColor(Color.ORANGE);
+        survivalText.setLength(0);
+        survivalText.append("Wave ").append(waveDirector.getWave()).append(" - ")
+                    .append(waveDirector.getPendingCount()).append(" incoming");
+        font.draw(batch, survivalText, x, y);
+        
+        font.setColor(Color.WHITE);
+        survivalText.setLength(0);
+        survivalText.append("Alive: ").append(alive).append("  Projectiles: ").append(projectiles);
+        font.draw(batch, survivalText, x, y - 30f);
+        
+        survivalText.setLength(0);
+        survivalText.append("Frame: ");
+        appendMillis(survivalText, frameMillis);
+        survivalText.append(" ms  Update: ");
+        appendMillis(survivalText, updateMillis);
+        survivalText.append(" ms");
+        font.draw(batch, survivalText, x, y - 60f);
+        batch.end();
+    }
+    
+    /**
+     * Ajoute une durée avec un chiffre après la virgule, sans allouer.
+     */
+    private static void appendMillis(StringBuilder text, float millis) {
+        int tenths = Math.round(millis * 10f);
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+    
     /**
      * Réinitialise le timer du niveau.
      */
@@ -291,13 +408,10 @@ public class PlayerHUD {
      * Libère les ressources.
      */
     public void dispose() {
-        shapeRenderer.dispose();
-        font.dispose();
-        
-        if (armorLightIcon != null) armorLightIcon.dispose();
-        if (armorHeavyIcon != null) armorHeavyIcon.dispose();
-        if (sword1Icon != null) sword1Icon.dispose();
-        if (sword2Icon != null) sword2Icon.dispose();
-        if (sword3Icon != null) sword3Icon.dispose();
+        AssetCache.releaseTexture(armorLightIcon);
+        AssetCache.releaseTexture(armorHeavyIcon);
+        AssetCache.releaseTexture(sword1Icon);
+        AssetCache.releaseTexture(sword2Icon);
+        AssetCache.releaseTexture(sword3Icon);
     }
 }
\ No newline at end of file
@@ -1,18 +1,30 @@
 package com.fistofsteel.utils;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Utilitaire pour dessiner des barres de vie.
  * Interpolation de couleur : Vert (100% HP) vers Rouge (0% HP).
+ *
+ * Les barres sont des quads teintés de la région blanche du RenderContext,
+ * dessinés dans le SpriteBatch déjà ouvert : toutes les barres d'une frame
+ * partagent la même texture et partent dans un seul appel de dessin.
  */
 public class HealthBar {
     
+    private static final Color BACKGROUND_COLOR = new Color(0.2f, 0.2f, 0.2f, 0.8f);
+    
+    /** Couleur de remplissage réutilisée (rendu sur le thread principal uniquement). */
+    private static final Color healthColor = new Color();
+    
     /**
-     * Dessine une barre de vie au-dessus d'une entité.
+     * Dessine une barre de vie au-dessus d'une entité. Le batch doit être ouvert ;
+     * sa couleur est rendue telle quelle.
      * 
-     * @param shapeRenderer Le renderer de formes
+     * @param batch Le SpriteBatch
+     * @param white Une région blanche, teintée par la couleur du batch
      * @param x Position X du centre de la barre
      * @param y Position Y de la barre
      * @param width Largeur de la barre
@@ -20,19 +32,22 @@ public class HealthBar {
      * @param currentHealth Points de vie actuels
      * @param maxHealth Points de vie maximum
      */
-    public static void render(ShapeRenderer shapeRenderer, float x, float y, float width, float height, int currentHealth, int maxHealth) {
+    public static void render(SpriteBatch batch, TextureRegion white, float x, float y, float width, float height,
+                              int currentHealth, int maxHealth) {
         if (maxHealth <= 0) return;
         
         float healthPercent = Math.max(0f, Math.min(1f, (float) currentHealth / maxHealth));
+        float previousColor = batch.getPackedColor();
+        
+        batch.setColor(Color.BLACK);
+        batch.draw(white, x - width/2 - 1, y - 1, width + 2, height + 2);
         
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.rect(x - width/2 - 1, y - 1, width + 2, height + 2);
+        batch.setColor(BACKGROUND_COLOR);
+        batch.draw(white, x - width/2, y, width, height);
         
-        shapeRenderer.setColor(new Color(0.2f, 0.2f, 0.2f, 0.8f));
-        shapeRenderer.rect(x - width/2, y, width, height);
+        batch.setColor(ColorUtils.getHealthColor(healthPercent, healthColor));
+        batch.draw(white, x - width/2, y, width * healthPercent, height);
         
-        Color healthColor = ColorUtils.getHealthColor(healthPercent);
-        shapeRenderer.setColor(healthColor);
-        shapeRenderer.rect(x - width/2, y, width * healthPercent, height);
+        batch.setPackedColor(previousColor);
     }
 }
\ No newline at end of file
@@ -23,9 +23,16 @@ public class HitboxDebugger {
      */
     public static void setDebugEnabled(boolean enabled) {
         DEBUG_ENABLED = enabled;
-        if (enabled && shapeRenderer == null) {
-            shapeRenderer = new ShapeRenderer();
-        }
+    }
+    
+    /**
+     * Définit le ShapeRenderer partagé utilisé pour le dessin (null pour le détacher).
+     * Le debugger ne le libère jamais.
+     * 
+     * @param renderer Le ShapeRenderer du RenderContext
+     */
+    public static void setShapeRenderer(ShapeRenderer renderer) {
+        shapeRenderer = renderer;
     }
     
     /**
@@ -99,14 +106,5 @@ public class HitboxDebugger {
         shapeRenderer.line(x - size, y, x + size, y);
         shapeRenderer.line(x, y - size, x, y + size);
     }
-    
-    /**
-     * Nettoyage des ressources.
-     */
-    public static void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-            shapeRenderer = null;
-        }
-    }
+
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.fistofsteel.graphics.CachedTiledMapRenderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark du rendu de map précalculé : seuls les morceaux visibles
+ * sont dessinés, les couches dynamiques restent au rendu classique.
+ *
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps
+ * sans les vérifier ; il ne vérifie que le nombre d'appels de dessin.
+ */
+public class CachedTiledMapRendererTest {
+
+    private static final int TILE = 64;
+    private static final int MAP_WIDTH = 400;
+    private static final int MAP_HEIGHT = 20;
+    private static final float VIEW_WIDTH = 2240f;
+    private static final float VIEW_HEIGHT = 1280f;
+
+    @Test
+    public void testOnlyVisibleChunksAreDrawn() {
+        HeadlessTestSupport.start();
+        Texture texture = createTexture();
+        TiledMap map = createMap(texture);
+        TiledMapTileLayer dynamic = createLayer(texture, 3);
+        dynamic.getProperties().put(CachedTiledMapRenderer.DYNAMIC_PROPERTY, true);
+        map.getLayers().add(dynamic);
+
+        SpriteBatch batch = new SpriteBatch();
+        SpriteCache cache = new SpriteCache(8191, true);
+        CachedTiledMapRenderer renderer = new CachedTiledMapRenderer(batch, cache, 8191);
+        renderer.setMap(map);
+
+        int groundTiles = countTiles((TiledMapTileLayer) map.getLayers().get(0));
+        assertEquals(groundTiles + countTiles((TiledMapTileLayer) map.getLayers().get(1)),
+                     renderer.getCachedTileCount());
+        assertEquals(1, renderer.getFallbackLayerCount(), "La couche marquée dynamique n'est pas précalculée");
+        // Sol : toute la largeur sur les 16 premières lignes ; décor : une ligne sur deux morceaux
+        int chunksPerRow = MAP_WIDTH / CachedTiledMapRenderer.CHUNK_TILES;
+        assertEquals(chunksPerRow * 2, renderer.getChunkCount());
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, VIEW_WIDTH, VIEW_HEIGHT);
+        for (float centerX : new float[] { VIEW_WIDTH / 2f, MAP_WIDTH * TILE / 2f, MAP_WIDTH * TILE - VIEW_WIDTH / 2f }) {
+            camera.position.x = centerX;
+            camera.update();
+            renderer.setView(camera);
+
+            int batchCalls = batch.totalRenderCalls;
+            int drawn = renderer.render();
+            float chunkWidth = CachedTiledMapRenderer.CHUNK_TILES * TILE;
+            float left = centerX - VIEW_WIDTH / 2f;
+            int columns = (int) Math.ceil((left + VIEW_WIDTH) / chunkWidth) - (int) Math.floor(left / chunkWidth);
+            assertEquals(columns * 2, drawn, "Seuls les morceaux qui touchent la vue sont dessinés (x = " + centerX + ")");
+            assertTrue(batch.totalRenderCalls > batchCalls, "La couche dynamique passe par le batch");
+        }
+
+        // Un changement de map vide le cache et recommence
+        renderer.setMap(createMap(texture));
+        assertEquals(chunksPerRow * 2, renderer.getChunkCount());
+        assertEquals(0, renderer.getFallbackLayerCount());
+
+        renderer.dispose();
+        cache.dispose();
+        batch.dispose();
+        texture.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkCachedAgainstPerTileRendering() {
+        HeadlessTestSupport.start();
+        Texture texture = createTexture();
+        TiledMap map = createMap(texture);
+
+        SpriteBatch batch = new SpriteBatch();
+        SpriteCache cache = new SpriteCache(8191, true);
+        CachedTiledMapRenderer cached = new CachedTiledMapRenderer(batch, cache, 8191);
+        cached.setMap(map);
+        OrthogonalTiledMapRenderer perTile = new OrthogonalTiledMapRenderer(map, batch);
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, VIEW_WIDTH, VIEW_HEIGHT);
+        camera.position.x = MAP_WIDTH * TILE / 2f;
+        camera.update();
+        cached.setView(camera);
+        perTile.setView(camera);
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 300; i++) {
+            cached.render();
+            perTile.render();
+        }
+
+        int frames = 1000;
+        batch.totalRenderCalls = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            perTile.render();
+        }
+        long perTileNanos = (System.nanoTime() - start) / frames;
+        int perTileCalls = batch.totalRenderCalls / frames;
+
+        batch.totalRenderCalls = 0;
+        start = System.nanoTime();
+        int draws = 0;
+        for (int i = 0; i < frames; i++) {
+            draws = cached.render();
+        }
+        long cachedNanos = (System.nanoTime() - start) / frames;
+        int cachedBatchCalls = batch.totalRenderCalls;
+
+        System.out.println("CachedTiledMapRendererTest : " + cached.getCachedTileCount() + " tuiles, " +
+                           cached.getChunkCount() + " morceaux");
+        System.out.println("  tuile par tuile : " + (perTileNanos / 1000) + " us/frame, " + perTileCalls + " appels");
+        System.out.println("  precalcule : " + (cachedNanos / 1000) + " us/frame, " + draws + " appels");
+
+        // Un appel par morceau visible (sol et décor), aucun passage par le batch
+        float chunkWidth = CachedTiledMapRenderer.CHUNK_TILES * TILE;
+        float left = camera.position.x - VIEW_WIDTH / 2f;
+        int columns = (int) Math.ceil((left + VIEW_WIDTH) / chunkWidth) - (int) Math.floor(left / chunkWidth);
+        assertEquals(columns * 2, draws, "Un appel de dessin par morceau visible");
+        assertEquals(0, cachedBatchCalls, "Les couches précalculées ne passent pas par le batch");
+        assertTrue(perTileCalls > 0, "Le rendu tuile par tuile passe par le batch");
+
+        perTile.dispose();
+        cached.dispose();
+        cache.dispose();
+        batch.dispose();
+        texture.dispose();
+    }
+
+    /**
+     * Map de sol plein sur 16 lignes, avec une ligne de décor à cheval sur deux rangées de morceaux.
+     */
+    private TiledMap createMap(Texture texture) {
+        TiledMap map = new TiledMap();
+        map.getLayers().add(createLayer(texture, CachedTiledMapRenderer.CHUNK_TILES));
+        TiledMapTileLayer decor = new TiledMapTileLayer(MAP_WIDTH, MAP_HEIGHT, TILE, TILE);
+        StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, TILE, 0, TILE, TILE));
+        for (int col = 0; col < MAP_WIDTH; col++) {
+            TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+            cell.setTile(tile);
+            cell.setFlipHorizontally(col % 2 == 0);
+            decor.setCell(col, CachedTiledMapRenderer.CHUNK_TILES, cell);
+        }
+        map.getLayers().add(decor);
+        return map;
+    }
+
+    private TiledMapTileLayer createLayer(Texture texture, int rows) {
+        TiledMapTileLayer layer = new TiledMapTileLayer(MAP_WIDTH, MAP_HEIGHT, TILE, TILE);
+        StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, 0, 0, TILE, TILE));
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < MAP_WIDTH; col++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(tile);
+                layer.setCell(col, row, cell);
+            }
+        }
+        return layer;
+    }
+
+    private int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                if (layer.getCell(col, row) != null) count++;
+            }
+        }
+        return count;
+    }
+
+    private Texture createTexture() {
+        Pixmap pixmap = new Pixmap(TILE * 2, TILE, Pixmap.Format.RGBA8888);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+}
@@ -0,0 +1,200 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.physics.CollisionGrid;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests et benchmark de la grille de collision.
+ * Les résultats doivent être identiques (et dans le même ordre) à un parcours complet.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class CollisionGridTest {
+
+    private static final float TILE = 64f;
+    private static final int MAP_WIDTH_TILES = 4000;
+    private static final int MAP_HEIGHT_TILES = 40;
+
+    private static final int QUERY_COUNT = 50_000;
+
+    @Test
+    public void testQueryMatchesBruteForce() {
+        Random random = new Random(42);
+        Array<Rectangle> rects = new Array<>();
+        for (int i = 0; i < 2000; i++) {
+            float width = random.nextFloat() < 0.05f ? 2000f + random.nextFloat() * 4000f : 16f + random.nextFloat() * 200f;
+            rects.add(new Rectangle(random.nextFloat() * 20000f - 500f, random.nextFloat() * 3000f - 200f,
+                                    width, 16f + random.nextFloat() * 150f));
+        }
+
+        CollisionGrid grid = new CollisionGrid(rects);
+        Array<Rectangle> fromGrid = new Array<>();
+        Array<Rectangle> expected = new Array<>();
+        Rectangle area = new Rectangle();
+
+        for (int q = 0; q < 5000; q++) {
+            area.set(random.nextFloat() * 22000f - 1000f, random.nextFloat() * 3400f - 400f,
+                     1f + random.nextFloat() * 300f, 1f + random.nextFloat() * 300f);
+
+            fromGrid.clear();
+            grid.query(area, fromGrid);
+            bruteForce(rects, area, expected);
+
+            assertEquals(expected.size, fromGrid.size, "Même nombre de rectangles pour " + area);
+            for (int i = 0; i < expected.size; i++) {
+                assertSame(expected.get(i), fromGrid.get(i), "Même ordre que le tableau d'origine");
+            }
+            assertSame(expected.size > 0 ? expected.first() : null, grid.firstOverlap(area));
+            assertEquals(expected.size > 0, grid.overlapsAny(area));
+        }
+    }
+
+    @Test
+    public void testEmptyGrid() {
+        CollisionGrid grid = new CollisionGrid(new Array<Rectangle>());
+        Array<Rectangle> sink = new Array<>();
+
+        assertEquals(0, grid.query(new Rectangle(0, 0, 100, 100), sink));
+        assertNull(grid.firstOverlap(new Rectangle(0, 0, 100, 100)));
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    public void testTouchingEdgesDoNotOverlap() {
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(0, 0, 128, 64));
+        CollisionGrid grid = new CollisionGrid(rects);
+
+        assertFalse(grid.overlapsAny(new Rectangle(128, 0, 32, 32)), "Un bord commun n'est pas un chevauchement");
+        assertFalse(grid.overlapsAny(new Rectangle(10, 64, 32, 32)), "Posé sur le rectangle : pas de chevauchement");
+        assertTrue(grid.overlapsAny(new Rectangle(10, 63, 32, 32)));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkLargeMap() {
+        Array<Rectangle> rects = buildLargeMap();
+        CollisionGrid grid = new CollisionGrid(rects);
+        Rectangle[] queries = buildHitboxQueries(QUERY_COUNT);
+
+        // Préchauffage du JIT
+        runBruteForce(rects, queries, 5_000);
+        runGrid(grid, queries, QUERY_COUNT);
+
+        long start = System.nanoTime();
+        int bruteHits = runBruteForce(rects, queries, QUERY_COUNT);
+        long bruteNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int gridHits = runGrid(grid, queries, QUERY_COUNT);
+        long gridNanos = System.nanoTime() - start;
+
+        System.out.println("CollisionGridTest : " + rects.size + " rectangles, grille " +
+                           grid.getColumnCount() + "x" + grid.getRowCount() + ", " + QUERY_COUNT + " requetes");
+        System.out.println("  parcours complet " + (bruteNanos / 1_000_000) + " ms, grille " +
+                           (gridNanos / 1_000_000) + " ms (x" + (bruteNanos / Math.max(1, gridNanos)) + ")");
+
+        assertEquals(bruteHits, gridHits, "La grille doit trouver les mêmes collisions");
+    }
+
+    @Test
+    public void testQueryDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Mesure d'allocation indisponible");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Mesure d'allocation indisponible");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        CollisionGrid grid = new CollisionGrid(buildLargeMap());
+        Rectangle[] queries = buildHitboxQueries(10_000);
+        Array<Rectangle> sink = new Array<>(64);
+
+        runQueries(grid, queries, sink);
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        runQueries(grid, queries, sink);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 1024, "Les requêtes ne doivent pas allouer (" + allocated + " octets)");
+    }
+
+    /**
+     * Map de 4000 tuiles de large : sol continu en tuiles, plateformes et murs.
+     */
+    private Array<Rectangle> buildLargeMap() {
+        Random random = new Random(7);
+        Array<Rectangle> rects = new Array<>();
+
+        for (int x = 0; x < MAP_WIDTH_TILES; x++) {
+            rects.add(new Rectangle(x * TILE, 0, TILE, TILE));
+        }
+        for (int i = 0; i < 2500; i++) {
+            int x = random.nextInt(MAP_WIDTH_TILES - 8);
+            int y = 2 + random.nextInt(MAP_HEIGHT_TILES - 4);
+            int length = 1 + random.nextInt(6);
+            rects.add(new Rectangle(x * TILE, y * TILE, length * TILE, TILE));
+        }
+        for (int i = 0; i < 500; i++) {
+            int x = random.nextInt(MAP_WIDTH_TILES);
+            rects.add(new Rectangle(x * TILE, TILE, TILE, (1 + random.nextInt(4)) * TILE));
+        }
+
+        return rects;
+    }
+
+    private Rectangle[] buildHitboxQueries(int count) {
+        Random random = new Random(11);
+        Rectangle[] queries = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = new Rectangle(random.nextFloat() * MAP_WIDTH_TILES * TILE,
+                                       random.nextFloat() * MAP_HEIGHT_TILES * TILE, 60f, 120f);
+        }
+        return queries;
+    }
+
+    private int runBruteForce(Array<Rectangle> rects, Rectangle[] queries, int count) {
+        int hits = 0;
+        for (int q = 0; q < count; q++) {
+            Rectangle area = queries[q];
+            for (Rectangle rect : rects) {
+                if (area.overlaps(rect)) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private int runGrid(CollisionGrid grid, Rectangle[] queries, int count) {
+        int hits = 0;
+        for (int q = 0; q < count; q++) {
+            if (grid.overlapsAny(queries[q])) hits++;
+        }
+        return hits;
+    }
+
+    private void runQueries(CollisionGrid grid, Rectangle[] queries, Array<Rectangle> sink) {
+        for (Rectangle area : queries) {
+            sink.clear();
+            grid.query(area, sink);
+            grid.firstOverlap(area);
+        }
+    }
+
+    private void bruteForce(Array<Rectangle> rects, Rectangle area, Array<Rectangle> out) {
+        out.clear();
+        for (int i = 0; i < rects.size; i++) {
+            if (area.overlaps(rects.get(i))) out.add(rects.get(i));
+        }
+    }
+}
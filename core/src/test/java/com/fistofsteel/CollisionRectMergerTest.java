@@ -0,0 +1,168 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.physics.CollisionRectMerger;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la fusion des rectangles de collision.
+ * La zone couverte doit rester la même, avec beaucoup moins de rectangles.
+ */
+public class CollisionRectMergerTest {
+
+    private static final float TILE = 64f;
+
+    @Test
+    public void testRowOfTilesBecomesOneRect() {
+        Array<Rectangle> rects = new Array<>();
+        for (int x = 0; x < 50; x++) {
+            rects.add(new Rectangle(x * TILE, 0, TILE, TILE));
+        }
+
+        Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+
+        assertEquals(1, merged.size);
+        assertEquals(new Rectangle(0, 0, 50 * TILE, TILE), merged.first());
+        assertEquals(50, rects.size, "Le tableau d'origine ne doit pas être modifié");
+    }
+
+    @Test
+    public void testBlockOfTilesBecomesOneRect() {
+        Array<Rectangle> rects = new Array<>();
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 6; y++) {
+                rects.add(new Rectangle(x * TILE, y * TILE, TILE, TILE));
+            }
+        }
+
+        Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+
+        assertEquals(1, merged.size);
+        assertEquals(new Rectangle(0, 0, 10 * TILE, 6 * TILE), merged.first());
+    }
+
+    @Test
+    public void testLShapeKeepsItsShape() {
+        Array<Rectangle> rects = new Array<>();
+        for (int x = 0; x < 5; x++) {
+            rects.add(new Rectangle(x * TILE, 0, TILE, TILE));
+        }
+        for (int y = 1; y < 4; y++) {
+            rects.add(new Rectangle(0, y * TILE, TILE, TILE));
+        }
+
+        Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+
+        assertEquals(2, merged.size);
+        assertSameCoverage(rects, merged, 0f);
+    }
+
+    @Test
+    public void testSeparatedRectsAreKept() {
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(0, 0, TILE, TILE));
+        rects.add(new Rectangle(3 * TILE, 0, TILE, TILE));
+        rects.add(new Rectangle(0, 3 * TILE, TILE, TILE));
+
+        assertEquals(3, CollisionRectMerger.merge(rects).size);
+    }
+
+    @Test
+    public void testContainedAndDuplicateRectsAreRemoved() {
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(0, 0, 500, 100));
+        rects.add(new Rectangle(50, 20, 30, 30));
+        rects.add(new Rectangle(0, 0, 500, 100));
+
+        Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+
+        assertEquals(1, merged.size);
+        assertEquals(new Rectangle(0, 0, 500, 100), merged.first());
+    }
+
+    @Test
+    public void testRandomTileMapCoverageIsPreserved() {
+        Random random = new Random(3);
+        Array<Rectangle> rects = new Array<>();
+        for (int x = 0; x < 60; x++) {
+            for (int y = 0; y < 20; y++) {
+                if (random.nextFloat() < 0.4f) {
+                    rects.add(new Rectangle(x * TILE, y * TILE, TILE, TILE));
+                }
+            }
+        }
+
+        Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+
+        assertTrue(merged.size * 4 < rects.size * 3, merged.size + " rectangles apres fusion sur " + rects.size);
+        assertSameCoverage(rects, merged, 0f);
+    }
+
+    @Test
+    public void testRealLevelsReport() {
+        HeadlessTestSupport.start();
+        String[] levels = {"level1_example", "level1_example_2", "level1_example_3", "level1_example_4"};
+
+        for (String levelName : levels) {
+            TiledMap map = new TmxMapLoader().load("maps/" + levelName + ".tmx");
+            Array<Rectangle> rects = new Array<>();
+            MapLayer layer = map.getLayers().get("Collisions");
+            for (MapObject object : layer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    rects.add(new Rectangle(((RectangleMapObject) object).getRectangle()));
+                }
+            }
+
+            Array<Rectangle> merged = CollisionRectMerger.merge(rects);
+            System.out.println("CollisionRectMergerTest : " + levelName + " " + rects.size + " -> " + merged.size + " rectangles");
+
+            assertTrue(merged.size <= rects.size);
+            assertSameCoverage(rects, merged, CollisionRectMerger.DEFAULT_TOLERANCE * 2);
+            map.dispose();
+        }
+    }
+
+    /**
+     * Vérifie sur une grille de points que les deux ensembles couvrent la même zone.
+     * Les points à moins de margin d'un bord d'origine sont ignorés.
+     */
+    private void assertSameCoverage(Array<Rectangle> original, Array<Rectangle> merged, float margin) {
+        Rectangle bounds = new Rectangle(original.first());
+        for (Rectangle rect : original) bounds.merge(rect);
+
+        float step = 7.3f;
+        for (float x = bounds.x - 10f; x < bounds.x + bounds.width + 10f; x += step) {
+            for (float y = bounds.y - 10f; y < bounds.y + bounds.height + 10f; y += step) {
+                if (margin > 0f && nearEdge(original, x, y, margin)) continue;
+                assertEquals(covers(original, x, y), covers(merged, x, y), "Couverture differente en (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    private boolean covers(Array<Rectangle> rects, float x, float y) {
+        for (Rectangle rect : rects) {
+            if (rect.contains(x, y)) return true;
+        }
+        return false;
+    }
+
+    private boolean nearEdge(Array<Rectangle> rects, float x, float y, float margin) {
+        for (Rectangle rect : rects) {
+            boolean inYRange = y > rect.y - margin && y < rect.y + rect.height + margin;
+            boolean inXRange = x > rect.x - margin && x < rect.x + rect.width + margin;
+            if (inYRange && (Math.abs(x - rect.x) < margin || Math.abs(x - rect.x - rect.width) < margin)) return true;
+            if (inXRange && (Math.abs(y - rect.y) < margin || Math.abs(y - rect.y - rect.height) < margin)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.fistofsteel;
+
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark de l'endormissement des ennemis loin de la vue et du joueur.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class EnemySleepTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float VIEW_WIDTH = 2200f;
+    private static final float VIEW_HEIGHT = 1280f;
+    private static final float WORLD_WIDTH = 200000f;
+
+    @Test
+    public void testFarEnemySleepsAndWakesWhenPlayerApproaches() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        enemyManager.addKnight(900f, 64f);
+        enemyManager.addKnight(20000f, 64f);
+        Enemy near = enemyManager.getEnemies().get(0);
+        Enemy far = enemyManager.getEnemies().get(1);
+
+        step(enemyManager, player, 60);
+        assertFalse(near.isAsleep(), "Ennemi dans la vue : simulé");
+        assertTrue(far.isAsleep(), "Ennemi loin de la vue et du joueur : endormi");
+        assertEquals(1, enemyManager.getSleepingCount());
+        assertEquals(1, enemyManager.getActiveCount());
+
+        float frozenX = far.getX();
+        step(enemyManager, player, 240);
+        assertEquals(frozenX, far.getX(), "Un ennemi endormi ne bouge plus");
+
+        // Le joueur arrive : la vue atteint l'ennemi, qui reprend sa patrouille
+        player.setPosition(19000f, 64f);
+        step(enemyManager, player, 1);
+        assertFalse(far.isAsleep(), "Réveillé quand la vue s'approche");
+        step(enemyManager, player, 240);
+        assertNotEquals(frozenX, far.getX(), "La patrouille reprend");
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testSleepingEnemyWakesWhenHit() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        enemyManager.addKnight(20000f, 64f);
+        Enemy far = enemyManager.getEnemies().first();
+
+        step(enemyManager, player, 60);
+        assertTrue(far.isAsleep());
+
+        far.takeDamage(10);
+        step(enemyManager, player, 1);
+        assertFalse(far.isAsleep(), "Un ennemi touché se réveille pour jouer son animation");
+
+        enemyManager.clearActivityView();
+        assertEquals(0, enemyManager.getSleepingCount());
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkFrameTimeAgainstEnemyCount() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        int[] counts = { 100, 200, 400, 800 };
+
+        // Préchauffage du JIT
+        measure(player, 400, false, 120);
+        measure(player, 400, true, 120);
+
+        System.out.println("EnemySleepTest : temps de simulation des ennemis par pas (us)");
+        System.out.println("  ennemis | tous simules | avec sommeil");
+        for (int count : counts) {
+            long awake = measure(player, count, false, 240);
+            long asleep = measure(player, count, true, 240);
+            System.out.println("  " + count + " | " + (awake / 1000) + " | " + (asleep / 1000));
+        }
+
+        player.dispose();
+    }
+
+    /**
+     * @return Le temps moyen d'un pas en nanosecondes
+     */
+    private long measure(Player player, int enemyCount, boolean sleep, int steps) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        for (int i = 0; i < enemyCount; i++) {
+            enemyManager.addKnight(300f + i * (WORLD_WIDTH - 1000f) / enemyCount, 64f);
+        }
+
+        // Les ennemis se posent et partent en patrouille avant la mesure
+        step(enemyManager, player, 30, sleep);
+
+        long start = System.nanoTime();
+        step(enemyManager, player, steps, sleep);
+        long nanos = (System.nanoTime() - start) / steps;
+
+        enemyManager.dispose();
+        return nanos;
+    }
+
+    private void step(EnemyManager enemyManager, Player player, int steps) {
+        step(enemyManager, player, steps, true);
+    }
+
+    private void step(EnemyManager enemyManager, Player player, int steps, boolean sleep) {
+        for (int i = 0; i < steps; i++) {
+            if (sleep) {
+                float left = Math.max(0f, player.getX() - VIEW_WIDTH / 2f);
+                enemyManager.setActivityView(left, 0f, VIEW_WIDTH, VIEW_HEIGHT);
+            }
+            enemyManager.update(STEP);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.enemies.EnemyStore;
+import com.fistofsteel.entities.enemies.Mage;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.physics.OccupancyGrid;
+import com.fistofsteel.utils.EntityConstants;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark du stockage en colonnes des ennemis : emplacements
+ * reliés après retraits, passes sur les colonnes identiques à la mise à jour
+ * ennemi par ennemi, et coût d'une foule éveillée selon les deux chemins.
+ *
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class EnemyStoreTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float SPACING = 50f;
+    private static final float WORLD_WIDTH = 40000f;
+    private static final float TILE = 64f;
+
+    @Test
+    public void testColumnsFollowEnemiesAfterRemovals() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(100000f, 64f);
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, 4000f);
+        HeadlessTestSupport.addMixedCrowd(enemyManager, 9, 4000f);
+
+        Array<Enemy> enemies = enemyManager.getEnemies();
+        Enemy killed = enemies.get(1);
+        float killedX = killed.getX();
+        killed.killInstantly();
+        enemies.get(4).killInstantly();
+        assertEquals(7, enemyManager.getAliveCount(), "Morts hors mise à jour vus par les colonnes");
+
+        enemyManager.removeDeadEnemies();
+        assertEquals(7, enemies.size);
+        assertEquals(2, enemyManager.getEnemiesKilled());
+        assertTrue(killed.isDead(), "Un ennemi retiré garde son état");
+        assertEquals(killedX, killed.getX());
+
+        // Téléportation hors mise à jour : l'index spatial suit
+        Enemy moved = enemies.get(5);
+        moved.setPosition(3000f, 64f);
+        enemyManager.rebuildBroadphase();
+        assertSame(moved, enemyManager.findFirstEnemyHit(moved.getHitbox()));
+
+        for (int i = 0; i < 60; i++) {
+            enemyManager.update(STEP);
+        }
+        for (int i = 0; i < enemies.size; i++) {
+            Rectangle hitbox = enemies.get(i).getHitbox();
+            assertSame(enemies.get(i), enemyManager.findFirstEnemyHit(hitbox), "Emplacement " + i + " relié");
+        }
+
+        enemyManager.dispose();
+
+        // Hors gestionnaire, l'ennemi vit dans ses propres colonnes
+        Mage mage = new Mage(500f, 64f, player);
+        assertEquals(500f, mage.getX());
+        assertEquals(64f + EntityConstants.ENEMY_HITBOX_OFFSET_Y, mage.getHitbox().y, 0.001f,
+                     "Hitbox placée dès la construction");
+        mage.takeDamage(1);
+        assertFalse(mage.canSleep(), "Un ennemi touché ne peut plus dormir");
+        mage.dispose();
+
+        player.dispose();
+    }
+
+    @Test
+    public void testColumnPassesMatchObjectUpdate() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(3000f, 64f);
+
+        ProjectileManager objectProjectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        ProjectileManager columnProjectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager objects = createManager(player, 600, objectProjectiles);
+        EnemyManager columns = createManager(player, 600, columnProjectiles);
+        objects.setColumnUpdate(false);
+
+        int shots = 0;
+        for (int i = 0; i < 600; i++) {
+            objects.update(STEP);
+            columns.update(STEP);
+            objectProjectiles.update(STEP);
+            columnProjectiles.update(STEP);
+            assertEquals(objectProjectiles.getProjectileCount(), columnProjectiles.getProjectileCount(),
+                         "Mêmes tirs au pas " + i);
+            shots = Math.max(shots, columnProjectiles.getProjectileCount());
+        }
+        assertTrue(shots > 0, "Les mages ont tiré");
+
+        Array<Enemy> expected = objects.getEnemies();
+        Array<Enemy> actual = columns.getEnemies();
+        for (int i = 0; i < expected.size; i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "Position X de l'ennemi " + i);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), "Position Y de l'ennemi " + i);
+            assertEquals(String.valueOf(expected.get(i).getCurrentState()),
+                         String.valueOf(actual.get(i).getCurrentState()), "État de l'ennemi " + i);
+        }
+
+        objects.dispose();
+        columns.dispose();
+        objectProjectiles.dispose();
+        columnProjectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkAwakeCrowdColumnsAgainstObjects() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(1200f, 64f);
+
+        int[] counts = { 2500, 5000, 10000, 20000 };
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 3; i++) {
+            measure(player, 5000, false, 60);
+            measure(player, 5000, true, 60);
+        }
+
+        System.out.println("EnemyStoreTest : foule eveillee sur un thread (ennemis espaces de " + (int) SPACING + " px)");
+        System.out.println("  ennemis | objets us/pas | colonnes us/pas | objets ns/ennemi | colonnes ns/ennemi");
+        for (int count : counts) {
+            long objects = measure(player, count, false, 120);
+            long columns = measure(player, count, true, 120);
+            System.out.println("  " + count + " | " + (objects / 1000) + " | " + (columns / 1000) + " | " +
+                               (objects / count) + " | " + (columns / count) +
+                               " (x" + String.format("%.2f", objects / (double) columns) + ")");
+        }
+        player.dispose();
+    }
+
+    /**
+     * @return Le temps moyen d'un pas (mise à jour, interpolation) en nanosecondes
+     */
+    private long measure(Player player, int enemyCount, boolean columnUpdate, int steps) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, enemyCount * SPACING + 1000f);
+        enemyManager.setWorkerThreads(1);
+        enemyManager.setColumnUpdate(columnUpdate);
+        for (int i = 0; i < enemyCount; i++) {
+            byte type = i % 3 == 0 ? EnemyStore.TYPE_KNIGHT : i % 3 == 1 ? EnemyStore.TYPE_MAGE : EnemyStore.TYPE_ROGUE;
+            enemyManager.spawn(type, 300f + i * SPACING, 64f);
+        }
+
+        for (int i = 0; i < 30; i++) {
+            enemyManager.update(STEP);
+            enemyManager.interpolate(0.5f);
+        }
+        assertEquals(enemyCount, enemyManager.getActiveCount(), "Toute la foule est simulée");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            enemyManager.update(STEP);
+            enemyManager.interpolate(0.5f);
+        }
+        long nanos = (System.nanoTime() - start) / steps;
+
+        enemyManager.dispose();
+        return nanos;
+    }
+
+    private EnemyManager createManager(Player player, int enemyCount, ProjectileManager projectiles) {
+        // Murs réguliers : les patrouilles font demi-tour et les murs cachent le joueur
+        Array<Rectangle> rects = HeadlessTestSupport.createFloor(WORLD_WIDTH);
+        for (int x = 1000; x < WORLD_WIDTH; x += 3000) {
+            rects.add(new Rectangle(x, 64, 64, 128));
+        }
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, rects);
+        enemyManager.setLineOfSight(new OccupancyGrid(rects, TILE));
+        enemyManager.setProjectileManager(projectiles);
+        enemyManager.setWorkerThreads(1);
+        enemyManager.getThinkScheduler().setBudgetMicros(0f);
+        HeadlessTestSupport.addMixedCrowd(enemyManager, enemyCount, WORLD_WIDTH);
+        enemyManager.addBoss(2600f, 64f);
+        return enemyManager;
+    }
+}
@@ -0,0 +1,115 @@
+package com.fistofsteel;
+
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.physics.FixedTimestep;
+import com.fistofsteel.screens.GameManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du pas de temps fixe : nombre de pas indépendant du framerate,
+ * plafond de rattrapage et interpolation du rendu.
+ */
+public class FixedTimestepTest {
+
+    @Test
+    public void testStepCountDoesNotDependOnFramerate() {
+        int[] framerates = {30, 60, 75, 144, 240};
+
+        for (int fps : framerates) {
+            FixedTimestep timestep = new FixedTimestep();
+            int steps = 0;
+            for (int frame = 0; frame < fps * 2; frame++) {
+                steps += timestep.advance(1f / fps);
+            }
+
+            // 2 secondes à 120 Hz, à un pas près (arrondis flottants)
+            assertEquals(240, steps, 1, "Nombre de pas à " + fps + " fps");
+            assertEquals(0, timestep.getDroppedFrames());
+        }
+    }
+
+    @Test
+    public void testAlphaStaysInRange() {
+        FixedTimestep timestep = new FixedTimestep();
+
+        for (int frame = 0; frame < 500; frame++) {
+            timestep.advance(0.003f + (frame % 7) * 0.004f);
+            float alpha = timestep.getAlpha();
+            assertTrue(alpha >= 0f && alpha < 1f, "alpha hors de [0, 1[ : " + alpha);
+        }
+    }
+
+    @Test
+    public void testSpikeIsCapped() {
+        FixedTimestep timestep = new FixedTimestep();
+
+        int steps = timestep.advance(2f);
+
+        assertEquals(FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME, steps);
+        assertEquals(1, timestep.getDroppedFrames());
+        assertTrue(timestep.getAlpha() < 1f);
+        assertEquals(2, timestep.advance(1f / 60f), "Pas de rattrapage du temps abandonné");
+    }
+
+    @Test
+    public void testNoStepForTinyOrNegativeDelta() {
+        FixedTimestep timestep = new FixedTimestep();
+
+        assertEquals(0, timestep.advance(0.001f));
+        assertEquals(0, timestep.advance(-1f));
+        assertEquals(0, timestep.getTotalSteps());
+    }
+
+    @Test
+    public void testProjectileRenderPositionIsInterpolated() {
+        HugoProjectile projectile = new HugoProjectile();
+        projectile.init(100f, 50f, true, 10);
+
+        projectile.update(FixedTimestep.DEFAULT_STEP);
+        float moved = projectile.getX() - 100f;
+        assertTrue(moved > 0f);
+
+        projectile.interpolate(0f);
+        assertEquals(100f, projectile.getRenderX(), 0.0001f);
+
+        projectile.interpolate(0.5f);
+        assertEquals(100f + moved / 2f, projectile.getRenderX(), 0.0001f);
+        assertEquals(50f, projectile.getRenderY(), 0.0001f);
+
+        // La position simulée n'est jamais modifiée par le rendu
+        assertEquals(100f + moved, projectile.getX(), 0.0001f);
+    }
+
+    @Test
+    public void testFrameSpikeDoesNotTunnelThroughFloor() {
+        HeadlessTestSupport.start();
+        FistOfSteelGame game = new FistOfSteelGame();
+        game.create();
+
+        GameManager gameManager = new GameManager(game, "Hugo", game.getAudioManager(), "level1_example");
+        game.setScreen(gameManager);
+        for (int i = 0; i < 120; i++) {
+            gameManager.render(1f / 60f);
+        }
+
+        Player player = gameManager.getPlayer();
+        float groundY = player.getY();
+
+        player.setPosition(player.getX(), groundY + 300f);
+        assertEquals(groundY + 300f, player.getRenderY(), 0.001f, "Une téléportation n'est pas interpolée");
+
+        // Frames de 250 ms : la simulation doit quand même avancer par pas de 1/120 s
+        for (int i = 0; i < 20; i++) {
+            gameManager.render(0.25f);
+        }
+
+        assertEquals(groundY, player.getY(), 0.01f, "Le joueur doit retomber sur le même sol");
+        assertEquals(player.getY(), player.getRenderY(), 0.01f, "Au repos, le rendu suit la simulation");
+
+        gameManager.dispose();
+        game.dispose();
+    }
+}
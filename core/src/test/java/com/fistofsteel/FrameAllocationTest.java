@@ -0,0 +1,92 @@
+package com.fistofsteel;
+
+import com.fistofsteel.screens.GameManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vérifie qu'une frame de jeu en régime établi n'alloue rien, pour que les
+ * pauses du GC ne reviennent pas.
+ *
+ * Chaque frame est mesurée séparément : seules les frames avec un événement
+ * ponctuel (log de combat, log de debug périodique) ont le droit d'allouer,
+ * et seulement quelques centaines d'octets. Une allocation à chaque frame ou
+ * une grosse allocation ponctuelle fait échouer le test.
+ */
+public class FrameAllocationTest {
+
+    private static final int WARMUP_FRAMES = 600;
+    private static final int MEASURED_FRAMES = 600;
+
+    /** Nombre maximal de frames qui allouent quelque chose (5 %). */
+    private static final int MAX_ALLOCATING_FRAMES = MEASURED_FRAMES / 20;
+
+    /** Octets qu'une frame (même avec un événement ponctuel) peut allouer au plus. */
+    private static final long MAX_FRAME_BYTES = 1024;
+
+    /** Octets alloués au plus sur toutes les frames mesurées. */
+    private static final long MAX_TOTAL_BYTES = 8 * 1024;
+
+    private static FistOfSteelGame game;
+
+    @BeforeAll
+    public static void setUpGame() {
+        HeadlessTestSupport.start();
+        game = new FistOfSteelGame();
+        game.create();
+    }
+
+    @AfterAll
+    public static void tearDownGame() {
+        game.dispose();
+    }
+
+    @Test
+    public void testSteadyStateFrameDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Mesure d'allocation indisponible");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Mesure d'allocation indisponible");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameManager gameManager = new GameManager(game, "Hugo", game.getAudioManager(), "level1_example");
+        game.setScreen(gameManager);
+
+        // Préchauffage : chargement paresseux, JIT et ennemis qui se posent
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            gameManager.render(1f / 60f);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long[] allocatedPerFrame = new long[MEASURED_FRAMES];
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            gameManager.render(1f / 60f);
+            allocatedPerFrame[i] = threadBean.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        int allocatingFrames = 0;
+        long total = 0;
+        long largest = 0;
+        for (long allocated : allocatedPerFrame) {
+            if (allocated > 0) allocatingFrames++;
+            total += allocated;
+            largest = Math.max(largest, allocated);
+        }
+        System.out.println("FrameAllocationTest : " + allocatingFrames + "/" + MEASURED_FRAMES +
+                           " frames allouent, " + total + " octets au total, " + largest + " octets au plus par frame");
+
+        assertTrue(allocatingFrames <= MAX_ALLOCATING_FRAMES,
+                   allocatingFrames + " frames sur " + MEASURED_FRAMES + " allouent de la mémoire");
+        assertTrue(largest <= MAX_FRAME_BYTES, "Une frame alloue " + largest + " octets");
+        assertTrue(total <= MAX_TOTAL_BYTES, "Les frames mesurées allouent " + total + " octets au total");
+
+        gameManager.dispose();
+    }
+}
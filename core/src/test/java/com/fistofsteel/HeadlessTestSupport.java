@@ -0,0 +1,130 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.PlatformSegments;
+
+/**
+ * Démarre libGDX en mode headless pour les tests qui chargent de vrais assets.
+ *
+ * Gdx.gl est remplacé par un {@link HeadlessGL20} qui accepte tous les appels
+ * et compte les textures et buffers GPU encore vivants ainsi que les shaders
+ * compilés, ce qui permet de détecter les fuites de VRAM sans carte graphique.
+ *
+ * Fournit aussi les niveaux de test des ennemis : un EnemyManager branché
+ * sur une géométrie donnée, ou sur un simple sol plat.
+ */
+public class HeadlessTestSupport {
+
+    private static HeadlessApplication application;
+    private static HeadlessGL20 gl;
+
+    /**
+     * Démarre l'application headless (une seule fois par JVM).
+     */
+    public static synchronized void start() {
+        if (application != null) return;
+
+        application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+
+        gl = new HeadlessGL20();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    /**
+     * @return Le nombre de textures GPU créées et pas encore libérées
+     */
+    public static int getLiveTextureCount() {
+        return gl.liveTextures;
+    }
+
+    /**
+     * @return Le nombre de buffers GPU créés et pas encore libérés
+     */
+    public static int getLiveBufferCount() {
+        return gl.liveBuffers;
+    }
+
+    /**
+     * @return Le nombre total de programmes shader créés depuis le démarrage
+     */
+    public static int getCreatedProgramCount() {
+        return gl.createdPrograms;
+    }
+
+    /**
+     * @param width La largeur du niveau
+     * @return Un sol plat de 64 px de haut, de x = 0 à width
+     */
+    public static Array<Rectangle> createFloor(float width) {
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(0, 0, width, 64));
+        return rects;
+    }
+
+    /**
+     * Crée un EnemyManager sur la géométrie donnée : grille de collision et
+     * surfaces praticables, sans ennemi.
+     *
+     * @param player Le joueur ciblé par les ennemis
+     * @param rects Les rectangles de collision du niveau
+     * @return Le gestionnaire, à libérer par l'appelant
+     */
+    public static EnemyManager createEnemyManager(Player player, Array<Rectangle> rects) {
+        CollisionGrid grid = new CollisionGrid(rects);
+
+        EnemyManager enemyManager = new EnemyManager(player);
+        enemyManager.setCollisionGrid(grid);
+        enemyManager.setPlatforms(PlatformSegments.build(rects, grid));
+        return enemyManager;
+    }
+
+    /**
+     * Crée un EnemyManager sur un sol plat (voir {@link #createFloor(float)}).
+     */
+    public static EnemyManager createEnemyManager(Player player, float worldWidth) {
+        return createEnemyManager(player, createFloor(worldWidth));
+    }
+
+    /**
+     * Répartit régulièrement une foule de Knight, Mage et Rogue (dans cet ordre) sur le sol.
+     *
+     * @param enemyManager Le gestionnaire à remplir
+     * @param count Le nombre d'ennemis
+     * @param worldWidth La largeur du niveau (200 px de marge de chaque côté)
+     */
+    public static void addMixedCrowd(EnemyManager enemyManager, int count, float worldWidth) {
+        for (int i = 0; i < count; i++) {
+            float x = 200f + i * (worldWidth - 400f) / count;
+            switch (i % 3) {
+                case 0: enemyManager.addKnight(x, 64f); break;
+                case 1: enemyManager.addMage(x, 64f); break;
+                default: enemyManager.addRogue(x, 64f); break;
+            }
+        }
+    }
+
+    /**
+     * @return La mémoire heap utilisée après plusieurs passes de GC, en octets
+     */
+    public static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
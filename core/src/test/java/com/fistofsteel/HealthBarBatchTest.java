@@ -0,0 +1,79 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.LevelExitManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.graphics.RenderContext;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.level.TriggerSystem;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.PlatformSegments;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des barres de vie et portes dessinées dans le SpriteBatch : une seule
+ * texture pour toutes, donc un seul appel de dessin, sans interrompre le batch.
+ */
+public class HealthBarBatchTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float WORLD_WIDTH = 6000f;
+
+    @Test
+    public void testAllBarsAndExitsInOneDrawCall() {
+        HeadlessTestSupport.start();
+        RenderContext renderContext = new RenderContext();
+        SpriteBatch batch = renderContext.getBatch();
+        TextureRegion white = renderContext.getWhiteRegion();
+
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(100f, 64f);
+
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(0, 0, WORLD_WIDTH, 64));
+        CollisionGrid grid = new CollisionGrid(rects);
+        EnemyManager enemyManager = new EnemyManager(player);
+        enemyManager.setCollisionGrid(grid);
+        enemyManager.setPlatforms(PlatformSegments.build(rects, grid));
+        for (int i = 0; i < 50; i++) {
+            float x = 200f + i * 40f;
+            switch (i % 3) {
+                case 0: enemyManager.addKnight(x, 64f); break;
+                case 1: enemyManager.addMage(x, 64f); break;
+                default: enemyManager.addRogue(x, 64f); break;
+            }
+        }
+        enemyManager.addBoss(1500f, 64f);
+        enemyManager.update(STEP);
+        enemyManager.interpolate(1f);
+
+        LevelExitManager exitManager = new LevelExitManager(new TriggerSystem());
+        exitManager.addExit(400f, 64f, "level1_example_2");
+        exitManager.addExit(2000f, 64f, "level1_example_3");
+
+        Rectangle view = new Rectangle(0f, 0f, WORLD_WIDTH, 1280f);
+        batch.totalRenderCalls = 0;
+        batch.setColor(Color.WHITE);
+        batch.begin();
+        assertEquals(2, exitManager.render(batch, white, view));
+        int bars = enemyManager.renderHealthBars(batch, white, view);
+        assertTrue(batch.isDrawing(), "Le batch n'est jamais interrompu");
+        batch.end();
+
+        assertEquals(enemyManager.getTotalCount(), bars, "Une barre par ennemi visible, Boss compris");
+        assertEquals(1, batch.totalRenderCalls, "Portes et barres partent en un seul appel de dessin");
+        assertEquals(Color.WHITE, batch.getColor(), "La couleur du batch est rendue");
+
+        enemyManager.dispose();
+        player.dispose();
+        renderContext.dispose();
+    }
+}
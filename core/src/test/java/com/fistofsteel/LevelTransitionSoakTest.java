@@ -0,0 +1,97 @@
+package com.fistofsteel;
+
+import com.fistofsteel.assets.AssetCache;
+import com.fistofsteel.level.LevelAssets;
+import com.fistofsteel.screens.GameManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test d'endurance des changements de niveau : après N transitions, le nombre
+ * d'assets en cache, de textures/buffers GPU et la mémoire heap doivent être stables.
+ */
+public class LevelTransitionSoakTest {
+
+    private static final String[] LEVELS = {
+        "level1_example", "level1_example_2", "level1_example_3", "level1_example_4"
+    };
+    private static final int CYCLES = 5;
+    private static final int FRAMES_PER_LEVEL = 5;
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    private static FistOfSteelGame game;
+
+    @BeforeAll
+    public static void setUp() {
+        HeadlessTestSupport.start();
+        game = new FistOfSteelGame();
+        game.create();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        game.dispose();
+    }
+
+    @Test
+    public void testMemoryIsFlatAcrossTransitions() {
+        GameManager gameManager = new GameManager(game, "Hugo", game.getAudioManager(), LEVELS[0]);
+        gameManager.show();
+        playFrames(gameManager);
+
+        // Premier cycle complet : toutes les textures partagées sont résidentes
+        for (int i = 1; i < LEVELS.length; i++) {
+            transition(gameManager, LEVELS[i]);
+        }
+        transition(gameManager, LEVELS[0]);
+
+        int baselineAssets = AssetCache.getResidentCount();
+        int baselineTextures = HeadlessTestSupport.getLiveTextureCount();
+        int baselineBuffers = HeadlessTestSupport.getLiveBufferCount();
+        long baselineHeap = HeadlessTestSupport.getUsedHeapAfterGc();
+
+        int transitions = 0;
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            for (int i = 1; i <= LEVELS.length; i++) {
+                transition(gameManager, LEVELS[i % LEVELS.length]);
+                transitions++;
+            }
+        }
+
+        int finalAssets = AssetCache.getResidentCount();
+        int finalTextures = HeadlessTestSupport.getLiveTextureCount();
+        int finalBuffers = HeadlessTestSupport.getLiveBufferCount();
+        long finalHeap = HeadlessTestSupport.getUsedHeapAfterGc();
+
+        System.out.println("LevelTransitionSoakTest : " + transitions + " transitions");
+        System.out.println("  assets " + baselineAssets + " -> " + finalAssets +
+                           ", textures GPU " + baselineTextures + " -> " + finalTextures +
+                           ", buffers GPU " + baselineBuffers + " -> " + finalBuffers);
+        System.out.println("  heap " + (baselineHeap / 1024) + " Ko -> " + (finalHeap / 1024) + " Ko");
+
+        assertEquals(baselineAssets, finalAssets, "Les assets du cache doivent revenir au même niveau");
+        assertEquals(baselineTextures, finalTextures, "Aucune texture GPU ne doit fuir");
+        assertEquals(baselineBuffers, finalBuffers, "Aucun buffer GPU ne doit fuir (SpriteBatch, ShapeRenderer)");
+        assertTrue(finalHeap - baselineHeap < MAX_HEAP_GROWTH,
+                   "La heap ne doit pas croître (" + (finalHeap - baselineHeap) / 1024 + " Ko)");
+
+        gameManager.dispose();
+        assertEquals(0, AssetCache.getResidentCount(), "Tous les assets doivent être libérés avec la partie");
+    }
+
+    private void transition(GameManager gameManager, String levelName) {
+        LevelAssets assets = new LevelAssets(levelName, "Hugo");
+        assets.finishLoading();
+        gameManager.loadLevel(assets);
+        playFrames(gameManager);
+    }
+
+    private void playFrames(GameManager gameManager) {
+        for (int frame = 0; frame < FRAMES_PER_LEVEL; frame++) {
+            gameManager.render(1f / 60f);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.physics.OccupancyGrid;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark de la ligne de vue : rayons sur l'occupation des tuiles,
+ * ennemis aveugles derrière un mur.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche son débit sans le vérifier.
+ */
+public class LineOfSightTest {
+
+    private static final float TILE = 64f;
+
+    @Test
+    public void testWallBlocksAndFractionIsExact() {
+        OccupancyGrid grid = new OccupancyGrid(new Array<>(new Rectangle[] {
+            new Rectangle(0, 0, 1024, 64),       // sol
+            new Rectangle(512, 64, 64, 192)      // mur de 3 tuiles
+        }), TILE);
+
+        assertEquals(16, grid.getColumnCount());
+        assertEquals(4, grid.getRowCount());
+        assertEquals(16 + 3, grid.getSolidCount());
+
+        assertEquals(0.5f, grid.raycast(256f, 100f, 768f, 100f), 0.0001f, "Arrêt au bord gauche du mur");
+        assertEquals(0.375f, grid.raycast(768f, 100f, 256f, 100f), 0.0001f, "Dans l'autre sens, arrêt au bord droit");
+        assertFalse(grid.hasLineOfSight(256f, 100f, 768f, 100f));
+
+        assertTrue(grid.hasLineOfSight(256f, 300f, 768f, 300f), "Rayon au-dessus du mur");
+        assertTrue(grid.hasLineOfSight(100f, 100f, 500f, 100f), "Rayon qui s'arrête avant le mur");
+        assertTrue(grid.hasLineOfSight(300f, 100f, 300f, 100f), "Rayon de longueur nulle");
+        assertTrue(grid.hasLineOfSight(-500f, 2000f, 3000f, 2000f), "Hors de la carte, tout est vide");
+
+        assertEquals(0f, grid.raycast(10f, 10f, 10f, 500f), "Départ dans le sol");
+        assertEquals(0.5f, grid.raycast(100f, 128f, 100f, 0f), 0.0001f, "Rayon vertical arrêté par le sol");
+    }
+
+    @Test
+    public void testSolidCellsFollowRectangleCentres() {
+        // Le rectangle ne couvre pas le centre de sa deuxième tuile
+        OccupancyGrid grid = new OccupancyGrid(new Array<>(new Rectangle[] {
+            new Rectangle(0, 0, 90, 64)
+        }), TILE);
+
+        assertTrue(grid.isSolid(10f, 10f));
+        assertFalse(grid.isSolid(80f, 10f));
+        assertTrue(new OccupancyGrid(new Array<Rectangle>(), TILE).hasLineOfSight(0f, 0f, 500f, 500f));
+    }
+
+    @Test
+    public void testRaysMatchFineSampling() {
+        Random random = new Random(5);
+        Array<Rectangle> rects = randomLevel(random, 60, 40, 120);
+        OccupancyGrid grid = new OccupancyGrid(rects, TILE);
+
+        for (int r = 0; r < 3000; r++) {
+            float x0 = random.nextFloat() * 60 * TILE;
+            float y0 = random.nextFloat() * 40 * TILE;
+            float x1 = x0 + (random.nextFloat() - 0.5f) * 1200f;
+            float y1 = y0 + (random.nextFloat() - 0.5f) * 1200f;
+            float length = (float) Math.hypot(x1 - x0, y1 - y0);
+
+            // Premier échantillon (tous les 0,25 px) dans une tuile pleine
+            int samples = Math.max(1, (int) (length * 4f));
+            float sampled = 1f;
+            for (int s = 0; s <= samples; s++) {
+                float t = s / (float) samples;
+                if (grid.isSolid(x0 + (x1 - x0) * t, y0 + (y1 - y0) * t)) {
+                    sampled = t;
+                    break;
+                }
+            }
+
+            float fraction = grid.raycast(x0, y0, x1, y1);
+            if (sampled < 1f) {
+                assertTrue(fraction < 1f, "Le rayon traverse une tuile pleine sans être arrêté");
+                assertEquals(sampled * length, fraction * length, 0.5f, "Point d'arrêt au premier bord plein");
+            } else {
+                // Aucun échantillon plein : seul un coin effleuré peut encore arrêter le rayon
+                assertTrue(fraction >= 1f || isNearCorner(x0 + (x1 - x0) * fraction, y0 + (y1 - y0) * fraction),
+                           "Rayon arrêté sans tuile pleine");
+            }
+        }
+    }
+
+    @Test
+    public void testEnemyDoesNotSeeThroughWall() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(-2048, -512, 8192, 512));   // sol
+        rects.add(new Rectangle(1088, 0, 64, 384));         // mur entre l'ennemi et le joueur
+
+        EnemyManager blocked = createManager(player, rects);
+        EnemyManager clear = createManager(player, new Array<>(new Rectangle[] { rects.first() }));
+        blocked.addKnight(900f, 0f);
+        clear.addKnight(900f, 0f);
+        player.setPosition(1250f, 0f);
+
+        Enemy behindWall = blocked.getEnemies().first();
+        Enemy inSight = clear.getEnemies().first();
+        assertFalse(behindWall.canSeePlayer());
+        assertTrue(inSight.canSeePlayer());
+
+        for (int i = 0; i < 30; i++) {
+            blocked.update(1f / 120f);
+            clear.update(1f / 120f);
+        }
+        assertNotEquals("CHASE", String.valueOf(behindWall.getCurrentState()), "Le mur cache le joueur");
+        assertEquals("CHASE", String.valueOf(inSight.getCurrentState()), "Joueur visible : poursuite");
+
+        blocked.dispose();
+        clear.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testMageDoesNotShootThroughWall() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(-2048, -512, 8192, 512));
+        rects.add(new Rectangle(1088, 0, 64, 384));
+
+        assertEquals(0, countMageShots(player, rects), "Aucun tir à travers le mur");
+        assertTrue(countMageShots(player, new Array<>(new Rectangle[] { rects.first() })) > 0, "Tir sans obstacle");
+
+        player.dispose();
+    }
+
+    @Test
+    public void testDetectionRangeRaysHitAndMiss() {
+        Random random = new Random(11);
+        OccupancyGrid grid = new OccupancyGrid(randomLevel(random, 400, 60, 2000), TILE);
+
+        int rayCount = 10_000;
+        int visible = castAll(grid, randomRays(random, rayCount));
+
+        assertTrue(visible > 0 && visible < rayCount, "Une partie des rayons est arrêtée par le décor");
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkRaysPerMillisecond() {
+        Random random = new Random(11);
+        OccupancyGrid grid = new OccupancyGrid(randomLevel(random, 400, 60, 2000), TILE);
+
+        int rayCount = 100_000;
+        float[] rays = randomRays(random, rayCount);
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 5; i++) {
+            castAll(grid, rays);
+        }
+
+        long start = System.nanoTime();
+        int visible = castAll(grid, rays);
+        long nanos = System.nanoTime() - start;
+        double raysPerMillisecond = rayCount / (nanos / 1_000_000.0);
+
+        System.out.println("LineOfSightTest : " + rayCount + " rayons de 500 px sur " + grid.getColumnCount() + "x" +
+                           grid.getRowCount() + " tuiles, " + (int) raysPerMillisecond + " rayons/ms (" +
+                           visible + " degages)");
+    }
+
+    /**
+     * Rayons d'environ 500 px, comme la portée de détection des ennemis, sur une map de 400x60 tuiles.
+     *
+     * @return x0, y0, x1, y1 pour chaque rayon
+     */
+    private float[] randomRays(Random random, int count) {
+        float[] rays = new float[count * 4];
+        for (int i = 0; i < count; i++) {
+            float x0 = random.nextFloat() * 400 * TILE;
+            float y0 = random.nextFloat() * 60 * TILE;
+            double angle = random.nextDouble() * Math.PI * 2.0;
+            rays[i * 4] = x0;
+            rays[i * 4 + 1] = y0;
+            rays[i * 4 + 2] = x0 + (float) Math.cos(angle) * 500f;
+            rays[i * 4 + 3] = y0 + (float) Math.sin(angle) * 500f;
+        }
+        return rays;
+    }
+
+    private int castAll(OccupancyGrid grid, float[] rays) {
+        int visible = 0;
+        for (int i = 0; i < rays.length; i += 4) {
+            if (grid.hasLineOfSight(rays[i], rays[i + 1], rays[i + 2], rays[i + 3])) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    private int countMageShots(Player player, Array<Rectangle> rects) {
+        ProjectileManager projectileManager = new ProjectileManager(8192f, null, null);
+        EnemyManager enemyManager = createManager(player, rects);
+        enemyManager.setProjectileManager(projectileManager);
+        enemyManager.addMage(900f, 0f);
+        player.setPosition(1250f, 0f);
+
+        int maxProjectiles = 0;
+        for (int i = 0; i < 120 * 5; i++) {
+            player.setPosition(1250f, 0f);
+            enemyManager.update(1f / 120f);
+            maxProjectiles = Math.max(maxProjectiles, projectileManager.getProjectileCount());
+        }
+
+        enemyManager.dispose();
+        projectileManager.dispose();
+        return maxProjectiles;
+    }
+
+    private EnemyManager createManager(Player player, Array<Rectangle> rects) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, rects);
+        enemyManager.setLineOfSight(new OccupancyGrid(rects, TILE));
+        return enemyManager;
+    }
+
+    private Array<Rectangle> randomLevel(Random random, int columns, int rows, int blocks) {
+        Array<Rectangle> rects = new Array<>();
+        for (int i = 0; i < blocks; i++) {
+            rects.add(new Rectangle(random.nextInt(columns) * TILE, random.nextInt(rows) * TILE,
+                                    (1 + random.nextInt(4)) * TILE, (1 + random.nextInt(2)) * TILE));
+        }
+        return rects;
+    }
+
+    private boolean isNearCorner(float x, float y) {
+        float dx = Math.abs(x - Math.round(x / TILE) * TILE);
+        float dy = Math.abs(y - Math.round(y / TILE) * TILE);
+        return dx < 0.5f && dy < 0.5f;
+    }
+}
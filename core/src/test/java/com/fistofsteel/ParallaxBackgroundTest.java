@@ -0,0 +1,100 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.utils.FloatArray;
+import com.fistofsteel.graphics.ParallaxBackground;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du fond en parallaxe : un quad par couche sur la largeur visible,
+ * coordonnées de texture qui suivent le défilement de chaque couche.
+ */
+public class ParallaxBackgroundTest {
+
+    private static final float VIEW_WIDTH = 2240f;
+    private static final float VIEW_HEIGHT = 1280f;
+
+    /** Batch qui note les quads de texture dessinés (x, y, largeur, hauteur, u, v, u2, v2). */
+    private static class RecordingBatch extends SpriteBatch {
+        final FloatArray quads = new FloatArray();
+
+        @Override
+        public void draw(Texture texture, float x, float y, float width, float height,
+                         float u, float v, float u2, float v2) {
+            quads.addAll(x, y, width, height, u, v, u2, v2);
+            super.draw(texture, x, y, width, height, u, v, u2, v2);
+        }
+    }
+
+    @Test
+    public void testOneQuadPerLayerWhateverTheMapWidth() {
+        HeadlessTestSupport.start();
+        Texture far = createTexture(512, 256);
+        Texture near = createTexture(1920, 1280);
+
+        TiledMap map = new TiledMap();
+        TiledMapImageLayer farLayer = new TiledMapImageLayer(new TextureRegion(far), 0f, 400f);
+        farLayer.setParallaxX(0.25f);
+        map.getLayers().add(farLayer);
+        TiledMapImageLayer nearLayer = new TiledMapImageLayer(new TextureRegion(near), 0f, 0f);
+        nearLayer.setOpacity(0.5f);
+        map.getLayers().add(nearLayer);
+
+        ParallaxBackground background = ParallaxBackground.fromMap(map);
+        assertEquals(2, background.getLayerCount());
+        assertFalse(nearLayer.isVisible(), "Le renderer Tiled ne dessine plus les couches image");
+        assertEquals(Texture.TextureWrap.Repeat, near.getUWrap());
+        assertEquals(2, ParallaxBackground.fromMap(map).getLayerCount(), "Les couches masquées restent reprises");
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, VIEW_WIDTH, VIEW_HEIGHT);
+        RecordingBatch batch = new RecordingBatch();
+
+        // Même coût au début d'un petit niveau qu'au fond d'un niveau immense
+        for (float centerX : new float[] { VIEW_WIDTH / 2f, 500000f }) {
+            camera.position.x = centerX;
+            camera.update();
+            batch.quads.clear();
+            batch.setProjectionMatrix(camera.combined);
+            batch.begin();
+            assertEquals(2, background.render(batch, camera));
+            batch.end();
+
+            float viewLeft = centerX - VIEW_WIDTH / 2f;
+            assertEquals(16, batch.quads.size, "Un quad par couche");
+
+            // Couche lointaine : défile au quart de la vitesse du monde
+            assertEquals(viewLeft, batch.quads.get(0), 0.01f);
+            assertEquals(400f, batch.quads.get(1), 0.01f);
+            assertEquals(VIEW_WIDTH, batch.quads.get(2), 0.01f);
+            assertEquals(viewLeft * 0.25f / 512f, batch.quads.get(4), 0.001f);
+            assertEquals((viewLeft * 0.25f + VIEW_WIDTH) / 512f, batch.quads.get(6), 0.001f);
+
+            // Couche proche : ancrée au monde, comme l'ancienne boucle de tuiles
+            assertEquals(viewLeft / 1920f, batch.quads.get(12), 0.001f);
+            assertEquals(1280f, batch.quads.get(11), 0.01f);
+            assertEquals(1f, batch.quads.get(13), 0.0001f);
+            assertEquals(0f, batch.quads.get(15), 0.0001f);
+        }
+        assertEquals(1f, batch.getColor().a, "La couleur du batch est rendue");
+
+        batch.dispose();
+        far.dispose();
+        near.dispose();
+    }
+
+    private Texture createTexture(int width, int height) {
+        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+}
@@ -0,0 +1,168 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.enemies.ThinkScheduler;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.physics.OccupancyGrid;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark de la mise à jour parallèle des ennemis : même résultat
+ * que sur un thread, tirs appliqués par les tampons de commandes.
+ *
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) ne fait
+ * qu'afficher les temps : le gain dépend des coeurs libres de la machine.
+ */
+public class ParallelEnemyUpdateTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float WORLD_WIDTH = 40000f;
+    private static final float TILE = 64f;
+
+    @Test
+    public void testParallelUpdateMatchesSingleThread() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(3000f, 64f);
+
+        ProjectileManager serialProjectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        ProjectileManager parallelProjectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager serial = createManager(player, 600, serialProjectiles);
+        EnemyManager parallel = createManager(player, 600, parallelProjectiles);
+        serial.setWorkerThreads(1);
+        parallel.setWorkerThreads(4);
+        parallel.setParallelThreshold(1);
+
+        int shots = 0;
+        for (int i = 0; i < 600; i++) {
+            serial.update(STEP);
+            parallel.update(STEP);
+            serialProjectiles.update(STEP);
+            parallelProjectiles.update(STEP);
+            assertEquals(serialProjectiles.getProjectileCount(), parallelProjectiles.getProjectileCount(),
+                         "Mêmes tirs au pas " + i);
+            shots = Math.max(shots, parallelProjectiles.getProjectileCount());
+        }
+
+        assertEquals(4, parallel.getLastLaneCount());
+        assertEquals(1, serial.getLastLaneCount());
+        assertTrue(shots > 0, "Les mages ont tiré à travers les tampons de commandes");
+
+        Array<Enemy> expected = serial.getEnemies();
+        Array<Enemy> actual = parallel.getEnemies();
+        for (int i = 0; i < expected.size; i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "Position X de l'ennemi " + i);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), "Position Y de l'ennemi " + i);
+            assertEquals(String.valueOf(expected.get(i).getCurrentState()),
+                         String.valueOf(actual.get(i).getCurrentState()), "État de l'ennemi " + i);
+        }
+
+        serial.dispose();
+        parallel.dispose();
+        serialProjectiles.dispose();
+        parallelProjectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testParallelLanesShareThinkBudget() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(3000f, 64f);
+
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager enemyManager = createManager(player, 600, projectiles);
+        ThinkScheduler scheduler = enemyManager.getThinkScheduler();
+        scheduler.setBudgetMicros(ThinkScheduler.DEFAULT_BUDGET_MICROS);
+        enemyManager.setWorkerThreads(4);
+        enemyManager.setParallelThreshold(1);
+
+        enemyManager.update(STEP);
+        assertEquals(4, enemyManager.getLastLaneCount());
+        assertEquals(ThinkScheduler.DEFAULT_BUDGET_MICROS / 4f, scheduler.getLaneBudgetMicros(), 0.001f,
+                     "Chaque voie n'a qu'un quart du budget du pas");
+
+        enemyManager.setWorkerThreads(1);
+        enemyManager.update(STEP);
+        assertEquals(ThinkScheduler.DEFAULT_BUDGET_MICROS, scheduler.getLaneBudgetMicros(), 0.001f,
+                     "Un seul thread garde tout le budget");
+
+        enemyManager.dispose();
+        projectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkThreadsAgainstSingleThread() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(WORLD_WIDTH / 2f, 64f);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = Math.max(2, cores);
+        int enemyCount = 2048;
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 3; i++) {
+            measure(player, enemyCount, 1, 60);
+            measure(player, enemyCount, threads, 60);
+        }
+
+        long single = measure(player, enemyCount, 1, 240);
+        long multi = measure(player, enemyCount, threads, 240);
+
+        System.out.println("ParallelEnemyUpdateTest : " + enemyCount + " ennemis, " + cores + " coeurs");
+        System.out.println("  1 thread " + (single / 1000) + " us/pas, " + threads + " threads " +
+                           (multi / 1000) + " us/pas (x" + String.format("%.2f", single / (double) multi) + ")");
+        player.dispose();
+    }
+
+    /**
+     * @return Le temps moyen d'un pas en nanosecondes
+     */
+    private long measure(Player player, int enemyCount, int threads, int steps) {
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager enemyManager = createManager(player, enemyCount, projectiles);
+        enemyManager.setWorkerThreads(threads);
+
+        for (int i = 0; i < 30; i++) {
+            enemyManager.update(STEP);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            enemyManager.update(STEP);
+            projectiles.update(STEP);
+        }
+        long nanos = (System.nanoTime() - start) / steps;
+
+        enemyManager.dispose();
+        projectiles.dispose();
+        return nanos;
+    }
+
+    private EnemyManager createManager(Player player, int enemyCount, ProjectileManager projectiles) {
+        // Murs réguliers : les patrouilles font demi-tour et les murs cachent le joueur
+        Array<Rectangle> rects = HeadlessTestSupport.createFloor(WORLD_WIDTH);
+        for (int x = 1000; x < WORLD_WIDTH; x += 3000) {
+            rects.add(new Rectangle(x, 64, 64, 128));
+        }
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, rects);
+        enemyManager.setLineOfSight(new OccupancyGrid(rects, TILE));
+        enemyManager.setProjectileManager(projectiles);
+        enemyManager.getThinkScheduler().setBudgetMicros(0f);
+        HeadlessTestSupport.addMixedCrowd(enemyManager, enemyCount, WORLD_WIDTH);
+        return enemyManager;
+    }
+}
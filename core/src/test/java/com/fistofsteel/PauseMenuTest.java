@@ -0,0 +1,92 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Vector2;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.level.Level;
+import com.fistofsteel.screens.GameManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du menu pause : la pause est un état interne du GameManager,
+ * elle ne reconstruit rien et fige complètement le niveau.
+ */
+public class PauseMenuTest {
+
+    private static FistOfSteelGame game;
+    private GameManager gameManager;
+
+    @BeforeAll
+    public static void setUpGame() {
+        HeadlessTestSupport.start();
+        game = new FistOfSteelGame();
+        game.create();
+    }
+
+    @AfterAll
+    public static void tearDownGame() {
+        game.dispose();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        gameManager = new GameManager(game, "Hugo", game.getAudioManager(), "level1_example");
+        game.setScreen(gameManager);
+        renderFrames(10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gameManager.dispose();
+    }
+
+    @Test
+    public void testPauseFreezesWorld() {
+        gameManager.getPlayer().setPosition(gameManager.getPlayer().getX(), gameManager.getPlayer().getY() + 300f);
+        Vector2 playerBefore = new Vector2(gameManager.getPlayer().getX(), gameManager.getPlayer().getY());
+        Enemy enemy = gameManager.getLevel().getEnemyManager().getEnemies().first();
+        Vector2 enemyBefore = new Vector2(enemy.getX(), enemy.getY());
+
+        gameManager.openPauseMenu();
+        assertTrue(gameManager.isPaused());
+        renderFrames(60);
+
+        assertEquals(playerBefore.x, gameManager.getPlayer().getX(), 0.001f);
+        assertEquals(playerBefore.y, gameManager.getPlayer().getY(), 0.001f, "Le joueur ne doit pas tomber pendant la pause");
+        assertEquals(enemyBefore.x, enemy.getX(), 0.001f);
+        assertEquals(enemyBefore.y, enemy.getY(), 0.001f);
+
+        gameManager.closePauseMenu();
+        renderFrames(5);
+        assertTrue(gameManager.getPlayer().getY() < playerBefore.y, "Le jeu doit reprendre après la pause");
+    }
+
+    @Test
+    public void testResumeDoesNotRebuildLevel() {
+        Level level = gameManager.getLevel();
+        int enemyCount = level.getEnemyManager().getTotalEnemiesSpawned();
+
+        for (int i = 0; i < 5; i++) {
+            gameManager.openPauseMenu();
+            renderFrames(2);
+            gameManager.closePauseMenu();
+            gameManager.show();
+            renderFrames(2);
+        }
+
+        assertSame(level, gameManager.getLevel(), "Le niveau ne doit pas être reconstruit à la reprise");
+        assertEquals(enemyCount, gameManager.getLevel().getEnemyManager().getTotalEnemiesSpawned());
+        assertFalse(gameManager.isPaused());
+    }
+
+    private void renderFrames(int count) {
+        for (int i = 0; i < count; i++) {
+            gameManager.render(1f / 60f);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.PlatformSegments;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des surfaces praticables : découpage par les murs, recollage des
+ * dessus adjacents et patrouille des ennemis bornée par les segments.
+ */
+public class PlatformSegmentsTest {
+
+    @Test
+    public void testWallSplitsFloor() {
+        PlatformSegments platforms = build(
+            new Rectangle(0, 0, 1000, 64),
+            new Rectangle(500, 64, 64, 236)
+        );
+
+        assertEquals(3, platforms.size());
+
+        PlatformSegments.Segment left = platforms.find(100f, 64f);
+        assertEquals(0f, left.left, 0.001f);
+        assertEquals(500f, left.right, 0.001f);
+        assertFalse(left.leftWall);
+        assertTrue(left.rightWall, "Le mur borde le segment de gauche");
+
+        PlatformSegments.Segment right = platforms.find(800f, 64f);
+        assertEquals(564f, right.left, 0.001f);
+        assertTrue(right.leftWall);
+
+        PlatformSegments.Segment wallTop = platforms.find(530f, 300f);
+        assertNotNull(wallTop, "Le dessus du mur est praticable");
+        assertFalse(wallTop.leftWall || wallTop.rightWall);
+    }
+
+    @Test
+    public void testAdjacentTopsAreJoined() {
+        // Même hauteur de dessus, bases différentes : le merger ne les fusionne pas
+        PlatformSegments platforms = build(
+            new Rectangle(0, 0, 200, 64),
+            new Rectangle(200, 32, 200, 32)
+        );
+
+        assertEquals(1, platforms.size());
+        PlatformSegments.Segment segment = platforms.getSegments().first();
+        assertEquals(0f, segment.left, 0.001f);
+        assertEquals(400f, segment.right, 0.001f);
+    }
+
+    @Test
+    public void testFindAndFindBelow() {
+        PlatformSegments platforms = build(
+            new Rectangle(0, 0, 1000, 64),
+            new Rectangle(300, 400, 200, 20)
+        );
+
+        assertNull(platforms.find(100f, 200f), "Pieds en l'air : aucun segment");
+        assertEquals(420f, platforms.findBelow(400f, 700f, 0f).y, 0.001f, "La plateforme la plus haute sous le point");
+        assertEquals(64f, platforms.findBelow(100f, 700f, 0f).y, 0.001f);
+        assertEquals(64f, platforms.findBelow(400f, 410f, 0f).y, 0.001f, "Sous la plateforme : le sol");
+        assertEquals(420f, platforms.findBelow(400f, 410f, 16f).y, 0.001f, "Spawn légèrement enfoncé : la plateforme");
+        assertNull(platforms.findBelow(2000f, 700f, 0f));
+    }
+
+    @Test
+    public void testEnemySnapsAndPatrolsWithinLedge() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(100000f, 0f);
+
+        Array<Rectangle> rects = new Array<>();
+        rects.add(new Rectangle(-2000, -500, 6000, 64));   // sol très bas
+        rects.add(new Rectangle(0, 200, 600, 32));         // corniche
+        CollisionGrid grid = new CollisionGrid(rects);
+
+        EnemyManager enemyManager = new EnemyManager(player);
+        enemyManager.setCollisionGrid(grid);
+        enemyManager.setPlatforms(PlatformSegments.build(rects, grid));
+        enemyManager.addKnight(450f, 600f);
+
+        Enemy knight = enemyManager.getEnemies().first();
+        assertEquals(232f, knight.getHitbox().y, 0.01f, "Posé sur la corniche dès le spawn");
+        assertTrue(knight.getIsOnGround());
+
+        // La sonde de bord est dans le corps : la hitbox peut dépasser, pas le milieu des pieds
+        float minFootX = Float.MAX_VALUE;
+        float maxFootX = -Float.MAX_VALUE;
+        for (int i = 0; i < 120 * 20; i++) {
+            enemyManager.update(1f / 120f);
+            Rectangle hitbox = knight.getHitbox();
+            assertEquals(232f, hitbox.y, 0.5f, "Le Knight ne doit pas tomber de la corniche");
+            float footX = hitbox.x + hitbox.width / 2f;
+            minFootX = Math.min(minFootX, footX);
+            maxFootX = Math.max(maxFootX, footX);
+        }
+
+        assertTrue(maxFootX <= 600f && minFootX >= 0f, "La patrouille reste sur la corniche");
+        assertTrue(maxFootX - minFootX > 150f, "Le Knight patrouille réellement");
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    private PlatformSegments build(Rectangle... rects) {
+        Array<Rectangle> array = new Array<>(rects);
+        return PlatformSegments.build(array, new CollisionGrid(array));
+    }
+}
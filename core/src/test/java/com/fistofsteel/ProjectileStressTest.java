@@ -0,0 +1,126 @@
+package com.fistofsteel;
+
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.entities.projectiles.MageProjectile;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test de charge du cycle de vie des projectiles (pools + animations partagées).
+ * Les animations sont null : le test tourne sans contexte OpenGL.
+ */
+public class ProjectileStressTest {
+
+    private static final float DELTA = 1f / 60f;
+    private static final float MAP_WIDTH = 120 * 64f;
+
+    private static final int WARMUP_FRAMES = 600;
+    private static final int MEASURED_FRAMES = 3600;
+    private static final int SHOTS_PER_VOLLEY = 10;
+    private static final int FRAMES_BETWEEN_VOLLEYS = 5;
+
+    @Test
+    public void testProjectilesAreRecycled() {
+        ProjectileManager manager = new ProjectileManager(MAP_WIDTH, null, null);
+
+        HugoProjectile first = manager.spawnHugoProjectile(100f, 100f, true, 10);
+        assertTrue(first.isActive(), "Un projectile tiré doit être actif");
+
+        first.markDamageDealt();
+        first.deactivate();
+        manager.removeInactiveProjectiles();
+        assertEquals(0, manager.getProjectileCount(), "Le projectile inactif doit être retiré");
+
+        HugoProjectile second = manager.spawnHugoProjectile(200f, 50f, false, 15);
+        assertSame(first, second, "Le projectile doit être recyclé par le pool");
+        assertTrue(second.isActive(), "Le projectile recyclé doit être actif");
+        assertFalse(second.hasDealtDamage(), "L'état doit être réinitialisé");
+        assertEquals(0f, second.getDistanceTraveled(), "La distance doit être réinitialisée");
+        assertEquals(200f, second.getHitbox().x, "La hitbox doit suivre la nouvelle position");
+        assertEquals(15, second.getDamage(), "Les dégâts doivent être ceux du nouveau tir");
+
+        manager.dispose();
+    }
+
+    @Test
+    public void testProjectileExpiresAtMaxDistance() {
+        ProjectileManager manager = new ProjectileManager(MAP_WIDTH, null, null);
+        MageProjectile projectile = manager.spawnMageProjectile(1000f, 100f, false, 10);
+
+        int frames = 0;
+        while (projectile.isActive() && frames < 1000) {
+            manager.update(DELTA);
+            frames++;
+        }
+
+        assertFalse(projectile.isActive(), "Le projectile doit expirer");
+        assertTrue(projectile.getX() < 1000f, "Un tir vers la gauche doit reculer en X");
+        assertTrue(projectile.getDistanceTraveled() >= projectile.getMaxDistance());
+
+        manager.dispose();
+    }
+
+    @Test
+    public void testSustainedFireDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Mesure d'allocation indisponible");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Mesure d'allocation indisponible");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        ProjectileManager manager = new ProjectileManager(MAP_WIDTH, null, null);
+        EnemyManager enemyManager = new EnemyManager(null);
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            simulateFrame(manager, enemyManager, frame);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long worstFrameNanos = 0;
+        long totalNanos = 0;
+        int peakInFlight = 0;
+
+        for (int frame = WARMUP_FRAMES; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++) {
+            long start = System.nanoTime();
+            simulateFrame(manager, enemyManager, frame);
+            long elapsed = System.nanoTime() - start;
+
+            totalNanos += elapsed;
+            if (elapsed > worstFrameNanos) worstFrameNanos = elapsed;
+            if (manager.getProjectileCount() > peakInFlight) peakInFlight = manager.getProjectileCount();
+        }
+
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        double bytesPerFrame = (double) allocated / MEASURED_FRAMES;
+
+        System.out.println("ProjectileStressTest : " + MEASURED_FRAMES + " frames, " + peakInFlight + " projectiles en vol max");
+        System.out.println("  moyenne " + (totalNanos / MEASURED_FRAMES / 1000) + " us/frame, pire " +
+                           (worstFrameNanos / 1000) + " us, " + String.format("%.1f", bytesPerFrame) + " octets alloues/frame");
+
+        assertTrue(peakInFlight > 300, "Le test doit maintenir plusieurs centaines de projectiles en vol");
+        assertTrue(bytesPerFrame < 64, "Le tir soutenu ne doit pas allouer (" + bytesPerFrame + " octets/frame)");
+
+        manager.dispose();
+    }
+
+    private void simulateFrame(ProjectileManager manager, EnemyManager enemyManager, int frame) {
+        if (frame % FRAMES_BETWEEN_VOLLEYS == 0) {
+            for (int i = 0; i < SHOTS_PER_VOLLEY; i++) {
+                boolean facingRight = (i & 1) == 0;
+                manager.spawnHugoProjectile(MAP_WIDTH / 2f, 100f + i * 20f, facingRight, 10);
+                manager.spawnMageProjectile(MAP_WIDTH / 2f, 120f + i * 20f, !facingRight, 10);
+            }
+        }
+
+        manager.update(DELTA);
+        manager.checkEnemyCollisions(enemyManager);
+        manager.removeInactiveProjectiles();
+    }
+}
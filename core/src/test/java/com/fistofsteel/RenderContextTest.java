@@ -0,0 +1,86 @@
+package com.fistofsteel;
+
+import com.fistofsteel.audio.AudioManager;
+import com.fistofsteel.screens.CharactersChoice;
+import com.fistofsteel.screens.GameManager;
+import com.fistofsteel.screens.MenuScreen;
+import com.fistofsteel.screens.OptionsScreen;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que les changements d'écran réutilisent le RenderContext du jeu :
+ * aucun shader compilé ni buffer GPU alloué en passant d'un écran à l'autre.
+ */
+public class RenderContextTest {
+
+    private static final int SWITCHES = 10;
+
+    private static FistOfSteelGame game;
+
+    @BeforeAll
+    public static void setUp() {
+        HeadlessTestSupport.start();
+        game = new FistOfSteelGame();
+        game.create();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        game.dispose();
+    }
+
+    @Test
+    public void testRenderContextIsCreatedOnce() {
+        assertNotNull(game.getRenderContext());
+        assertNotNull(game.getRenderContext().getBatch());
+        assertNotNull(game.getRenderContext().getShapeRenderer());
+        assertNotNull(game.getRenderContext().getFont());
+        assertNotNull(game.getRenderContext().getTitleFont());
+        assertEquals(1, game.getRenderContext().getWhiteRegion().getRegionWidth());
+    }
+
+    @Test
+    public void testScreenSwitchesAllocateNothingOnGpu() {
+        AudioManager audioManager = game.getAudioManager();
+        GameManager gameManager = new GameManager(game, "Hugo", audioManager, "level1_example");
+        game.setScreen(gameManager);
+        game.render();
+
+        int programsBefore = HeadlessTestSupport.getCreatedProgramCount();
+        int buffersBefore = HeadlessTestSupport.getLiveBufferCount();
+
+        for (int i = 0; i < SWITCHES; i++) {
+            gameManager.openPauseMenu();
+            game.render();
+            gameManager.closePauseMenu();
+            game.render();
+
+            MenuScreen menuScreen = new MenuScreen(game, audioManager);
+            game.setScreen(menuScreen);
+            game.render();
+            menuScreen.dispose();
+
+            OptionsScreen optionsScreen = new OptionsScreen(game, audioManager);
+            game.setScreen(optionsScreen);
+            game.render();
+            optionsScreen.dispose();
+
+            CharactersChoice charactersChoice = new CharactersChoice(game, audioManager);
+            game.setScreen(charactersChoice);
+            game.render();
+            charactersChoice.dispose();
+        }
+
+        assertEquals(programsBefore, HeadlessTestSupport.getCreatedProgramCount(),
+                     "Aucun shader ne doit être compilé lors d'un changement d'écran");
+        assertEquals(buffersBefore, HeadlessTestSupport.getLiveBufferCount(),
+                     "Aucun buffer GPU ne doit être alloué lors d'un changement d'écran");
+
+        game.setScreen(new MenuScreen(game, audioManager));
+        gameManager.dispose();
+    }
+}
@@ -0,0 +1,171 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark du culling des passes de rendu : seules les entités qui
+ * touchent la zone visible sont dessinées.
+ *
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class RenderCullingTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float WORLD_WIDTH = 40000f;
+    private static final float VIEW_WIDTH = 2300f;
+    private static final float VIEW_HEIGHT = 1408f;
+
+    @Test
+    public void testOnlyVisibleEntitiesAreDrawn() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(5000f, 64f);
+
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH);
+        EnemyManager enemyManager = createManager(player, 400);
+        for (float x = 1000f; x < 10000f; x += 500f) {
+            projectiles.spawnMageProjectile(x, 120f, true, 10);
+        }
+        for (int i = 0; i < 10; i++) {
+            enemyManager.update(STEP);
+            projectiles.update(STEP);
+        }
+        enemyManager.interpolate(1f);
+        projectiles.interpolate(1f);
+
+        Rectangle view = new Rectangle(player.getX() - VIEW_WIDTH / 2f, -64f, VIEW_WIDTH, VIEW_HEIGHT);
+        int expected = 0;
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            Rectangle sprite = new Rectangle(enemy.getRenderX(), enemy.getRenderY(),
+                                             enemy.getDrawWidth(), enemy.getDrawHeight());
+            if (sprite.overlaps(view)) expected++;
+        }
+
+        SpriteBatch batch = new SpriteBatch();
+        batch.begin();
+        int enemiesDrawn = enemyManager.render(batch, view);
+        int projectilesDrawn = projectiles.render(batch, view);
+        batch.end();
+
+        assertEquals(expected, enemiesDrawn, "Les ennemis dont le sprite touche la vue, et eux seuls");
+        assertTrue(enemiesDrawn > 0 && enemiesDrawn < 40, "Une petite part des 400 ennemis est visible");
+        assertTrue(projectilesDrawn > 0 && projectilesDrawn < projectiles.getProjectileCount(),
+                   "Seuls les projectiles dans la vue sont dessinés");
+
+        // Une vue qui couvre tout le niveau dessine tout
+        Rectangle everything = new Rectangle(-1000f, -1000f, WORLD_WIDTH + 2000f, 4000f);
+        batch.begin();
+        assertEquals(enemyManager.getTotalCount(), enemyManager.render(batch, everything));
+        assertEquals(projectiles.getProjectileCount(), projectiles.render(batch, everything));
+        batch.end();
+
+        batch.dispose();
+        enemyManager.dispose();
+        projectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testCulledPassDrawsSmallShareOfCrowd() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(WORLD_WIDTH / 2f, 64f);
+
+        EnemyManager enemyManager = createManager(player, 4000);
+        enemyManager.update(STEP);
+        enemyManager.interpolate(1f);
+
+        Rectangle view = new Rectangle(player.getX() - VIEW_WIDTH / 2f, -64f, VIEW_WIDTH, VIEW_HEIGHT);
+        Rectangle everything = new Rectangle(-1000f, -1000f, WORLD_WIDTH + 2000f, 4000f);
+        SpriteBatch batch = new SpriteBatch();
+
+        int fullDrawn = renderPass(batch, enemyManager, everything);
+        int fullCalls = batch.totalRenderCalls;
+        int culledDrawn = renderPass(batch, enemyManager, view);
+        int culledCalls = batch.totalRenderCalls;
+
+        assertEquals(enemyManager.getTotalCount(), fullDrawn);
+        assertTrue(culledDrawn > 0, "Les ennemis proches du joueur sont dessinés");
+        assertTrue(culledDrawn * 10 < fullDrawn, "La vue ne montre qu'une petite part du niveau");
+        assertTrue(culledCalls <= fullCalls, "Le culling n'ajoute aucun appel de rendu");
+
+        batch.dispose();
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkCulledRenderPass() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(WORLD_WIDTH / 2f, 64f);
+
+        EnemyManager enemyManager = createManager(player, 4000);
+        enemyManager.update(STEP);
+        enemyManager.interpolate(1f);
+
+        Rectangle view = new Rectangle(player.getX() - VIEW_WIDTH / 2f, -64f, VIEW_WIDTH, VIEW_HEIGHT);
+        Rectangle everything = new Rectangle(-1000f, -1000f, WORLD_WIDTH + 2000f, 4000f);
+        SpriteBatch batch = new SpriteBatch();
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 50; i++) {
+            renderPass(batch, enemyManager, view);
+            renderPass(batch, enemyManager, everything);
+        }
+
+        int frames = 200;
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            renderPass(batch, enemyManager, everything);
+        }
+        long full = (System.nanoTime() - start) / frames;
+        int fullCalls = batch.totalRenderCalls;
+        int fullDrawn = renderPass(batch, enemyManager, everything);
+
+        start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            renderPass(batch, enemyManager, view);
+        }
+        long culled = (System.nanoTime() - start) / frames;
+        int culledCalls = batch.totalRenderCalls;
+        int culledDrawn = renderPass(batch, enemyManager, view);
+
+        System.out.println("RenderCullingTest : " + enemyManager.getTotalCount() + " ennemis");
+        System.out.println("  sans culling : " + fullDrawn + " sprites, " + fullCalls + " appels, " + (full / 1000) + " us/frame");
+        System.out.println("  avec culling : " + culledDrawn + " sprites, " + culledCalls + " appels, " + (culled / 1000) + " us/frame");
+
+        batch.dispose();
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    /**
+     * @return Le nombre d'ennemis dessinés ; batch.totalRenderCalls garde les appels de la passe
+     */
+    private int renderPass(SpriteBatch batch, EnemyManager enemyManager, Rectangle view) {
+        batch.totalRenderCalls = 0;
+        batch.begin();
+        int drawn = enemyManager.render(batch, view);
+        batch.end();
+        return drawn;
+    }
+
+    private EnemyManager createManager(Player player, int enemyCount) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        HeadlessTestSupport.addMixedCrowd(enemyManager, enemyCount, WORLD_WIDTH);
+        return enemyManager;
+    }
+}
@@ -0,0 +1,247 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.physics.SpatialHash;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests et benchmark de la broadphase des entités dynamiques.
+ * Les paires trouvées doivent être identiques (et dans le même ordre) à un test de toutes les paires.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class SpatialHashTest {
+
+    private static final float ARENA_WIDTH = 8000f;
+    private static final float ARENA_HEIGHT = 1200f;
+
+    private static final int PROJECTILE_COUNT = 1000;
+    private static final int ENEMY_COUNT = 500;
+    private static final int BENCHMARK_STEPS = 200;
+
+    @Test
+    public void testQueryMatchesBruteForce() {
+        Random random = new Random(3);
+        Rectangle[] boxes = randomBoxes(random, 800, 20f, 400f);
+        SpatialHash hash = new SpatialHash();
+        for (Rectangle box : boxes) {
+            hash.add(box);
+        }
+
+        IntArray fromHash = new IntArray();
+        IntArray expected = new IntArray();
+        Rectangle area = new Rectangle();
+
+        for (int q = 0; q < 5000; q++) {
+            area.set(random.nextFloat() * ARENA_WIDTH - 200f, random.nextFloat() * ARENA_HEIGHT - 200f,
+                     1f + random.nextFloat() * 500f, 1f + random.nextFloat() * 300f);
+
+            fromHash.clear();
+            hash.query(area, fromHash);
+            bruteForce(boxes, area, expected);
+
+            assertEquals(expected, fromHash, "Mêmes indices, dans le même ordre, pour " + area);
+            assertEquals(expected.size > 0 ? expected.first() : -1, hash.firstOverlap(area));
+        }
+    }
+
+    @Test
+    public void testHugeAreaFallsBackToAllBoxes() {
+        SpatialHash hash = new SpatialHash(16f);
+        hash.add(new Rectangle(-5000, -5000, 10, 10));
+        hash.add(new Rectangle(5000, 5000, 10, 10));
+
+        IntArray found = new IntArray();
+        hash.query(new Rectangle(-10000, -10000, 20000, 20000), found);
+
+        assertEquals(2, found.size);
+        assertEquals(0, found.get(0));
+        assertEquals(1, found.get(1));
+    }
+
+    @Test
+    public void testClearAndTouchingEdges() {
+        SpatialHash hash = new SpatialHash();
+        hash.add(new Rectangle(0, 0, 128, 64));
+
+        assertEquals(-1, hash.firstOverlap(new Rectangle(128, 0, 32, 32)), "Un bord commun n'est pas un chevauchement");
+        assertEquals(0, hash.firstOverlap(new Rectangle(127, 0, 32, 32)));
+
+        hash.clear();
+        assertEquals(0, hash.size());
+        assertEquals(-1, hash.firstOverlap(new Rectangle(0, 0, 100, 100)), "Une table vidée ne rend plus rien");
+    }
+
+    @Test
+    public void testProjectileHitsFirstEnemyInListOrder() {
+        HeadlessTestSupport.start();
+        EnemyManager enemyManager = new EnemyManager(null);
+        enemyManager.addKnight(1000f, 100f);
+        enemyManager.addRogue(1000f, 100f);
+        enemyManager.addKnight(3000f, 100f);
+        enemyManager.rebuildBroadphase();
+
+        Enemy first = enemyManager.getEnemies().get(0);
+        Rectangle hitbox = first.getHitbox();
+
+        ProjectileManager projectileManager = new ProjectileManager(ARENA_WIDTH, null, null);
+        HugoProjectile projectile = projectileManager.spawnHugoProjectile(hitbox.x + 2f, hitbox.y + 2f, true, 10);
+        projectileManager.checkEnemyCollisions(enemyManager);
+
+        assertFalse(projectile.isActive(), "Le projectile touche un ennemi");
+        assertEquals(first.getMaxHealth() - 10, first.getHealth(), "Le premier ennemi de la liste est touché");
+        assertEquals(enemyManager.getEnemies().get(1).getMaxHealth(), enemyManager.getEnemies().get(1).getHealth());
+
+        projectileManager.dispose();
+        enemyManager.dispose();
+    }
+
+    @Test
+    public void testProjectilesFindSameEnemiesAsAllPairs() {
+        Random random = new Random(17);
+        Rectangle[] enemies = randomBoxes(random, ENEMY_COUNT, 60f, 100f);
+        Rectangle[] projectiles = randomBoxes(random, PROJECTILE_COUNT, 32f, 32f);
+        long bruteHits = runBruteForce(enemies, projectiles, 20);
+
+        random = new Random(17);
+        enemies = randomBoxes(random, ENEMY_COUNT, 60f, 100f);
+        projectiles = randomBoxes(random, PROJECTILE_COUNT, 32f, 32f);
+        long hashHits = runHash(new SpatialHash(), enemies, projectiles, 20);
+
+        assertTrue(bruteHits > 0, "Des projectiles touchent des ennemis");
+        assertEquals(bruteHits, hashHits, "La broadphase doit trouver les mêmes paires");
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkProjectilesAgainstEnemies() {
+        SpatialHash hash = new SpatialHash();
+
+        // Préchauffage du JIT (plusieurs appels pour obtenir le code optimisé final)
+        Random warmup = new Random(1);
+        for (int i = 0; i < 5; i++) {
+            runBruteForce(randomBoxes(warmup, ENEMY_COUNT, 60f, 100f), randomBoxes(warmup, PROJECTILE_COUNT, 32f, 32f), 20);
+            runHash(hash, randomBoxes(warmup, ENEMY_COUNT, 60f, 100f), randomBoxes(warmup, PROJECTILE_COUNT, 32f, 32f), BENCHMARK_STEPS);
+        }
+
+        // Même graine pour les deux passes : mêmes boîtes, mêmes déplacements
+        Random random = new Random(17);
+        Rectangle[] enemies = randomBoxes(random, ENEMY_COUNT, 60f, 100f);
+        Rectangle[] projectiles = randomBoxes(random, PROJECTILE_COUNT, 32f, 32f);
+        long start = System.nanoTime();
+        long bruteHits = runBruteForce(enemies, projectiles, BENCHMARK_STEPS);
+        long bruteNanos = System.nanoTime() - start;
+
+        random = new Random(17);
+        enemies = randomBoxes(random, ENEMY_COUNT, 60f, 100f);
+        projectiles = randomBoxes(random, PROJECTILE_COUNT, 32f, 32f);
+        start = System.nanoTime();
+        long hashHits = runHash(hash, enemies, projectiles, BENCHMARK_STEPS);
+        long hashNanos = System.nanoTime() - start;
+
+        System.out.println("SpatialHashTest : " + PROJECTILE_COUNT + " projectiles x " + ENEMY_COUNT +
+                           " ennemis, " + BENCHMARK_STEPS + " pas");
+        System.out.println("  toutes les paires " + (bruteNanos / BENCHMARK_STEPS / 1000) + " us/pas, broadphase " +
+                           (hashNanos / BENCHMARK_STEPS / 1000) + " us/pas (x" + (bruteNanos / Math.max(1, hashNanos)) + ")");
+
+        assertEquals(bruteHits, hashHits, "La broadphase doit trouver les mêmes paires");
+    }
+
+    @Test
+    public void testRebuildAndQueryDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Mesure d'allocation indisponible");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Mesure d'allocation indisponible");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        Random random = new Random(23);
+        Rectangle[] enemies = randomBoxes(random, ENEMY_COUNT, 60f, 100f);
+        Rectangle[] projectiles = randomBoxes(random, PROJECTILE_COUNT, 32f, 32f);
+        SpatialHash hash = new SpatialHash();
+
+        runHash(hash, enemies, projectiles, 20);
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        runHash(hash, enemies, projectiles, 50);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 1024, "La reconstruction et les requêtes ne doivent pas allouer (" + allocated + " octets)");
+    }
+
+    private Rectangle[] randomBoxes(Random random, int count, float width, float height) {
+        Rectangle[] boxes = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            boxes[i] = new Rectangle(random.nextFloat() * ARENA_WIDTH, random.nextFloat() * ARENA_HEIGHT,
+                                     width * (0.5f + random.nextFloat()), height * (0.5f + random.nextFloat()));
+        }
+        return boxes;
+    }
+
+    /**
+     * Fait bouger les boîtes d'un pas, comme le ferait la simulation.
+     */
+    private void move(Rectangle[] boxes, int step) {
+        for (int i = 0; i < boxes.length; i++) {
+            Rectangle box = boxes[i];
+            box.x = Math.max(0f, Math.min(ARENA_WIDTH, box.x + (i * 7 + step) % 9 - 4f));
+        }
+    }
+
+    private long runBruteForce(Rectangle[] enemies, Rectangle[] projectiles, int steps) {
+        long hits = 0;
+        for (int step = 0; step < steps; step++) {
+            move(enemies, step);
+            move(projectiles, step);
+
+            for (Rectangle projectile : projectiles) {
+                for (int e = 0; e < enemies.length; e++) {
+                    if (projectile.overlaps(enemies[e])) {
+                        hits += e + 1;
+                        break;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    private long runHash(SpatialHash hash, Rectangle[] enemies, Rectangle[] projectiles, int steps) {
+        long hits = 0;
+        for (int step = 0; step < steps; step++) {
+            move(enemies, step);
+            move(projectiles, step);
+
+            hash.clear();
+            for (Rectangle enemy : enemies) {
+                hash.add(enemy);
+            }
+            for (Rectangle projectile : projectiles) {
+                int first = hash.firstOverlap(projectile);
+                if (first >= 0) {
+                    hits += first + 1;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private void bruteForce(Rectangle[] boxes, Rectangle area, IntArray out) {
+        out.clear();
+        for (int i = 0; i < boxes.length; i++) {
+            if (area.overlaps(boxes[i])) out.add(i);
+        }
+    }
+}
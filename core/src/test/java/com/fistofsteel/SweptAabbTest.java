@@ -0,0 +1,130 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.projectiles.HugoProjectile;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.physics.CollisionGrid;
+import com.fistofsteel.physics.SweptAabb;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la collision continue : les corps rapides s'arrêtent au premier
+ * contact, même contre des obstacles plus fins que leur déplacement.
+ */
+public class SweptAabbTest {
+
+    @Test
+    public void testFallingBoxStopsOnThinPlatform() {
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 300, 40, 80);
+
+        sweep.gather(grid(new Rectangle(0, 0, 500, 2)), box, 0f, -1000f);
+        float allowed = sweep.sweepY(box, -1000f);
+
+        assertEquals(-298f, allowed, 0.001f, "La boîte s'arrête sur le dessus de la plateforme");
+        assertNotNull(sweep.getHit());
+    }
+
+    @Test
+    public void testFastBoxStopsAtThinWall() {
+        CollisionGrid grid = grid(new Rectangle(400, 0, 1, 200));
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 50, 35, 35);
+
+        sweep.gather(grid, box, 2000f, 0f);
+
+        assertEquals(265f, sweep.sweepX(box, 2000f), 0.001f);
+        assertSame(grid.getRects().first(), sweep.getHit());
+    }
+
+    @Test
+    public void testFloorDoesNotBlockHorizontalMove() {
+        CollisionGrid grid = grid(new Rectangle(0, 0, 1000, 64));
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 64, 40, 80);  // posée sur le sol
+
+        sweep.gather(grid, box, 50f, 0f);
+
+        assertEquals(50f, sweep.sweepX(box, 50f), 0.001f);
+        assertNull(sweep.getHit());
+        assertEquals(0f, sweep.sweepY(box, -10f), 0.001f, "Le sol arrête la chute au contact");
+        assertNotNull(sweep.getHit());
+    }
+
+    @Test
+    public void testMovingAwayIsNotBlocked() {
+        CollisionGrid grid = grid(new Rectangle(0, 0, 1000, 64));
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 64, 40, 80);
+
+        sweep.gather(grid, box, 0f, 30f);
+
+        assertEquals(30f, sweep.sweepY(box, 30f), 0.001f);
+        assertNull(sweep.getHit());
+    }
+
+    @Test
+    public void testSlightPenetrationIsPushedBack() {
+        CollisionGrid grid = grid(new Rectangle(0, 0, 1000, 64));
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 61, 40, 80);  // 3 px dans le sol
+
+        sweep.gather(grid, box, 0f, -5f);
+
+        assertEquals(3f, sweep.sweepY(box, -5f), 0.001f, "La boîte remonte au contact");
+    }
+
+    @Test
+    public void testClosestObstacleWinsAndTiesKeepLevelOrder() {
+        Rectangle far = new Rectangle(0, 0, 1000, 10);
+        Rectangle first = new Rectangle(0, 100, 1000, 10);
+        Rectangle second = new Rectangle(0, 100, 1000, 10);
+        CollisionGrid grid = grid(far, first, second);
+        SweptAabb sweep = new SweptAabb();
+        Rectangle box = new Rectangle(100, 300, 40, 80);
+
+        sweep.gather(grid, box, 0f, -400f);
+        sweep.sweepY(box, -400f);
+
+        assertSame(first, sweep.getHit());
+    }
+
+    @Test
+    public void testFireballDoesNotTunnelThroughThinWall() {
+        CollisionGrid grid = grid(new Rectangle(300, 0, 2, 500));
+        SweptAabb sweep = new SweptAabb();
+        HugoProjectile fireball = new HugoProjectile();
+        fireball.init(100f, 100f, true, 10);
+
+        // 0,5 s à 400 px/s : 200 px en un seul pas, bien plus que l'épaisseur du mur
+        fireball.update(0.5f, grid, sweep);
+
+        assertFalse(fireball.isActive(), "La boule de feu s'arrête sur le mur");
+        assertTrue(fireball.getX() + fireball.getHitbox().width <= 300f + 0.001f);
+    }
+
+    @Test
+    public void testFastFallingPlayerLandsOnThinPlatform() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setCollisionGrid(grid(new Rectangle(-500, 0, 2000, 4)));
+        player.setPosition(100f, 2000f);
+
+        // Gros pas de 250 ms : la chute atteint MAX_FALL_SPEED (250 px par pas)
+        for (int i = 0; i < 40; i++) {
+            player.update(0.25f);
+        }
+
+        assertEquals(4f, player.getHitbox().y, 0.01f, "Le joueur est posé sur la plateforme de 4 px");
+        player.dispose();
+    }
+
+    private CollisionGrid grid(Rectangle... rects) {
+        return new CollisionGrid(new Array<>(rects));
+    }
+}
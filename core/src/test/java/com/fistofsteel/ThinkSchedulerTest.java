@@ -0,0 +1,158 @@
+package com.fistofsteel;
+
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.enemies.ThinkScheduler;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark de l'ordonnanceur des décisions des ennemis :
+ * niveaux de détail, budget par pas et coût sur un niveau encombré.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class ThinkSchedulerTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float WORLD_WIDTH = 40000f;
+
+    @Test
+    public void testDecisionRateFollowsDistance() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        enemyManager.addKnight(700f, 64f);     // à portée : décision à chaque pas
+        enemyManager.addKnight(1900f, 64f);    // tous les 2 pas
+        enemyManager.addKnight(2900f, 64f);    // tous les 4 pas
+        enemyManager.addKnight(12000f, 64f);   // tous les 8 pas
+        ThinkScheduler scheduler = enemyManager.getThinkScheduler();
+        scheduler.setBudgetMicros(0f);
+
+        step(enemyManager, 30);
+        for (int tier = 0; tier < ThinkScheduler.TIER_COUNT; tier++) {
+            assertEquals(1, scheduler.getLastTierCount(tier), "Un ennemi par niveau de détail");
+        }
+
+        Enemy far = enemyManager.getEnemies().get(3);
+        int thinks = 0;
+        int moves = 0;
+        for (int i = 0; i < 80; i++) {
+            float before = far.getX();
+            step(enemyManager, 1);
+            thinks += scheduler.getLastThinkCount();
+            if (far.getX() != before) moves++;
+        }
+
+        assertEquals(80 + 40 + 20 + 10, thinks, "Décisions à chaque pas, puis tous les 2, 4 et 8 pas");
+        assertEquals(80, moves, "La physique de l'ennemi lointain tourne à chaque pas");
+        assertEquals(0, scheduler.getOverrunCount(), "Sans budget, aucun dépassement");
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testBudgetDefersButNeverStarves() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        int count = 200;
+        for (int i = 0; i < count; i++) {
+            enemyManager.addKnight(10000f + i * 100f, 64f);
+        }
+        ThinkScheduler scheduler = enemyManager.getThinkScheduler();
+        // Budget épuisé dès la première décision du pas
+        scheduler.setBudgetMicros(0.001f);
+        step(enemyManager, 16);
+        scheduler.resetMetrics();
+
+        int thinks = 0;
+        int deferred = 0;
+        for (int i = 0; i < 64; i++) {
+            step(enemyManager, 1);
+            thinks += scheduler.getLastThinkCount();
+            deferred += scheduler.getLastDeferredCount();
+        }
+
+        assertTrue(deferred > 0, "Des décisions sont reportées");
+        assertTrue(thinks >= count * 64 / 16, "Chaque ennemi décide au moins toutes les deux périodes");
+        assertTrue(thinks < count * 64 / 8, "Le budget retient des décisions");
+        assertTrue(scheduler.getOverrunCount() > 0, "Les dépassements sont comptés");
+        assertEquals(64, scheduler.getTickCount());
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkCrowdedLevel() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(500f, 64f);
+
+        int[] counts = { 100, 200, 400, 800 };
+        long[] fullRate = new long[2];
+        long[] scheduled = new long[2];
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 3; i++) {
+            measure(player, 400, false, 120, fullRate);
+            measure(player, 400, true, 120, scheduled);
+        }
+
+        System.out.println("ThinkSchedulerTest : temps par pas (us), decisions / pas complet");
+        System.out.println("  ennemis | chaque pas : decisions, pas | ordonnance : decisions, pas");
+        for (int count : counts) {
+            measure(player, count, false, 240, fullRate);
+            measure(player, count, true, 240, scheduled);
+            System.out.println("  " + count + " | " + (fullRate[0] / 1000) + ", " + (fullRate[1] / 1000) +
+                               " | " + (scheduled[0] / 1000) + ", " + (scheduled[1] / 1000));
+        }
+
+        player.dispose();
+    }
+
+    /**
+     * Remplit result avec le temps moyen de décision et le temps moyen d'un pas, en nanosecondes.
+     */
+    private void measure(Player player, int enemyCount, boolean scheduled, int steps, long[] result) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        for (int i = 0; i < enemyCount; i++) {
+            enemyManager.addKnight(300f + i * (WORLD_WIDTH - 1000f) / enemyCount, 64f);
+        }
+        ThinkScheduler scheduler = enemyManager.getThinkScheduler();
+        scheduler.setLodEnabled(scheduled);
+        if (!scheduled) {
+            scheduler.setBudgetMicros(0f);
+        }
+
+        step(enemyManager, 30);
+
+        float thinkMicros = 0f;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            enemyManager.update(STEP);
+            thinkMicros += scheduler.getLastThinkMicros();
+        }
+        result[1] = (System.nanoTime() - start) / steps;
+        result[0] = (long) (thinkMicros * 1000f / steps);
+
+        enemyManager.dispose();
+    }
+
+    private void step(EnemyManager enemyManager, int steps) {
+        for (int i = 0; i < steps; i++) {
+            enemyManager.update(STEP);
+        }
+    }
+}
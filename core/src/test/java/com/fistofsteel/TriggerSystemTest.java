@@ -0,0 +1,278 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.LevelExitManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.entities.world.LevelExit;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.level.TriggerSystem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests des volumes déclencheurs : événements uniquement sur changement,
+ * zones de mort des ennemis, portes et coût à l'état stable.
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class TriggerSystemTest {
+
+    private static final int OCCUPANT_COUNT = 500;
+    private static final int ZONE_COUNT = 200;
+    private static final int BENCHMARK_STEPS = 200;
+
+    /**
+     * Compte les événements reçus.
+     */
+    private static class CountingListener implements TriggerSystem.Listener {
+        int enters = 0;
+        int exits = 0;
+
+        @Override
+        public void onEnter(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+            enters++;
+        }
+
+        @Override
+        public void onExit(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+            exits++;
+        }
+    }
+
+    @Test
+    public void testEventsOnlyWhenOccupancyChanges() {
+        TriggerSystem triggers = new TriggerSystem();
+        triggers.add(TriggerSystem.Type.DEATH, new Rectangle(500, 0, 200, 100), null);
+
+        CountingListener listener = new CountingListener();
+        TriggerSystem.Occupant occupant = new TriggerSystem.Occupant("test", listener);
+        Rectangle hitbox = new Rectangle(0, 10, 40, 80);
+
+        for (int x = 0; x <= 1000; x += 5) {
+            hitbox.x = x;
+            triggers.update(occupant, hitbox);
+            triggers.update(occupant, hitbox);
+        }
+
+        assertEquals(1, listener.enters, "Une seule entrée en traversant la zone");
+        assertEquals(1, listener.exits, "Une seule sortie");
+        assertEquals(0, occupant.getInsideCount());
+
+        hitbox.x = 460f;
+        triggers.update(occupant, hitbox);
+        assertEquals(1, listener.enters, "Un bord commun n'est pas une entrée");
+    }
+
+    @Test
+    public void testDisabledVolumeEmitsExit() {
+        TriggerSystem triggers = new TriggerSystem();
+        TriggerSystem.Volume first = triggers.add(TriggerSystem.Type.PICKUP, new Rectangle(0, 0, 100, 100), "a");
+        triggers.add(TriggerSystem.Type.PICKUP, new Rectangle(50, 0, 100, 100), "b");
+
+        CountingListener listener = new CountingListener();
+        TriggerSystem.Occupant occupant = new TriggerSystem.Occupant("test", listener);
+        Rectangle hitbox = new Rectangle(60, 10, 20, 20);
+
+        triggers.update(occupant, hitbox);
+        assertEquals(2, listener.enters, "Deux volumes superposés");
+
+        triggers.setEnabled(first, false);
+        triggers.update(occupant, hitbox);
+        assertEquals(1, listener.exits, "Un volume désactivé rend une sortie");
+        assertEquals(1, occupant.getInsideCount());
+
+        triggers.setEnabled(first, true);
+        triggers.update(occupant, hitbox);
+        assertEquals(3, listener.enters, "Réactivé : nouvelle entrée");
+    }
+
+    @Test
+    public void testEnemyDiesInDeathZone() {
+        HeadlessTestSupport.start();
+        TriggerSystem triggers = new TriggerSystem();
+        triggers.add(TriggerSystem.Type.DEATH, new Rectangle(2000, -200, 400, 200), null);
+
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(100000f, 0f);
+
+        EnemyManager enemyManager = new EnemyManager(player);
+        enemyManager.setTriggers(triggers);
+        enemyManager.addKnight(500f, 100f);
+        enemyManager.addKnight(2100f, -150f);
+
+        Enemy safe = enemyManager.getEnemies().get(0);
+        Enemy falling = enemyManager.getEnemies().get(1);
+        enemyManager.update(1f / 120f);
+
+        assertTrue(falling.isDead(), "L'ennemi dans la zone de mort meurt");
+        assertFalse(safe.isDead());
+
+        enemyManager.removeDeadEnemies();
+        assertEquals(1, enemyManager.getEnemies().size);
+        enemyManager.update(1f / 120f);
+        assertFalse(safe.isDead(), "Les suivis restent alignés après un retrait");
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testExitUnlockedWhilePlayerInside() {
+        TriggerSystem triggers = new TriggerSystem();
+        LevelExitManager exitManager = new LevelExitManager(triggers);
+        exitManager.addExit(1000f, 0f, "level1_example_2");
+
+        TriggerSystem.Occupant player = new TriggerSystem.Occupant("joueur", new TriggerSystem.Listener() {
+            @Override
+            public void onEnter(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+                exitManager.onPlayerEnter((LevelExit) volume.getPayload());
+            }
+
+            @Override
+            public void onExit(TriggerSystem.Occupant occupant, TriggerSystem.Volume volume) {
+                exitManager.onPlayerExit((LevelExit) volume.getPayload());
+            }
+        });
+
+        Rectangle hitbox = new Rectangle(1010f, 10f, 40f, 80f);
+        exitManager.update(0, 1);
+        triggers.update(player, hitbox);
+        assertNull(exitManager.checkPlayerOnExit(), "Porte verrouillée");
+
+        exitManager.update(1, 1);
+        triggers.update(player, hitbox);
+        assertEquals("level1_example_2", exitManager.checkPlayerOnExit(), "Déverrouillée avec le joueur dedans");
+
+        hitbox.x = 2000f;
+        triggers.update(player, hitbox);
+        assertNull(exitManager.checkPlayerOnExit(), "Joueur sorti de la porte");
+
+        exitManager.dispose();
+    }
+
+    @Test
+    public void testSteadyStateEmitsNoEvents() {
+        Random random = new Random(9);
+        Rectangle[] zones = new Rectangle[ZONE_COUNT];
+        TriggerSystem triggers = new TriggerSystem();
+        Rectangle[] hitboxes = new Rectangle[OCCUPANT_COUNT];
+        TriggerSystem.Occupant[] occupants = new TriggerSystem.Occupant[OCCUPANT_COUNT];
+        CountingListener listener = new CountingListener();
+        buildSteadyState(random, zones, triggers, hitboxes, occupants, listener);
+
+        runTriggers(triggers, occupants, hitboxes, 20);
+
+        assertEquals(0, runLinearScan(zones, hitboxes, 1), "Aucune entité n'est dans une zone");
+        assertEquals(0, listener.enters, "État stable : aucun événement");
+        assertEquals(0, listener.exits);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkSteadyStateAgainstLinearScan() {
+        Random random = new Random(9);
+        Rectangle[] zones = new Rectangle[ZONE_COUNT];
+        TriggerSystem triggers = new TriggerSystem();
+        Rectangle[] hitboxes = new Rectangle[OCCUPANT_COUNT];
+        TriggerSystem.Occupant[] occupants = new TriggerSystem.Occupant[OCCUPANT_COUNT];
+        CountingListener listener = new CountingListener();
+        buildSteadyState(random, zones, triggers, hitboxes, occupants, listener);
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 5; i++) {
+            runLinearScan(zones, hitboxes, BENCHMARK_STEPS);
+            runTriggers(triggers, occupants, hitboxes, BENCHMARK_STEPS);
+        }
+
+        long start = System.nanoTime();
+        runLinearScan(zones, hitboxes, BENCHMARK_STEPS);
+        long scanNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        runTriggers(triggers, occupants, hitboxes, BENCHMARK_STEPS);
+        long triggerNanos = System.nanoTime() - start;
+
+        System.out.println("TriggerSystemTest : " + OCCUPANT_COUNT + " entites x " + ZONE_COUNT + " zones, " +
+                           BENCHMARK_STEPS + " pas");
+        System.out.println("  parcours lineaire " + (scanNanos / BENCHMARK_STEPS / 1000) + " us/pas, declencheurs " +
+                           (triggerNanos / BENCHMARK_STEPS / 1000) + " us/pas (x" + (scanNanos / Math.max(1, triggerNanos)) + ")");
+    }
+
+    @Test
+    public void testSteadyStateDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Mesure d'allocation indisponible");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Mesure d'allocation indisponible");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        TriggerSystem triggers = new TriggerSystem();
+        triggers.add(TriggerSystem.Type.DEATH, new Rectangle(100, 0, 100, 100), null);
+        CountingListener listener = new CountingListener();
+        TriggerSystem.Occupant occupant = new TriggerSystem.Occupant("test", listener);
+        Rectangle hitbox = new Rectangle(0, 10, 40, 80);
+
+        // Va-et-vient à travers la zone : entrées, sorties et nouvelles requêtes
+        for (int i = 0; i < 2000; i++) {
+            hitbox.x = (i % 100) * 4f;
+            triggers.update(occupant, hitbox);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 2000; i++) {
+            hitbox.x = (i % 100) * 4f;
+            triggers.update(occupant, hitbox);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(listener.enters > 20 && listener.exits > 20);
+        assertTrue(allocated < 1024, "Les mises à jour ne doivent pas allouer (" + allocated + " octets)");
+    }
+
+    /**
+     * Zones de mort sous le sol et entités au-dessus : aucune entité n'est jamais dans une zone.
+     */
+    private void buildSteadyState(Random random, Rectangle[] zones, TriggerSystem triggers, Rectangle[] hitboxes,
+                                  TriggerSystem.Occupant[] occupants, CountingListener listener) {
+        for (int i = 0; i < zones.length; i++) {
+            zones[i] = new Rectangle(random.nextFloat() * 50000f, -300f, 64f + random.nextFloat() * 300f, 200f);
+            triggers.add(TriggerSystem.Type.DEATH, zones[i], null);
+        }
+        for (int i = 0; i < hitboxes.length; i++) {
+            hitboxes[i] = new Rectangle(random.nextFloat() * 50000f, random.nextFloat() * 1000f, 60f, 100f);
+            occupants[i] = new TriggerSystem.Occupant(i, listener);
+        }
+    }
+
+    private long runLinearScan(Rectangle[] zones, Rectangle[] hitboxes, int steps) {
+        long hits = 0;
+        for (int step = 0; step < steps; step++) {
+            for (Rectangle hitbox : hitboxes) {
+                for (Rectangle zone : zones) {
+                    if (hitbox.overlaps(zone)) {
+                        hits++;
+                        break;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    private void runTriggers(TriggerSystem triggers, TriggerSystem.Occupant[] occupants, Rectangle[] hitboxes, int steps) {
+        for (int step = 0; step < steps; step++) {
+            for (int i = 0; i < occupants.length; i++) {
+                triggers.update(occupants[i], hitboxes[i]);
+            }
+        }
+    }
+}
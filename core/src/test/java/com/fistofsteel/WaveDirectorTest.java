@@ -0,0 +1,337 @@
+package com.fistofsteel;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.fistofsteel.entities.enemies.Enemy;
+import com.fistofsteel.entities.managers.EnemyManager;
+import com.fistofsteel.entities.managers.ProjectileManager;
+import com.fistofsteel.entities.player.Hugo;
+import com.fistofsteel.entities.player.Player;
+import com.fistofsteel.input.InputHandler;
+import com.fistofsteel.level.WaveDirector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests et benchmark du mode survie : vagues croissantes, budget d'apparition
+ * par pas, réutilisation des ennemis morts et tenue d'une horde.
+ *
+ * Le benchmark (tag "benchmark", lancé par gradle benchmark) affiche ses temps sans les vérifier.
+ */
+public class WaveDirectorTest {
+
+    private static final float STEP = 1f / 120f;
+    private static final float WORLD_WIDTH = 20000f;
+    private static final float VIEW_WIDTH = 2200f;
+    private static final float VIEW_HEIGHT = 1280f;
+
+    /** Mesure des allocations de {@link #churnStep}, null hors mesure. */
+    private com.sun.management.ThreadMXBean allocationMeter;
+    private long churnAllocated;
+
+    @Test
+    public void testWavesEscalateWithinSpawnBudget() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(10000f, 64f);
+
+        EnemyManager enemyManager = createManager(player, null);
+        WaveDirector director = new WaveDirector(enemyManager, spawnPoints(2000f, 4000f));
+        director.setSpawnBudget(8);
+
+        for (int wave = 2; wave < 20; wave++) {
+            assertTrue(WaveDirector.getWaveSize(wave) >= WaveDirector.getWaveSize(wave - 1), "Vagues croissantes");
+        }
+        assertEquals(WaveDirector.MAX_WAVE_SIZE, WaveDirector.getWaveSize(100));
+
+        // Rien avant le délai de la première vague
+        int steps = (int) (WaveDirector.FIRST_WAVE_DELAY / STEP) - 1;
+        for (int i = 0; i < steps; i++) {
+            director.update(STEP);
+        }
+        assertEquals(0, director.getWave());
+        assertEquals(0, enemyManager.getTotalCount());
+
+        int firstWave = WaveDirector.getWaveSize(1);
+        int maxPerStep = 0;
+        for (int i = 0; i < 10; i++) {
+            director.update(STEP);
+            enemyManager.update(STEP);
+            maxPerStep = Math.max(maxPerStep, director.getLastSpawnCount());
+        }
+        assertEquals(1, director.getWave());
+        assertEquals(8, maxPerStep, "Au plus 8 apparitions par pas");
+        assertEquals(firstWave, enemyManager.getTotalCount());
+        assertEquals(0, director.getPendingCount());
+
+        // Plafond d'ennemis présents : le reste attend
+        director.setMaxAlive(40);
+        director.startWave();
+        director.startWave();
+        for (int i = 0; i < 30; i++) {
+            director.update(STEP);
+        }
+        assertEquals(40, enemyManager.getTotalCount());
+        assertEquals(firstWave + WaveDirector.getWaveSize(2) + WaveDirector.getWaveSize(3) - 40,
+                     director.getPendingCount());
+
+        enemyManager.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testDeadEnemiesAreReused() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(10000f, 64f);
+
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager enemyManager = createManager(player, projectiles);
+        WaveDirector director = new WaveDirector(enemyManager, spawnPoints(2000f, 4000f, 6000f));
+        director.setSpawnBudget(1000);
+        director.startWave();
+        director.update(STEP);
+
+        int count = WaveDirector.getWaveSize(1);
+        Array<Enemy> firstWave = new Array<>(enemyManager.getEnemies());
+        for (int i = 0; i < 120; i++) {
+            enemyManager.update(STEP);
+        }
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            enemy.killInstantly();
+        }
+        enemyManager.removeDeadEnemies();
+        assertEquals(0, enemyManager.getTotalCount());
+        assertEquals(count, enemyManager.getPooledCount(), "Les sbires morts vont en réserve");
+        assertEquals(count, enemyManager.getEnemiesKilled());
+
+        director.startWave();
+        director.update(STEP);
+        int reused = 0;
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            if (firstWave.contains(enemy, true)) reused++;
+            assertFalse(enemy.isDead());
+            assertEquals(enemy.getMaxHealth(), enemy.getHealth(), "Remis à neuf");
+            assertEquals("IDLE", String.valueOf(enemy.getCurrentState()));
+        }
+        assertEquals(count, reused, "Toute la réserve est réutilisée");
+        assertEquals(0, enemyManager.getPooledCount());
+        assertEquals(WaveDirector.getWaveSize(2), enemyManager.getTotalCount());
+
+        // Les réutilisés vivent normalement : ils tombent, marchent et se font toucher
+        for (int i = 0; i < 120; i++) {
+            enemyManager.update(STEP);
+        }
+        Enemy first = enemyManager.getEnemies().first();
+        assertTrue(first.getIsOnGround(), "Réapparu posé au sol");
+        first.takeDamage(5);
+        assertEquals(first.getMaxHealth() - 5, first.getHealth());
+        assertSame(first, enemyManager.findFirstEnemyHit(first.getHitbox()));
+
+        enemyManager.dispose();
+        projectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    public void testHordeChurnRespawnsFromPool() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(WORLD_WIDTH / 2f, 64f);
+
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager enemyManager = createManager(player, projectiles);
+        WaveDirector director = startHorde(enemyManager, 1000);
+        // Les vagues ne viennent que de churnStep, hors des phases mesurées
+        director.setWaveInterval(1000f);
+
+        for (int i = 0; i < 60; i++) {
+            churnStep(enemyManager, director, projectiles, player, i);
+        }
+        int instances = enemyManager.getTotalCount() + enemyManager.getPooledCount();
+        int respawned = 0;
+        for (int i = 0; i < 120; i++) {
+            respawned += churnStep(enemyManager, director, projectiles, player, i);
+        }
+        int built = enemyManager.getTotalCount() + enemyManager.getPooledCount() - instances;
+
+        // La réserve est par type : seuls les écarts entre types morts et demandés construisent encore
+        assertTrue(respawned > 0, "Les morts sont remplacés");
+        assertTrue(built * 10 < respawned, "En régime établi, presque toutes les apparitions viennent de la réserve");
+
+        // Réserve remplie : mourir, retourner en réserve et réapparaître n'alloue rien
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean &&
+            ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            allocationMeter = (com.sun.management.ThreadMXBean) bean;
+            allocationMeter.setThreadAllocatedMemoryEnabled(true);
+            instances = enemyManager.getTotalCount() + enemyManager.getPooledCount();
+            respawned = 0;
+            churnAllocated = 0;
+            for (int i = 0; i < 100; i++) {
+                respawned += churnStep(enemyManager, director, projectiles, player, i);
+            }
+            built = enemyManager.getTotalCount() + enemyManager.getPooledCount() - instances;
+            allocationMeter = null;
+            assertTrue(respawned > 0, "Les morts sont remplacés");
+            assertEquals(0, built, "Toutes les apparitions viennent de la réserve");
+            assertEquals(0, churnAllocated, "Retraits et réapparitions depuis la réserve n'allouent rien");
+        }
+
+        enemyManager.dispose();
+        projectiles.dispose();
+        player.dispose();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testBenchmarkHordeChurn() {
+        HeadlessTestSupport.start();
+        Player player = new Hugo(new InputHandler(null), null);
+        player.setPosition(WORLD_WIDTH / 2f, 64f);
+
+        int horde = 3000;
+        int spawns = 2000;
+
+        // Préchauffage du JIT
+        for (int i = 0; i < 3; i++) {
+            measureSpawns(player, spawns, false);
+            measureSpawns(player, spawns, true);
+        }
+        long fresh = measureSpawns(player, spawns, false);
+        long pooled = measureSpawns(player, spawns, true);
+
+        ProjectileManager projectiles = new ProjectileManager(WORLD_WIDTH, null, null);
+        EnemyManager enemyManager = createManager(player, projectiles);
+        WaveDirector director = startHorde(enemyManager, horde);
+
+        // Régime établi : une part de la horde meurt et réapparaît à chaque pas
+        for (int i = 0; i < 60; i++) {
+            churnStep(enemyManager, director, projectiles, player, i);
+        }
+        int instances = enemyManager.getTotalCount() + enemyManager.getPooledCount();
+        int steps = 240;
+        int respawned = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            respawned += churnStep(enemyManager, director, projectiles, player, i);
+        }
+        long stepNanos = (System.nanoTime() - start) / steps;
+        int built = enemyManager.getTotalCount() + enemyManager.getPooledCount() - instances;
+
+        System.out.println("WaveDirectorTest : " + spawns + " apparitions, neuves " + (fresh / 1000) +
+                           " us, depuis la reserve " + (pooled / 1000) + " us");
+        System.out.println("  horde de " + enemyManager.getTotalCount() + " ennemis, " +
+                           projectiles.getProjectileCount() + " projectiles : " + (stepNanos / 1000) + " us/pas, " +
+                           respawned + " apparitions dont " + built + " construits");
+
+        enemyManager.dispose();
+        projectiles.dispose();
+        player.dispose();
+    }
+
+    /**
+     * Fait apparaître d'un coup une horde sur tout le niveau.
+     *
+     * @return Le directeur qui la fait réapparaître
+     */
+    private WaveDirector startHorde(EnemyManager enemyManager, int horde) {
+        Array<Vector2> points = new Array<>();
+        for (float x = 500f; x < WORLD_WIDTH - 500f; x += 250f) {
+            points.add(new Vector2(x, 64f));
+        }
+        WaveDirector director = new WaveDirector(enemyManager, points);
+        director.setSpawnBudget(horde);
+        director.setMaxAlive(horde);
+        while (director.getPendingCount() < horde) {
+            director.startWave();
+        }
+        director.update(STEP);
+        assertEquals(horde, enemyManager.getTotalCount());
+        return director;
+    }
+
+    /**
+     * Un pas de simulation où un ennemi sur cent meurt, remplacé depuis la réserve.
+     * Avec {@link #allocationMeter}, les octets alloués par les apparitions et
+     * les retraits s'ajoutent à {@link #churnAllocated}.
+     *
+     * @return Le nombre d'ennemis apparus pendant le pas
+     */
+    private int churnStep(EnemyManager enemyManager, WaveDirector director, ProjectileManager projectiles,
+                           Player player, int step) {
+        Array<Enemy> enemies = enemyManager.getEnemies();
+        for (int i = step % 100; i < enemies.size; i += 100) {
+            enemies.get(i).killInstantly();
+        }
+        if (director.getPendingCount() < 100) {
+            director.startWave();
+        }
+        long before = allocatedBytes();
+        director.update(STEP);
+        churnAllocated += allocatedBytes() - before;
+        enemyManager.setActivityView(player.getX() - VIEW_WIDTH / 2f, 0f, VIEW_WIDTH, VIEW_HEIGHT);
+        enemyManager.update(STEP);
+        projectiles.update(STEP);
+        projectiles.checkEnemyCollisions(enemyManager);
+        projectiles.removeInactiveProjectiles();
+        enemyManager.interpolate(0.5f);
+        before = allocatedBytes();
+        enemyManager.removeDeadEnemies();
+        churnAllocated += allocatedBytes() - before;
+        return director.getLastSpawnCount();
+    }
+
+    /**
+     * @return Les octets alloués par le thread courant, ou 0 sans {@link #allocationMeter}
+     */
+    private long allocatedBytes() {
+        return allocationMeter != null ? allocationMeter.getThreadAllocatedBytes(Thread.currentThread().threadId()) : 0;
+    }
+
+    /**
+     * @return Le temps pour faire apparaître count ennemis, neufs ou depuis une réserve pleine
+     */
+    private long measureSpawns(Player player, int count, boolean pooled) {
+        EnemyManager enemyManager = createManager(player, null);
+        enemyManager.setPooling(true);
+        if (pooled) {
+            for (int i = 0; i < count; i++) {
+                enemyManager.spawn((byte) (i % 3), 300f + i * 8f, 64f);
+            }
+            for (Enemy enemy : enemyManager.getEnemies()) {
+                enemy.killInstantly();
+            }
+            enemyManager.removeDeadEnemies();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            enemyManager.spawn((byte) (i % 3), 300f + i * 8f, 64f);
+        }
+        long nanos = System.nanoTime() - start;
+
+        enemyManager.dispose();
+        return nanos;
+    }
+
+    private Array<Vector2> spawnPoints(float... xs) {
+        Array<Vector2> points = new Array<>();
+        for (float x : xs) {
+            points.add(new Vector2(x, 64f));
+        }
+        return points;
+    }
+
+    private EnemyManager createManager(Player player, ProjectileManager projectiles) {
+        EnemyManager enemyManager = HeadlessTestSupport.createEnemyManager(player, WORLD_WIDTH);
+        if (projectiles != null) {
+            enemyManager.setProjectileManager(projectiles);
+        }
+        return enemyManager;
+    }
+}